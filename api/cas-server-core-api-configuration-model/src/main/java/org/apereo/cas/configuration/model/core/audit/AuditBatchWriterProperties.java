@@ -0,0 +1,84 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditBatchWriterProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuditBatchWriterProperties")
+public class AuditBatchWriterProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2816472960123958410L;
+
+    /**
+     * Whether audit records should be collected into a bounded queue
+     * and written to the audit storage in batches by a single writer.
+     * When enabled, this takes precedence over asynchronous recording of
+     * individual audit records.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of audit records that may be waiting in the queue.
+     * Once the queue is full, the overflow policy determines what happens to new records.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records written to the storage at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time audit records may wait in the queue before
+     * a partial batch is written to the storage.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Determine what should happen to audit records when the queue is full.
+     */
+    private OverflowPolicies overflowPolicy = OverflowPolicies.BLOCK;
+
+    /**
+     * Directory where audit records are written as JSON lines when the queue is full
+     * and the overflow policy is set to spill records to disk. If undefined, the
+     * system's temporary directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Overflow policies.
+     */
+    public enum OverflowPolicies {
+        /**
+         * Block the caller until there is room in the queue.
+         */
+        BLOCK,
+        /**
+         * Drop the audit record.
+         */
+        DROP,
+        /**
+         * Append the audit record to a file on disk.
+         */
+        SPILL
+    }
+}
@@ -71,4 +71,11 @@ public class AuditJdbcProperties extends AbstractJpaProperties {
      */
     @NestedConfigurationProperty
     private SchedulingProperties schedule = new SchedulingProperties();
+
+    /**
+     * Settings that control how audit records are queued
+     * and written to the storage in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditBatchWriterProperties batch = new AuditBatchWriterProperties();
 }
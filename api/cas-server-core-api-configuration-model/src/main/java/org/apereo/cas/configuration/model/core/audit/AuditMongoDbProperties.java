@@ -6,6 +6,7 @@ import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -33,4 +34,11 @@ public class AuditMongoDbProperties extends SingleCollectionMongoDbProperties {
     public AuditMongoDbProperties() {
         setCollection("MongoDbCasAuditRepository");
     }
+
+    /**
+     * Settings that control how audit records are queued
+     * and written to the storage in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditBatchWriterProperties batch = new AuditBatchWriterProperties();
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -48,6 +49,21 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private int maximumCacheSize = 10000;
 
+    /**
+     * Indicates the maximum weight of the cache that keeps attributes fetched
+     * by caching principal attribute repositories. The cache is shared by all registered services,
+     * and each cached record weighs as much as the number of attribute values it holds.
+     */
+    private long registeredServiceCacheMaximumWeight = 100_000;
+
+    /**
+     * When principal attributes that are fetched for registered services are
+     * also kept in a distributed cache, this setting controls how long each node may
+     * keep a local copy of the attributes before they are fetched from the distributed cache again.
+     */
+    @DurationCapable
+    private String registeredServiceNearCacheExpiration = "PT1M";
+
     /**
      * Recover from LDAP exceptions and continue with partial results. Otherwise,
      * die and do not allow to log in.
@@ -85,6 +101,23 @@ public class PrincipalAttributesCoreProperties implements Serializable {
      */
     private boolean requireAllRepositorySources;
 
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#PARALLEL},
+     * this setting controls the maximum amount of time each attribute repository is given
+     * to produce a result. Attribute repositories that fail to respond in time are
+     * treated as failures and are subject to {@link #recoverExceptions}.
+     */
+    @DurationCapable
+    private String repositoryTimeout = "PT5S";
+
+    /**
+     * When {@link #aggregation} is set to {@link AggregationStrategyTypes#PARALLEL},
+     * this setting controls the maximum amount of time allowed for all attribute
+     * repositories to produce a result, regardless of individual repository timeouts.
+     */
+    @DurationCapable
+    private String aggregationTimeout = "PT10S";
+
     /**
      * CAS provides the ability to release a bundle of principal attributes to all services by default.
      * This bundle is not defined on a per-service basis and is always combined with attributes
@@ -110,7 +143,14 @@ public class PrincipalAttributesCoreProperties implements Serializable {
          * the attributes from the first query in the result set are
          * used as the query for the next repository.
          */
-        CASCADE
+        CASCADE,
+        /**
+         * Query multiple repositories concurrently and merge the results into
+         * a single result set, in the same order as {@link #MERGE}.
+         * Repositories must not depend on each other's results;
+         * each repository query is bound by a deadline.
+         */
+        PARALLEL
     }
 
     /**
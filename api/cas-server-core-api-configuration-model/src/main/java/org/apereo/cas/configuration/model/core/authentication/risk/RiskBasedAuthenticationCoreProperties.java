@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.core.authentication.risk;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiredProperty;
 import org.apereo.cas.configuration.support.RequiresModule;
 import lombok.Getter;
@@ -34,4 +35,20 @@ public class RiskBasedAuthenticationCoreProperties implements Serializable {
      * in order to locate authentication events.
      */
     private long daysInRecentHistory = 30;
+
+    /**
+     * The authentication history of each principal is summarized into a profile
+     * that is kept in memory and updated as authentication events are recorded.
+     * This setting controls the maximum number of profiles that are kept in memory.
+     */
+    private long profileCacheSize = 10_000;
+
+    /**
+     * Controls how long a principal profile is kept in memory before it is built
+     * again from the authentication history. Profiles only pick up events that are recorded
+     * by this CAS node, so this setting also bounds how long events recorded by other nodes
+     * remain invisible to risk calculations.
+     */
+    @DurationCapable
+    private String profileExpiration = "PT15M";
 }
@@ -0,0 +1,58 @@
+package org.apereo.cas.configuration.model.core.slo;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link SingleLogoutDispatcherProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-logout", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("SingleLogoutDispatcherProperties")
+public class SingleLogoutDispatcherProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2871367013372741062L;
+
+    /**
+     * Maximum number of services whose logout requests may be processed concurrently
+     * for a single ticket-granting ticket. A value of {@code 1} processes services serially.
+     */
+    private int maxConcurrency = 10;
+
+    /**
+     * Maximum amount of time to wait for a back-channel logout message to be delivered
+     * to a single logout endpoint. Delivery attempts that exceed this limit are abandoned
+     * and treated as failures. This only applies when logout messages are not sent asynchronously.
+     */
+    @DurationCapable
+    private String timeout = "PT5S";
+
+    /**
+     * Number of consecutive delivery failures after which a logout endpoint
+     * is considered unavailable and no further logout messages are sent to it
+     * until the circuit is reset. A value of zero or less disables the circuit breaker.
+     */
+    private int failureThreshold = 5;
+
+    /**
+     * Amount of time the circuit for a failing logout endpoint remains open.
+     * Once elapsed, a single delivery attempt is allowed through to probe the endpoint;
+     * a successful attempt closes the circuit while a failure keeps it open.
+     */
+    @DurationCapable
+    private String resetTimeout = "PT60S";
+}
@@ -0,0 +1,42 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCleanerProperties")
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    @Serial
+    private static final long serialVersionUID = -6254731256429831012L;
+
+    /**
+     * Number of workers that should process single logout requests for expired
+     * ticket-granting tickets concurrently. When set to a value greater than {@code 1},
+     * expired tickets are collected in batches and logout requests for each batch are
+     * processed concurrently before the batch is removed; otherwise, tickets are cleaned serially.
+     */
+    private int workers = 1;
+
+    /**
+     * Number of expired tickets that are collected and processed together
+     * when the cleaner runs with multiple workers.
+     */
+    private int batchSize = 500;
+}
@@ -42,4 +42,36 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * The format used to serialize tickets before they are handed off
+     * to the ticket registry for storage. Registries that support it may override this
+     * setting with a format of their own.
+     * <p>
+     * Migration: the format can be switched on a running deployment without clearing
+     * the registry. Tickets stored in {@code JSON} format can still be read when the {@code SMILE}
+     * format is selected; they are rewritten in the new format as they are updated, and the rest
+     * expire naturally. Nodes should all be switched before the old format is no longer expected,
+     * which happens once the longest ticket expiration policy has elapsed.
+     * <p>
+     * Rollback: switching back to {@code JSON} is equally safe, since tickets
+     * that carry the {@code SMILE} format header are always recognized and read, regardless of the format
+     * that is selected for writing. Rolling back to a CAS version that does not support
+     * the {@code SMILE} format requires the registry to be cleared first.
+     */
+    private TicketSerializationFormats serializationFormat = TicketSerializationFormats.JSON;
+
+    /**
+     * Ticket serialization formats.
+     */
+    public enum TicketSerializationFormats {
+        /**
+         * Serialize tickets as JSON.
+         */
+        JSON,
+        /**
+         * Serialize tickets using the compact binary Smile format.
+         */
+        SMILE
+    }
 }
@@ -9,7 +9,6 @@ import org.apereo.cas.configuration.model.support.ignite.IgniteProperties;
 import org.apereo.cas.configuration.model.support.jpa.ticketregistry.JpaTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.memcached.MemcachedTicketRegistryProperties;
 import org.apereo.cas.configuration.model.support.mongo.ticketregistry.MongoDbTicketRegistryProperties;
-import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
 import org.apereo.cas.configuration.model.support.redis.RedisTicketRegistryProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
@@ -106,7 +105,13 @@ public class TicketRegistryProperties implements Serializable {
      * Ticket registry cleaner settings.
      */
     @NestedConfigurationProperty
-    private ScheduledJobProperties cleaner = new ScheduledJobProperties();
+    private TicketRegistryCleanerProperties cleaner = new TicketRegistryCleanerProperties();
+
+    /**
+     * Ticket registry routing settings, allowing ticket types to be stored in different registries.
+     */
+    @NestedConfigurationProperty
+    private TicketRegistryRoutingProperties routing = new TicketRegistryRoutingProperties();
 
     /**
      * Ticket registry core settings.
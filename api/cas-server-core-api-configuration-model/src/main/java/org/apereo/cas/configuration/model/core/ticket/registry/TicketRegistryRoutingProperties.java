@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistryRoutingProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryRoutingProperties")
+public class TicketRegistryRoutingProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6082385947155131871L;
+
+    /**
+     * Prefixes of ticket types, as registered in the ticket catalog (i.e. {@code ST}, {@code PT}, {@code OC}),
+     * that should be kept in a local, in-memory ticket registry on each CAS server node
+     * instead of the configured ticket registry. All other ticket types, such as ticket-granting tickets,
+     * continue to be stored in the configured ticket registry. Short-lived tickets kept locally are only
+     * visible to the node that issued them, so this is typically paired with node affinity (sticky sessions)
+     * between applications and CAS server nodes. Leaving this list empty disables routing altogether.
+     */
+    private List<String> localTicketPrefixes = new ArrayList<>();
+
+    /**
+     * When a ticket cannot be found in the local ticket registry,
+     * look it up in the configured ticket registry instead. This allows tickets
+     * that were issued before routing was turned on to be found and removed.
+     */
+    private boolean fallbackToDefaultRegistry = true;
+}
@@ -0,0 +1,65 @@
+package org.apereo.cas.configuration.model.core.web.flow;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link WebflowClientSessionsProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Getter
+@Setter
+@RequiresModule(name = "cas-server-core-webflow")
+@Accessors(chain = true)
+@JsonFilter("WebflowClientSessionsProperties")
+public class WebflowClientSessionsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3479028707118198916L;
+
+    /**
+     * Whether the serialized flow state should be compressed before it is encrypted.
+     * Only relevant if session storage is done on the client.
+     */
+    private boolean compress = true;
+
+    /**
+     * Compression level, from {@code 0} to {@code 9}, used when the flow state is compressed.
+     * Lower values trade size for speed. A value of {@code -1} uses the default compression level.
+     * Only relevant if session storage is done on the client.
+     */
+    private int compressionLevel = -1;
+
+    /**
+     * Initial size, in bytes, of the buffers that hold the serialized flow state.
+     * Buffers are pooled and reused across requests.
+     * Only relevant if session storage is done on the client.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Buffers that grow beyond this size, in bytes, are discarded rather than returned to the pool,
+     * so that an occasional oversized flow state does not stay in memory.
+     * Only relevant if session storage is done on the client.
+     */
+    private int maxPooledBufferSize = 65536;
+
+    /**
+     * Names of flow-scoped attributes that are left out of the flow state sent to the client.
+     * Only list attributes that the flow is able to reconstruct on the next request,
+     * as their values are unavailable once the flow resumes.
+     * Only relevant if session storage is done on the client.
+     */
+    private List<String> excludedFlowScopeAttributes = new ArrayList<>();
+}
@@ -1,10 +1,12 @@
 package org.apereo.cas.configuration.model.support.dynamodb;
 
+import org.apereo.cas.configuration.model.core.audit.AuditBatchWriterProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -32,4 +34,11 @@ public class AuditDynamoDbProperties extends AbstractDynamoDbProperties {
      * Make storage requests asynchronously.
      */
     private boolean asynchronous = true;
+
+    /**
+     * Settings that control how audit records are queued
+     * and written to the storage in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditBatchWriterProperties batch = new AuditBatchWriterProperties();
 }
@@ -0,0 +1,87 @@
+package org.apereo.cas.configuration.model.support.hazelcast;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link HazelcastNearCacheProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiresModule(name = "cas-server-support-hazelcast-core")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("HazelcastNearCacheProperties")
+public class HazelcastNearCacheProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2836017745102297764L;
+
+    /**
+     * Whether a near cache should be configured for the selected maps.
+     * A near cache keeps frequently read entries locally on the member,
+     * so that reads do not need to go over the network to the partition owner.
+     */
+    private boolean enabled;
+
+    /**
+     * Prefixes of the ticket types whose maps should be fronted by a near cache.
+     */
+    private List<String> ticketPrefixes = Stream.of("TGT", "ST").toList();
+
+    /**
+     * Maximum number of entries kept in the near cache of each map.
+     */
+    private int maxSize = 10_000;
+
+    /**
+     * Maximum number of seconds for each entry to stay in the near cache.
+     * Entries that are older than this value are evicted.
+     * A value of zero means entries stay until they are invalidated or evicted.
+     */
+    private int timeToLiveSeconds;
+
+    /**
+     * Maximum number of seconds each entry can stay in the near cache as untouched (not read).
+     */
+    private int maxIdleSeconds = 120;
+
+    /**
+     * Eviction policy of the near cache.
+     * Accepted values are {@code LRU, LFU, RANDOM, NONE}.
+     */
+    private String evictionPolicy = "LRU";
+
+    /**
+     * Format in which entries are kept in the near cache.
+     * Accepted values are:
+     * <ul>
+     *     <li>{@code OBJECT}: Entries are kept in their deserialized form, avoiding deserialization costs on every read.
+     *     The same instance is handed to every reader, so this format is only applied when the entries are immutable,
+     *     such as when ticket registry encryption is turned on.</li>
+     *     <li>{@code BINARY}: Entries are kept in their serialized form, and are deserialized on every read.</li>
+     * </ul>
+     */
+    private String inMemoryFormat = "OBJECT";
+
+    /**
+     * Whether entries should be invalidated in all near caches
+     * once they are updated or removed in the cluster.
+     */
+    private boolean invalidateOnChange = true;
+
+    /**
+     * Whether entries that are owned by the local member should also be kept in the near cache.
+     */
+    private boolean cacheLocalEntries = true;
+}
@@ -32,6 +32,19 @@ public class HazelcastTicketRegistryProperties extends BaseHazelcastProperties {
      */
     private long pageSize = 500;
 
+    /**
+     * Whether tickets fetched from the cluster should be remembered for the duration
+     * of the current HTTP request, so that a single request never fetches the same ticket twice.
+     * Tickets that are added, updated or removed during the request are tracked accordingly.
+     */
+    private boolean memoizeRequests;
+
+    /**
+     * Near cache settings for ticket maps.
+     */
+    @NestedConfigurationProperty
+    private HazelcastNearCacheProperties nearCache = new HazelcastNearCacheProperties();
+
     /**
      * Crypto settings for the registry.
      */
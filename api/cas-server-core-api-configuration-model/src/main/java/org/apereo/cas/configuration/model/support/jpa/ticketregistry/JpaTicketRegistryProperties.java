@@ -63,6 +63,23 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @RequiredProperty
     private boolean enabled = true;
 
+    /**
+     * Maximum number of ticket rows that are read from the database at once
+     * when tickets are streamed or queried. Rows are read in pages that are keyed off
+     * of the ticket id, each in its own transaction, so that large registries can be traversed
+     * without loading the entire table into memory.
+     */
+    private int pageSize = 1_000;
+
+    /**
+     * Whether indexes on the ticket attributes column should be created
+     * when the database schema is managed by CAS, i.e. when {@code ddl-auto} is set to
+     * {@code create}, {@code create-drop} or {@code update}. Index definitions are database-specific,
+     * and are only created for databases whose JSON support allows for an index that serves
+     * arbitrary attribute queries, such as a GIN index on PostgreSQL.
+     */
+    private boolean createAttributeIndexes = true;
+
     public JpaTicketRegistryProperties() {
         super.setUrl("jdbc:hsqldb:mem:cas-ticket-registry");
         this.crypto.setEnabled(false);
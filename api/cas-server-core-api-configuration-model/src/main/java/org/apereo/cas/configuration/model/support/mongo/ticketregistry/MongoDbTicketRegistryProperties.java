@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.mongo.ticketregistry;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCoreProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
 import org.apereo.cas.configuration.model.support.mongo.BaseMongoDbProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
@@ -46,6 +47,13 @@ public class MongoDbTicketRegistryProperties extends BaseMongoDbProperties {
      */
     private boolean dropIndexes;
 
+    /**
+     * The format used to serialize tickets stored by this registry.
+     * If left undefined, the format specified in the core ticket registry settings is used.
+     * Binary formats are stored as raw bytes rather than text.
+     */
+    private TicketRegistryCoreProperties.TicketSerializationFormats serializationFormat;
+
     /**
      * Crypto settings for the registry.
      */
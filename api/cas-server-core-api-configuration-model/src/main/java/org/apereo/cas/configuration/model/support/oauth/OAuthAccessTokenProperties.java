@@ -53,6 +53,20 @@ public class OAuthAccessTokenProperties implements Serializable {
      */
     private String storageName = "oauthAccessTokensCache";
 
+    /**
+     * Maximum number of verified JWT access tokens that are kept in memory, so that
+     * repeated requests carrying the same token, such as introspection or profile requests,
+     * do not verify or decrypt the token again. A value of zero disables the cache.
+     */
+    private long verifiedTokenCacheSize = 10_000;
+
+    /**
+     * Maximum duration a verified JWT access token is kept in memory.
+     * Cached entries never outlive the expiration date of the token itself.
+     */
+    @DurationCapable
+    private String verifiedTokenCacheTimeToLive = "PT5M";
+
     /**
      * Crypto settings.
      */
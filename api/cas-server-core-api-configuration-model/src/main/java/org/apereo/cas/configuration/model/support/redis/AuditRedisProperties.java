@@ -1,11 +1,13 @@
 package org.apereo.cas.configuration.model.support.redis;
 
+import org.apereo.cas.configuration.model.core.audit.AuditBatchWriterProperties;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -29,4 +31,11 @@ public class AuditRedisProperties extends BaseRedisProperties {
      * This setting must almost always be set to true.
      */
     private boolean asynchronous = true;
+
+    /**
+     * Settings that control how audit records are queued
+     * and written to the storage in batches.
+     */
+    @NestedConfigurationProperty
+    private AuditBatchWriterProperties batch = new AuditBatchWriterProperties();
 }
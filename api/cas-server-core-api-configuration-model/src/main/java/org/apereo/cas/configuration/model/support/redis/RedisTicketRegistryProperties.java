@@ -58,6 +58,16 @@ public class RedisTicketRegistryProperties extends BaseRedisProperties {
      */
     private boolean enableRedisSearch = true;
 
+    /**
+     * Use Redis server-assisted client-side caching to keep the in-memory ticket cache consistent
+     * across CAS nodes. When enabled, each node opens a dedicated connection that asks the Redis server
+     * to track ticket keys using the {@code RESP3} protocol, and entries are evicted from the in-memory cache
+     * once the server reports that the corresponding key was modified or removed.
+     * Ticket changes are then no longer published to other nodes using the message topic.
+     * Requires Redis 6 or later, and is only supported with standalone Redis deployments.
+     */
+    private boolean clientSideCaching;
+
     public RedisTicketRegistryProperties() {
         crypto.setEnabled(false);
     }
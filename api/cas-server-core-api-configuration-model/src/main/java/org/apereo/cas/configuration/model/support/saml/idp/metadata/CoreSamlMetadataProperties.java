@@ -48,6 +48,16 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * How long after being loaded should cached metadata be refreshed.
+     * Once this period elapses, the next request for the metadata continues to use
+     * the cached (stale) copy while a new copy is loaded in the background.
+     * This setting is only effective if it is shorter than the cache expiration period,
+     * and a zero or negative value disables background refreshes.
+     */
+    @DurationCapable
+    private String cacheRefreshInterval = "PT12H";
+
     /**
      * Whether valid metadata is required.
      */
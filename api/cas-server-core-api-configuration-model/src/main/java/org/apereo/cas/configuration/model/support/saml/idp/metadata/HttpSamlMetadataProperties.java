@@ -34,6 +34,15 @@ public class HttpSamlMetadataProperties implements Serializable {
      */
     private boolean forceMetadataRefresh = true;
 
+    /**
+     * Index entities of downloaded metadata by entity id in a file
+     * next to the metadata backup file, once metadata is filtered and its signature is verified.
+     * Entities are then parsed individually from the index when requested,
+     * and the index is reused across restarts for as long as the metadata backup file
+     * and the metadata filters of the service remain unchanged.
+     */
+    private boolean indexMetadata = true;
+
     /**
      * Directory location where downloaded SAML metadata is cached
      * as backup files. If left undefined, the directory is calculated
@@ -40,6 +40,13 @@ public class YamlServiceRegistryProperties extends SpringResourceProperties {
      */
     private boolean watcherEnabled = true;
 
+    /**
+     * Number of service definition files that are read and parsed concurrently
+     * when service definitions are loaded. A value of zero or less uses
+     * the number of available processors, while {@code 1} reads files one at a time.
+     */
+    private int loadParallelism;
+
     public YamlServiceRegistryProperties() {
         setLocation(DEFAULT_LOCATION);
     }
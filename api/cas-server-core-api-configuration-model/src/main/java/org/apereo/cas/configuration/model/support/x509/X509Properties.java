@@ -138,10 +138,22 @@ public class X509Properties implements CasFeatureModule, Serializable {
 
     /**
      * When CRLs are cached, indicate the time-to-live of cache items.
+     * CRLs that carry a next-update date are kept in the cache at least until that date.
      */
     @DurationCapable
     private String cacheTimeToLiveSeconds = "PT4H";
 
+    /**
+     * CRLs are parsed once and kept in memory along with an index of revoked serial numbers.
+     * Cached CRLs that carry a next-update date are fetched again in the background
+     * ahead of that date, by this amount of time, so that certificate checks
+     * are not held up by downloading and parsing the replacement CRL.
+     * Replacements that are unavailable or not newer than the cached CRL
+     * are attempted again after an increasing delay.
+     */
+    @DurationCapable
+    private String crlRefreshAhead = "PT10M";
+
     /**
      * If the CRL resource is unavailable, activate the this policy.
      * Activated if {@link #revocationChecker} is {@code RESOURCE}.
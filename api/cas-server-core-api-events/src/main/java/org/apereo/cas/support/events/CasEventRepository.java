@@ -3,6 +3,7 @@ package org.apereo.cas.support.events;
 import org.apereo.cas.support.events.dao.CasEvent;
 
 import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.stream.Stream;
 
 /**
@@ -47,6 +48,22 @@ public interface CasEventRepository {
      */
     Stream<? extends CasEvent> load();
 
+    /**
+     * Load a page of events, ordered from the most recent to the oldest.
+     * Repositories that are able to sort and page events at the source
+     * should override this operation to avoid loading all events.
+     *
+     * @param offset the number of events to skip
+     * @param count  the maximum number of events to return
+     * @return the collection
+     */
+    default Stream<? extends CasEvent> load(final long offset, final long count) {
+        return load()
+            .sorted(Comparator.comparingLong(CasEvent::getTimestamp).reversed())
+            .skip(offset)
+            .limit(count);
+    }
+
     /**
      * Load collection of events created after the given date.
      *
@@ -17,11 +17,31 @@ public interface PrincipalAttributesRepositoryCache {
      */
     String DEFAULT_BEAN_NAME = "principalAttributesRepositoryCache";
 
+    /**
+     * Bean name of the distributed cache, if any, that backs this cache.
+     */
+    String DISTRIBUTED_CACHE_BEAN_NAME = "principalAttributesRepositoryDistributedCache";
+
+    /**
+     * Property of items in the distributed cache that carries
+     * how long, in milliseconds, the cached attributes remain valid.
+     */
+    String DISTRIBUTED_CACHE_EXPIRATION_PROPERTY = "expiration";
+
     /**
      * Invalidate cache contents.
      */
     void invalidate();
 
+    /**
+     * Invalidate the cache contents that are kept locally for the given key of the distributed cache,
+     * typically once the distributed cache reports that the key was updated or removed by another node.
+     *
+     * @param distributedCacheKey the distributed cache key, or blank to invalidate all local contents
+     */
+    default void invalidate(final String distributedCacheKey) {
+    }
+
     /**
      * Fetch attributes.
      *
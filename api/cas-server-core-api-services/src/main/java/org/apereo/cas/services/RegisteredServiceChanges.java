@@ -0,0 +1,34 @@
+package org.apereo.cas.services;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This is {@link RegisteredServiceChanges}, which describes the service definitions
+ * that were added, modified or removed in a service registry since definitions were last loaded.
+ *
+ * @param updated the service definitions that were added or modified
+ * @param removed the identifiers of the service definitions that were removed
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public record RegisteredServiceChanges(Collection<RegisteredService> updated, Collection<Long> removed) {
+
+    /**
+     * No changes.
+     *
+     * @return the registered service changes
+     */
+    public static RegisteredServiceChanges none() {
+        return new RegisteredServiceChanges(List.of(), List.of());
+    }
+
+    /**
+     * Number of service definitions that were added, modified or removed.
+     *
+     * @return the size
+     */
+    public int size() {
+        return updated.size() + removed.size();
+    }
+}
@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -201,6 +202,19 @@ public interface ServiceRegistry {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Load the service definitions that were added, modified or removed
+     * since definitions were last loaded from this registry. Registries that are unable
+     * to track changes return an empty result, in which case callers should
+     * load all service definitions again via {@link #load()}.
+     *
+     * @return the changes, if the registry is able to track them
+     * @since 7.1.0
+     */
+    default Optional<RegisteredServiceChanges> loadChanges() {
+        return Optional.empty();
+    }
+
     /**
      * Return number of records held in this service registry. Provides default implementation so that implementations
      * needed this new functionality could override it and other implementations not caring for it could be left alone.
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -181,6 +182,16 @@ public interface TicketRegistry {
                                     && ((AuthenticationAwareTicket) ticket).getAuthentication().getPrincipal().getId().equals(principalId));
     }
 
+    /**
+     * Gets the secondary index that links principals to their sessions
+     * and keeps track of ticket counts, if the registry maintains one.
+     *
+     * @return the session index
+     */
+    default Optional<TicketRegistrySessionIndex> getSessionIndex() {
+        return Optional.empty();
+    }
+
     /**
      * Gets tickets with authentication attributes.
      *
@@ -34,4 +34,6 @@ public class TicketRegistryQueryCriteria implements Serializable {
     private Boolean decode;
 
     private Long count;
+
+    private String after;
 }
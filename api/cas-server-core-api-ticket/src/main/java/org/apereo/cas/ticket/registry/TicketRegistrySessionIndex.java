@@ -0,0 +1,70 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.util.Collection;
+
+/**
+ * This is {@link TicketRegistrySessionIndex}, a secondary index maintained
+ * by ticket registries alongside the primary ticket storage that links principals to their
+ * ticket-granting tickets, and keeps track of ticket counts by type. Entries are
+ * recorded using the storage key of the ticket in the registry, which may or may not
+ * be the same as the ticket id, depending on whether ticket identifiers are digested.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface TicketRegistrySessionIndex {
+
+    /**
+     * Track the ticket, keyed by its storage key.
+     * Tracking the same key more than once has no effect.
+     *
+     * @param key    the storage key
+     * @param ticket the ticket
+     */
+    void track(String key, Ticket ticket);
+
+    /**
+     * Stop tracking the ticket linked to the given storage key.
+     *
+     * @param key the storage key
+     */
+    void untrack(String key);
+
+    /**
+     * Remove all entries from the index.
+     */
+    void clear();
+
+    /**
+     * Gets storage keys of ticket-granting tickets that are linked to the principal.
+     * Principal ids are compared in a case-insensitive manner.
+     *
+     * @param principalId the principal id
+     * @return the storage keys
+     */
+    Collection<String> getSessionsFor(String principalId);
+
+    /**
+     * Count sessions linked to the principal.
+     *
+     * @param principalId the principal id
+     * @return the count
+     */
+    long countSessionsFor(String principalId);
+
+    /**
+     * Count of ticket-granting tickets.
+     *
+     * @return the count
+     */
+    long sessionCount();
+
+    /**
+     * Count of service tickets.
+     *
+     * @return the count
+     */
+    long serviceTicketCount();
+}
@@ -53,6 +53,21 @@ public class RandomUtils {
         }
     }
 
+    /**
+     * Get a shared secure random instance that is suitable for heavily concurrent use,
+     * such as the generation of ticket ids. Unless a specific algorithm is requested via
+     * {@link #SYSTEM_PROPERTY_SECURE_RANDOM_ALG}, requests are spread over a number of
+     * independent {@code DRBG} instances to avoid contention on a single native source.
+     *
+     * @return the secure random instance
+     */
+    public static SecureRandom getConcurrentInstance() {
+        if (StringUtils.isNotBlank(System.getProperty(SYSTEM_PROPERTY_SECURE_RANDOM_ALG))) {
+            return getNativeInstance();
+        }
+        return StripedSecureRandomHolder.INSTANCE;
+    }
+
     /**
      * Next long between 0 and long's maximum value.
      *
@@ -282,4 +297,8 @@ public class RandomUtils {
     public static String randomNumeric(final int count) {
         return random(count, false, true);
     }
+
+    private static final class StripedSecureRandomHolder {
+        private static final SecureRandom INSTANCE = new StripedSecureRandom();
+    }
 }
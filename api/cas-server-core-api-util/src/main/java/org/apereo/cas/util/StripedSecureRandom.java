@@ -0,0 +1,143 @@
+package org.apereo.cas.util;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link StripedSecureRandom}. It spreads requests for random bytes over a fixed
+ * number of independent {@code DRBG} instances, each seeded from the operating system,
+ * picking one based on the identity of the calling thread. Native random sources such as
+ * {@code NativePRNG} serialize all callers in the JVM on a single lock; striping allows
+ * concurrent callers to proceed in parallel, while keeping the number of instances
+ * bounded regardless of how many (virtual) threads are in use.
+ * <p>
+ * Each instance is reseeded from the operating system after a number of requests.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public final class StripedSecureRandom extends SecureRandom {
+    /**
+     * Algorithm name of the underlying instances.
+     */
+    public static final String ALGORITHM = "DRBG";
+
+    /**
+     * Number of requests served by an instance before it is reseeded.
+     */
+    static final long RESEED_INTERVAL = 1L << 20;
+
+    @Serial
+    private static final long serialVersionUID = -4374219164870582219L;
+
+    private static final int SECURITY_STRENGTH = 256;
+
+    private final transient Stripe[] stripes;
+
+    private final int mask;
+
+    public StripedSecureRandom(final int concurrency) {
+        val count = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        this.mask = count - 1;
+        this.stripes = new Stripe[count];
+        for (var i = 0; i < count; i++) {
+            stripes[i] = new Stripe(newDrbgInstance());
+        }
+        LOGGER.trace("Created [{}] striped [{}] instance(s)", count, ALGORITHM);
+    }
+
+    public StripedSecureRandom() {
+        this(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    private static SecureRandom newDrbgInstance() {
+        try {
+            val params = DrbgParameters.instantiation(SECURITY_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, null);
+            return SecureRandom.getInstance(ALGORITHM, params);
+        } catch (final NoSuchAlgorithmException e) {
+            LOGGER.trace(e.getMessage(), e);
+            return RandomUtils.getNativeInstance();
+        }
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        getStripe().nextBytes(bytes);
+    }
+
+    @Override
+    public byte[] generateSeed(final int numBytes) {
+        return getStripe().random().generateSeed(numBytes);
+    }
+
+    @Override
+    public void setSeed(final byte[] seed) {
+        if (stripes != null) {
+            for (val stripe : stripes) {
+                stripe.random().setSeed(seed);
+            }
+        }
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        if (stripes != null) {
+            for (val stripe : stripes) {
+                stripe.random().setSeed(seed);
+            }
+        }
+    }
+
+    @Override
+    public void reseed() {
+        for (val stripe : stripes) {
+            stripe.reseed();
+        }
+    }
+
+    /**
+     * Number of stripes.
+     *
+     * @return the number of stripes
+     */
+    public int size() {
+        return stripes.length;
+    }
+
+    private Stripe getStripe() {
+        return stripes[(int) (Thread.currentThread().threadId() & mask)];
+    }
+
+    private record Stripe(SecureRandom random, AtomicLong requests) {
+        Stripe(final SecureRandom random) {
+            this(random, new AtomicLong());
+        }
+
+        void nextBytes(final byte[] bytes) {
+            if (requests.incrementAndGet() % RESEED_INTERVAL == 0) {
+                reseed();
+            }
+            random.nextBytes(bytes);
+        }
+
+        void reseed() {
+            try {
+                random.reseed();
+            } catch (final UnsupportedOperationException e) {
+                LOGGER.trace("Random instance [{}] cannot be reseeded: [{}]", random.getAlgorithm(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package org.apereo.cas.audit.spi;
 
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,6 +8,7 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -21,15 +21,22 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     protected boolean asynchronous;
 
+    protected AuditTrailBatchWriter batchWriter;
+
     private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
 
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
+
     @Override
     public void record(final AuditActionContext audit) {
-        if (this.asynchronous) {
+        if (this.batchWriter != null) {
+            batchWriter.enqueue(audit);
+        } else if (this.asynchronous) {
             executorService.execute(() -> saveAuditRecord(audit));
         } else {
             saveAuditRecord(audit);
@@ -38,8 +45,21 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
+        if (this.batchWriter != null) {
+            batchWriter.destroy();
+        }
         executorService.shutdown();
     }
 
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records. Audit trail managers that are able to
+     * store multiple records in a single operation should override this.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
 }
@@ -0,0 +1,293 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditBatchWriterProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.LoggingUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This is {@link AuditTrailBatchWriter}. Audit records are placed into a bounded queue
+ * and a single writer thread drains the queue, handing records over to the audit trail manager
+ * in batches. A batch is written once it reaches the configured size, or once the flush
+ * interval has passed since the last write, whichever comes first. When the queue is full,
+ * the configured overflow policy decides whether the caller should block, or whether the record
+ * should be dropped or appended to a file on disk. Records spilled to disk are replayed
+ * into the audit trail manager when the writer starts and whenever the queue has been emptied.
+ * <p>
+ * Once shutdown begins, the writer stops accepting records before the final drain; callers that
+ * arrive afterwards, including those blocked on a full queue, record their audit directly.
+ * <p>
+ * The writer reports the depth of the queue, the latency of each flush and the number of
+ * dropped and spilled records via the given {@link MeterRegistry}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class AuditTrailBatchWriter implements DisposableBean {
+    private static final String METRIC_PREFIX = "cas.audit.batch.";
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final AbstractAuditTrailManager auditTrailManager;
+
+    private final AuditBatchWriterProperties properties;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final long flushIntervalNanos;
+
+    private final File spillFile;
+
+    private final AuditActionContextJsonSerializer serializer = new AuditActionContextJsonSerializer();
+
+    private final ReadWriteLock shutdownLock = new ReentrantReadWriteLock();
+
+    private final Timer flushTimer;
+
+    private final Counter droppedCounter;
+
+    private final Counter spilledCounter;
+
+    private final Thread writerThread;
+
+    private volatile boolean accepting = true;
+
+    private volatile boolean running = true;
+
+    public AuditTrailBatchWriter(final String name,
+                                 final AbstractAuditTrailManager auditTrailManager,
+                                 final AuditBatchWriterProperties properties,
+                                 final MeterRegistry meterRegistry) {
+        this.auditTrailManager = auditTrailManager;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.flushIntervalNanos = Beans.newDuration(properties.getFlushInterval()).toNanos();
+        val spillDirectory = StringUtils.isBlank(properties.getSpillDirectory())
+            ? FileUtils.getTempDirectory()
+            : new File(properties.getSpillDirectory());
+        this.spillFile = new File(spillDirectory, "cas-audit-" + name + "-overflow.log");
+
+        Gauge.builder(METRIC_PREFIX + "queue.size", queue, Collection::size)
+            .description("Number of audit records waiting to be written")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + "flush")
+            .description("Latency of writing a batch of audit records")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + "dropped")
+            .description("Number of audit records dropped because the queue was full")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.spilledCounter = Counter.builder(METRIC_PREFIX + "spilled")
+            .description("Number of audit records written to disk because the queue was full")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.writerThread = Thread.ofVirtual().name("cas-audit-" + name + "-writer").start(this::drain);
+    }
+
+    /**
+     * Enqueue the audit record for writing.
+     *
+     * @param audit the audit record
+     */
+    public void enqueue(final AuditActionContext audit) {
+        val lock = shutdownLock.readLock();
+        if (!accepting || !lock.tryLock()) {
+            saveDirectly(audit);
+            return;
+        }
+        try {
+            if (accepting) {
+                offer(audit);
+            } else {
+                saveDirectly(audit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        accepting = false;
+        val lock = shutdownLock.writeLock();
+        try {
+            if (!lock.tryLock(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.warn("Timed out waiting for in-flight audit records to be queued");
+            }
+            running = false;
+            if (!writerThread.join(Duration.ofSeconds(SHUTDOWN_TIMEOUT_SECONDS))) {
+                LOGGER.warn("Audit writer did not finish writing [{}] queued audit record(s)", queue.size());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    protected void offer(final AuditActionContext audit) {
+        switch (properties.getOverflowPolicy()) {
+            case DROP -> {
+                if (!queue.offer(audit)) {
+                    droppedCounter.increment();
+                    LOGGER.warn("Audit queue is full; dropping audit record for action [{}]", audit.getActionPerformed());
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(audit)) {
+                    spill(audit);
+                }
+            }
+            default -> {
+                try {
+                    var queued = false;
+                    while (!queued && accepting) {
+                        queued = queue.offer(audit, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                    }
+                    if (!queued) {
+                        saveDirectly(audit);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LoggingUtils.warn(LOGGER, e);
+                    saveDirectly(audit);
+                }
+            }
+        }
+    }
+
+    protected void saveDirectly(final AuditActionContext audit) {
+        LOGGER.debug("Audit writer is shutting down; recording audit record directly");
+        try {
+            auditTrailManager.saveAuditRecord(audit);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    protected void drain() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        var lastFlush = System.nanoTime();
+        replay();
+        while (running || !queue.isEmpty()) {
+            try {
+                val waitTime = Math.max(0, lastFlush + flushIntervalNanos - System.nanoTime());
+                val audit = running ? queue.poll(waitTime, TimeUnit.NANOSECONDS) : queue.poll();
+                if (audit != null) {
+                    batch.add(audit);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (batch.size() >= batchSize || !running || System.nanoTime() - lastFlush >= flushIntervalNanos) {
+                flush(batch);
+                if (queue.isEmpty()) {
+                    replay();
+                }
+                lastFlush = System.nanoTime();
+            }
+        }
+        flush(batch);
+        replay();
+    }
+
+    protected void flush(final List<AuditActionContext> batch) {
+        try {
+            write(batch);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void write(final List<AuditActionContext> batch) {
+        if (!batch.isEmpty()) {
+            LOGGER.trace("Writing batch of [{}] audit record(s)", batch.size());
+            flushTimer.record(() -> auditTrailManager.saveAuditRecords(List.copyOf(batch)));
+            batch.clear();
+        }
+    }
+
+    /**
+     * Replay audit records previously spilled to disk. The spill file is moved aside first
+     * so records spilled while the replay is running are kept for the next round. If writing
+     * fails, the replay file is kept and picked up again on the next attempt.
+     */
+    protected void replay() {
+        val replayFile = new File(spillFile.getParentFile(), spillFile.getName() + ".replay");
+        synchronized (this) {
+            if (!replayFile.exists()) {
+                if (!spillFile.exists()) {
+                    return;
+                }
+                try {
+                    Files.move(spillFile.toPath(), replayFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                    return;
+                }
+            }
+        }
+        try (val lines = Files.lines(replayFile.toPath(), StandardCharsets.UTF_8)) {
+            val batchSize = Math.max(1, properties.getBatchSize());
+            val batch = new ArrayList<AuditActionContext>(batchSize);
+            lines.filter(StringUtils::isNotBlank).map(serializer::from).filter(Objects::nonNull).forEach(audit -> {
+                batch.add(audit);
+                if (batch.size() >= batchSize) {
+                    write(batch);
+                }
+            });
+            write(batch);
+            LOGGER.debug("Replayed spilled audit records from [{}]", replayFile);
+            Files.deleteIfExists(replayFile.toPath());
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    protected synchronized void spill(final AuditActionContext audit) {
+        try {
+            val line = serializer.getObjectMapper().writeValueAsString(audit) + System.lineSeparator();
+            Files.writeString(spillFile.toPath(), line, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            spilledCounter.increment();
+        } catch (final Exception e) {
+            droppedCounter.increment();
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditBatchWriterProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditTrailBatchWriterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Audits")
+class AuditTrailBatchWriterTests {
+
+    private static AuditActionContext getAuditActionContext() {
+        return new AuditActionContext("casuser", "TEST", "TEST",
+            "CAS", LocalDateTime.now(Clock.systemUTC()),
+            new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London"));
+    }
+
+    @Test
+    void verifyRecordsWrittenInBatches() throws Throwable {
+        val manager = new BatchingAuditTrailManager(null);
+        val properties = new AuditBatchWriterProperties().setEnabled(true).setBatchSize(100).setFlushInterval("PT0.1S");
+        val meterRegistry = new SimpleMeterRegistry();
+        manager.setBatchWriter(new AuditTrailBatchWriter("test", manager, properties, meterRegistry));
+        IntStream.range(0, 250).forEach(i -> manager.record(getAuditActionContext()));
+        manager.destroy();
+
+        assertEquals(250, manager.getBatches().stream().mapToInt(List::size).sum());
+        assertTrue(manager.getBatches().stream().allMatch(batch -> batch.size() <= 100));
+        assertEquals(0, meterRegistry.get("cas.audit.batch.queue.size").gauge().value());
+        assertTrue(meterRegistry.get("cas.audit.batch.flush").timer().count() >= 3);
+    }
+
+    @Test
+    void verifyOverflowSpillsToDisk(@TempDir final File directory) throws Throwable {
+        val latch = new CountDownLatch(1);
+        val manager = new BatchingAuditTrailManager(latch);
+        val properties = new AuditBatchWriterProperties()
+            .setEnabled(true)
+            .setCapacity(1)
+            .setOverflowPolicy(AuditBatchWriterProperties.OverflowPolicies.SPILL)
+            .setSpillDirectory(directory.getAbsolutePath());
+        val meterRegistry = new SimpleMeterRegistry();
+        manager.setBatchWriter(new AuditTrailBatchWriter("spill", manager, properties, meterRegistry));
+        IntStream.range(0, 5).forEach(i -> manager.record(getAuditActionContext()));
+
+        val spilled = meterRegistry.get("cas.audit.batch.spilled").counter().count();
+        assertTrue(spilled >= 3);
+        val spillFile = new File(directory, "cas-audit-spill-overflow.log");
+        assertEquals((long) spilled, Files.readAllLines(spillFile.toPath(), StandardCharsets.UTF_8).size());
+
+        latch.countDown();
+        manager.destroy();
+        assertEquals(5, manager.getBatches().stream().mapToInt(List::size).sum());
+        assertFalse(spillFile.exists());
+    }
+
+    @Test
+    void verifySpilledRecordsReplayedOnStartup(@TempDir final File directory) throws Throwable {
+        val serializer = new AuditActionContextJsonSerializer();
+        val spillFile = new File(directory, "cas-audit-replay-overflow.log");
+        val lines = IntStream.range(0, 3)
+            .mapToObj(i -> assertDoesNotThrow(() -> serializer.getObjectMapper().writeValueAsString(getAuditActionContext())))
+            .toList();
+        Files.write(spillFile.toPath(), lines, StandardCharsets.UTF_8);
+
+        val manager = new BatchingAuditTrailManager(null);
+        val properties = new AuditBatchWriterProperties()
+            .setEnabled(true)
+            .setOverflowPolicy(AuditBatchWriterProperties.OverflowPolicies.SPILL)
+            .setSpillDirectory(directory.getAbsolutePath());
+        manager.setBatchWriter(new AuditTrailBatchWriter("replay", manager, properties, new SimpleMeterRegistry()));
+        await().untilAsserted(() -> assertEquals(3, manager.getBatches().stream().mapToInt(List::size).sum()));
+        assertFalse(spillFile.exists());
+        assertFalse(new File(directory, spillFile.getName() + ".replay").exists());
+        manager.destroy();
+    }
+
+    @Test
+    void verifyBlockedCallersServedOnShutdown() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val manager = new BatchingAuditTrailManager(latch);
+        val properties = new AuditBatchWriterProperties().setEnabled(true).setCapacity(1);
+        val meterRegistry = new SimpleMeterRegistry();
+        manager.setBatchWriter(new AuditTrailBatchWriter("block", manager, properties, meterRegistry));
+
+        manager.record(getAuditActionContext());
+        await().until(() -> meterRegistry.get("cas.audit.batch.queue.size").gauge().value() == 0);
+        manager.record(getAuditActionContext());
+
+        val blocked = Thread.ofVirtual().start(() -> manager.record(getAuditActionContext()));
+        await().until(() -> blocked.getState() == Thread.State.TIMED_WAITING);
+        val shutdown = Thread.ofVirtual().start(manager::destroy);
+
+        assertTrue(blocked.join(Duration.ofSeconds(5)));
+        assertEquals(1, manager.getDirect().size());
+        manager.record(getAuditActionContext());
+        assertEquals(2, manager.getDirect().size());
+
+        latch.countDown();
+        assertTrue(shutdown.join(Duration.ofSeconds(5)));
+        assertEquals(2, manager.getBatches().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void verifyOverflowDropped() throws Throwable {
+        val latch = new CountDownLatch(1);
+        val manager = new BatchingAuditTrailManager(latch);
+        val properties = new AuditBatchWriterProperties()
+            .setEnabled(true)
+            .setCapacity(1)
+            .setOverflowPolicy(AuditBatchWriterProperties.OverflowPolicies.DROP);
+        val meterRegistry = new SimpleMeterRegistry();
+        manager.setBatchWriter(new AuditTrailBatchWriter("drop", manager, properties, meterRegistry));
+        IntStream.range(0, 5).forEach(i -> manager.record(getAuditActionContext()));
+        assertTrue(meterRegistry.get("cas.audit.batch.dropped").counter().count() >= 3);
+        latch.countDown();
+        manager.destroy();
+    }
+
+    @Getter
+    private static final class BatchingAuditTrailManager extends AbstractAuditTrailManager {
+        private final List<List<AuditActionContext>> batches = new CopyOnWriteArrayList<>();
+
+        private final List<AuditActionContext> direct = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch latch;
+
+        BatchingAuditTrailManager(final CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        protected void saveAuditRecord(final AuditActionContext audit) {
+            direct.add(audit);
+        }
+
+        @Override
+        protected void saveAuditRecords(final List<AuditActionContext> audits) {
+            if (latch != null) {
+                assertDoesNotThrow(() -> latch.await());
+            }
+            batches.add(audits);
+        }
+    }
+}
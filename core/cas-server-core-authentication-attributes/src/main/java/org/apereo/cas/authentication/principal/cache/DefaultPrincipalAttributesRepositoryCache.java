@@ -5,34 +5,90 @@ import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCach
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.DigestUtils;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.cache.DistributedCacheManager;
+import org.apereo.cas.util.cache.DistributedCacheObject;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes for all registered services are kept in a single cache that is bounded by
+ * the total number of attribute values it holds, while each entry expires according to the
+ * caching repository of its registered service. Cache hits and misses are reported per registered service.
+ * <p>
+ * If a {@link DistributedCacheManager} is available, it is used as a second-level cache that is shared
+ * by all nodes, and the local cache acts as a near cache in front of it. Updated attributes are written
+ * through to the distributed cache and published, so that other nodes can drop their local copies
+ * via {@link #invalidate(String)} once the distributed cache reports the change.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @Slf4j
+@Getter
 public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttributesRepositoryCache, Closeable {
-    private static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1_000;
+    private static final long DEFAULT_MAXIMUM_CACHE_WEIGHT = 100_000;
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private static final String CACHE_NAME = "principalAttributesRepositoryCache";
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private static final String CACHE_GETS_METER_NAME = "cas.principal.attributes.cache.gets";
+
+    private final Cache<String, CachedAttributes> cache;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, RegisteredServiceCacheStatistics> registeredServicesStatistics = new ConcurrentHashMap<>();
+
+    private final long maximumCacheWeight;
+
+    private final Duration nearCacheExpiration;
+
+    private final MeterRegistry meterRegistry;
+
+    private final DistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>, PublisherIdentifier> distributedCacheManager;
+
+    public DefaultPrincipalAttributesRepositoryCache() {
+        this(DEFAULT_MAXIMUM_CACHE_WEIGHT, Duration.ZERO, Metrics.globalRegistry, DistributedCacheManager.noOp());
+    }
+
+    public DefaultPrincipalAttributesRepositoryCache(
+        final long maximumCacheWeight,
+        final Duration nearCacheExpiration,
+        final MeterRegistry meterRegistry,
+        final DistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>, PublisherIdentifier> distributedCacheManager) {
+        this.maximumCacheWeight = maximumCacheWeight;
+        this.nearCacheExpiration = nearCacheExpiration;
+        this.meterRegistry = meterRegistry;
+        this.distributedCacheManager = distributedCacheManager;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumCacheWeight)
+            .<String, CachedAttributes>weigher((key, value) -> weigh(value.attributes()))
+            .expireAfter(new CachedAttributesExpiry())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
 
     private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
         val key = registeredService.getId() + "@" + registeredService.getName();
@@ -41,59 +97,145 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
         return cacheKey;
     }
 
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
-        final RegisteredServicePrincipalAttributesRepository repository) {
+    private static Duration getCacheExpiration(final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = (CachingPrincipalAttributesRepository) repository;
         val unit = TimeUnit.valueOf(StringUtils.defaultIfBlank(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
-            .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        return Duration.ofNanos(unit.toNanos(cachedRepository.getExpiration()));
+    }
+
+    private static int weigh(final Map<String, List<Object>> attributes) {
+        var weight = 1;
+        for (val values : attributes.values()) {
+            weight += values == null ? 1 : values.size();
+        }
+        return weight;
+    }
+
+    private static Map<String, List<Object>> newAttributes(final Map<String, List<Object>> attributes) {
+        val results = new TreeMap<String, List<Object>>(String.CASE_INSENSITIVE_ORDER);
+        results.putAll(attributes);
+        return results;
     }
 
     @Override
     public void close() {
-        invalidate();
+        cache.invalidateAll();
     }
 
     @Override
     public void invalidate() {
-        lock.tryLock(__ -> registeredServicesCache.values().forEach(Cache::invalidateAll));
+        close();
+        distributedCacheManager.clear();
+    }
+
+    @Override
+    public void invalidate(final String distributedCacheKey) {
+        if (StringUtils.isBlank(distributedCacheKey)) {
+            LOGGER.trace("Invalidating all locally cached attributes");
+            cache.invalidateAll();
+        } else {
+            LOGGER.trace("Invalidating locally cached attributes for [{}]", distributedCacheKey);
+            cache.invalidate(distributedCacheKey);
+        }
     }
 
     @Override
     public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
-        return lock.tryLock(() -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            return cache.get(principal.getId(), __ -> {
-                LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-                return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-            });
-        });
+        val serviceKey = buildRegisteredServiceCacheKey(registeredService);
+        val cacheKey = buildCacheKey(serviceKey, principal.getId());
+        val statistics = getRegisteredServiceStatistics(serviceKey, registeredService);
+        val cachedAttributes = cache.getIfPresent(cacheKey);
+        if (cachedAttributes != null) {
+            statistics.hits().increment();
+            return cachedAttributes.attributes();
+        }
+        statistics.misses().increment();
+        val distributedAttributes = fetchDistributedAttributes(cacheKey, repository);
+        if (distributedAttributes != null) {
+            LOGGER.trace("Found cached attributes for [{}] in the distributed cache", principal.getId());
+            cache.put(cacheKey, distributedAttributes);
+            return distributedAttributes.attributes();
+        }
+        LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
     public void putAttributes(final RegisteredService registeredService,
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
-        lock.tryLock(__ -> {
-            val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-            cache.put(id, attributes);
+        val cacheKey = buildCacheKey(buildRegisteredServiceCacheKey(registeredService), id);
+        val expiration = getCacheExpiration(repository);
+        cache.put(cacheKey, new CachedAttributes(newAttributes(attributes), getNearCacheExpiration(expiration)));
+        val properties = new TreeMap<String, String>();
+        properties.put(DISTRIBUTED_CACHE_EXPIRATION_PROPERTY, String.valueOf(expiration.toMillis()));
+        val item = DistributedCacheObject.<HashMap<String, List<Object>>>builder()
+            .value(new HashMap<>(attributes))
+            .properties(properties)
+            .build();
+        distributedCacheManager.update(cacheKey, item, true);
+    }
+
+    protected String buildCacheKey(final String serviceKey, final String id) {
+        return serviceKey + ':' + id;
+    }
+
+    protected CachedAttributes fetchDistributedAttributes(final String cacheKey,
+                                                          final RegisteredServicePrincipalAttributesRepository repository) {
+        val item = distributedCacheManager.get(cacheKey);
+        if (item == null || item.getValue() == null) {
+            return null;
+        }
+        val remaining = getCacheExpiration(repository).minusMillis(System.currentTimeMillis() - item.getTimestamp());
+        if (!remaining.isPositive()) {
+            LOGGER.trace("Cached attributes for [{}] in the distributed cache have expired", cacheKey);
+            distributedCacheManager.remove(cacheKey, item, false);
+            return null;
+        }
+        return new CachedAttributes(newAttributes(item.getValue()), getNearCacheExpiration(remaining));
+    }
+
+    private Duration getNearCacheExpiration(final Duration expiration) {
+        return nearCacheExpiration.isPositive() && nearCacheExpiration.compareTo(expiration) < 0
+            ? nearCacheExpiration
+            : expiration;
+    }
+
+    private RegisteredServiceCacheStatistics getRegisteredServiceStatistics(final String serviceKey,
+                                                                            final RegisteredService registeredService) {
+        return registeredServicesStatistics.computeIfAbsent(serviceKey, __ -> {
+            val tags = Tags.of("service", StringUtils.defaultString(registeredService.getName()),
+                "serviceId", String.valueOf(registeredService.getId()));
+            return new RegisteredServiceCacheStatistics(
+                meterRegistry.counter(CACHE_GETS_METER_NAME, tags.and("result", "hit")),
+                meterRegistry.counter(CACHE_GETS_METER_NAME, tags.and("result", "miss")));
         });
     }
 
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
-        final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+    public record CachedAttributes(Map<String, List<Object>> attributes, Duration expiration) {
+    }
+
+    private record RegisteredServiceCacheStatistics(Counter hits, Counter misses) {
+    }
+
+    private static final class CachedAttributesExpiry implements Expiry<String, CachedAttributes> {
+        @Override
+        public long expireAfterCreate(final String key, final CachedAttributes value, final long currentTime) {
+            return value.expiration().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedAttributes value,
+                                      final long currentTime, final long currentDuration) {
+            return value.expiration().toNanos();
+        }
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+        @Override
+        public long expireAfterRead(final String key, final CachedAttributes value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
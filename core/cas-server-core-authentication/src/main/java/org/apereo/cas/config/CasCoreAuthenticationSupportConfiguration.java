@@ -20,13 +20,17 @@ import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCach
 import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesRepositoryCache;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.cache.DistributedCacheManager;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -39,6 +43,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 
+import java.time.Duration;
+import java.util.Objects;
+
 /**
  * This is {@link CasCoreAuthenticationSupportConfiguration}.
  *
@@ -57,8 +64,19 @@ public class CasCoreAuthenticationSupportConfiguration {
         @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache() {
-            return new DefaultPrincipalAttributesRepositoryCache();
+        public PrincipalAttributesRepositoryCache principalAttributesRepositoryCache(
+            final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Qualifier(PrincipalAttributesRepositoryCache.DISTRIBUTED_CACHE_BEAN_NAME)
+            final ObjectProvider<DistributedCacheManager> principalAttributesRepositoryDistributedCache) {
+            val core = casProperties.getAuthn().getAttributeRepository().getCore();
+            val distributedCache = principalAttributesRepositoryDistributedCache.getIfAvailable();
+            val nearCacheExpiration = distributedCache != null
+                ? Beans.newDuration(core.getRegisteredServiceNearCacheExpiration())
+                : Duration.ZERO;
+            return new DefaultPrincipalAttributesRepositoryCache(core.getRegisteredServiceCacheMaximumWeight(),
+                nearCacheExpiration, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                Objects.requireNonNullElseGet(distributedCache, DistributedCacheManager::noOp));
         }
     }
     @Configuration(value = "CasCoreAuthenticationHandlerResolverConfiguration", proxyBeanMethods = false)
@@ -49,8 +49,16 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
 
     private ApplicationEventPublisher applicationEventPublisher;
 
-    private static ZonedDateTime convertEventCreationTime(final CasEvent event) {
-        return DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+    /**
+     * Whether the event was created on or after the given date.
+     *
+     * @param event    the event
+     * @param dateTime the date time
+     * @return true/false
+     */
+    protected static boolean isCreatedOnOrAfter(final CasEvent event, final ZonedDateTime dateTime) {
+        val dt = DateTimeUtils.convertToZonedDateTime(event.getCreationTime());
+        return dt.isEqual(dateTime) || dt.isAfter(dateTime);
     }
 
     @Override
@@ -69,10 +77,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
         return load()
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+            .filter(e -> isCreatedOnOrAfter(e, dateTime));
     }
 
     @Override
@@ -85,10 +90,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
                                                                   final ZonedDateTime dateTime) {
         return getEventsOfTypeForPrincipal(type, principal)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+            .filter(e -> isCreatedOnOrAfter(e, dateTime));
     }
 
     @Override
@@ -99,10 +101,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
         return getEventsOfType(type)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dt) || dt.isAfter(dt);
-            });
+            .filter(e -> isCreatedOnOrAfter(e, dateTime));
     }
 
     @Override
@@ -113,10 +112,7 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
         return getEventsForPrincipal(id)
-            .filter(e -> {
-                val dt = convertEventCreationTime(e);
-                return dt.isEqual(dateTime) || dt.isAfter(dateTime);
-            });
+            .filter(e -> isCreatedOnOrAfter(e, dateTime));
     }
 
     @Override
@@ -25,7 +25,6 @@ import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.Comparator;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
 
@@ -62,9 +61,12 @@ public class CasEventsReportEndpoint extends BaseCasActuatorEndpoint {
     }
 
     /**
-     * Collect CAS events.
+     * Collect a page of CAS events, most recent first.
      *
+     * @param limit  the maximum number of events to return
+     * @param offset the number of events to skip
      * @return the collection
+     * @throws Exception the exception
      */
     @GetMapping(produces = {
         MEDIA_TYPE_SPRING_BOOT_V2_JSON,
@@ -74,14 +76,17 @@ public class CasEventsReportEndpoint extends BaseCasActuatorEndpoint {
         MEDIA_TYPE_CAS_YAML
     })
     @Operation(summary = "Provide a report of CAS events in the event repository",
-        parameters = @Parameter(name = "limit", required = false))
-    public ResponseEntity events(@RequestParam(required = false, defaultValue = "1000") final int limit) throws Exception {
+        parameters = {
+            @Parameter(name = "limit", required = false),
+            @Parameter(name = "offset", required = false)
+        })
+    public ResponseEntity events(@RequestParam(required = false, defaultValue = "1000") final int limit,
+                                 @RequestParam(required = false, defaultValue = "0") final int offset) throws Exception {
         val eventRepository = applicationContext.getBean(CasEventRepository.BEAN_NAME, CasEventRepository.class);
-        val results = eventRepository.load()
-            .sorted(Comparator.comparingLong(CasEvent::getTimestamp).reversed())
-            .limit(limit)
-            .collect(Collectors.toList());
-        return ResponseEntity.ok(MAPPER.writeValueAsString(results));
+        try (val events = eventRepository.load(offset, limit)) {
+            val results = events.collect(Collectors.toList());
+            return ResponseEntity.ok(MAPPER.writeValueAsString(results));
+        }
     }
 
     /**
@@ -86,10 +86,14 @@ class CasEventsReportEndpointTests {
         publishEvent();
         assertFalse(casEventRepository.load().findAny().isEmpty());
         val endpoint = new CasEventsReportEndpoint(casProperties, applicationContext);
-        val result = endpoint.events(100);
+        val result = endpoint.events(100, 0);
         assertNotNull(result);
         assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), result.getStatusCode());
         assertNotNull(result.getBody());
+
+        val count = casEventRepository.load().count();
+        assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), endpoint.events(1, 1).getStatusCode());
+        assertEquals(Math.min(1, count - 1), casEventRepository.load(1, 1).count());
     }
 
     private void publishEvent() {
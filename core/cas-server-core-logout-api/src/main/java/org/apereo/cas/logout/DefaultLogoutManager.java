@@ -8,12 +8,16 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutRequestContext;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
+import org.apereo.cas.util.function.FunctionUtils;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -22,12 +26,18 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * This logout manager handles the Single Log Out process.
+ * Logout requests for the services of a ticket-granting ticket may be processed
+ * concurrently, bounded by the configured maximum concurrency; the order of the
+ * resulting logout requests always follows the order of services in the ticket.
  *
  * @author Jerome Leleu
  * @since 4.0.0
@@ -40,6 +50,13 @@ public class DefaultLogoutManager implements LogoutManager {
 
     private final LogoutExecutionPlan logoutExecutionPlan;
 
+    private final int maxConcurrency;
+
+    public DefaultLogoutManager(final boolean singleLogoutCallbacksDisabled,
+                                final LogoutExecutionPlan logoutExecutionPlan) {
+        this(singleLogoutCallbacksDisabled, logoutExecutionPlan, 1);
+    }
+
     private static <T> Predicate<T> distinctByKey(final Function<? super T, Object> keyExtractor) {
         val seen = new ConcurrentHashMap<>();
         return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
@@ -78,23 +95,60 @@ public class DefaultLogoutManager implements LogoutManager {
             .filter(entry -> entry.getValue() instanceof WebApplicationService)
             .map(entry -> Pair.of(entry.getKey(), (WebApplicationService) entry.getValue())).toList();
 
-        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers();
-        return logoutServices
+        val sloHandlers = logoutExecutionPlan.getSingleLogoutServiceMessageHandlers()
+            .stream()
+            .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
+            .toList();
+        val logoutRequests = maxConcurrency > 1 && logoutServices.size() > 1
+            ? handleLogoutServicesConcurrently(logoutServices, sloHandlers, context)
+            : logoutServices.stream().map(entry -> handleLogoutService(entry, sloHandlers, context)).toList();
+        return logoutRequests
             .stream()
-            .map(entry -> sloHandlers
-                .stream()
-                .sorted(Comparator.comparing(SingleLogoutServiceMessageHandler::getOrder))
-                .filter(handler -> handler.supports(context, entry.getValue()))
-                .map(handler -> {
-                    val service = entry.getValue();
-                    LOGGER.trace("Handling single logout callback for [{}]", service.getId());
-                    return handler.handle(service, entry.getKey(), context);
-                })
-                .flatMap(Collection::stream)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList()))
             .flatMap(Collection::stream)
             .filter(distinctByKey(SingleLogoutRequestContext::getService))
             .collect(Collectors.toList());
     }
+
+    private List<List<SingleLogoutRequestContext>> handleLogoutServicesConcurrently(
+        final List<Pair<String, WebApplicationService>> logoutServices,
+        final List<SingleLogoutServiceMessageHandler> sloHandlers,
+        final SingleLogoutExecutionRequest context) {
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val permits = new Semaphore(maxConcurrency);
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val futures = new ArrayList<Future<List<SingleLogoutRequestContext>>>(logoutServices.size());
+            for (val entry : logoutServices) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                    ClientInfoHolder.setClientInfo(clientInfo);
+                    try {
+                        return handleLogoutService(entry, sloHandlers, context);
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                        ClientInfoHolder.clear();
+                        permits.release();
+                    }
+                }));
+            }
+            return futures.stream().map(future -> FunctionUtils.doUnchecked(() -> future.get())).toList();
+        }
+    }
+
+    private static List<SingleLogoutRequestContext> handleLogoutService(final Pair<String, WebApplicationService> entry,
+                                                                        final List<SingleLogoutServiceMessageHandler> sloHandlers,
+                                                                        final SingleLogoutExecutionRequest context) {
+        val service = entry.getValue();
+        return sloHandlers
+            .stream()
+            .filter(handler -> handler.supports(context, service))
+            .map(handler -> {
+                LOGGER.trace("Handling single logout callback for [{}]", service.getId());
+                return handler.handle(service, entry.getKey(), context);
+            })
+            .flatMap(Collection::stream)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
 }
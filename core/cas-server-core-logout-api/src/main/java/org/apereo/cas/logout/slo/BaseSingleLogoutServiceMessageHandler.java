@@ -13,20 +13,34 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
  * This is {@link BaseSingleLogoutServiceMessageHandler}.
+ * Asynchronous back-channel logout messages are delivered on virtual threads owned by
+ * this handler, so that the outcome and latency of each delivery can still be recorded
+ * and fed into the circuit breaker once the delivery completes.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
@@ -34,7 +48,12 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLogoutServiceMessageHandler {
+public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLogoutServiceMessageHandler, DisposableBean {
+    private static final String METRIC_DELIVERY = "cas.slo.delivery";
+
+    @Getter(AccessLevel.NONE)
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
     private final HttpClient httpClient;
 
     private final SingleLogoutMessageCreator logoutMessageBuilder;
@@ -47,6 +66,24 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
 
     private final AuthenticationServiceSelectionPlan authenticationRequestServiceSelectionStrategies;
 
+    /**
+     * Circuit breaker that stops sending logout messages to destinations that keep failing.
+     */
+    @Setter
+    private SingleLogoutCircuitBreaker circuitBreaker;
+
+    /**
+     * Meter registry that records delivery latency of back-channel logout messages.
+     */
+    @Setter
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Maximum time to wait for a back-channel logout message to be delivered to a single endpoint.
+     */
+    @Setter
+    private Duration timeout;
+
     @Override
     public Collection<SingleLogoutRequestContext> handle(final WebApplicationService singleLogoutService,
                                                          final String ticketId,
@@ -190,14 +227,104 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
      */
     protected boolean sendSingleLogoutMessage(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
         val logoutService = request.getService();
-        LOGGER.trace("Preparing logout request for [{}] to [{}]", logoutService.getId(), request.getLogoutUrl());
+        val logoutUrl = request.getLogoutUrl();
+        if (circuitBreaker != null && !circuitBreaker.isCallPermitted(logoutUrl)) {
+            LOGGER.warn("Logout destination [{}] keeps failing; Skipping logout request for [{}]", logoutUrl, logoutService.getId());
+            recordDeliveryMetrics(request, "rejected", Duration.ZERO);
+            return false;
+        }
+        LOGGER.trace("Preparing logout request for [{}] to [{}]", logoutService.getId(), logoutUrl);
         val msg = getLogoutHttpMessageToSend(request, logoutMessage);
         LOGGER.debug("Prepared logout message to send is [{}]. Sending...", msg);
-        val result = sendMessageToEndpoint(msg, request, logoutMessage);
+        val startTime = System.nanoTime();
+        val asynchronousDelivery = msg.isAsynchronous();
+        msg.setAsynchronous(false);
+        if (asynchronousDelivery) {
+            CompletableFuture
+                .supplyAsync(() -> deliverMessageToEndpoint(msg, request, logoutMessage), deliveryExecutor)
+                .exceptionally(e -> {
+                    LoggingUtils.error(LOGGER, e);
+                    return false;
+                })
+                .thenAccept(result -> recordDeliveryOutcome(request, result, startTime));
+            logoutService.setLoggedOutAlready(true);
+            return true;
+        }
+        val result = deliverMessageToEndpoint(msg, request, logoutMessage);
+        recordDeliveryOutcome(request, result, startTime);
         logoutService.setLoggedOutAlready(result);
         return result;
     }
 
+    /**
+     * Record the outcome of a delivered logout request in the delivery metrics and the circuit breaker.
+     *
+     * @param request   the request
+     * @param result    the result
+     * @param startTime the start time of the delivery, in nanoseconds
+     */
+    protected void recordDeliveryOutcome(final SingleLogoutRequestContext request, final boolean result, final long startTime) {
+        recordDeliveryMetrics(request, result ? "success" : "failure", Duration.ofNanos(System.nanoTime() - startTime));
+        if (circuitBreaker != null) {
+            if (result) {
+                circuitBreaker.recordSuccess(request.getLogoutUrl());
+            } else {
+                circuitBreaker.recordFailure(request.getLogoutUrl());
+            }
+        }
+    }
+
+    /**
+     * Deliver message to endpoint, waiting at most for the configured timeout
+     * if the message is to be sent synchronously. Messages are switched to synchronous
+     * delivery before they get here, and asynchronous messages are delivered on the threads
+     * of this handler instead, so the timeout applies to them as well.
+     *
+     * @param msg           the msg
+     * @param request       the request
+     * @param logoutMessage the logout message
+     * @return true/false
+     */
+    protected boolean deliverMessageToEndpoint(final LogoutHttpMessage msg,
+                                               final SingleLogoutRequestContext request,
+                                               final SingleLogoutMessage logoutMessage) {
+        if (timeout == null || timeout.isZero() || timeout.isNegative() || msg.isAsynchronous()) {
+            return sendMessageToEndpoint(msg, request, logoutMessage);
+        }
+        val delivery = deliveryExecutor.submit(() -> sendMessageToEndpoint(msg, request, logoutMessage));
+        try {
+            return delivery.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            LOGGER.warn("Logout request to [{}] did not complete within [{}]", request.getLogoutUrl(), timeout);
+            delivery.cancel(true);
+        } catch (final InterruptedException e) {
+            delivery.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            LoggingUtils.error(LOGGER, e.getCause());
+        }
+        return false;
+    }
+
+    /**
+     * Record delivery latency of a logout request, tagged by service and outcome.
+     *
+     * @param request  the request
+     * @param outcome  the outcome
+     * @param duration the duration
+     */
+    protected void recordDeliveryMetrics(final SingleLogoutRequestContext request, final String outcome, final Duration duration) {
+        if (meterRegistry != null) {
+            val registeredService = request.getRegisteredService();
+            Timer.builder(METRIC_DELIVERY)
+                .description("Delivery latency of back-channel single logout requests")
+                .tag("service", registeredService != null ? registeredService.getName() : request.getService().getId())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration);
+        }
+    }
+
     /**
      * Send message to endpoint.
      *
@@ -222,4 +349,9 @@ public abstract class BaseSingleLogoutServiceMessageHandler implements SingleLog
     protected LogoutHttpMessage getLogoutHttpMessageToSend(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
         return new LogoutHttpMessage(request.getLogoutUrl(), logoutMessage.getPayload(), this.asynchronous);
     }
+
+    @Override
+    public void destroy() {
+        deliveryExecutor.shutdownNow();
+    }
 }
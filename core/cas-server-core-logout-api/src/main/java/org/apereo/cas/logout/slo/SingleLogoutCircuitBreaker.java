@@ -0,0 +1,137 @@
+package org.apereo.cas.logout.slo;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link SingleLogoutCircuitBreaker}. It keeps track of consecutive delivery failures
+ * for each logout destination, identified by its scheme, host and port. Once a destination
+ * fails too many times in a row, its circuit opens and further logout messages to that destination
+ * are skipped until the reset timeout elapses; after that, a single attempt is let through to probe
+ * the endpoint, which either closes the circuit again on success or keeps it open on failure.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SingleLogoutCircuitBreaker {
+    private final Map<String, EndpointState> endpoints = new ConcurrentHashMap<>();
+
+    private final int failureThreshold;
+
+    private final Duration resetTimeout;
+
+    private final Clock clock;
+
+    public SingleLogoutCircuitBreaker(final int failureThreshold, final Duration resetTimeout) {
+        this(failureThreshold, resetTimeout, Clock.systemUTC());
+    }
+
+    /**
+     * Whether a logout message may be sent to the given url.
+     *
+     * @param url the url
+     * @return true/false
+     */
+    public boolean isCallPermitted(final URL url) {
+        if (failureThreshold <= 0) {
+            return true;
+        }
+        val state = endpoints.get(getDestination(url));
+        if (state == null) {
+            return true;
+        }
+        synchronized (state) {
+            if (state.openedAt == null) {
+                return true;
+            }
+            val now = clock.instant();
+            if (!state.probing && !now.isBefore(state.openedAt.plus(resetTimeout))) {
+                LOGGER.debug("Allowing a single logout attempt to probe [{}]", url);
+                state.probing = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Record a successful delivery to the given url.
+     *
+     * @param url the url
+     */
+    public void recordSuccess(final URL url) {
+        val state = endpoints.remove(getDestination(url));
+        if (state != null && state.openedAt != null) {
+            LOGGER.info("Closing circuit for logout destination [{}]", getDestination(url));
+        }
+    }
+
+    /**
+     * Record a failed delivery to the given url.
+     *
+     * @param url the url
+     */
+    public void recordFailure(final URL url) {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        val destination = getDestination(url);
+        val state = endpoints.computeIfAbsent(destination, __ -> new EndpointState());
+        synchronized (state) {
+            state.failures++;
+            state.probing = false;
+            if (state.failures >= failureThreshold) {
+                if (state.openedAt == null) {
+                    LOGGER.warn("Opening circuit for logout destination [{}] after [{}] consecutive failure(s)", destination, state.failures);
+                }
+                state.openedAt = clock.instant();
+            }
+        }
+    }
+
+    /**
+     * Whether the circuit for the given url is open.
+     *
+     * @param url the url
+     * @return true/false
+     */
+    public boolean isOpen(final URL url) {
+        val state = endpoints.get(getDestination(url));
+        if (state == null) {
+            return false;
+        }
+        synchronized (state) {
+            return state.openedAt != null;
+        }
+    }
+
+    /**
+     * Gets the destination key of the given url.
+     *
+     * @param url the url
+     * @return the destination
+     */
+    protected String getDestination(final URL url) {
+        val port = url.getPort() > 0 ? url.getPort() : url.getDefaultPort();
+        return url.getProtocol().toLowerCase(Locale.ENGLISH) + "://" + url.getHost().toLowerCase(Locale.ENGLISH) + ':' + port;
+    }
+
+    private static final class EndpointState {
+        private int failures;
+
+        private Instant openedAt;
+
+        private boolean probing;
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.ServiceFactoryConfigurer;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.DefaultLogoutExecutionPlan;
 import org.apereo.cas.logout.DefaultLogoutManager;
 import org.apereo.cas.logout.DefaultLogoutRedirectionStrategy;
@@ -19,6 +20,7 @@ import org.apereo.cas.logout.slo.ChainingSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.SingleLogoutCircuitBreaker;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
 import org.apereo.cas.logout.slo.SingleLogoutRequestExecutor;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
@@ -33,9 +35,12 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 import org.apereo.cas.web.support.ArgumentExtractor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
@@ -135,13 +140,28 @@ public class CasCoreLogoutConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient noRedirectHttpClient,
             @Qualifier("singleLogoutServiceLogoutUrlBuilder")
-            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder) {
-            return new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
+            final SingleLogoutServiceLogoutUrlBuilder singleLogoutServiceLogoutUrlBuilder,
+            @Qualifier("singleLogoutCircuitBreaker")
+            final SingleLogoutCircuitBreaker singleLogoutCircuitBreaker,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            val handler = new DefaultSingleLogoutServiceMessageHandler(noRedirectHttpClient,
                 defaultSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
                 casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan);
+            handler.setCircuitBreaker(singleLogoutCircuitBreaker);
+            handler.setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            handler.setTimeout(Beans.newDuration(casProperties.getSlo().getDispatcher().getTimeout()));
+            return handler;
+        }
+
+        @ConditionalOnMissingBean(name = "singleLogoutCircuitBreaker")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public SingleLogoutCircuitBreaker singleLogoutCircuitBreaker(final CasConfigurationProperties casProperties) {
+            val dispatcher = casProperties.getSlo().getDispatcher();
+            return new SingleLogoutCircuitBreaker(dispatcher.getFailureThreshold(), Beans.newDuration(dispatcher.getResetTimeout()));
         }
 
         @ConditionalOnMissingBean(name = "defaultSingleLogoutMessageCreator")
@@ -163,7 +183,8 @@ public class CasCoreLogoutConfiguration {
             @Qualifier(LogoutExecutionPlan.BEAN_NAME)
             final LogoutExecutionPlan logoutExecutionPlan,
             final CasConfigurationProperties casProperties) {
-            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan);
+            return new DefaultLogoutManager(casProperties.getSlo().isDisabled(), logoutExecutionPlan,
+                casProperties.getSlo().getDispatcher().getMaxConcurrency());
         }
 
     }
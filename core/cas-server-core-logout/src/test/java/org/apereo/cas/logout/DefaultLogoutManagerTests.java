@@ -28,7 +28,9 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.net.URL;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -232,4 +234,33 @@ class DefaultLogoutManagerTests {
             .build());
         assertEquals(1, logoutRequests.size());
     }
+
+    @Test
+    void verifyConcurrentLogout() throws Throwable {
+        val services = IntStream.range(0, 20)
+            .mapToObj(i -> getService("https://app" + i + ".example.org"))
+            .toList();
+        for (var i = 0; i < services.size(); i++) {
+            val service = services.get(i);
+            tgt.getServices().put("ST-" + i, service);
+            val registeredService = getRegisteredService(service.getId());
+            registeredService.setLogoutType(RegisteredServiceLogoutType.BACK_CHANNEL);
+            when(servicesManager.findServiceBy(service)).thenReturn(registeredService);
+        }
+        val plan = new DefaultLogoutExecutionPlan();
+        plan.registerSingleLogoutServiceMessageHandler(singleLogoutServiceMessageHandler);
+        val manager = new DefaultLogoutManager(false, plan, 4);
+        val logoutRequests = manager.performLogout(SingleLogoutExecutionRequest
+            .builder()
+            .ticketGrantingTicket(tgt)
+            .httpServletResponse(Optional.of(new MockHttpServletResponse()))
+            .httpServletRequest(Optional.of(new MockHttpServletRequest()))
+            .build());
+        val expectedServices = List.copyOf(tgt.getServices().values());
+        assertEquals(expectedServices.size(), logoutRequests.size());
+        for (var i = 0; i < expectedServices.size(); i++) {
+            assertEquals(expectedServices.get(i), logoutRequests.get(i).getService());
+        }
+        assertTrue(logoutRequests.stream().allMatch(request -> request.getStatus() == LogoutRequestStatus.SUCCESS));
+    }
 }
@@ -0,0 +1,153 @@
+package org.apereo.cas.logout;
+
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionPlan;
+import org.apereo.cas.authentication.DefaultAuthenticationServiceSelectionStrategy;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceLogoutUrlBuilder;
+import org.apereo.cas.logout.slo.DefaultSingleLogoutServiceMessageHandler;
+import org.apereo.cas.logout.slo.SingleLogoutCircuitBreaker;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceLogoutType;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.util.http.HttpClient;
+import org.apereo.cas.util.http.HttpMessage;
+import org.apereo.cas.web.SimpleUrlValidatorFactoryBean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link SingleLogoutCircuitBreakerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Logout")
+class SingleLogoutCircuitBreakerTests {
+
+    @Test
+    void verifyCircuitOpensAndResets() throws Throwable {
+        val clock = mock(Clock.class);
+        val now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        val circuitBreaker = new SingleLogoutCircuitBreaker(2, Duration.ofSeconds(30), clock);
+        val url = new URI("https://app.example.org/logout").toURL();
+        val otherUrl = new URI("https://app.example.org:443/other").toURL();
+
+        assertTrue(circuitBreaker.isCallPermitted(url));
+        circuitBreaker.recordFailure(url);
+        assertTrue(circuitBreaker.isCallPermitted(url));
+        circuitBreaker.recordFailure(otherUrl);
+        assertTrue(circuitBreaker.isOpen(url));
+        assertFalse(circuitBreaker.isCallPermitted(url));
+        assertTrue(circuitBreaker.isCallPermitted(new URI("https://other.example.org/logout").toURL()));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(31));
+        assertTrue(circuitBreaker.isCallPermitted(url));
+        assertFalse(circuitBreaker.isCallPermitted(url));
+        circuitBreaker.recordFailure(url);
+        assertFalse(circuitBreaker.isCallPermitted(url));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(62));
+        assertTrue(circuitBreaker.isCallPermitted(url));
+        circuitBreaker.recordSuccess(url);
+        assertFalse(circuitBreaker.isOpen(url));
+        assertTrue(circuitBreaker.isCallPermitted(url));
+    }
+
+    @Test
+    void verifyDisabled() throws Throwable {
+        val circuitBreaker = new SingleLogoutCircuitBreaker(0, Duration.ofSeconds(30));
+        val url = new URI("https://app.example.org/logout").toURL();
+        circuitBreaker.recordFailure(url);
+        circuitBreaker.recordFailure(url);
+        assertTrue(circuitBreaker.isCallPermitted(url));
+    }
+
+    @Test
+    void verifyHandlerSkipsFailingEndpoints() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.isValidEndPoint(any(String.class))).thenReturn(true);
+        when(httpClient.isValidEndPoint(any(URL.class))).thenReturn(true);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenReturn(false);
+
+        val servicesManager = mock(ServicesManager.class);
+        val service = DefaultLogoutManagerTests.getService("https://app.example.org");
+        val registeredService = DefaultLogoutManagerTests.getRegisteredService(service.getId());
+        registeredService.setLogoutType(RegisteredServiceLogoutType.BACK_CHANNEL);
+        when(servicesManager.findServiceBy(service)).thenReturn(registeredService);
+
+        val handler = new DefaultSingleLogoutServiceMessageHandler(httpClient,
+            new DefaultSingleLogoutMessageCreator(), servicesManager,
+            new DefaultSingleLogoutServiceLogoutUrlBuilder(servicesManager, new SimpleUrlValidatorFactoryBean(true).getObject()), false,
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()));
+        val meterRegistry = new SimpleMeterRegistry();
+        handler.setCircuitBreaker(new SingleLogoutCircuitBreaker(2, Duration.ofMinutes(5)));
+        handler.setMeterRegistry(meterRegistry);
+        handler.setTimeout(Duration.ofSeconds(5));
+
+        val context = SingleLogoutExecutionRequest.builder()
+            .ticketGrantingTicket(new MockTicketGrantingTicket("casuser"))
+            .build();
+        for (var i = 0; i < 4; i++) {
+            val results = handler.handle(service, "ST-" + i, context);
+            assertEquals(LogoutRequestStatus.FAILURE, results.iterator().next().getStatus());
+        }
+        verify(httpClient, times(2)).sendMessageToEndPoint(any(HttpMessage.class));
+        assertEquals(2, meterRegistry.get("cas.slo.delivery").tag("outcome", "failure").timer().count());
+        assertEquals(2, meterRegistry.get("cas.slo.delivery").tag("outcome", "rejected").timer().count());
+    }
+
+    @Test
+    void verifyAsynchronousDeliveryRecordsOutcome() throws Throwable {
+        val httpClient = mock(HttpClient.class);
+        when(httpClient.isValidEndPoint(any(String.class))).thenReturn(true);
+        when(httpClient.isValidEndPoint(any(URL.class))).thenReturn(true);
+        when(httpClient.sendMessageToEndPoint(any(HttpMessage.class))).thenAnswer(args -> {
+            val message = args.getArgument(0, HttpMessage.class);
+            assertFalse(message.isAsynchronous());
+            return false;
+        });
+
+        val servicesManager = mock(ServicesManager.class);
+        val service = DefaultLogoutManagerTests.getService("https://app.example.org");
+        val registeredService = DefaultLogoutManagerTests.getRegisteredService(service.getId());
+        registeredService.setLogoutType(RegisteredServiceLogoutType.BACK_CHANNEL);
+        when(servicesManager.findServiceBy(service)).thenReturn(registeredService);
+
+        val handler = new DefaultSingleLogoutServiceMessageHandler(httpClient,
+            new DefaultSingleLogoutMessageCreator(), servicesManager,
+            new DefaultSingleLogoutServiceLogoutUrlBuilder(servicesManager, new SimpleUrlValidatorFactoryBean(true).getObject()), true,
+            new DefaultAuthenticationServiceSelectionPlan(new DefaultAuthenticationServiceSelectionStrategy()));
+        val meterRegistry = new SimpleMeterRegistry();
+        val circuitBreaker = new SingleLogoutCircuitBreaker(2, Duration.ofMinutes(5));
+        handler.setCircuitBreaker(circuitBreaker);
+        handler.setMeterRegistry(meterRegistry);
+        handler.setTimeout(Duration.ofSeconds(5));
+
+        val context = SingleLogoutExecutionRequest.builder()
+            .ticketGrantingTicket(new MockTicketGrantingTicket("casuser"))
+            .build();
+        for (var i = 0; i < 2; i++) {
+            service.setLoggedOutAlready(false);
+            val results = handler.handle(service, "ST-" + i, context);
+            assertEquals(LogoutRequestStatus.SUCCESS, results.iterator().next().getStatus());
+        }
+        val logoutUrl = new URI("https://app.example.org").toURL();
+        await().atMost(Duration.ofSeconds(5)).until(() -> circuitBreaker.isOpen(logoutUrl));
+        assertEquals(2, meterRegistry.get("cas.slo.delivery").tag("outcome", "failure").timer().count());
+        handler.destroy();
+    }
+}
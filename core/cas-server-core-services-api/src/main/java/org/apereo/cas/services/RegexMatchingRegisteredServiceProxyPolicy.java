@@ -11,6 +11,7 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 
 import java.io.Serial;
 import java.net.URL;
@@ -50,7 +51,8 @@ public class RegexMatchingRegisteredServiceProxyPolicy implements RegisteredServ
     @Override
     public boolean isAllowedProxyCallbackUrl(final RegisteredService registeredService, final URL pgtUrl) {
         var patternToUse = this.useServiceId ? registeredService.getServiceId() : this.pattern;
-        if (!RegexUtils.isValidRegex(patternToUse)) {
+        val compiledPattern = RegexUtils.createPattern(patternToUse);
+        if (compiledPattern == RegexUtils.MATCH_NOTHING_PATTERN) {
             LOGGER.warn("Pattern specified [{}] is not a valid regular expression", patternToUse);
             return false;
         }
@@ -59,6 +61,6 @@ public class RegexMatchingRegisteredServiceProxyPolicy implements RegisteredServ
             return patternToUse.equals(pgtUrl.toExternalForm());
         }
         LOGGER.debug("Using pattern [{}] to authorize proxy policy for URL [{}]", patternToUse, pgtUrl.toExternalForm());
-        return RegexUtils.find(patternToUse, pgtUrl.toExternalForm());
+        return RegexUtils.find(compiledPattern, pgtUrl.toExternalForm());
     }
 }
@@ -64,6 +64,22 @@ public class DefaultChainingServiceRegistry extends AbstractServiceRegistry impl
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<RegisteredServiceChanges> loadChanges() {
+        val updated = new ArrayList<RegisteredService>();
+        val removed = new ArrayList<Long>();
+        for (val serviceRegistry : serviceRegistries) {
+            val changes = serviceRegistry.loadChanges();
+            if (changes.isEmpty()) {
+                LOGGER.trace("Service registry [{}] is unable to track changes to service definitions", serviceRegistry.getName());
+                return Optional.empty();
+            }
+            updated.addAll(changes.get().updated());
+            removed.addAll(changes.get().removed());
+        }
+        return Optional.of(new RegisteredServiceChanges(updated, removed));
+    }
+
     @Override
     public RegisteredService findServiceById(final long id) {
         return serviceRegistries.stream()
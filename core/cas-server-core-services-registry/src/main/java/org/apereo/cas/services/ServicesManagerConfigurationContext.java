@@ -1,6 +1,8 @@
 package org.apereo.cas.services;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -39,4 +41,7 @@ public class ServicesManagerConfigurationContext {
 
     @Nonnull
     private final RegisteredServicesTemplatesManager registeredServicesTemplatesManager;
+
+    @Builder.Default
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
 }
@@ -3,6 +3,7 @@ package org.apereo.cas.services.mgmt;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
+import org.apereo.cas.services.RegisteredServiceChanges;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
@@ -20,6 +21,8 @@ import com.googlecode.cqengine.ConcurrentIndexedCollection;
 import com.googlecode.cqengine.IndexedCollection;
 import com.googlecode.cqengine.index.AttributeIndex;
 import com.googlecode.cqengine.query.QueryFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -29,10 +32,13 @@ import org.springframework.context.ApplicationEvent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -55,6 +61,10 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    private final Map<Long, RegisteredService> loadedServices = new ConcurrentHashMap<>();
+
+    private volatile boolean servicesLoaded;
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -94,6 +104,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicePreSaveEvent(this, registeredService, clientInfo));
             val savedService = configurationContext.getServiceRegistry().save(registeredService);
+            loadedServices.put(savedService.getId(), savedService);
             cacheRegisteredService(savedService);
             saveInternal(registeredService);
 
@@ -127,6 +138,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         lock.tryLock(__ -> {
             configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
             configurationContext.getServicesCache().invalidateAll();
+            loadedServices.clear();
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
         });
@@ -148,6 +160,8 @@ public abstract class AbstractServicesManager implements ServicesManager {
                 publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
                 configurationContext.getServiceRegistry().delete(service);
                 configurationContext.getServicesCache().invalidate(service.getId());
+                loadedServices.remove(service.getId());
+                indexedRegisteredServices.remove(service);
                 deleteInternal(service);
                 publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
             }
@@ -203,6 +217,9 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        if (!results.isEmpty()) {
+            cacheInternal();
+        }
         return results.values();
     }
 
@@ -220,8 +237,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     @Override
     public RegisteredService findServiceBy(final long id) {
-        val result = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id));
+        val result = getCachedService(id, __ -> configurationContext.getServiceRegistry().findServiceById(id));
         return validateRegisteredService(result);
     }
 
@@ -233,8 +249,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         }
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
-        service = configurationContext.getServicesCache().get(id,
-            __ -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+        service = getCachedService(id, __ -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
         return (T) validateRegisteredService(service);
     }
 
@@ -318,45 +333,111 @@ public abstract class AbstractServicesManager implements ServicesManager {
      * For the duration of the read, the cache store should not remain empty.
      * Otherwise, lookup operations during that loading time window might produce
      * unauthorized failure errors. Invalidation attempts must happen after the load
-     * to minimize chances of failures.
+     * to minimize chances of failures. Once services are loaded, subsequent loads only
+     * apply the changes reported by the service registry, if it is able to track them.
      */
     @Override
     public Collection<RegisteredService> load() {
         return lock.tryLock(() -> {
-            LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
-            val servicesMap = configurationContext.getServiceRegistry()
-                .load()
-                .stream()
-                .filter(this::supports)
-                .filter(this::validateAndFilterServiceByEnvironment)
-                .peek(this::loadInternal)
-                .filter(Objects::nonNull)
-                .map(this::applyTemplate)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(service -> {
-                    LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
-                        service.getServiceId(), service.getName(), service.getId());
-                    return service.getId();
-                }, Function.identity(), (__, service) -> service));
-            cacheRegisteredServices(servicesMap);
-            loadInternal();
+            val serviceRegistry = configurationContext.getServiceRegistry();
+            val sample = Timer.start(configurationContext.getMeterRegistry());
+            val changes = servicesLoaded ? serviceRegistry.loadChanges() : Optional.<RegisteredServiceChanges>empty();
+            val loadType = changes.isPresent() ? "delta" : "full";
+            val loadedCount = changes.map(this::loadRegisteredServiceChanges).orElseGet(this::loadRegisteredServices);
+
             val clientInfo = ClientInfoHolder.getClientInfo();
             publishEvent(new CasRegisteredServicesLoadedEvent(this, getAllServices(), clientInfo));
             evaluateExpiredServiceDefinitions();
 
+            sample.stop(Timer.builder("cas.services.reload")
+                .description("Time taken to load service definitions from the service registry")
+                .tag("type", loadType)
+                .register(configurationContext.getMeterRegistry()));
+            DistributionSummary.builder("cas.services.reload.size")
+                .description("Number of service definitions loaded, modified or removed by each load")
+                .tag("type", loadType)
+                .register(configurationContext.getMeterRegistry())
+                .record(loadedCount);
+
             val results = configurationContext.getServicesCache().asMap();
-            LOGGER.info("Loaded [{}] service(s) from [{}].", results.size(),
-                configurationContext.getServiceRegistry().getName());
+            LOGGER.info("Loaded [{}] service(s) from [{}] with [{}] change(s) via a [{}] load.", results.size(),
+                serviceRegistry.getName(), loadedCount, loadType);
             return results.values();
         });
     }
 
-    private Map<Long, RegisteredService> cacheRegisteredServices(final Map<Long, RegisteredService> servicesMap) {
+    private int loadRegisteredServices() {
+        LOGGER.trace("Loading services from [{}]", configurationContext.getServiceRegistry().getName());
+        val servicesMap = configurationContext.getServiceRegistry()
+            .load()
+            .stream()
+            .filter(this::supports)
+            .filter(this::validateAndFilterServiceByEnvironment)
+            .peek(this::loadInternal)
+            .filter(Objects::nonNull)
+            .map(this::applyTemplate)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(service -> {
+                LOGGER.trace("Adding registered service [{}] with name [{}] and internal identifier [{}]",
+                    service.getServiceId(), service.getName(), service.getId());
+                return service.getId();
+            }, Function.identity(), (__, service) -> service));
+        val staleServices = new ArrayList<RegisteredService>(indexedRegisteredServices);
+        staleServices.addAll(configurationContext.getServicesCache().asMap().values());
+        loadedServices.putAll(servicesMap);
+        loadedServices.keySet().retainAll(servicesMap.keySet());
+        cacheRegisteredServices(servicesMap.values(), staleServices);
+        loadInternal();
+        servicesLoaded = true;
+        return servicesMap.size();
+    }
+
+    private int loadRegisteredServiceChanges(final RegisteredServiceChanges changes) {
+        LOGGER.trace("Applying [{}] change(s) to services from [{}]", changes.size(),
+            configurationContext.getServiceRegistry().getName());
+        val updatedServices = new HashMap<Long, RegisteredService>();
+        val staleServices = new ArrayList<RegisteredService>();
+        changes.removed().forEach(id -> Optional.ofNullable(loadedServices.remove(id)).ifPresent(staleServices::add));
+        changes.updated().forEach(service -> {
+            Optional.ofNullable(loadedServices.remove(service.getId())).ifPresent(staleServices::add);
+            val candidate = supports(service) && validateAndFilterServiceByEnvironment(service) ? applyTemplate(service) : null;
+            if (candidate != null) {
+                LOGGER.trace("Updating registered service [{}] with name [{}] and internal identifier [{}]",
+                    candidate.getServiceId(), candidate.getName(), candidate.getId());
+                updatedServices.put(candidate.getId(), candidate);
+            }
+        });
+        loadedServices.putAll(updatedServices);
+        cacheRegisteredServices(updatedServices.values(), staleServices);
+        staleServices.stream()
+            .filter(service -> !updatedServices.containsKey(service.getId()))
+            .forEach(this::deleteInternal);
+        updatedServices.values().forEach(this::saveInternal);
+        return changes.size();
+    }
+
+    /**
+     * Loaded services are put into the cache before stale entries are evicted, and all loaded
+     * services are put again so their cache entries do not expire while they remain unchanged.
+     * Stale entries that are equal to a loaded service are kept in the index, since
+     * removing them would remove the loaded service.
+     */
+    private void cacheRegisteredServices(final Collection<RegisteredService> updatedServices,
+                                         final Collection<RegisteredService> staleServices) {
         val servicesCache = configurationContext.getServicesCache();
-        servicesCache.invalidateAll();
-        servicesCache.putAll(servicesMap);
-        indexedRegisteredServices.addAll(servicesMap.values());
-        return servicesCache.asMap();
+        servicesCache.putAll(loadedServices);
+        servicesCache.invalidateAll(staleServices
+            .stream()
+            .map(RegisteredService::getId)
+            .filter(id -> !loadedServices.containsKey(id))
+            .collect(Collectors.toSet()));
+
+        val servicesToIndex = new HashSet<>(updatedServices);
+        indexedRegisteredServices.addAll(servicesToIndex);
+        indexedRegisteredServices.removeAll(staleServices
+            .stream()
+            .filter(service -> !servicesToIndex.contains(service))
+            .toList());
     }
 
     @Override
@@ -401,6 +482,9 @@ public abstract class AbstractServicesManager implements ServicesManager {
     protected void loadInternal(final RegisteredService service) {
     }
 
+    protected void cacheInternal() {
+    }
+
     protected RegisteredService applyTemplate(final RegisteredService service) {
         return this.configurationContext.getRegisteredServicesTemplatesManager().apply(service);
     }
@@ -418,7 +502,21 @@ public abstract class AbstractServicesManager implements ServicesManager {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
             indexedRegisteredServices.add(service);
+            cacheInternal();
+        }
+    }
+
+    private RegisteredService getCachedService(final long id, final Function<Long, RegisteredService> loader) {
+        val servicesCache = configurationContext.getServicesCache();
+        val cachedService = servicesCache.getIfPresent(id);
+        if (cachedService != null) {
+            return cachedService;
+        }
+        val loadedService = servicesCache.get(id, loader);
+        if (loadedService != null) {
+            cacheInternal();
         }
+        return loadedService;
     }
 
     private void evaluateExpiredServiceDefinitions() {
@@ -5,12 +5,22 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 
+import lombok.val;
+
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services are located via a {@link RegisteredServicesMatchingIndex}
+ * that is rebuilt only when the registry changes, and never on the thread that looks up services.
+ * Every change to the services cache bumps a generation counter, and an index is only used
+ * while it was built for the current generation. Loading services rebuilds the index right away;
+ * other changes rebuild it in the background, and lookups scan the services cache until then.
  *
  * @author Scott Battaglia
  * @since 3.1
@@ -18,12 +28,22 @@ import java.util.stream.Collectors;
 @Monitorable
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicReference<GenerationalMatchingIndex> matchingIndex = new AtomicReference<>();
+
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
 
     @Override
     public Collection<RegisteredService> getServicesForDomain(final String domain) {
+        val index = getMatchingIndex();
+        if (index != null) {
+            return index.getServices();
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
@@ -32,9 +52,88 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
+        val index = getMatchingIndex();
+        if (index != null) {
+            return index.getCandidateServices(serviceId);
+        }
         return getCacheableServicesStream()
             .get()
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
     }
+
+    @Override
+    protected void saveInternal(final RegisteredService service) {
+        scheduleMatchingIndexRebuild();
+    }
+
+    @Override
+    protected void deleteInternal(final RegisteredService service) {
+        scheduleMatchingIndexRebuild();
+    }
+
+    @Override
+    protected void loadInternal() {
+        generation.incrementAndGet();
+        rebuildMatchingIndex();
+    }
+
+    @Override
+    protected void cacheInternal() {
+        scheduleMatchingIndexRebuild();
+    }
+
+    /**
+     * Gets the matching index, if it was built for the current generation
+     * and still covers all services in the cache. Otherwise, the index is rebuilt
+     * in the background and no index is used.
+     *
+     * @return the matching index, or null
+     */
+    protected RegisteredServicesMatchingIndex getMatchingIndex() {
+        val current = matchingIndex.get();
+        if (current == null || current.generation() != generation.get()) {
+            return null;
+        }
+        val servicesCache = getConfigurationContext().getServicesCache();
+        servicesCache.cleanUp();
+        val size = servicesCache.estimatedSize();
+        if (size <= 0) {
+            return null;
+        }
+        if (current.index().size() != size) {
+            scheduleMatchingIndexRebuild();
+            return null;
+        }
+        return current.index();
+    }
+
+    /**
+     * Rebuild the matching index from the services cache.
+     * The generation is read before the cache is, so an index that is built while
+     * the cache changes carries an older generation and is never used.
+     * An index is only published if it is newer than the current one.
+     */
+    protected void rebuildMatchingIndex() {
+        val currentGeneration = generation.get();
+        val servicesCache = getConfigurationContext().getServicesCache();
+        servicesCache.cleanUp();
+        val index = new RegisteredServicesMatchingIndex(servicesCache.asMap().values());
+        val rebuilt = new GenerationalMatchingIndex(currentGeneration, index);
+        matchingIndex.accumulateAndGet(rebuilt,
+            (current, candidate) -> current == null || current.generation() < candidate.generation() ? candidate : current);
+    }
+
+    private void scheduleMatchingIndexRebuild() {
+        generation.incrementAndGet();
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("services-matching-index").start(() -> {
+                rebuildScheduled.set(false);
+                rebuildMatchingIndex();
+            });
+        }
+    }
+
+    private record GenerationalMatchingIndex(long generation, RegisteredServicesMatchingIndex index) {
+    }
 }
@@ -0,0 +1,224 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * This is {@link RegisteredServicesMatchingIndex}. It holds an immutable, sorted
+ * snapshot of registered services and narrows down the set of candidates
+ * that should be evaluated for a given service id.
+ * Service definitions whose service id is a regular expression beginning with a literal
+ * prefix (i.e. {@code https://app.example.org/.+}) are placed into a prefix trie keyed
+ * by the (lower-cased) prefix, while everything else falls back into a bucket that is always
+ * considered a candidate. An unescaped {@code .} in the prefix matches any single character,
+ * so prefixes such as {@code https://app.example.org/} remain usable without escaping
+ * every dot. Candidates are always returned in the natural order of the snapshot,
+ * thereby respecting the evaluation order of each service definition.
+ * <p>
+ * The index is meant to be rebuilt whenever the registry changes and is never mutated once built.
+ * By default, only plain CAS service definitions are indexed by prefix; callers that locate other
+ * types of service definitions by their service id may decide which definitions should be indexed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class RegisteredServicesMatchingIndex {
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private static final char MAX_ASCII = 127;
+
+    /**
+     * Stands for an unescaped {@code .} in a literal prefix, which matches any single character.
+     */
+    private static final char ANY_CHARACTER = '\0';
+
+    @Getter
+    private final List<RegisteredService> services;
+
+    private final TrieNode root = new TrieNode();
+
+    private final BitSet fallbackServices;
+
+    public RegisteredServicesMatchingIndex(final Collection<RegisteredService> registeredServices) {
+        this(registeredServices, registeredService -> registeredService.getClass() == CasRegisteredService.class);
+    }
+
+    public RegisteredServicesMatchingIndex(final Collection<? extends RegisteredService> registeredServices,
+                                           final Predicate<RegisteredService> indexable) {
+        this.services = registeredServices.stream().map(RegisteredService.class::cast).sorted().toList();
+        this.fallbackServices = new BitSet(services.size());
+        for (var i = 0; i < services.size(); i++) {
+            val registeredService = services.get(i);
+            val prefix = indexable.test(registeredService) ? getLiteralPrefix(registeredService) : StringUtils.EMPTY;
+            if (StringUtils.isEmpty(prefix)) {
+                fallbackServices.set(i);
+            } else {
+                var node = root;
+                for (var j = 0; j < prefix.length(); j++) {
+                    val character = prefix.charAt(j);
+                    if (character == ANY_CHARACTER) {
+                        if (node.anyCharacter == null) {
+                            node.anyCharacter = new TrieNode();
+                        }
+                        node = node.anyCharacter;
+                    } else {
+                        node = node.children.computeIfAbsent(character, __ -> new TrieNode());
+                    }
+                }
+                node.services.add(i);
+            }
+        }
+        LOGGER.trace("Indexed [{}] registered service(s) with [{}] service(s) in the fallback bucket",
+            services.size(), fallbackServices.cardinality());
+    }
+
+    /**
+     * Gets candidate services that might match the given service id, sorted by evaluation order.
+     *
+     * @param serviceId the service id
+     * @return the candidate services
+     */
+    public List<RegisteredService> getCandidateServices(final String serviceId) {
+        val candidates = (BitSet) fallbackServices.clone();
+        if (StringUtils.isNotBlank(serviceId)) {
+            var nodes = List.of(root);
+            for (var i = 0; i < serviceId.length() && !nodes.isEmpty(); i++) {
+                val character = toLowerCaseAscii(serviceId.charAt(i));
+                val next = new ArrayList<TrieNode>(nodes.size());
+                for (val node : nodes) {
+                    node.services.forEach(candidates::set);
+                    val child = node.children.get(character);
+                    if (child != null) {
+                        next.add(child);
+                    }
+                    if (node.anyCharacter != null) {
+                        next.add(node.anyCharacter);
+                    }
+                }
+                nodes = next;
+            }
+            nodes.forEach(node -> node.services.forEach(candidates::set));
+        }
+        val results = new ArrayList<RegisteredService>(candidates.cardinality());
+        for (var index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            results.add(services.get(index));
+        }
+        return results;
+    }
+
+    /**
+     * Size of the indexed snapshot.
+     *
+     * @return the size
+     */
+    public int size() {
+        return services.size();
+    }
+
+    /**
+     * Extract the literal prefix of the registered service id, if the service definition
+     * can be safely indexed. Only service definitions that match using full regular
+     * expressions are considered; others must always remain candidates.
+     *
+     * @param registeredService the registered service
+     * @return the literal prefix, lower-cased, or blank; unescaped dots are returned as {@link #ANY_CHARACTER}
+     */
+    protected static String getLiteralPrefix(final RegisteredService registeredService) {
+        val matchingStrategy = registeredService.getMatchingStrategy();
+        if (matchingStrategy != null && matchingStrategy.getClass() != FullRegexRegisteredServiceMatchingStrategy.class) {
+            return StringUtils.EMPTY;
+        }
+        val pattern = registeredService.getServiceId();
+        if (StringUtils.isBlank(pattern) || hasTopLevelAlternation(pattern)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var i = pattern.startsWith("^") ? 1 : 0;
+        while (i < pattern.length()) {
+            val current = pattern.charAt(i);
+            if (current == '\\') {
+                if (i + 1 < pattern.length() && isEscapedLiteral(pattern.charAt(i + 1))) {
+                    prefix.append(pattern.charAt(i + 1));
+                    i += 2;
+                    continue;
+                }
+                break;
+            }
+            if (current == '.') {
+                prefix.append(ANY_CHARACTER);
+                i++;
+                continue;
+            }
+            if (REGEX_METACHARACTERS.indexOf(current) >= 0 || current > MAX_ASCII) {
+                if ((current == '?' || current == '*' || current == '{') && !prefix.isEmpty()) {
+                    prefix.setLength(prefix.length() - 1);
+                }
+                break;
+            }
+            prefix.append(current);
+            i++;
+        }
+        return toLowerCaseAscii(prefix.toString());
+    }
+
+    private static boolean isEscapedLiteral(final char character) {
+        return character <= MAX_ASCII && !Character.isLetterOrDigit(character);
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var depth = 0;
+        var inCharacterClass = false;
+        for (var i = 0; i < pattern.length(); i++) {
+            val current = pattern.charAt(i);
+            if (current == '\\') {
+                i++;
+            } else if (inCharacterClass) {
+                inCharacterClass = current != ']';
+            } else if (current == '[') {
+                inCharacterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toLowerCaseAscii(final String value) {
+        val builder = new StringBuilder(value.length());
+        for (var i = 0; i < value.length(); i++) {
+            builder.append(toLowerCaseAscii(value.charAt(i)));
+        }
+        return builder.toString();
+    }
+
+    private static char toLowerCaseAscii(final char character) {
+        return character >= 'A' && character <= 'Z' ? (char) (character + ('a' - 'A')) : character;
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private final List<Integer> services = new ArrayList<>(1);
+
+        private TrieNode anyCharacter;
+    }
+}
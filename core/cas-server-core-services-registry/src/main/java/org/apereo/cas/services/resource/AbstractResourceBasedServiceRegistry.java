@@ -3,6 +3,7 @@ package org.apereo.cas.services.resource;
 import org.apereo.cas.configuration.api.CasConfigurationPropertiesSourceLocator;
 import org.apereo.cas.services.AbstractServiceRegistry;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceChanges;
 import org.apereo.cas.services.RegisteredServiceDefinition;
 import org.apereo.cas.services.ResourceBasedServiceRegistry;
 import org.apereo.cas.services.ServiceRegistryListener;
@@ -21,6 +22,9 @@ import org.apereo.cas.util.io.PathWatcherService;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.nativex.CasRuntimeHintsRegistrar;
 import org.apereo.cas.util.serialization.StringSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -40,15 +44,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -71,6 +82,8 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         new File(CasConfigurationPropertiesSourceLocator.DEFAULT_CAS_CONFIG_DIRECTORIES.getFirst(), "services");
 
 
+    private static final Duration SLOW_RESOURCE_LOAD_THRESHOLD = Duration.ofSeconds(1);
+
     /**
      * The Service registry directory.
      */
@@ -78,15 +91,29 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
     protected Path serviceRegistryDirectory;
     
     @Getter
-    protected Map<Long, RegisteredService> services = new ConcurrentHashMap<>();
+    protected volatile Map<Long, RegisteredService> services = Map.of();
 
     private final CasReentrantLock lock = new CasReentrantLock();
 
+    private final Map<File, LoadedResource> loadedResources = new ConcurrentHashMap<>();
+
+    private volatile boolean resourcesLoaded;
+
     private Collection<StringSerializer<RegisteredService>> registeredServiceSerializers;
 
     @Setter
     private WatcherService serviceRegistryWatcherService;
 
+    /**
+     * Number of files that are read and parsed concurrently.
+     * A value of zero or less uses the number of available processors.
+     */
+    @Setter
+    private int loadParallelism;
+
+    @Setter
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
     private RegisteredServiceReplicationStrategy registeredServiceReplicationStrategy;
 
     private RegisteredServiceResourceNamingStrategy resourceNamingStrategy;
@@ -216,7 +243,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
             if (this.services.containsKey(service.getId())) {
                 LOGGER.debug("Found existing service definition by id [{}]. Saving...", service.getId());
             }
-            services.put(service.getId(), service);
+            updateServices(map -> map.put(service.getId(), service));
             LOGGER.debug("Saved service to [{}]", fileName.getCanonicalPath());
         } catch (final IOException e) {
             throw new IllegalArgumentException("IO error opening file stream.", e);
@@ -256,24 +283,156 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
             LOGGER.trace("Located [{}] files from [{}] are [{}]", getExtensions(), this.serviceRegistryDirectory, files);
             val clientInfo = ClientInfoHolder.getClientInfo();
 
-            this.services = files
-                .stream()
-                .map(this::load)
-                .filter(Objects::nonNull)
-                .flatMap(Collection::stream)
-                .sorted()
-                .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
-                    (s1, s2) -> {
-                        BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
-                        return s1;
-                    }, LinkedHashMap::new));
-            val listedServices = new ArrayList<>(this.services.values());
+            loadedResources.clear();
+            val loadedServices = resolveServices(loadResources(files).stream());
+            publishServices(loadedServices);
+            resourcesLoaded = true;
+            val listedServices = new ArrayList<>(loadedServices.values());
             val results = this.registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(listedServices, this);
             results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
             return results;
         });
     }
 
+    /**
+     * Load service definitions from files that were created or modified since the last load,
+     * as determined by their last-modified timestamp and size, and track definitions
+     * whose files were removed. Files that remain unchanged are not read again.
+     * Duplicate service definitions are resolved exactly as they would be by a full load.
+     *
+     * @return the changes, or empty if service definitions were never loaded or the registry is busy
+     */
+    @Override
+    public Optional<RegisteredServiceChanges> loadChanges() {
+        val changes = lock.tryLock(this::loadChangedResources);
+        if (changes == null) {
+            LOGGER.debug("Unable to acquire lock to load changes from [{}]", this.serviceRegistryDirectory);
+            return Optional.empty();
+        }
+        return changes;
+    }
+
+    private Optional<RegisteredServiceChanges> loadChangedResources() {
+        if (!resourcesLoaded) {
+            return Optional.empty();
+        }
+        val files = new HashSet<>(FileUtils.listFiles(this.serviceRegistryDirectory.toFile(), getExtensions(), true));
+        val affectedIds = new HashSet<Long>();
+        loadedResources.keySet()
+            .stream()
+            .filter(file -> !files.contains(file))
+            .toList()
+            .forEach(file -> affectedIds.addAll(loadedResources.remove(file).serviceIds()));
+
+        val modifiedFiles = files
+            .stream()
+            .filter(file -> !loadedResources.containsKey(file) || loadedResources.get(file).isModified(file))
+            .toList();
+        modifiedFiles.forEach(file -> {
+            LOGGER.debug("Service definition file [{}] was created or modified", file);
+            Optional.ofNullable(loadedResources.get(file)).ifPresent(resource -> affectedIds.addAll(resource.serviceIds()));
+        });
+        loadResources(modifiedFiles).forEach(service -> affectedIds.add(service.getId()));
+        if (affectedIds.isEmpty()) {
+            return Optional.of(RegisteredServiceChanges.none());
+        }
+
+        val resolvedServices = resolveServices(loadedResources.values()
+            .stream()
+            .flatMap(resource -> resource.services().stream())
+            .filter(service -> affectedIds.contains(service.getId())));
+        val currentServices = this.services;
+        val updatedServices = resolvedServices.values()
+            .stream()
+            .filter(service -> currentServices.get(service.getId()) != service)
+            .collect(Collectors.toCollection(ArrayList::new));
+        val removedIds = affectedIds
+            .stream()
+            .filter(id -> !resolvedServices.containsKey(id))
+            .collect(Collectors.toSet());
+        if (updatedServices.isEmpty() && removedIds.isEmpty()) {
+            return Optional.of(RegisteredServiceChanges.none());
+        }
+        updateServices(map -> {
+            removedIds.forEach(map::remove);
+            updatedServices.forEach(service -> map.put(service.getId(), service));
+        });
+
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val results = this.registeredServiceReplicationStrategy.updateLoadedRegisteredServicesFromCache(updatedServices, this);
+        results.forEach(service -> publishEvent(new CasRegisteredServiceLoadedEvent(this, service, clientInfo)));
+        LOGGER.debug("Loaded [{}] created or modified service definition(s) and removed [{}] from [{}]",
+            results.size(), removedIds.size(), this.serviceRegistryDirectory);
+        return Optional.of(new RegisteredServiceChanges(results, removedIds));
+    }
+
+    private static Map<Long, RegisteredService> resolveServices(final Stream<RegisteredService> services) {
+        return services
+            .sorted()
+            .collect(Collectors.toMap(RegisteredService::getId, Function.identity(),
+                (s1, s2) -> {
+                    BaseResourceBasedRegisteredServiceWatcher.LOG_SERVICE_DUPLICATE.accept(s2);
+                    return s1;
+                }, LinkedHashMap::new));
+    }
+
+    private synchronized void publishServices(final Map<Long, RegisteredService> loadedServices) {
+        this.services = Collections.unmodifiableMap(loadedServices);
+    }
+
+    private synchronized void updateServices(final Consumer<Map<Long, RegisteredService>> updater) {
+        val updatedServices = new LinkedHashMap<>(this.services);
+        updater.accept(updatedServices);
+        publishServices(updatedServices);
+    }
+
+    /**
+     * Read and parse files concurrently, with no more than the configured number of files in flight.
+     * Results are returned in the order in which files are provided regardless of which file
+     * finishes first, so duplicate service definitions are resolved exactly as they would be
+     * if files were loaded one at a time.
+     */
+    private List<RegisteredService> loadResources(final Collection<File> files) {
+        val parallelism = Math.min(files.size(), loadParallelism > 0 ? loadParallelism : Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            return files.stream().map(this::loadResource).flatMap(Collection::stream).toList();
+        }
+        LOGGER.trace("Loading [{}] files from [{}] with a parallelism of [{}]", files.size(), serviceRegistryDirectory, parallelism);
+        try (val executor = Executors.newFixedThreadPool(parallelism)) {
+            val results = files
+                .stream()
+                .map(file -> executor.submit(() -> loadResource(file)))
+                .toList();
+            return results
+                .stream()
+                .map(result -> FunctionUtils.doUnchecked(result::get))
+                .flatMap(Collection::stream)
+                .toList();
+        }
+    }
+
+    private Collection<RegisteredService> loadResource(final File file) {
+        val lastModified = file.lastModified();
+        val length = file.length();
+        val startTime = System.nanoTime();
+        val loadedServices = Optional.ofNullable(load(file)).orElseGet(ArrayList::new);
+        val elapsed = Duration.ofNanos(System.nanoTime() - startTime);
+        Timer.builder("cas.services.registry.resource.load")
+            .description("Time taken to read and parse a service definition file")
+            .tag("registry", getName())
+            .register(meterRegistry)
+            .record(elapsed);
+        if (elapsed.compareTo(SLOW_RESOURCE_LOAD_THRESHOLD) >= 0) {
+            LOGGER.warn("Loading [{}] service definition(s) from [{}] with a size of [{}] byte(s) took [{}]",
+                loadedServices.size(), file, length, elapsed);
+        } else {
+            LOGGER.trace("Loaded [{}] service definition(s) from [{}] with a size of [{}] byte(s) in [{}]",
+                loadedServices.size(), file, length, elapsed);
+        }
+        loadedResources.put(file, new LoadedResource(lastModified, length, List.copyOf(loadedServices)));
+        return loadedServices;
+    }
+
     @Override
     public Collection<RegisteredService> load(final File file) {
         val fileName = file.getName();
@@ -342,7 +501,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
 
     @Override
     public void update(final RegisteredService service) {
-        this.services.put(service.getId(), service);
+        updateServices(map -> map.put(service.getId(), service));
     }
 
     @Override
@@ -356,7 +515,7 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
      * @param service the service
      */
     protected void removeRegisteredService(final RegisteredService service) {
-        this.services.remove(service.getId());
+        updateServices(map -> map.remove(service.getId()));
     }
 
     protected RegisteredService getRegisteredServiceFromFile(final File file) {
@@ -439,4 +598,13 @@ public abstract class AbstractResourceBasedServiceRegistry extends AbstractServi
         this.serviceRegistryWatcherService.start(getClass().getSimpleName());
     }
 
+    private record LoadedResource(long lastModified, long length, List<RegisteredService> services) {
+        boolean isModified(final File file) {
+            return file.lastModified() != lastModified || file.length() != length;
+        }
+
+        Set<Long> serviceIds() {
+            return services.stream().map(RegisteredService::getId).collect(Collectors.toSet());
+        }
+    }
 }
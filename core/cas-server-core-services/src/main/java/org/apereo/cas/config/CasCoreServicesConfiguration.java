@@ -58,6 +58,8 @@ import org.apereo.cas.web.UrlValidator;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
@@ -291,6 +293,7 @@ public class CasCoreServicesConfiguration {
             @Qualifier("servicesManagerCache")
             final Cache<Long, RegisteredService> servicesManagerCache,
             final List<ServicesManagerRegisteredServiceLocator> servicesManagerRegisteredServiceLocators,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             final Environment environment,
             final ConfigurableApplicationContext applicationContext) {
             AnnotationAwareOrderComparator.sortIfNecessary(servicesManagerRegisteredServiceLocators);
@@ -302,6 +305,7 @@ public class CasCoreServicesConfiguration {
                 .servicesCache(servicesManagerCache)
                 .registeredServicesTemplatesManager(registeredServicesTemplatesManager)
                 .registeredServiceLocators(servicesManagerRegisteredServiceLocators)
+                .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
                 .build();
         }
 
@@ -6,6 +6,7 @@ import org.apereo.cas.services.resource.DefaultRegisteredServiceResourceNamingSt
 import org.apereo.cas.util.RandomUtils;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.serialization.StringSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.springframework.core.io.ClassPathResource;
 import java.io.File;
 import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.IntStream;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -85,4 +87,59 @@ public abstract class BaseResourceBasedServiceRegistryTests extends AbstractServ
         assertThrows(IllegalArgumentException.class, () -> registry.save(r));
         registry.destroy();
     }
+
+    @Test
+    void verifyLoadChanges() {
+        val registeredService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(registeredService);
+        newServiceRegistry.load();
+        assertEquals(0, newServiceRegistry.loadChanges().orElseThrow().size());
+
+        val addedService = buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class);
+        newServiceRegistry.save(addedService);
+        val changes = newServiceRegistry.loadChanges().orElseThrow();
+        assertTrue(changes.updated().stream().anyMatch(service -> service.getId() == addedService.getId()));
+        assertTrue(changes.removed().isEmpty());
+
+        newServiceRegistry.delete(registeredService);
+        val removed = newServiceRegistry.loadChanges().orElseThrow();
+        assertTrue(removed.removed().contains(registeredService.getId()));
+        assertNull(newServiceRegistry.findServiceById(registeredService.getId()));
+        assertNotNull(newServiceRegistry.findServiceById(addedService.getId()));
+    }
+
+    @Test
+    void verifyLoadChangesResolvesDuplicates() {
+        val id = RandomUtils.nextInt();
+        val first = buildRegisteredServiceInstance(id, CasRegisteredService.class);
+        first.setName("First");
+        val second = buildRegisteredServiceInstance(id, CasRegisteredService.class);
+        second.setName("Second");
+        newServiceRegistry.save(second);
+        newServiceRegistry.save(first);
+        newServiceRegistry.load();
+        assertEquals(first.getName(), newServiceRegistry.findServiceById(id).getName());
+
+        second.setDescription("Modified service definition that loses to the first definition");
+        newServiceRegistry.save(second);
+        val changes = newServiceRegistry.loadChanges().orElseThrow();
+        assertTrue(changes.removed().isEmpty());
+        assertEquals(first.getName(), newServiceRegistry.findServiceById(id).getName());
+    }
+
+    @Test
+    void verifyParallelLoad() {
+        val registry = (AbstractResourceBasedServiceRegistry) newServiceRegistry;
+        IntStream.range(0, 10).forEach(i -> registry.save(buildRegisteredServiceInstance(RandomUtils.nextInt(), CasRegisteredService.class)));
+
+        registry.setLoadParallelism(1);
+        val sequential = registry.load();
+
+        val meterRegistry = new SimpleMeterRegistry();
+        registry.setMeterRegistry(meterRegistry);
+        registry.setLoadParallelism(4);
+        val parallel = registry.load();
+        assertEquals(sequential.stream().map(RegisteredService::getId).toList(), parallel.stream().map(RegisteredService::getId).toList());
+        assertTrue(meterRegistry.get("cas.services.registry.resource.load").timer().count() >= parallel.size());
+    }
 }
@@ -1,17 +1,22 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.services.mgmt.DefaultServicesManager;
+import org.apereo.cas.services.query.RegisteredServiceQuery;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.support.StaticApplicationContext;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -59,4 +64,50 @@ class DefaultServicesManagerCachingTests {
         assertEquals(1, mgr.load().size());
         assertEquals(1, mgr.getAllServices().size());
     }
+
+    @Test
+    void verifyServicesLoadedFromChanges() throws Throwable {
+        val service1 = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString());
+        val service2 = RegisteredServiceTestUtils.getRegisteredService(UUID.randomUUID().toString());
+
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+
+        val changes = new AtomicReference<RegisteredServiceChanges>();
+        val serviceRegistry = new InMemoryServiceRegistry(applicationContext, new ArrayList<>(List.of(service1)), List.of()) {
+            @Override
+            public Optional<RegisteredServiceChanges> loadChanges() {
+                return Optional.ofNullable(changes.get());
+            }
+        };
+        val templatesManager = mock(RegisteredServicesTemplatesManager.class);
+        when(templatesManager.apply(any())).thenAnswer(args -> args.getArgument(0));
+        val meterRegistry = new SimpleMeterRegistry();
+        val context = ServicesManagerConfigurationContext.builder()
+            .applicationContext(applicationContext)
+            .registeredServicesTemplatesManager(templatesManager)
+            .serviceRegistry(serviceRegistry)
+            .registeredServiceLocators(List.of(new DefaultServicesManagerRegisteredServiceLocator()))
+            .servicesCache(Caffeine.newBuilder().maximumSize(100).build())
+            .meterRegistry(meterRegistry)
+            .build();
+
+        val mgr = new DefaultServicesManager(context);
+        changes.set(RegisteredServiceChanges.none());
+        assertEquals(1, mgr.load().size());
+        assertEquals(1, meterRegistry.get("cas.services.reload").tag("type", "full").timer().count());
+
+        changes.set(new RegisteredServiceChanges(List.of(service2), List.of(service1.getId())));
+        val loaded = mgr.load();
+        assertEquals(1, loaded.size());
+        assertEquals(service2.getId(), loaded.iterator().next().getId());
+        assertEquals(0, mgr.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service1.getId())).count());
+        assertEquals(1, mgr.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service2.getId())).count());
+        assertEquals(2, meterRegistry.get("cas.services.reload.size").tag("type", "delta").summary().totalAmount());
+
+        changes.set(null);
+        assertEquals(1, mgr.load().size());
+        assertEquals(0, mgr.findServicesBy(RegisteredServiceQuery.of(CasRegisteredService.class, "id", service2.getId())).count());
+        assertEquals(2, meterRegistry.get("cas.services.reload").tag("type", "full").timer().count());
+    }
 }
@@ -87,4 +87,23 @@ class DefaultServicesManagerTests extends AbstractServicesManagerTests<DefaultSe
         servicesManager.load();
         assertTrue(isServiceInCache(null, service.getId()));
     }
+
+    @Test
+    void verifyMatchingIndexTracksCacheChanges() throws Throwable {
+        val service = new CasRegisteredService();
+        service.setId(7000);
+        service.setName(TEST);
+        service.setServiceId("https://app.example.org/.+");
+        servicesManager.save(service);
+        assertNotNull(servicesManager.findServiceBy(serviceFactory.createService("https://app.example.org/login")));
+
+        val replacement = new CasRegisteredService();
+        replacement.setId(service.getId());
+        replacement.setName(TEST);
+        replacement.setServiceId("https://other.example.org/.+");
+        serviceRegistry.save(replacement);
+        assertEquals(1, servicesManager.findServiceBy(registeredService -> registeredService.getId() == service.getId()).size());
+        assertNull(servicesManager.findServiceBy(serviceFactory.createService("https://app.example.org/login")));
+        assertNotNull(servicesManager.findServiceBy(serviceFactory.createService("https://other.example.org/login")));
+    }
 }
@@ -0,0 +1,84 @@
+package org.apereo.cas.services;
+
+import org.apereo.cas.services.mgmt.RegisteredServicesMatchingIndex;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServicesMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("RegisteredService")
+class RegisteredServicesMatchingIndexTests {
+
+    private static CasRegisteredService getService(final long id, final String serviceId, final int order) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        service.setEvaluationOrder(order);
+        return service;
+    }
+
+    @Test
+    void verifyCandidatesByPrefix() throws Throwable {
+        val app1 = getService(1, "https://app1.example.org/.+", 10);
+        val app2 = getService(2, "^https://app2\\.example\\.org/.*", 20);
+        val wildcard = getService(3, "https?://.+", 30);
+        val alternation = getService(4, "https://app3.example.org|https://app4.example.org", 40);
+        val index = new RegisteredServicesMatchingIndex(List.of(wildcard, app2, alternation, app1));
+        assertEquals(4, index.size());
+        assertEquals(List.of(app1, app2, wildcard, alternation), index.getServices());
+
+        val candidates = index.getCandidateServices("HTTPS://APP1.example.org/login");
+        assertEquals(List.of(app1, wildcard, alternation), candidates);
+        assertEquals(List.of(app2, wildcard, alternation), index.getCandidateServices("https://app2.example.org/"));
+        assertEquals(List.of(wildcard, alternation), index.getCandidateServices("https://unknown.example.org"));
+        assertEquals(List.of(wildcard, alternation), index.getCandidateServices(null));
+    }
+
+    @Test
+    void verifyUnescapedDotsMatchAnyCharacter() throws Throwable {
+        val one = getService(1, "https://app.example.org/one/.+", 10);
+        val two = getService(2, "https://app.example.org/two/.+", 20);
+        val optional = getService(3, "https://app.example.org/three.?/.*", 30);
+        val index = new RegisteredServicesMatchingIndex(List.of(one, two, optional));
+        assertEquals(List.of(one), index.getCandidateServices("https://app.example.org/one/login"));
+        assertEquals(List.of(two), index.getCandidateServices("https://APP-example.org/two/login"));
+        assertEquals(List.of(optional), index.getCandidateServices("https://app.example.org/three/"));
+        assertEquals(List.of(), index.getCandidateServices("https://app.example.org/four/login"));
+    }
+
+    @Test
+    void verifyNonIndexedTypes() throws Throwable {
+        val service = getService(1, "https://app.example.org/.+", 10);
+        service.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        val index = new RegisteredServicesMatchingIndex(List.of(service));
+        assertEquals(List.of(service), index.getCandidateServices("https://other.example.org"));
+    }
+
+    @Test
+    void verifyCandidatesMatchFullScan() throws Throwable {
+        val services = List.<RegisteredService>of(
+            getService(1, "https://app.example.org/.+", 5),
+            getService(2, "https://app.example.org/path/.+", 1),
+            getService(3, "https://app.example.org/path[0-9]+", 2),
+            getService(4, "(?i)https://APP.example.org/.+", 3),
+            getService(5, "https://app\\.example\\.org\\?x=.+", 4));
+        val index = new RegisteredServicesMatchingIndex(services);
+        for (val serviceId : List.of("https://app.example.org/path/1", "https://app.example.org/path12",
+            "https://app.example.org?x=1", "https://APP.EXAMPLE.ORG/test")) {
+            val expected = services.stream().sorted().filter(s -> s.matches(serviceId)).findFirst().orElseThrow();
+            val actual = index.getCandidateServices(serviceId).stream().filter(s -> s.matches(serviceId)).findFirst().orElseThrow();
+            assertEquals(expected, actual);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -17,8 +18,12 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
@@ -33,6 +38,10 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    private final TicketRegistrySessionIndex sessionIndex = new DefaultTicketRegistrySessionIndex();
+
+    private volatile boolean sessionIndexInitialized;
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -115,6 +124,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
         getMapInstance().put(encTicket.getId(), encTicket);
+        getSessionIndex().ifPresent(index -> index.track(encTicket.getId(), ticket));
     }
 
     @Override
@@ -127,16 +137,60 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        getSessionIndex().ifPresent(index -> index.untrack(encTicketId));
+        return getMapInstance().remove(encTicketId) != null ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        getSessionIndex().ifPresent(TicketRegistrySessionIndex::clear);
         return size;
     }
 
+    /**
+     * The index is populated from the map instance on first access,
+     * so that tickets already present in the storage map given to the registry
+     * are accounted for.
+     *
+     * @return the session index
+     */
+    @Override
+    public Optional<TicketRegistrySessionIndex> getSessionIndex() {
+        if (!sessionIndexInitialized) {
+            synchronized (sessionIndex) {
+                if (!sessionIndexInitialized) {
+                    getMapInstance().forEach((key, ticket) -> {
+                        val decoded = decodeTicket(ticket);
+                        if (decoded != null) {
+                            sessionIndex.track(key, decoded);
+                        }
+                    });
+                    sessionIndexInitialized = true;
+                }
+            }
+        }
+        return Optional.of(sessionIndex);
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return getSessionIndex()
+            .map(index -> index.getSessionsFor(principalId))
+            .orElseGet(List::of)
+            .stream()
+            .map(getMapInstance()::get)
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .filter(ticket -> ticket instanceof final TicketGrantingTicket tgt && !tgt.isExpired()
+                && tgt.getAuthentication().getPrincipal().getId().equals(principalId));
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
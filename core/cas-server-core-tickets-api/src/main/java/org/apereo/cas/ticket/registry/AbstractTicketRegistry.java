@@ -162,6 +162,10 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long sessionCount() {
+        val sessionIndex = getSessionIndex();
+        if (sessionIndex.isPresent()) {
+            return sessionIndex.get().sessionCount();
+        }
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
             return tgtStream.count();
         } catch (final Exception t) {
@@ -173,6 +177,10 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long serviceTicketCount() {
+        val sessionIndex = getSessionIndex();
+        if (sessionIndex.isPresent()) {
+            return sessionIndex.get().serviceTicketCount();
+        }
         try (val stStream = stream().filter(ServiceTicket.class::isInstance)) {
             return stStream.count();
         } catch (final Exception t) {
@@ -184,6 +192,10 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     @Override
     public long countSessionsFor(final String principalId) {
+        val sessionIndex = getSessionIndex();
+        if (sessionIndex.isPresent()) {
+            return sessionIndex.get().countSessionsFor(principalId);
+        }
         val ticketPredicate = (Predicate<Ticket>) t -> {
             if (t instanceof final TicketGrantingTicket ticket) {
                 return ticket.getAuthentication().getPrincipal().getId().equalsIgnoreCase(principalId);
@@ -349,6 +361,10 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         return ticketSerializationManager.serializeTicket(ticket);
     }
 
+    protected byte[] serializeTicketAsBytes(final Ticket ticket) {
+        return ticketSerializationManager.serializeTicketAsBytes(ticket);
+    }
+
     private Ticket createEncodedTicket(final Ticket ticket) throws Exception {
         LOGGER.debug("Encoding ticket [{}]", ticket);
         val encodedTicketObject = SerializationUtils.serializeAndEncodeObject(this.cipherExecutor, ticket);
@@ -109,6 +109,9 @@ public class CachingTicketRegistry extends AbstractMapBasedTicketRegistry {
 
         @Override
         public void onRemoval(final String key, final Ticket value, final RemovalCause cause) {
+            if (cause.wasEvicted()) {
+                getSessionIndex().ifPresent(index -> index.untrack(key));
+            }
             if (cause == RemovalCause.EXPIRED) {
                 LOGGER.warn("Received removal notification for ticket [{}] with cause [{}]. Cleaning...", key, cause);
                 if (value instanceof final TicketGrantingTicket tgt) {
@@ -0,0 +1,95 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link DefaultTicketRegistrySessionIndex} that keeps
+ * the index in memory, suitable for registries whose storage is local to the node.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class DefaultTicketRegistrySessionIndex implements TicketRegistrySessionIndex {
+    private final Map<String, Set<String>> sessionsByPrincipal = new ConcurrentHashMap<>();
+
+    private final Map<String, String> sessions = new ConcurrentHashMap<>();
+
+    private final Set<String> serviceTickets = ConcurrentHashMap.newKeySet();
+
+    private static String getPrincipalKey(final String principalId) {
+        return StringUtils.defaultString(principalId).toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    public void track(final String key, final Ticket ticket) {
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            val principalId = Optional.ofNullable(tgt.getAuthentication())
+                .map(authentication -> authentication.getPrincipal().getId())
+                .orElse(StringUtils.EMPTY);
+            val principalKey = getPrincipalKey(principalId);
+            sessions.put(key, principalKey);
+            sessionsByPrincipal.compute(principalKey, (__, keys) -> {
+                val results = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+                results.add(key);
+                return results;
+            });
+        } else if (ticket instanceof ServiceTicket) {
+            serviceTickets.add(key);
+        }
+    }
+
+    @Override
+    public void untrack(final String key) {
+        val principalKey = sessions.remove(key);
+        if (principalKey != null) {
+            sessionsByPrincipal.computeIfPresent(principalKey, (__, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        } else {
+            serviceTickets.remove(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        sessions.clear();
+        sessionsByPrincipal.clear();
+        serviceTickets.clear();
+    }
+
+    @Override
+    public Collection<String> getSessionsFor(final String principalId) {
+        val keys = sessionsByPrincipal.get(getPrincipalKey(principalId));
+        return keys == null ? List.of() : List.copyOf(keys);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        val keys = sessionsByPrincipal.get(getPrincipalKey(principalId));
+        return keys == null ? 0 : keys.size();
+    }
+
+    @Override
+    public long sessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return serviceTickets.size();
+    }
+}
@@ -0,0 +1,173 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.lock.LockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.Unchecked;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link ParallelTicketRegistryCleaner}. Expired tickets are collected in batches
+ * as the registry is scanned. For each batch, single logout requests for expired ticket-granting
+ * tickets are processed concurrently by a bounded number of workers, so slow logout endpoints
+ * do not hold up the run; once logout is complete for the batch, its tickets are removed
+ * on the calling thread, within the transactional boundary of the cleaner.
+ * <p>
+ * Each run records the number of scanned, expired and deleted tickets, the number of
+ * dispatched logout requests and the duration of the run via the given {@link MeterRegistry}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class ParallelTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private static final String METRIC_PREFIX = "cas.ticket.registry.cleaner.";
+
+    private final int workers;
+
+    private final int batchSize;
+
+    private final Counter scannedCounter;
+
+    private final Counter expiredCounter;
+
+    private final Counter deletedCounter;
+
+    private final Counter logoutCounter;
+
+    private final Timer durationTimer;
+
+    public ParallelTicketRegistryCleaner(final LockRepository lockRepository,
+                                         final LogoutManager logoutManager,
+                                         final TicketRegistry ticketRegistry,
+                                         final int workers,
+                                         final int batchSize,
+                                         final MeterRegistry meterRegistry) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.scannedCounter = Counter.builder(METRIC_PREFIX + "scanned")
+            .description("Number of tickets scanned by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.expiredCounter = Counter.builder(METRIC_PREFIX + "expired")
+            .description("Number of expired tickets found by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.deletedCounter = Counter.builder(METRIC_PREFIX + "deleted")
+            .description("Number of tickets removed by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.logoutCounter = Counter.builder(METRIC_PREFIX + "slo.dispatched")
+            .description("Number of single logout requests dispatched by the ticket registry cleaner")
+            .register(meterRegistry);
+        this.durationTimer = Timer.builder(METRIC_PREFIX + "duration")
+            .description("Duration of ticket registry cleaner runs")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val sample = Timer.start();
+        val scanned = new AtomicLong();
+        val expired = new AtomicLong();
+        val deleted = new AtomicInteger();
+        val dispatched = new AtomicInteger();
+        try (val logoutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+             val tickets = ticketRegistry.stream()) {
+            val batch = new ArrayList<Ticket>(batchSize);
+            tickets
+                .filter(Objects::nonNull)
+                .peek(__ -> scanned.incrementAndGet())
+                .filter(Ticket::isExpired)
+                .forEach(ticket -> {
+                    expired.incrementAndGet();
+                    batch.add(ticket);
+                    if (batch.size() >= batchSize) {
+                        deleted.addAndGet(cleanBatch(logoutExecutor, batch, dispatched));
+                        batch.clear();
+                    }
+                });
+            if (!batch.isEmpty()) {
+                deleted.addAndGet(cleanBatch(logoutExecutor, batch, dispatched));
+            }
+        } finally {
+            val duration = sample.stop(durationTimer);
+            scannedCounter.increment(scanned.get());
+            expiredCounter.increment(expired.get());
+            deletedCounter.increment(deleted.get());
+            logoutCounter.increment(dispatched.get());
+            LOGGER.info("Scanned [{}] ticket(s) with [{}] expired; [{}] ticket(s) removed and [{}] logout request(s) dispatched in [{}] ms",
+                scanned.get(), expired.get(), deleted.get(), dispatched.get(), duration / 1_000_000);
+        }
+        return deleted.get();
+    }
+
+    /**
+     * Perform logout for the expired ticket-granting tickets in the batch concurrently,
+     * wait for all of them to complete and then remove the batch from the registry
+     * on the calling thread.
+     *
+     * @param logoutExecutor the logout executor
+     * @param batch          the batch
+     * @param dispatched     the number of dispatched logout requests
+     * @return the number of removed tickets
+     */
+    protected int cleanBatch(final ExecutorService logoutExecutor, final List<Ticket> batch,
+                             final AtomicInteger dispatched) {
+        LOGGER.debug("Cleaning up batch of [{}] expired ticket(s)", batch.size());
+        val logoutPermits = new Semaphore(workers);
+        val logoutRequests = new ArrayList<CompletableFuture<Void>>();
+        for (val ticket : batch) {
+            if (ticket instanceof final TicketGrantingTicket tgt) {
+                logoutPermits.acquireUninterruptibly();
+                dispatched.incrementAndGet();
+                logoutRequests.add(CompletableFuture.runAsync(() -> performLogout(tgt), logoutExecutor)
+                    .whenComplete((__, ___) -> logoutPermits.release()));
+            }
+        }
+        CompletableFuture.allOf(logoutRequests.toArray(CompletableFuture[]::new)).join();
+        return batch.stream().mapToInt(this::deleteExpiredTicket).sum();
+    }
+
+    protected int deleteExpiredTicket(final Ticket ticket) {
+        try {
+            return lockRepository.execute(ticket.getId(), Unchecked.supplier(() -> {
+                LOGGER.debug("Cleaning up expired ticket [{}]", ticket.getId());
+                return ticketRegistry.deleteTicket(ticket);
+            })).orElse(0);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            return 0;
+        }
+    }
+
+    protected void performLogout(final TicketGrantingTicket ticketGrantingTicket) {
+        lockRepository.execute(ticketGrantingTicket.getId(), () -> {
+            try {
+                LOGGER.debug("Performing logout for expired ticket-granting ticket [{}]", ticketGrantingTicket.getId());
+                logoutManager.performLogout(SingleLogoutExecutionRequest.builder()
+                    .ticketGrantingTicket(ticketGrantingTicket)
+                    .build());
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,256 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link RoutingTicketRegistry}. It routes each ticket to a ticket registry
+ * based on the prefix of its ticket definition, as found in the {@link TicketCatalog}.
+ * Ticket types that are not explicitly routed are kept in the default ticket registry.
+ * Operations that span all tickets, such as streams, counts and session queries, are
+ * carried out against every registry and their results combined. When a ticket-granting ticket
+ * is removed, its children that are kept in other registries are removed as well.
+ * <p>
+ * Lookups that miss in a routed registry may optionally fall back onto the default registry,
+ * which allows tickets issued prior to routing to be found until they expire.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class RoutingTicketRegistry implements TicketRegistry {
+    private final TicketCatalog ticketCatalog;
+
+    private final TicketRegistry defaultRegistry;
+
+    private final Map<String, TicketRegistry> routedRegistries;
+
+    private final boolean fallbackToDefaultRegistry;
+
+    private final List<TicketRegistry> registries;
+
+    public RoutingTicketRegistry(final TicketCatalog ticketCatalog,
+                                 final TicketRegistry defaultRegistry,
+                                 final Map<String, TicketRegistry> routedRegistries,
+                                 final boolean fallbackToDefaultRegistry) {
+        this.ticketCatalog = ticketCatalog;
+        this.defaultRegistry = defaultRegistry;
+        this.routedRegistries = Map.copyOf(routedRegistries);
+        this.fallbackToDefaultRegistry = fallbackToDefaultRegistry;
+        val allRegistries = new LinkedHashSet<TicketRegistry>();
+        allRegistries.add(defaultRegistry);
+        allRegistries.addAll(routedRegistries.values());
+        this.registries = List.copyOf(allRegistries);
+    }
+
+    /**
+     * Locate the ticket registry responsible for the given ticket id.
+     *
+     * @param ticketId the ticket id
+     * @return the ticket registry
+     */
+    public TicketRegistry getTicketRegistry(final String ticketId) {
+        if (StringUtils.isBlank(ticketId) || routedRegistries.isEmpty()) {
+            return defaultRegistry;
+        }
+        val definition = ticketCatalog.find(ticketId);
+        val prefix = definition != null ? definition.getPrefix() : StringUtils.substringBefore(ticketId, "-");
+        return routedRegistries.getOrDefault(prefix, defaultRegistry);
+    }
+
+    @Override
+    public void addTicket(final Ticket ticket) throws Exception {
+        getTicketRegistry(ticket.getId()).addTicket(ticket);
+    }
+
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) throws Exception {
+        val ticketsByRegistry = new IdentityHashMap<TicketRegistry, List<Ticket>>();
+        toSave.forEach(ticket -> ticketsByRegistry.computeIfAbsent(getTicketRegistry(ticket.getId()), __ -> new ArrayList<>()).add(ticket));
+        for (val entry : ticketsByRegistry.entrySet()) {
+            entry.getKey().addTicket(entry.getValue().stream());
+        }
+    }
+
+    @Override
+    public <T extends Ticket> T getTicket(final String ticketId, final Class<T> clazz) {
+        val registry = getTicketRegistry(ticketId);
+        try {
+            return registry.getTicket(ticketId, clazz);
+        } catch (final InvalidTicketException e) {
+            if (shouldFallbackToDefaultRegistry(registry)) {
+                LOGGER.trace("Ticket [{}] cannot be found in its routed registry; Checking the default registry", ticketId);
+                return defaultRegistry.getTicket(ticketId, clazz);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId) {
+        val registry = getTicketRegistry(ticketId);
+        val ticket = registry.getTicket(ticketId);
+        return ticket == null && shouldFallbackToDefaultRegistry(registry) ? defaultRegistry.getTicket(ticketId) : ticket;
+    }
+
+    @Override
+    public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
+        val registry = getTicketRegistry(ticketId);
+        val ticket = registry.getTicket(ticketId, predicate);
+        return ticket == null && shouldFallbackToDefaultRegistry(registry) ? defaultRegistry.getTicket(ticketId, predicate) : ticket;
+    }
+
+    @Override
+    public int deleteTicket(final String ticketId) throws Exception {
+        if (StringUtils.isBlank(ticketId)) {
+            LOGGER.trace("No ticket id is provided for deletion");
+            return 0;
+        }
+        val ticket = getTicket(ticketId);
+        if (ticket == null) {
+            LOGGER.debug("Ticket [{}] could not be fetched from the registry; it may have been expired and deleted.", ticketId);
+            return 0;
+        }
+        return deleteTicket(ticket);
+    }
+
+    @Override
+    public int deleteTicket(final Ticket ticket) throws Exception {
+        val registry = getTicketRegistry(ticket.getId());
+        var count = 0;
+        if (ticket instanceof final TicketGrantingTicket tgt) {
+            count += deleteRoutedChildren(tgt, registry);
+        }
+        val deleted = registry.deleteTicket(ticket);
+        count += deleted == 0 && shouldFallbackToDefaultRegistry(registry) ? defaultRegistry.deleteTicket(ticket) : deleted;
+        return count;
+    }
+
+    @Override
+    public long deleteAll() {
+        return registries.stream().mapToLong(TicketRegistry::deleteAll).sum();
+    }
+
+    @Override
+    public Collection<? extends Ticket> getTickets() {
+        return registries.stream()
+            .map(TicketRegistry::getTickets)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<? extends Ticket> getTickets(final Predicate<Ticket> predicate) {
+        return registries.stream().flatMap(registry -> registry.getTickets(predicate));
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket) throws Exception {
+        return getTicketRegistry(ticket.getId()).updateTicket(ticket);
+    }
+
+    @Override
+    public long sessionCount() {
+        return sumOrUnknown(TicketRegistry::sessionCount);
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return sumOrUnknown(TicketRegistry::serviceTicketCount);
+    }
+
+    @Override
+    public Stream<? extends Ticket> stream() {
+        return registries.stream().flatMap(TicketRegistry::stream);
+    }
+
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return registries.stream().mapToLong(registry -> registry.countSessionsFor(principalId)).sum();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return registries.stream().flatMap(registry -> registry.getSessionsFor(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        return registries.stream().flatMap(registry -> registry.getSessionsWithAttributes(queryAttributes));
+    }
+
+    @Override
+    public String digestIdentifier(final String id) {
+        return defaultRegistry.digestIdentifier(id);
+    }
+
+    @Override
+    public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
+        return registries.stream()
+            .map(registry -> registry.query(criteria))
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Delete children of the ticket-granting ticket that are kept in registries
+     * other than the one that owns the ticket-granting ticket itself. Children that live
+     * alongside the ticket-granting ticket are left to its owning registry to remove.
+     *
+     * @param ticketGrantingTicket the ticket-granting ticket
+     * @param owningRegistry       the owning registry
+     * @return the number of tickets removed
+     * @throws Exception the exception
+     */
+    protected int deleteRoutedChildren(final TicketGrantingTicket ticketGrantingTicket,
+                                       final TicketRegistry owningRegistry) throws Exception {
+        val children = new LinkedHashSet<String>();
+        children.addAll(ticketGrantingTicket.getServices().keySet());
+        children.addAll(ticketGrantingTicket.getProxyGrantingTickets().keySet());
+        children.addAll(ticketGrantingTicket.getDescendantTickets());
+        var count = 0;
+        for (val childId : children) {
+            val registry = getTicketRegistry(childId);
+            if (registry != owningRegistry) {
+                LOGGER.trace("Removing ticket [{}] as a child of [{}] from its routed registry", childId, ticketGrantingTicket.getId());
+                count += registry.deleteTicket(childId);
+            }
+        }
+        return count;
+    }
+
+    private boolean shouldFallbackToDefaultRegistry(final TicketRegistry registry) {
+        return fallbackToDefaultRegistry && registry != defaultRegistry;
+    }
+
+    private long sumOrUnknown(final ToLongFunction<TicketRegistry> function) {
+        val counts = registries.stream().mapToLong(function).toArray();
+        for (val count : counts) {
+            if (count == Long.MIN_VALUE) {
+                return Long.MIN_VALUE;
+            }
+        }
+        return Arrays.stream(counts).sum();
+    }
+}
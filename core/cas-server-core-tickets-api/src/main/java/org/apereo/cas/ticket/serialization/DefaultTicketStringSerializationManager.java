@@ -4,6 +4,8 @@ import org.apereo.cas.ticket.InvalidTicketException;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.util.LoggingUtils;
 
+import com.google.common.base.Suppliers;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -11,18 +13,26 @@ import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * This is {@link DefaultTicketStringSerializationManager}.
+ * Content that carries the binary format header of {@link BinaryTicketSerializationManager}
+ * is still recognized and read, so that switching back from the binary format
+ * does not invalidate tickets that were stored in that format.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
  */
 @RequiredArgsConstructor
 @Slf4j
+@Getter
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
     private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
+    private final Supplier<TicketSerializationManager> binarySerializationManager =
+        Suppliers.memoize(() -> new BinaryTicketSerializationManager(getTicketSerializationExecutionPlan()));
+
     @Override
     public String serializeTicket(final Ticket ticket) {
         try {
@@ -35,8 +45,19 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         }
     }
 
+    @Override
+    public Ticket deserializeTicket(final byte[] ticketContent, final String type) {
+        if (BinaryTicketSerializationManager.isBinaryContent(ticketContent)) {
+            return binarySerializationManager.get().deserializeTicket(ticketContent, type);
+        }
+        return TicketSerializationManager.super.deserializeTicket(ticketContent, type);
+    }
+
     @Override
     public Ticket deserializeTicket(final String ticketContent, final String type) {
+        if (BinaryTicketSerializationManager.isBinaryContent(ticketContent)) {
+            return binarySerializationManager.get().deserializeTicket(ticketContent, type);
+        }
         if (StringUtils.isBlank(type)) {
             throw new InvalidTicketException("Invalid ticket type [blank] specified");
         }
@@ -52,6 +73,9 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
 
     @Override
     public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        if (BinaryTicketSerializationManager.isBinaryContent(ticketContent)) {
+            return binarySerializationManager.get().deserializeTicket(ticketContent, clazz);
+        }
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
             () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
         LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
@@ -2,6 +2,8 @@ package org.apereo.cas.ticket.serialization;
 
 import org.apereo.cas.ticket.Ticket;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * This is {@link TicketSerializationManager}.
  *
@@ -40,4 +42,36 @@ public interface TicketSerializationManager {
      * @return the ticket instance
      */
     <T extends Ticket> T deserializeTicket(String ticketContent, Class<T> clazz);
+
+    /**
+     * Serialize ticket as bytes. Registries that are able to store binary
+     * content may use this to avoid encoding binary formats as text.
+     *
+     * @param ticket the ticket
+     * @return the bytes
+     */
+    default byte[] serializeTicketAsBytes(final Ticket ticket) {
+        return serializeTicket(ticket).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deserialize ticket from bytes produced by {@link #serializeTicketAsBytes(Ticket)}.
+     *
+     * @param ticketContent the ticket content
+     * @param type          the type
+     * @return the ticket instance
+     */
+    default Ticket deserializeTicket(final byte[] ticketContent, final String type) {
+        return deserializeTicket(new String(ticketContent, StandardCharsets.UTF_8), type);
+    }
+
+    /**
+     * Whether tickets are serialized in a binary format,
+     * in which case registries should prefer storing bytes where they can.
+     *
+     * @return true/false
+     */
+    default boolean isBinaryFormat() {
+        return false;
+    }
 }
@@ -1,6 +1,11 @@
 package org.apereo.cas.util;
 
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCoreProperties;
 import org.apereo.cas.configuration.model.core.util.EncryptionRandomizedSigningJwtCryptographyProperties;
+import org.apereo.cas.ticket.serialization.BinaryTicketSerializationManager;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -74,4 +79,25 @@ public class CoreTicketUtils {
         return CipherExecutor.noOp();
     }
 
+    /**
+     * New ticket serialization manager for the given format.
+     * If no format is specified, the given default ticket serialization manager is returned.
+     *
+     * @param format                           the format
+     * @param ticketSerializationManager       the default ticket serialization manager
+     * @param ticketSerializationExecutionPlan the ticket serialization execution plan
+     * @return the ticket serialization manager
+     */
+    public static TicketSerializationManager newTicketSerializationManager(
+        final TicketRegistryCoreProperties.TicketSerializationFormats format,
+        final TicketSerializationManager ticketSerializationManager,
+        final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
+        if (format == null) {
+            return ticketSerializationManager;
+        }
+        return switch (format) {
+            case SMILE -> new BinaryTicketSerializationManager(ticketSerializationExecutionPlan);
+            case JSON -> new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+        };
+    }
 }
@@ -104,10 +104,18 @@ public class DefaultUniqueTicketIdGenerator implements UniqueTicketIdGenerator {
     @Override
     public String getNewTicketId(final String prefix) {
         val number = this.numericGenerator.getNextNumberAsString();
-        val ticketBody = this.randomStringGenerator.getNewString().replace('_', SEPARATOR);
+        val ticketBody = this.randomStringGenerator.getNewString();
         val origSuffix = StringUtils.defaultString(this.suffix);
-        val finalizedSuffix = StringUtils.isEmpty(origSuffix) ? origSuffix : SEPARATOR + origSuffix;
-        return prefix + SEPARATOR + number + SEPARATOR + ticketBody + finalizedSuffix;
+        val ticketId = new StringBuilder(prefix.length() + number.length() + ticketBody.length() + origSuffix.length() + 3)
+            .append(prefix).append(SEPARATOR).append(number).append(SEPARATOR);
+        for (var i = 0; i < ticketBody.length(); i++) {
+            val character = ticketBody.charAt(i);
+            ticketId.append(character == '_' ? SEPARATOR : character);
+        }
+        if (!origSuffix.isEmpty()) {
+            ticketId.append(SEPARATOR).append(origSuffix);
+        }
+        return ticketId.toString();
     }
 
     /**
@@ -34,6 +34,7 @@ import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
 import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
+import org.apereo.cas.ticket.registry.RoutingTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
@@ -59,11 +60,15 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.flow.SingleSignOnParticipationStrategy;
+import com.google.common.base.Suppliers;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.aop.scope.ScopedObject;
+import org.springframework.aop.scope.ScopedProxyUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -81,6 +86,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -192,6 +198,55 @@ public class CasCoreTicketsConfiguration {
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
         }
 
+        /**
+         * Route ticket types that are configured to be kept locally onto
+         * a node-local ticket registry, while the configured ticket registry,
+         * whichever module provides it, remains responsible for everything else.
+         * The ticket registry is refresh-scoped and is wrapped again each time it is rebuilt;
+         * the local ticket registry is created once and shared across refreshes so that
+         * locally kept tickets survive a refresh of the application context.
+         * Note that {@code BeanPostProcessor} beans should be static.
+         *
+         * @param casProperties              the cas properties
+         * @param ticketCatalog              the ticket catalog
+         * @param ticketSerializationManager the ticket serialization manager
+         * @param logoutManager              the logout manager
+         * @return the bean post processor
+         */
+        @Bean
+        public static BeanPostProcessor routingTicketRegistryPostProcessor(
+            final ObjectProvider<CasConfigurationProperties> casProperties,
+            @Qualifier(TicketCatalog.BEAN_NAME)
+            final ObjectProvider<TicketCatalog> ticketCatalog,
+            @Qualifier(TicketSerializationManager.BEAN_NAME)
+            final ObjectProvider<TicketSerializationManager> ticketSerializationManager,
+            @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+            final ObjectProvider<LogoutManager> logoutManager) {
+            val localRegistry = Suppliers.memoize(() -> new CachingTicketRegistry(ticketSerializationManager.getObject(),
+                ticketCatalog.getObject(), logoutManager, QueueableTicketRegistryMessagePublisher.noOp(), new PublisherIdentifier()));
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                    val ticketRegistryBean = TicketRegistry.BEAN_NAME.equals(beanName)
+                        || ScopedProxyUtils.getTargetBeanName(TicketRegistry.BEAN_NAME).equals(beanName);
+                    if (!ticketRegistryBean || !(bean instanceof final TicketRegistry ticketRegistry)
+                        || bean instanceof RoutingTicketRegistry || bean instanceof ScopedObject) {
+                        return bean;
+                    }
+                    val routing = casProperties.getObject().getTicket().getRegistry().getRouting();
+                    if (routing.getLocalTicketPrefixes().isEmpty()) {
+                        return bean;
+                    }
+                    val catalog = ticketCatalog.getObject();
+                    val routedRegistries = new LinkedHashMap<String, TicketRegistry>();
+                    routing.getLocalTicketPrefixes().forEach(prefix -> routedRegistries.put(prefix, localRegistry.get()));
+                    LOGGER.info("Tickets with prefixes [{}] are kept in a local ticket registry; all other tickets are routed to [{}]",
+                        routedRegistries.keySet(), ticketRegistry.getClass().getSimpleName());
+                    return new RoutingTicketRegistry(catalog, ticketRegistry, routedRegistries, routing.isFallbackToDefaultRegistry());
+                }
+            };
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = "defaultTicketRegistryCipherExecutor")
@@ -216,7 +271,10 @@ public class CasCoreTicketsConfiguration {
             final TicketRegistry ticketRegistry,
             @Qualifier("messageQueueTicketRegistryIdentifier")
             final PublisherIdentifier messageQueueTicketRegistryIdentifier) {
-            return ticketRegistry instanceof final QueueableTicketRegistry queueableTicketRegistry
+            val registry = ticketRegistry instanceof final RoutingTicketRegistry routingTicketRegistry
+                ? routingTicketRegistry.getDefaultRegistry()
+                : ticketRegistry;
+            return registry instanceof final QueueableTicketRegistry queueableTicketRegistry
                 ? new DefaultQueueableTicketRegistryMessageReceiver(queueableTicketRegistry, messageQueueTicketRegistryIdentifier)
                 : QueueableTicketRegistryMessageReceiver.noOp();
         }
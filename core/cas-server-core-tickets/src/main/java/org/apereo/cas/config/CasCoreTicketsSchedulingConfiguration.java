@@ -5,6 +5,7 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.ParallelTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -13,9 +14,12 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.spring.boot.ConditionalOnMatchingHostname;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -52,12 +56,19 @@ public class CasCoreTicketsSchedulingConfiguration {
     @Lazy(false)
     public TicketRegistryCleaner ticketRegistryCleaner(
         final CasConfigurationProperties casProperties,
+        final ObjectProvider<MeterRegistry> meterRegistry,
         @Qualifier(LockRepository.BEAN_NAME) final LockRepository lockRepository,
         @Qualifier(LogoutManager.DEFAULT_BEAN_NAME) final LogoutManager logoutManager,
         @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
-        val isCleanerEnabled = casProperties.getTicket().getRegistry().getCleaner().getSchedule().isEnabled();
-        if (isCleanerEnabled) {
+        val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+        if (cleaner.getSchedule().isEnabled()) {
             LOGGER.debug("Ticket registry cleaner is enabled.");
+            if (cleaner.getWorkers() > 1) {
+                LOGGER.debug("Ticket registry cleaner will use [{}] workers to clean expired tickets", cleaner.getWorkers());
+                return new ParallelTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry,
+                    cleaner.getWorkers(), cleaner.getBatchSize(),
+                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            }
             return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
         }
         LOGGER.debug("Ticket registry cleaner is not enabled. "
@@ -7,6 +7,7 @@ import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManag
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlanConfigurer;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import lombok.val;
@@ -60,8 +61,11 @@ public class CasCoreTicketsSerializationConfiguration {
         @ConditionalOnMissingBean(name = TicketSerializationManager.BEAN_NAME)
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public TicketSerializationManager ticketSerializationManager(
+            final CasConfigurationProperties casProperties,
             @Qualifier("ticketSerializationExecutionPlan") final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
-            return new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+            val format = casProperties.getTicket().getRegistry().getCore().getSerializationFormat();
+            return CoreTicketUtils.newTicketSerializationManager(format,
+                new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan), ticketSerializationExecutionPlan);
         }
     }
 
@@ -0,0 +1,54 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultTicketRegistrySessionIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class DefaultTicketRegistrySessionIndexTests {
+
+    @Test
+    void verifyTrackAndUntrack() throws Throwable {
+        val index = new DefaultTicketRegistrySessionIndex();
+        val user = UUID.randomUUID().toString();
+        val tgt1 = new MockTicketGrantingTicket(user);
+        val tgt2 = new MockTicketGrantingTicket(user);
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt1);
+
+        index.track(tgt1.getId(), tgt1);
+        index.track(tgt1.getId(), tgt1);
+        index.track(tgt2.getId(), tgt2);
+        index.track(st.getId(), st);
+
+        assertEquals(2, index.sessionCount());
+        assertEquals(1, index.serviceTicketCount());
+        assertEquals(2, index.countSessionsFor(user));
+        assertEquals(2, index.countSessionsFor(user.toUpperCase()));
+        assertEquals(0, index.countSessionsFor(UUID.randomUUID().toString()));
+
+        index.untrack(tgt1.getId());
+        index.untrack(st.getId());
+        assertEquals(List.of(tgt2.getId()), index.getSessionsFor(user));
+        assertEquals(1, index.sessionCount());
+        assertEquals(0, index.serviceTicketCount());
+
+        index.clear();
+        assertTrue(index.getSessionsFor(user).isEmpty());
+        assertEquals(0, index.sessionCount());
+    }
+}
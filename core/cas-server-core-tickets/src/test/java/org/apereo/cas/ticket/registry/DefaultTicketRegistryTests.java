@@ -5,12 +5,17 @@ import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.services.RegisteredServiceTestUtils;
 import org.apereo.cas.ticket.DefaultTicketCatalog;
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
 import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -53,6 +58,47 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
         assertEquals(0, registry.query(TicketRegistryQueryCriteria.builder().build()).size());
     }
 
+    @RepeatedTest(1)
+    void verifySessionIndexTracksTickets() throws Throwable {
+        val user = UUID.randomUUID().toString();
+        val tgt = new MockTicketGrantingTicket(user);
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt);
+        val registry = getNewTicketRegistry();
+        assertTrue(registry.getSessionIndex().isPresent());
+        registry.addTicket(tgt);
+        registry.addTicket(st);
+
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        try (val sessions = registry.getSessionsFor(user)) {
+            assertEquals(1, sessions.count());
+        }
+        registry.deleteTicket(st);
+        registry.deleteTicket(tgt);
+        assertEquals(0, registry.countSessionsFor(user));
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.serviceTicketCount());
+    }
+
+    @RepeatedTest(1)
+    void verifySessionIndexFromExistingStorage() throws Throwable {
+        val user = UUID.randomUUID().toString();
+        val tgt = new MockTicketGrantingTicket(user);
+        val st = new MockServiceTicket("ST-123456", RegisteredServiceTestUtils.getService(), tgt);
+        val storageMap = new ConcurrentHashMap<String, Ticket>();
+        storageMap.put(tgt.getId(), tgt);
+        storageMap.put(st.getId(), st);
+        val registry = new DefaultTicketRegistry(CipherExecutor.noOp(), mock(TicketSerializationManager.class),
+            new DefaultTicketCatalog(), storageMap, QueueableTicketRegistryMessagePublisher.noOp(), new PublisherIdentifier());
+
+        assertEquals(1, registry.countSessionsFor(user));
+        assertEquals(1, registry.sessionCount());
+        assertEquals(1, registry.serviceTicketCount());
+        try (val sessions = registry.getSessionsFor(user)) {
+            assertEquals(1, sessions.count());
+        }
+    }
 
     @RepeatedTest(1)
     void verifyEncodeFails() throws Throwable {
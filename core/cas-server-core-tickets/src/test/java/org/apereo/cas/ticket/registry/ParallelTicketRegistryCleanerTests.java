@@ -0,0 +1,91 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.lock.LockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link ParallelTicketRegistryCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class ParallelTicketRegistryCleanerTests {
+
+    @Test
+    void verifyCleanInParallel() throws Throwable {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        IntStream.range(0, 25).forEach(i -> {
+            val tgt = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+            tgt.markTicketExpired();
+            val st = new MockServiceTicket("ST-" + i, RegisteredServiceTestUtils.getService(), tgt);
+            st.markTicketExpired();
+            assertDoesNotThrow(() -> {
+                ticketRegistry.addTicket(tgt);
+                ticketRegistry.addTicket(st);
+            });
+        });
+        ticketRegistry.addTicket(new MockTicketGrantingTicket("casuser"));
+
+        val meterRegistry = new SimpleMeterRegistry();
+        val cleaner = new ParallelTicketRegistryCleaner(LockRepository.noOp(), logoutManager,
+            ticketRegistry, 4, 3, meterRegistry);
+        assertEquals(50, cleaner.clean());
+        assertEquals(1, ticketRegistry.getTickets().size());
+        verify(logoutManager, times(25)).performLogout(any());
+
+        assertEquals(51, meterRegistry.get("cas.ticket.registry.cleaner.scanned").counter().count());
+        assertEquals(50, meterRegistry.get("cas.ticket.registry.cleaner.expired").counter().count());
+        assertEquals(50, meterRegistry.get("cas.ticket.registry.cleaner.deleted").counter().count());
+        assertEquals(25, meterRegistry.get("cas.ticket.registry.cleaner.slo.dispatched").counter().count());
+        assertEquals(1, meterRegistry.get("cas.ticket.registry.cleaner.duration").timer().count());
+    }
+
+    @Test
+    void verifyLogoutBeforeRemoval() throws Throwable {
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val tgt = new MockTicketGrantingTicket(UUID.randomUUID().toString());
+        tgt.markTicketExpired();
+        ticketRegistry.addTicket(tgt);
+
+        val logoutManager = mock(LogoutManager.class);
+        val foundDuringLogout = new AtomicBoolean();
+        when(logoutManager.performLogout(any())).thenAnswer(invocation -> {
+            foundDuringLogout.set(ticketRegistry.getTicket(tgt.getId(), ticket -> true) != null);
+            return List.of();
+        });
+        val cleaner = new ParallelTicketRegistryCleaner(LockRepository.noOp(), logoutManager,
+            ticketRegistry, 2, 10, new SimpleMeterRegistry());
+        assertEquals(1, cleaner.clean());
+        assertTrue(foundDuringLogout.get());
+        assertNull(ticketRegistry.getTicket(tgt.getId(), ticket -> true));
+    }
+
+    @Test
+    void verifyCleanFail() throws Throwable {
+        val ticketRegistry = mock(TicketRegistry.class);
+        when(ticketRegistry.stream()).thenThrow(IllegalArgumentException.class);
+        val cleaner = new ParallelTicketRegistryCleaner(LockRepository.noOp(), mock(LogoutManager.class),
+            ticketRegistry, 2, 10, new SimpleMeterRegistry());
+        assertEquals(0, cleaner.clean());
+    }
+}
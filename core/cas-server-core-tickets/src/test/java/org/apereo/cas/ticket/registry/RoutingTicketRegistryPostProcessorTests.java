@@ -0,0 +1,82 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.cloud.context.scope.refresh.RefreshScope;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RoutingTicketRegistryPostProcessorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    WebMvcAutoConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class
+}, properties = "cas.ticket.registry.routing.local-ticket-prefixes=" + ServiceTicket.PREFIX)
+@Tag("Tickets")
+class RoutingTicketRegistryPostProcessorTests {
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private RefreshScope refreshScope;
+
+    @Test
+    void verifyLocalRegistrySurvivesRefresh() throws Throwable {
+        val ticketRegistry = getTicketRegistry();
+        assertInstanceOf(DefaultTicketRegistry.class, ticketRegistry.getDefaultRegistry());
+        val localRegistry = ticketRegistry.getRoutedRegistries().get(ServiceTicket.PREFIX);
+        assertInstanceOf(CachingTicketRegistry.class, localRegistry);
+
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-1", RegisteredServiceTestUtils.getService(), tgt);
+        ticketRegistry.addTicket(tgt);
+        ticketRegistry.addTicket(st);
+        assertNotNull(localRegistry.getTicket(st.getId()));
+
+        refreshScope.refreshAll();
+        val refreshedRegistry = getTicketRegistry();
+        assertNotSame(ticketRegistry, refreshedRegistry);
+        assertSame(localRegistry, refreshedRegistry.getRoutedRegistries().get(ServiceTicket.PREFIX));
+        assertNotNull(refreshedRegistry.getTicket(st.getId(), ServiceTicket.class));
+    }
+
+    private RoutingTicketRegistry getTicketRegistry() {
+        val registry = applicationContext.getBean(TicketRegistry.BEAN_NAME, TicketRegistry.class);
+        return assertInstanceOf(RoutingTicketRegistry.class, registry);
+    }
+}
@@ -0,0 +1,95 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RoutingTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Tickets")
+class RoutingTicketRegistryTests {
+    private TicketRegistry defaultRegistry;
+
+    private TicketRegistry localRegistry;
+
+    private RoutingTicketRegistry ticketRegistry;
+
+    @BeforeEach
+    void setup() {
+        val catalog = new DefaultTicketCatalog();
+        defaultRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), catalog);
+        localRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), catalog);
+        ticketRegistry = new RoutingTicketRegistry(catalog, defaultRegistry,
+            Map.of(ServiceTicket.PREFIX, localRegistry), true);
+    }
+
+    @Test
+    void verifyTicketsAreRouted() throws Throwable {
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-1", RegisteredServiceTestUtils.getService(), tgt);
+        ticketRegistry.addTicket(Stream.of(tgt, st));
+
+        assertNotNull(defaultRegistry.getTicket(tgt.getId()));
+        assertNull(defaultRegistry.getTicket(st.getId()));
+        assertNotNull(localRegistry.getTicket(st.getId()));
+        assertNull(localRegistry.getTicket(tgt.getId()));
+
+        assertSame(st, ticketRegistry.getTicket(st.getId(), ServiceTicket.class));
+        assertNotNull(ticketRegistry.getTicket(tgt.getId()));
+        assertEquals(2, ticketRegistry.getTickets().size());
+        assertEquals(2, ticketRegistry.stream().count());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(1, ticketRegistry.serviceTicketCount());
+        assertEquals(1, ticketRegistry.countSessionsFor("casuser"));
+    }
+
+    @Test
+    void verifyDeleteCascadesAcrossRegistries() throws Throwable {
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-2", RegisteredServiceTestUtils.getService(), tgt);
+        tgt.getServices().put(st.getId(), st.getService());
+        ticketRegistry.addTicket(tgt);
+        ticketRegistry.addTicket(st);
+
+        assertEquals(2, ticketRegistry.deleteTicket(tgt.getId()));
+        assertNull(ticketRegistry.getTicket(st.getId()));
+        assertNull(ticketRegistry.getTicket(tgt.getId()));
+        assertTrue(ticketRegistry.getTickets().isEmpty());
+    }
+
+    @Test
+    void verifyFallbackToDefaultRegistry() throws Throwable {
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val st = new MockServiceTicket("ST-3", RegisteredServiceTestUtils.getService(), tgt);
+        defaultRegistry.addTicket(st);
+        assertNotNull(ticketRegistry.getTicket(st.getId()));
+        assertNotNull(ticketRegistry.getTicket(st.getId(), ServiceTicket.class));
+        assertEquals(1, ticketRegistry.deleteTicket(st.getId()));
+        assertThrows(InvalidTicketException.class, () -> ticketRegistry.getTicket(st.getId(), ServiceTicket.class));
+
+        val noFallback = new RoutingTicketRegistry(new DefaultTicketCatalog(), defaultRegistry,
+            Map.of(ServiceTicket.PREFIX, localRegistry), false);
+        defaultRegistry.addTicket(st);
+        assertNull(noFallback.getTicket(st.getId()));
+        assertEquals(1, noFallback.deleteAll());
+    }
+}
@@ -0,0 +1,128 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.InvalidTicketException;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.proxy.ProxyTicket;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link BinaryTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    WebMvcAutoConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class
+}, properties = "cas.ticket.registry.core.serialization-format=SMILE")
+@Tag("Tickets")
+class BinaryTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    @Test
+    void verifyOperation() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(result.startsWith(BinaryTicketSerializationManager.FORMAT_HEADER));
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, ticket.getClass().getName()));
+
+        assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(result, ProxyTicket.class));
+    }
+
+    @Test
+    void verifyBinaryContent() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        assertTrue(ticketSerializationManager.isBinaryFormat());
+        val result = ticketSerializationManager.serializeTicketAsBytes(ticket);
+        assertTrue(BinaryTicketSerializationManager.isBinaryContent(result));
+        assertTrue(result.length < ticketSerializationManager.serializeTicket(ticket).length());
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, ticket.getClass().getName()));
+
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicketAsBytes(ticket);
+        assertFalse(BinaryTicketSerializationManager.isBinaryContent(json));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, ticket.getClass().getName()));
+    }
+
+    @Test
+    void verifyLegacyJsonContent() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicket(ticket);
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, TicketGrantingTicket.class));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, ticket.getClass().getName()));
+    }
+
+    @Test
+    void verifyRollbackToJson() throws Throwable {
+        val factory = (TicketGrantingTicketFactory) this.defaultTicketFactory.get(TicketGrantingTicket.class);
+        val ticket = factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        val jsonManager = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan);
+        val binary = ticketSerializationManager.serializeTicket(ticket);
+        assertEquals(ticket, jsonManager.deserializeTicket(binary, TicketGrantingTicket.class));
+        assertEquals(ticket, jsonManager.deserializeTicket(binary, ticket.getClass().getName()));
+        assertEquals(ticket, jsonManager.deserializeTicket(ticketSerializationManager.serializeTicketAsBytes(ticket),
+            ticket.getClass().getName()));
+    }
+
+    @Test
+    void verifyBadClass() throws Throwable {
+        assertThrows(NullPointerException.class, () -> ticketSerializationManager.serializeTicket(mock(Ticket.class)));
+        assertThrows(InvalidTicketException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, StringUtils.EMPTY));
+        assertThrows(IllegalArgumentException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, "something"));
+        assertThrows(NullPointerException.class, () -> ticketSerializationManager.deserializeTicket(StringUtils.EMPTY, mock(Ticket.class).getClass()));
+    }
+}
@@ -1,11 +1,17 @@
 package org.apereo.cas.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -27,6 +33,16 @@ public class RegexUtils {
      */
     public static final Pattern MATCH_NOTHING_PATTERN = Pattern.compile("a^");
 
+    /**
+     * Maximum number of compiled patterns kept in the cache.
+     */
+    public static final int PATTERN_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final Cache<PatternKey, Pattern> PATTERN_CACHE = Caffeine.newBuilder()
+        .maximumSize(PATTERN_CACHE_MAXIMUM_SIZE)
+        .recordStats()
+        .build();
+
     /**
      * Check to see if the specified pattern is a valid regular expression.
      *
@@ -34,15 +50,7 @@ public class RegexUtils {
      * @return whether this is a valid regex or not
      */
     public static boolean isValidRegex(final String pattern) {
-        try {
-            if (StringUtils.isNotBlank(pattern)) {
-                Pattern.compile(pattern);
-                return true;
-            }
-        } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
-        }
-        return false;
+        return StringUtils.isNotBlank(pattern) && createPattern(pattern, 0) != MATCH_NOTHING_PATTERN;
     }
 
     /**
@@ -74,6 +82,8 @@ public class RegexUtils {
 
     /**
      * Creates the pattern with the given flags.
+     * Compiled patterns are cached and shared, keyed by the pattern and its flags;
+     * invalid patterns are remembered as {@link RegexUtils#MATCH_NOTHING_PATTERN}.
      *
      * @param pattern the pattern, may be null.
      * @param flags   the flags
@@ -84,12 +94,33 @@ public class RegexUtils {
             LOGGER.warn("Pattern cannot be null/blank");
             return MATCH_NOTHING_PATTERN;
         }
-        try {
-            return Pattern.compile(pattern, flags);
-        } catch (final PatternSyntaxException exception) {
-            LOGGER.debug("Pattern [{}] is not a valid regex.", pattern);
-            return MATCH_NOTHING_PATTERN;
-        }
+        return PATTERN_CACHE.get(new PatternKey(pattern, flags), RegexUtils::compilePattern);
+    }
+
+    /**
+     * Gets statistics for the compiled pattern cache.
+     *
+     * @return the cache statistics
+     */
+    public static CacheStats getPatternCacheStatistics() {
+        return PATTERN_CACHE.stats();
+    }
+
+    /**
+     * Create a meter binder that reports the compiled pattern cache
+     * to the meter registry it is bound to.
+     *
+     * @return the meter binder
+     */
+    public static MeterBinder getPatternCacheMetrics() {
+        return new CaffeineCacheMetrics<>(PATTERN_CACHE, "casRegexPatterns", List.of());
+    }
+
+    /**
+     * Remove all compiled patterns from the cache.
+     */
+    public static void clearPatternCache() {
+        PATTERN_CACHE.invalidateAll();
     }
 
     /**
@@ -191,4 +222,16 @@ public class RegexUtils {
             return find(pattern, remoteAddr);
         }
     }
+
+    private static Pattern compilePattern(final PatternKey key) {
+        try {
+            return Pattern.compile(key.pattern(), key.flags());
+        } catch (final PatternSyntaxException exception) {
+            LOGGER.debug("Pattern [{}] is not a valid regex.", key.pattern());
+            return MATCH_NOTHING_PATTERN;
+        }
+    }
+
+    private record PatternKey(String pattern, int flags) {
+    }
 }
@@ -24,8 +24,9 @@ import java.security.SecureRandom;
 public abstract class AbstractRandomStringGenerator implements RandomStringGenerator {
     /**
      * An instance of secure random to ensure randomness is secure.
+     * The instance is shared and safe for concurrent use without contention.
      */
-    protected final SecureRandom randomizer = RandomUtils.getNativeInstance();
+    protected final SecureRandom randomizer = RandomUtils.getConcurrentInstance();
 
     /**
      * Default string length before encoding.
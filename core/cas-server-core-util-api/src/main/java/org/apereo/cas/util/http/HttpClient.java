@@ -30,6 +30,8 @@ public interface HttpClient {
      * Sends a message to a particular endpoint.  Option of sending it without
      * waiting to ensure a response was returned.
      * This is useful when it doesn't matter about the response as you'll perform no action based on the response.
+     * The response code of an asynchronous message is recorded on the message once the response arrives.
+     * Callers that need to act on the outcome should send the message synchronously.
      *
      * @param message The message that should be sent to the http endpoint
      * @return boolean if the message was sent, or async was used.  false if the message failed.
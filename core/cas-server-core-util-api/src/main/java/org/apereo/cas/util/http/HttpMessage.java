@@ -39,9 +39,10 @@ public class HttpMessage implements Serializable {
 
     /**
      * Whether this message should be sent in an asynchronous fashion.
-     * Default is true.
+     * Default is true. Callers that dispatch the message on their own threads
+     * may switch this off to wait for the outcome of the delivery.
      **/
-    private final boolean asynchronous;
+    private boolean asynchronous;
 
     private int responseCode;
 
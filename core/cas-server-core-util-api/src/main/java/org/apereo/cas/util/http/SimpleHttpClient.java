@@ -10,6 +10,7 @@ import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.FutureRequestExecutionService;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpStatus;
@@ -51,10 +52,16 @@ public record SimpleHttpClient(List<Integer> acceptableCodes, CloseableHttpClien
             val entity = new StringEntity(message.getMessage(), ContentType.create(message.getContentType()));
             request.setEntity(entity);
 
-            val handler = (HttpClientResponseHandler<Boolean>) response -> response.getCode() == HttpStatus.SC_OK;
+            val handler = (HttpClientResponseHandler<Boolean>) response -> {
+                message.setResponseCode(response.getCode());
+                return response.getCode() == HttpStatus.SC_OK;
+            };
             LOGGER.trace("Created HTTP post message payload [{}]", request);
-            val task = this.requestExecutorService.execute(request, HttpClientContext.create(), handler);
-            return message.isAsynchronous() || task.get();
+            if (message.isAsynchronous()) {
+                this.requestExecutorService.execute(request, HttpClientContext.create(), handler, new AsynchronousMessageCallback(message));
+                return true;
+            }
+            return this.requestExecutorService.execute(request, HttpClientContext.create(), handler).get();
         } catch (final RejectedExecutionException e) {
             LoggingUtils.warn(LOGGER, e);
             return false;
@@ -142,4 +149,24 @@ public record SimpleHttpClient(List<Integer> acceptableCodes, CloseableHttpClien
         this.httpClientFactory.destroy();
     }
 
+    private record AsynchronousMessageCallback(HttpMessage message) implements FutureCallback<Boolean> {
+        @Override
+        public void completed(final Boolean result) {
+            if (Boolean.TRUE.equals(result)) {
+                LOGGER.debug("Message sent to [{}] with response code [{}]", message.getUrl(), message.getResponseCode());
+            } else {
+                LOGGER.warn("Message sent to [{}] was rejected with response code [{}]", message.getUrl(), message.getResponseCode());
+            }
+        }
+
+        @Override
+        public void failed(final Exception e) {
+            LOGGER.warn("Unable to send message to [{}]: [{}]", message.getUrl(), e.getMessage());
+        }
+
+        @Override
+        public void cancelled() {
+            LOGGER.debug("Sending message to [{}] was cancelled", message.getUrl());
+        }
+    }
 }
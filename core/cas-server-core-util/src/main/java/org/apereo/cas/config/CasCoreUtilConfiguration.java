@@ -4,6 +4,7 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.feature.CasRuntimeModuleLoader;
 import org.apereo.cas.util.feature.DefaultCasRuntimeModuleLoader;
 import org.apereo.cas.util.scripting.ExecutableCompiledGroovyScript;
@@ -19,6 +20,7 @@ import org.apereo.cas.util.text.MessageSanitationContributor;
 import org.apereo.cas.util.text.MessageSanitizer;
 import org.apereo.cas.util.text.TicketCatalogMessageSanitationContributor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectProvider;
@@ -143,6 +145,12 @@ public class CasCoreUtilConfiguration {
         public CasRuntimeModuleLoader casRuntimeModuleLoader() {
             return new DefaultCasRuntimeModuleLoader();
         }
+
+        @Bean
+        @ConditionalOnMissingBean(name = "regexPatternCacheMetrics")
+        public MeterBinder regexPatternCacheMetrics() {
+            return RegexUtils.getPatternCacheMetrics();
+        }
     }
 
     @Configuration(value = "CasCoreMessageSanitationConfiguration", proxyBeanMethods = false)
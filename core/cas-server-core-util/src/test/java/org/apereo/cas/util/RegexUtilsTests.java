@@ -1,11 +1,15 @@
 package org.apereo.cas.util;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -44,4 +48,34 @@ class RegexUtilsTests {
         val result = RegexUtils.findFirst(patterns, List.of("hello", "world", "911/", "911Z")).get();
         assertEquals("911Z", result);
     }
+
+    @Test
+    void verifyCachedPatterns() throws Throwable {
+        val regex = "^https://" + UUID.randomUUID() + "\\.example\\.org/.+";
+        val hits = RegexUtils.getPatternCacheStatistics().hitCount();
+        val pattern = RegexUtils.createPattern(regex);
+        assertSame(pattern, RegexUtils.createPattern(regex));
+        assertNotSame(pattern, RegexUtils.createPattern(regex, 0));
+        assertEquals(Pattern.CASE_INSENSITIVE, pattern.flags());
+        assertTrue(RegexUtils.getPatternCacheStatistics().hitCount() > hits);
+    }
+
+    @Test
+    void verifyCachedInvalidPatterns() throws Throwable {
+        val regex = "***" + UUID.randomUUID();
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern(regex));
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern(regex));
+        assertFalse(RegexUtils.isValidRegex(regex));
+        RegexUtils.clearPatternCache();
+        assertSame(RegexUtils.MATCH_NOTHING_PATTERN, RegexUtils.createPattern(regex));
+    }
+
+    @Test
+    void verifyPatternCacheMetrics() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        RegexUtils.getPatternCacheMetrics().bindTo(meterRegistry);
+        RegexUtils.createPattern("^" + UUID.randomUUID());
+        assertNotNull(meterRegistry.find("cache.size").tag("cache", "casRegexPatterns").gauge());
+        assertTrue(Metrics.globalRegistry.find("cache.size").tag("cache", "casRegexPatterns").meters().isEmpty());
+    }
 }
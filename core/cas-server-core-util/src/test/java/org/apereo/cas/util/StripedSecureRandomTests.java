@@ -0,0 +1,76 @@
+package org.apereo.cas.util;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StripedSecureRandomTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Utility")
+class StripedSecureRandomTests {
+
+    @AfterEach
+    void afterEach() {
+        System.setProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG, StringUtils.EMPTY);
+    }
+
+    @Test
+    void verifyStripes() throws Throwable {
+        assertEquals(2, new StripedSecureRandom(1).size());
+        assertEquals(8, new StripedSecureRandom(8).size());
+        assertEquals(16, new StripedSecureRandom(9).size());
+
+        val random = new StripedSecureRandom(4);
+        assertEquals(StripedSecureRandom.ALGORITHM, random.getAlgorithm());
+        val first = new byte[32];
+        val second = new byte[32];
+        random.nextBytes(first);
+        random.nextBytes(second);
+        assertFalse(Arrays.equals(first, second));
+        assertEquals(16, random.generateSeed(16).length);
+        assertDoesNotThrow(random::reseed);
+        assertDoesNotThrow(() -> random.setSeed(12345L));
+    }
+
+    @Test
+    void verifyConcurrentUse() throws Throwable {
+        val random = new StripedSecureRandom(4);
+        try (val executor = Executors.newFixedThreadPool(8)) {
+            val tasks = new ArrayList<Callable<String>>();
+            for (var i = 0; i < 1000; i++) {
+                tasks.add(() -> {
+                    val bytes = new byte[16];
+                    random.nextBytes(bytes);
+                    return EncodingUtils.hexEncode(bytes);
+                });
+            }
+            val results = new HashSet<String>();
+            for (val future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            assertEquals(1000, results.size());
+        }
+    }
+
+    @Test
+    void verifyConcurrentInstance() throws Throwable {
+        assertInstanceOf(StripedSecureRandom.class, RandomUtils.getConcurrentInstance());
+        assertSame(RandomUtils.getConcurrentInstance(), RandomUtils.getConcurrentInstance());
+        System.setProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG, "NativePRNGNonBlocking");
+        assertFalse(RandomUtils.getConcurrentInstance() instanceof StripedSecureRandom);
+    }
+}
@@ -20,6 +20,7 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509Certificate;
 import java.util.concurrent.RejectedExecutionException;
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -93,6 +94,17 @@ class SimpleHttpClientTests {
             }
         }
 
+        @Test
+        void verifyAsynchronousMessageOutcomeRecorded() throws Throwable {
+            try (val webServer = new MockWebServer(8167,
+                new ByteArrayResource(StringUtils.EMPTY.getBytes(StandardCharsets.UTF_8), "Output"), HttpStatus.INTERNAL_SERVER_ERROR)) {
+                webServer.start();
+                val msg = new HttpMessage(new URI("http://localhost:8167").toURL(), "message", true);
+                assertTrue(getHttpClient().sendMessageToEndPoint(msg));
+                await().untilAsserted(() -> assertEquals(HttpStatus.INTERNAL_SERVER_ERROR.value(), msg.getResponseCode()));
+            }
+        }
+
         @Test
         void verifyMessageNotSent() throws Throwable {
             val result = getHttpClient().sendMessageToEndPoint(new URI("http://localhost:1234").toURL());
@@ -1,11 +1,14 @@
 package org.apereo.cas.web.flow.executor;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.val;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.util.Assert;
+import org.springframework.webflow.core.collection.LocalAttributeMap;
 import org.springframework.webflow.core.collection.MutableAttributeMap;
 import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
 import org.springframework.webflow.execution.FlowExecution;
@@ -18,11 +21,16 @@ import org.springframework.webflow.execution.repository.FlowExecutionRepositoryE
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Stores all flow execution state in {@link ClientFlowExecutionKey}, which effectively stores execution state on the
  * client in a form parameter when a view is rendered. The details of encoding flow state into a byte stream is handled
- * by a {@link Transcoder} component.
+ * by a {@link Transcoder} component. Flow-scoped attributes that can be reconstructed may be left out of the
+ * encoded state, and the size of the encoded state is recorded per flow and state.
  *
  * @author Marvin S. Addison
  * @see ClientFlowExecutionKey
@@ -31,7 +39,6 @@ import java.io.Serializable;
  */
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class ClientFlowExecutionRepository implements FlowExecutionRepository, FlowExecutionKeyFactory {
 
     /**
@@ -53,6 +60,18 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
 
     private Transcoder transcoder;
 
+    private Set<String> excludedFlowScopeAttributes = new HashSet<>();
+
+    private MeterRegistry meterRegistry;
+
+    public ClientFlowExecutionRepository(final FlowExecutionFactory flowExecutionFactory,
+                                         final FlowDefinitionLocator flowDefinitionLocator,
+                                         final Transcoder transcoder) {
+        this.flowExecutionFactory = flowExecutionFactory;
+        this.flowDefinitionLocator = flowDefinitionLocator;
+        this.transcoder = transcoder;
+    }
+
     @Override
     public FlowExecutionKey parseFlowExecutionKey(final String encodedKey) throws FlowExecutionRepositoryException {
         return ClientFlowExecutionKey.parse(encodedKey);
@@ -94,10 +113,15 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
 
     @Override
     public FlowExecutionKey getKey(final FlowExecution execution) {
+        val excludedAttributes = removeExcludedFlowScopeAttributes(execution);
         try {
-            return new ClientFlowExecutionKey(this.transcoder.encode(new SerializedFlowExecutionState(execution)));
+            val data = this.transcoder.encode(new SerializedFlowExecutionState(execution));
+            recordFlowStateSize(execution, data);
+            return new ClientFlowExecutionKey(data);
         } catch (final Exception e) {
             throw new ClientFlowExecutionRepositoryException("Error encoding flow execution", e);
+        } finally {
+            excludedAttributes.forEach(entry -> entry.getKey().putAll(entry.getValue()));
         }
     }
 
@@ -113,6 +137,43 @@ public class ClientFlowExecutionRepository implements FlowExecutionRepository, F
     public void removeAllFlowExecutionSnapshots(final FlowExecution execution) {
     }
 
+    private List<Pair<MutableAttributeMap<Object>, LocalAttributeMap<Object>>> removeExcludedFlowScopeAttributes(
+        final FlowExecution execution) {
+        val removed = new ArrayList<Pair<MutableAttributeMap<Object>, LocalAttributeMap<Object>>>();
+        if (excludedFlowScopeAttributes != null && !excludedFlowScopeAttributes.isEmpty() && execution.isActive()) {
+            var session = execution.getActiveSession();
+            while (session != null) {
+                val scope = session.getScope();
+                val attributes = new LocalAttributeMap<Object>();
+                excludedFlowScopeAttributes
+                    .stream()
+                    .filter(scope::contains)
+                    .forEach(name -> attributes.put(name, scope.remove(name)));
+                if (!attributes.isEmpty()) {
+                    removed.add(Pair.of(scope, attributes));
+                }
+                session = session.getParent();
+            }
+        }
+        return removed;
+    }
+
+    private void recordFlowStateSize(final FlowExecution execution, final byte[] data) {
+        if (meterRegistry != null && data != null) {
+            val stateId = execution.isActive() && execution.getActiveSession().getState() != null
+                ? execution.getActiveSession().getState().getId()
+                : "none";
+            DistributionSummary.builder("cas.webflow.client.state.size")
+                .description("Size of the encoded flow state stored on the client")
+                .baseUnit("bytes")
+                .tag("flow", execution.getDefinition().getId())
+                .tag("state", stateId)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(data.length);
+        }
+    }
+
     @Getter
     public static class SerializedFlowExecutionState implements Serializable {
         @Serial
@@ -2,7 +2,6 @@ package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.util.LoggingUtils;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
@@ -16,7 +15,11 @@ import java.io.IOException;
 import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -25,14 +28,18 @@ import java.util.zip.GZIPOutputStream;
  * {@link CipherBean}.
  * <p>
  * Optional gzip compression of the serialized byte stream before encryption is supported and enabled by default.
+ * Buffers that hold the serialized byte stream are pooled and reused, unless they grow beyond a given size.
  *
  * @author Marvin S. Addison
  * @author Misagh Moayyed
  * @since 6.1
  */
 @Slf4j
-@RequiredArgsConstructor
 public class EncryptedTranscoder implements Transcoder {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int DEFAULT_MAX_POOLED_BUFFER_SIZE = 65536;
+
     /**
      * Handles encryption/decryption details.
      */
@@ -43,25 +50,53 @@ public class EncryptedTranscoder implements Transcoder {
      */
     private final boolean compression;
 
+    private final int compressionLevel;
+
+    private final int bufferSize;
+
+    private final int maxPooledBufferSize;
+
+    private final BlockingQueue<ByteArrayOutputStream> buffers;
+
     public EncryptedTranscoder(final CipherBean cipherBean) {
         this(cipherBean, true);
     }
 
+    public EncryptedTranscoder(final CipherBean cipherBean, final boolean compression) {
+        this(cipherBean, compression, Deflater.DEFAULT_COMPRESSION, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_POOLED_BUFFER_SIZE);
+    }
+
+    public EncryptedTranscoder(final CipherBean cipherBean, final boolean compression,
+                               final int compressionLevel, final int bufferSize,
+                               final int maxPooledBufferSize) {
+        this.cipherBean = cipherBean;
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
+        this.bufferSize = bufferSize;
+        this.maxPooledBufferSize = maxPooledBufferSize;
+        this.buffers = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
     @Override
     public byte[] encode(final Object o) throws IOException {
         if (o == null) {
             return ArrayUtils.EMPTY_BYTE_ARRAY;
         }
-        val outBuffer = new ByteArrayOutputStream();
-        try (val out = this.compression
-            ? new ObjectOutputStream(new GZIPOutputStream(outBuffer))
-            : new ObjectOutputStream(outBuffer)) {
-
-            writeObjectToOutputStream(o, out);
-        } catch (final NotSerializableException e) {
-            LoggingUtils.warn(LOGGER, e);
+        val outBuffer = borrowBuffer();
+        try {
+            try (val out = this.compression
+                ? new ObjectOutputStream(new LeveledGzipOutputStream(outBuffer, bufferSize, compressionLevel))
+                : new ObjectOutputStream(outBuffer)) {
+
+                writeObjectToOutputStream(o, out);
+            } catch (final NotSerializableException e) {
+                LoggingUtils.warn(LOGGER, e);
+            }
+            LOGGER.trace("Serialized flow state is [{}] bytes before encryption", outBuffer.size());
+            return encrypt(outBuffer);
+        } finally {
+            returnBuffer(outBuffer);
         }
-        return encrypt(outBuffer);
     }
 
     @Override
@@ -70,7 +105,7 @@ public class EncryptedTranscoder implements Transcoder {
         val data = decrypt(encoded);
         try (val inBuffer = new ByteArrayInputStream(data);
              val in = this.compression
-                 ? new ObjectInputStream(new GZIPInputStream(inBuffer))
+                 ? new ObjectInputStream(new GZIPInputStream(inBuffer, bufferSize))
                  : new ObjectInputStream(inBuffer)) {
             return in.readObject();
         } catch (final Exception e) {
@@ -123,6 +158,18 @@ public class EncryptedTranscoder implements Transcoder {
         }
     }
 
+    private ByteArrayOutputStream borrowBuffer() {
+        val buffer = buffers.poll();
+        return buffer == null ? new ByteArrayOutputStream(bufferSize) : buffer;
+    }
+
+    private void returnBuffer(final ByteArrayOutputStream buffer) {
+        if (buffer.size() <= maxPooledBufferSize) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
     private byte[] decrypt(final byte[] encoded) throws IOException {
         try {
             return cipherBean.decrypt(encoded);
@@ -131,4 +178,11 @@ public class EncryptedTranscoder implements Transcoder {
             throw new IOException("Decryption error", e);
         }
     }
+
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(final OutputStream out, final int size, final int level) throws IOException {
+            super(out, size);
+            def.setLevel(level);
+        }
+    }
 }
@@ -4,7 +4,10 @@ import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.Accessors;
 import lombok.val;
 import org.springframework.webflow.conversation.impl.SessionBindingConversationManager;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
@@ -16,6 +19,8 @@ import org.springframework.webflow.execution.repository.snapshot.SerializedFlowE
 import org.springframework.webflow.executor.FlowExecutor;
 import org.springframework.webflow.executor.FlowExecutorImpl;
 
+import java.util.HashSet;
+
 /**
  * This is {@link WebflowExecutorFactory}.
  *
@@ -32,6 +37,10 @@ public class WebflowExecutorFactory {
 
     private final FlowExecutionListener[] executionListeners;
 
+    @Setter
+    @Accessors(chain = true)
+    private MeterRegistry meterRegistry;
+
     /**
      * Build flow executor.
      *
@@ -66,6 +75,8 @@ public class WebflowExecutorFactory {
         val repository = new ClientFlowExecutionRepository();
         repository.setFlowDefinitionLocator(this.flowDefinitionRegistry);
         repository.setTranscoder(getWebflowStateTranscoder());
+        repository.setExcludedFlowScopeAttributes(new HashSet<>(webflowProperties.getSession().getClient().getExcludedFlowScopeAttributes()));
+        repository.setMeterRegistry(meterRegistry);
 
         val factory = new FlowExecutionImplFactory();
         factory.setExecutionKeyFactory(repository);
@@ -77,6 +88,8 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val client = webflowProperties.getSession().getClient();
+        return new EncryptedTranscoder(cipherBean, client.isCompress(), client.getCompressionLevel(),
+            client.getBufferSize(), client.getMaxPooledBufferSize());
     }
 }
@@ -1,5 +1,6 @@
 package org.apereo.cas.web.flow.executor;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.cryptacular.bean.AEADBlockCipherBean;
 import org.cryptacular.bean.KeyStoreFactoryBean;
@@ -19,6 +20,8 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.webflow.config.FlowBuilderServicesBuilder;
 import org.springframework.webflow.config.FlowDefinitionRegistryBuilder;
 import org.springframework.webflow.core.collection.LocalAttributeMap;
+import org.springframework.webflow.definition.FlowDefinition;
+import org.springframework.webflow.definition.StateDefinition;
 import org.springframework.webflow.definition.registry.FlowDefinitionLocator;
 import org.springframework.webflow.definition.registry.FlowDefinitionRegistry;
 import org.springframework.webflow.engine.builder.support.FlowBuilderServices;
@@ -26,6 +29,7 @@ import org.springframework.webflow.engine.impl.FlowExecutionImplFactory;
 import org.springframework.webflow.execution.FlowExecution;
 import org.springframework.webflow.execution.FlowExecutionFactory;
 import org.springframework.webflow.execution.FlowExecutionKey;
+import org.springframework.webflow.execution.FlowSession;
 import org.springframework.webflow.execution.repository.BadlyFormattedFlowExecutionKeyException;
 import org.springframework.webflow.executor.FlowExecutor;
 import org.springframework.webflow.executor.FlowExecutorImpl;
@@ -33,6 +37,8 @@ import org.springframework.webflow.expression.spel.WebFlowSpringELExpressionPars
 import org.springframework.webflow.test.CasMockViewFactoryCreator;
 import org.springframework.webflow.test.MockExternalContext;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -66,6 +72,46 @@ class ClientFlowExecutionRepositoryTests {
 
     }
 
+    @Test
+    void verifyExcludedFlowScopeAttributesAndStateSize() throws Throwable {
+        val flowScope = new LocalAttributeMap<Object>();
+        flowScope.put("service", "https://example.org");
+        flowScope.put("credential", "casuser");
+
+        val state = mock(StateDefinition.class);
+        when(state.getId()).thenReturn("viewLoginForm");
+        val session = mock(FlowSession.class);
+        when(session.getScope()).thenReturn(flowScope);
+        when(session.getState()).thenReturn(state);
+        val definition = mock(FlowDefinition.class);
+        when(definition.getId()).thenReturn("login");
+        val execution = mock(FlowExecution.class);
+        when(execution.isActive()).thenReturn(true);
+        when(execution.getActiveSession()).thenReturn(session);
+        when(execution.getDefinition()).thenReturn(definition);
+        when(execution.getConversationScope()).thenReturn(new LocalAttributeMap<>());
+
+        val transcoder = mock(Transcoder.class);
+        when(transcoder.encode(any())).thenAnswer(invocation -> {
+            assertFalse(flowScope.contains("service"));
+            assertTrue(flowScope.contains("credential"));
+            return new byte[]{1, 2, 3};
+        });
+        val meterRegistry = new SimpleMeterRegistry();
+        val repository = new ClientFlowExecutionRepository(mock(FlowExecutionFactory.class), mock(FlowDefinitionLocator.class), transcoder);
+        repository.setExcludedFlowScopeAttributes(Set.of("service"));
+        repository.setMeterRegistry(meterRegistry);
+        assertNotNull(repository.getKey(execution));
+        assertEquals("https://example.org", flowScope.get("service"));
+
+        val summary = meterRegistry.get("cas.webflow.client.state.size")
+            .tag("flow", "login")
+            .tag("state", "viewLoginForm")
+            .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
     @Test
     void verifyLaunchAndResumeFlow() throws Throwable {
         assertNotNull(flowExecutor);
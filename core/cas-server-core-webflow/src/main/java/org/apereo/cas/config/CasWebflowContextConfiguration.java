@@ -28,6 +28,8 @@ import org.apereo.cas.web.flow.executor.WebflowExecutorFactory;
 import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CasLocaleChangeInterceptor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -169,12 +171,14 @@ public class CasWebflowContextConfiguration {
         @Bean
         public FlowExecutor logoutFlowExecutor(
             final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGOUT_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry logoutFlowRegistry,
             @Qualifier("webflowCipherExecutor")
             final CipherExecutor webflowCipherExecutor) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
-                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS);
+                logoutFlowRegistry, webflowCipherExecutor, FLOW_EXECUTION_LISTENERS)
+                .setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
             return factory.build();
         }
 
@@ -182,13 +186,15 @@ public class CasWebflowContextConfiguration {
         @Bean
         public FlowExecutor loginFlowExecutor(
             final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             @Qualifier(CasWebflowConstants.BEAN_NAME_LOGIN_FLOW_DEFINITION_REGISTRY)
             final FlowDefinitionRegistry loginFlowRegistry,
             @Qualifier("webflowCipherExecutor")
             final CipherExecutor webflowCipherExecutor) {
             val factory = new WebflowExecutorFactory(casProperties.getWebflow(),
                 loginFlowRegistry, webflowCipherExecutor,
-                FLOW_EXECUTION_LISTENERS);
+                FLOW_EXECUTION_LISTENERS)
+                .setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
 
             return factory.build();
         }
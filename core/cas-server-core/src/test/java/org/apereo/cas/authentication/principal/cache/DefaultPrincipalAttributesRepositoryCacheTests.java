@@ -0,0 +1,123 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.util.cache.DistributedCacheObject;
+import org.apereo.cas.util.cache.MappableDistributedCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultPrincipalAttributesRepositoryCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class DefaultPrincipalAttributesRepositoryCacheTests {
+    private static final Map<String, List<Object>> ATTRIBUTES = Map.of("mail", List.of("casuser@example.org"),
+        "memberOf", List.of("staff", "faculty"));
+
+    @Test
+    void verifyCacheIsBoundedAndMonitored() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        val cache = new DefaultPrincipalAttributesRepositoryCache(100, Duration.ZERO, meterRegistry,
+            new MappableDistributedCacheManager<>(new ConcurrentHashMap<>()));
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+        cache.putAttributes(registeredService, repository, principal.getId(), ATTRIBUTES);
+        val attributes = cache.fetchAttributes(registeredService, repository, principal);
+        assertEquals(ATTRIBUTES.size(), attributes.size());
+        assertTrue(attributes.containsKey("MAIL"));
+
+        assertEquals(1, meterRegistry.get("cas.principal.attributes.cache.gets")
+            .tags("service", registeredService.getName(), "result", "hit").counter().count());
+        assertEquals(1, meterRegistry.get("cas.principal.attributes.cache.gets")
+            .tags("service", registeredService.getName(), "result", "miss").counter().count());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "principalAttributesRepositoryCache").functionCounter());
+
+        for (var i = 0; i < 100; i++) {
+            val service = RegisteredServiceTestUtils.getRegisteredService("https://example" + i + ".org");
+            cache.putAttributes(service, repository, "user" + i, ATTRIBUTES);
+        }
+        cache.getCache().cleanUp();
+        assertTrue(cache.getCache().policy().eviction().orElseThrow().weightedSize().orElseThrow() <= 100);
+    }
+
+    @Test
+    void verifyEntriesExpirePerRegisteredService() throws Throwable {
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ZERO, new SimpleMeterRegistry(),
+            new MappableDistributedCacheManager<>(new ConcurrentHashMap<>()));
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        val shortLived = RegisteredServiceTestUtils.getRegisteredService("https://short.example.org");
+        val longLived = RegisteredServiceTestUtils.getRegisteredService("https://long.example.org");
+
+        cache.putAttributes(shortLived, new CachingPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 100),
+            principal.getId(), ATTRIBUTES);
+        val longRepository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        cache.putAttributes(longLived, longRepository, principal.getId(), ATTRIBUTES);
+        await().untilAsserted(() -> assertEquals(1, cache.getCache().asMap().size()));
+        assertFalse(cache.fetchAttributes(longLived, longRepository, principal).isEmpty());
+    }
+
+    @Test
+    void verifyDistributedCacheIsShared() throws Throwable {
+        val sharedMap = new ConcurrentHashMap<String, DistributedCacheObject<HashMap<String, List<Object>>>>();
+        val firstNode = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ofSeconds(30),
+            new SimpleMeterRegistry(), new MappableDistributedCacheManager<>(sharedMap));
+        val secondNode = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ofSeconds(30),
+            new SimpleMeterRegistry(), new MappableDistributedCacheManager<>(sharedMap));
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        firstNode.putAttributes(registeredService, repository, principal.getId(), ATTRIBUTES);
+        assertEquals(1, sharedMap.size());
+        assertEquals(ATTRIBUTES.size(), secondNode.fetchAttributes(registeredService, repository, principal).size());
+
+        firstNode.close();
+        assertEquals(ATTRIBUTES.size(), firstNode.fetchAttributes(registeredService, repository, principal).size());
+
+        firstNode.putAttributes(registeredService, repository, principal.getId(), Map.of("mail", List.of("cas@example.org")));
+        assertEquals(ATTRIBUTES.get("mail"), secondNode.fetchAttributes(registeredService, repository, principal).get("mail"));
+        val key = sharedMap.keySet().iterator().next();
+        secondNode.invalidate(key);
+        assertEquals(List.of("cas@example.org"), secondNode.fetchAttributes(registeredService, repository, principal).get("mail"));
+
+        secondNode.invalidate();
+        assertTrue(sharedMap.isEmpty());
+        assertTrue(secondNode.fetchAttributes(registeredService, repository, principal).isEmpty());
+    }
+
+    @Test
+    void verifyExpiredDistributedEntries() throws Throwable {
+        val sharedMap = new ConcurrentHashMap<String, DistributedCacheObject<HashMap<String, List<Object>>>>();
+        val cache = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ofSeconds(30),
+            new SimpleMeterRegistry(), new MappableDistributedCacheManager<>(sharedMap));
+        val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        cache.putAttributes(registeredService, repository, principal.getId(), ATTRIBUTES);
+        cache.close();
+        sharedMap.replaceAll((key, item) -> DistributedCacheObject.<HashMap<String, List<Object>>>builder()
+            .value(item.getValue())
+            .timestamp(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(10))
+            .build());
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal).isEmpty());
+        assertTrue(sharedMap.isEmpty());
+    }
+}
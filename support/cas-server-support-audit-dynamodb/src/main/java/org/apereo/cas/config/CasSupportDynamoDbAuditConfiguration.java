@@ -3,13 +3,17 @@ package org.apereo.cas.config;
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
 import org.apereo.cas.audit.DynamoDbAuditTrailManager;
 import org.apereo.cas.audit.DynamoDbAuditTrailManagerFacilitator;
+import org.apereo.cas.audit.spi.AuditTrailBatchWriter;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.dynamodb.AmazonDynamoDbClientFactory;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditTrailManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -35,9 +39,15 @@ public class CasSupportDynamoDbAuditConfiguration {
     public AuditTrailManager dynamoDbAuditTrailManager(
         final CasConfigurationProperties casProperties,
         @Qualifier("dynamoDbAuditTrailManagerFacilitator")
-        final DynamoDbAuditTrailManagerFacilitator dynamoDbAuditTrailManagerFacilitator) {
+        final DynamoDbAuditTrailManagerFacilitator dynamoDbAuditTrailManagerFacilitator,
+        final ObjectProvider<MeterRegistry> meterRegistry) {
         val db = casProperties.getAudit().getDynamoDb();
-        return new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        val manager = new DynamoDbAuditTrailManager(dynamoDbAuditTrailManagerFacilitator, db.isAsynchronous());
+        if (db.getBatch().isEnabled()) {
+            manager.setBatchWriter(new AuditTrailBatchWriter("dynamodb", manager, db.getBatch(),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+        }
+        return manager;
     }
 
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
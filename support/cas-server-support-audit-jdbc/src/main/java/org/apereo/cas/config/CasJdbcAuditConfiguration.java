@@ -3,6 +3,7 @@ package org.apereo.cas.config;
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
 import org.apereo.cas.audit.JdbcAuditTrailEntityFactory;
 import org.apereo.cas.audit.generic.JdbcAuditTrailEntity;
+import org.apereo.cas.audit.spi.AuditTrailBatchWriter;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.audit.AuditJdbcProperties;
@@ -15,6 +16,8 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.thread.Cleanable;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -24,6 +27,7 @@ import org.apereo.inspektr.audit.support.MaxAgeWhereClauseMatchCriteria;
 import org.apereo.inspektr.audit.support.WhereClauseMatchCriteria;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -162,6 +166,7 @@ public class CasJdbcAuditConfiguration {
             @Qualifier("auditCleanupCriteria") final WhereClauseMatchCriteria auditCleanupCriteria,
             @Qualifier("inspektrAuditTransactionTemplate") final TransactionOperations inspektrAuditTransactionTemplate,
             @Qualifier("inspektrAuditTrailDataSource") final DataSource inspektrAuditTrailDataSource,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             final CasConfigurationProperties casProperties) {
             return BeanSupplier.of(AuditTrailManager.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
@@ -177,6 +182,10 @@ public class CasJdbcAuditConfiguration {
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), manager::setSelectByDateSqlTemplate);
                     FunctionUtils.doIfNotBlank(jdbc.getDateFormatterPattern(), manager::setDateFormatterPattern);
                     FunctionUtils.doIfNotBlank(jdbc.getDateFormatterFunction(), manager::setDateFormatterFunction);
+                    if (jdbc.getBatch().isEnabled()) {
+                        manager.setBatchWriter(new AuditTrailBatchWriter("jdbc", manager, jdbc.getBatch(),
+                            meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+                    }
                     return manager;
                 })
                 .otherwiseProxy()
@@ -12,6 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
 import org.apereo.cas.util.jpa.MapToJsonAttributeConverter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
@@ -166,50 +167,67 @@ public class JdbcAuditTrailManager extends AbstractAuditTrailManager {
     
     @Override
     protected void saveAuditRecord(final AuditActionContext auditActionContext) {
+        saveAuditRecords(List.of(auditActionContext));
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val parameters = audits
+            .stream()
+            .map(this::getAuditRecordParameters)
+            .map(MapSqlParameterSource::new)
+            .toArray(MapSqlParameterSource[]::new);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             @Override
             protected void doInTransactionWithoutResult(final TransactionStatus __) {
-                val principal = auditActionContext.getPrincipal();
-                val userId = columnLength <= 0 || principal.length() <= columnLength
-                    ? principal
-                    : principal.substring(0, columnLength);
-                val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
-                val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
-                    ? resourceOperatedUpon
-                    : resourceOperatedUpon.substring(0, columnLength);
-                val actionPerformed = auditActionContext.getActionPerformed();
-                val action = columnLength <= 0 || actionPerformed.length() <= columnLength
-                    ? actionPerformed
-                    : actionPerformed.substring(0, columnLength);
-
                 val sql = String.format(INSERT_SQL_TEMPLATE, tableName);
-                val clientInfo = auditActionContext.getClientInfo();
-                val locale = Optional.ofNullable(clientInfo.getLocale())
-                    .map(Locale::toLanguageTag)
-                    .orElseGet(Locale.US::toLanguageTag);
-
-                val parameterMap = new HashMap<String, Object>();
-                parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
-                parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
-                parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
-                parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
-                parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
-                parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
-                parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
-                parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
-                parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
-                parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
-
-                val converter = new MapToJsonAttributeConverter();
-                parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getHeaders()));
-                parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getExtraInfo()));
-
                 val namedTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
-                namedTemplate.update(sql, parameterMap);
+                if (parameters.length == 1) {
+                    namedTemplate.update(sql, parameters[0]);
+                } else {
+                    namedTemplate.batchUpdate(sql, parameters);
+                }
             }
         });
     }
 
+    protected Map<String, Object> getAuditRecordParameters(final AuditActionContext auditActionContext) {
+        val principal = auditActionContext.getPrincipal();
+        val userId = columnLength <= 0 || principal.length() <= columnLength
+            ? principal
+            : principal.substring(0, columnLength);
+        val resourceOperatedUpon = auditActionContext.getResourceOperatedUpon();
+        val resource = columnLength <= 0 || resourceOperatedUpon.length() <= columnLength
+            ? resourceOperatedUpon
+            : resourceOperatedUpon.substring(0, columnLength);
+        val actionPerformed = auditActionContext.getActionPerformed();
+        val action = columnLength <= 0 || actionPerformed.length() <= columnLength
+            ? actionPerformed
+            : actionPerformed.substring(0, columnLength);
+
+        val clientInfo = auditActionContext.getClientInfo();
+        val locale = Optional.ofNullable(clientInfo.getLocale())
+            .map(Locale::toLanguageTag)
+            .orElseGet(Locale.US::toLanguageTag);
+
+        val parameterMap = new HashMap<String, Object>();
+        parameterMap.put(AuditTableColumns.USER.getColumnName(), userId);
+        parameterMap.put(AuditTableColumns.CLIENT_IP.getColumnName(), clientInfo.getClientIpAddress());
+        parameterMap.put(AuditTableColumns.SERVER_IP.getColumnName(), clientInfo.getServerIpAddress());
+        parameterMap.put(AuditTableColumns.RESOURCE.getColumnName(), resource);
+        parameterMap.put(AuditTableColumns.APPLIC_CD.getColumnName(), auditActionContext.getApplicationCode());
+        parameterMap.put(AuditTableColumns.DATE.getColumnName(), auditActionContext.getWhenActionWasPerformed());
+        parameterMap.put(AuditTableColumns.GEOLOCATION.getColumnName(), clientInfo.getGeoLocation());
+        parameterMap.put(AuditTableColumns.USERAGENT.getColumnName(), clientInfo.getUserAgent());
+        parameterMap.put(AuditTableColumns.LOCALE.getColumnName(), locale);
+        parameterMap.put(AuditTableColumns.ACTION.getColumnName(), action);
+
+        val converter = new MapToJsonAttributeConverter();
+        parameterMap.put(AuditTableColumns.HEADERS.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getHeaders()));
+        parameterMap.put(AuditTableColumns.EXTRA_INFO.getColumnName(), converter.convertToDatabaseColumn(clientInfo.getExtraInfo()));
+        return parameterMap;
+    }
+
     @Override
     public void clean() {
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
@@ -0,0 +1,112 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.config.CasCoreAuditConfiguration;
+import org.apereo.cas.config.CasCoreAuthenticationPrincipalConfiguration;
+import org.apereo.cas.config.CasCoreConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasHibernateJpaConfiguration;
+import org.apereo.cas.config.CasJdbcAuditConfiguration;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.AuditTrailManager;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JdbcAuditBatchWriterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(
+    classes = {
+        JdbcAuditBatchWriterTests.MeterRegistryTestConfiguration.class,
+        CasCoreAuditConfiguration.class,
+        CasJdbcAuditConfiguration.class,
+        CasHibernateJpaConfiguration.class,
+        CasCoreUtilConfiguration.class,
+        CasCoreConfiguration.class,
+        CasCoreTicketsConfiguration.class,
+        CasCoreTicketsSerializationConfiguration.class,
+        CasCoreAuthenticationPrincipalConfiguration.class,
+        CasCoreServicesConfiguration.class,
+        CasCoreWebConfiguration.class,
+        CasCoreNotificationsConfiguration.class,
+        AopAutoConfiguration.class,
+        WebMvcAutoConfiguration.class,
+        RefreshAutoConfiguration.class
+    },
+    properties = {
+        "cas.audit.jdbc.asynchronous=false",
+        "cas.audit.jdbc.batch.enabled=true",
+        "cas.audit.jdbc.batch.batch-size=5",
+        "cas.audit.jdbc.batch.flush-interval=PT0.2S"
+    })
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Tag("JDBC")
+class JdbcAuditBatchWriterTests {
+
+    @Autowired
+    @Qualifier("jdbcAuditTrailManager")
+    private AuditTrailManager auditTrailManager;
+
+    @Autowired
+    @Qualifier("meterRegistry")
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void verifyRecordsWrittenInBatches() throws Throwable {
+        val principal = UUID.randomUUID().toString();
+        IntStream.range(0, 12).forEach(i -> {
+            val clientInfo = new ClientInfo("1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), "London");
+            auditTrailManager.record(new AuditActionContext(principal, "TEST-" + i, "TEST",
+                "CAS", LocalDateTime.now(Clock.systemUTC()), clientInfo));
+        });
+        val criteria = Map.<AuditTrailManager.WhereClauseFields, Object>of(
+            AuditTrailManager.WhereClauseFields.DATE, LocalDate.now(ZoneOffset.UTC).minusDays(2),
+            AuditTrailManager.WhereClauseFields.PRINCIPAL, principal);
+        await().untilAsserted(() -> assertEquals(12, auditTrailManager.getAuditRecords(criteria).size()));
+
+        val flushTimer = meterRegistry.get("cas.audit.batch.flush").tag("name", "jdbc").timer();
+        assertTrue(flushTimer.count() >= 3);
+        assertEquals(0, meterRegistry.get("cas.audit.batch.dropped").tag("name", "jdbc").counter().count());
+    }
+
+    @TestConfiguration(value = "MeterRegistryTestConfiguration", proxyBeanMethods = false)
+    static class MeterRegistryTestConfiguration {
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.LocalDate;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -42,6 +43,11 @@ public class MongoDbAuditTrailManager extends AbstractAuditTrailManager {
         this.mongoTemplate.save(audit, this.collectionName);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        this.mongoTemplate.insert(audits, this.collectionName);
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDate) whereClause.get(WhereClauseFields.DATE);
@@ -11,6 +11,8 @@ import org.apereo.inspektr.audit.AuditActionContext;
 
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -83,6 +85,14 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         this.redisTemplate.boundValueOps(redisKey).set(audit);
     }
 
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val records = new LinkedHashMap<String, AuditActionContext>();
+        audits.forEach(audit -> records.put(getPatternAuditRedisKey(
+            String.valueOf(audit.getWhenActionWasPerformed().toEpochSecond(ZoneOffset.UTC)), audit.getPrincipal()), audit));
+        this.redisTemplate.opsForValue().multiSet(records);
+    }
+
     private Stream<String> getAuditRedisKeys() {
         return redisTemplate.scan(getPatternAuditRedisKey(), this.scanCount);
     }
@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
 import org.apereo.cas.audit.RedisAuditTrailManager;
+import org.apereo.cas.audit.spi.AuditTrailBatchWriter;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
@@ -11,9 +12,12 @@ import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -43,12 +47,18 @@ public class CasSupportRedisAuditConfiguration {
         final ConfigurableApplicationContext applicationContext,
         @Qualifier("auditRedisTemplate")
         final CasRedisTemplate auditRedisTemplate,
+        final ObjectProvider<MeterRegistry> meterRegistry,
         final CasConfigurationProperties casProperties) throws Exception {
         return BeanSupplier.of(AuditTrailManager.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val redis = casProperties.getAudit().getRedis();
-                return new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(), redis.getScanCount());
+                val manager = new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(), redis.getScanCount());
+                if (redis.getBatch().isEnabled()) {
+                    manager.setBatchWriter(new AuditTrailBatchWriter("redis", manager, redis.getBatch(),
+                        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+                }
+                return manager;
             })
             .otherwiseProxy()
             .get();
@@ -0,0 +1,102 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.DefaultServicesManagerRegisteredServiceLocator;
+import org.apereo.cas.services.InMemoryServiceRegistry;
+import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.services.ServicesManagerConfigurationContext;
+import org.apereo.cas.services.mgmt.DefaultServicesManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link ServicesManagerBenchmarks} that measures
+ * locating a registered service for an incoming service
+ * against large, synthetic service registries.
+ * Service definitions and requests are generated from a fixed
+ * seed so results remain comparable between runs.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServicesManagerBenchmarks {
+    private static final int REQUEST_COUNT = 1024;
+
+    @Param({"1000", "8000"})
+    public int registrySize;
+
+    private ServicesManager servicesManager;
+
+    private List<Service> services;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+
+        val registeredServices = IntStream.range(0, registrySize)
+            .mapToObj(ServicesManagerBenchmarks::buildRegisteredService)
+            .toList();
+        val context = ServicesManagerConfigurationContext.builder()
+            .applicationContext(applicationContext)
+            .registeredServicesTemplatesManager(registeredService -> registeredService)
+            .serviceRegistry(new InMemoryServiceRegistry(applicationContext, new ArrayList<>(registeredServices), List.of()))
+            .registeredServiceLocators(List.of(new DefaultServicesManagerRegisteredServiceLocator()))
+            .servicesCache((Cache) Caffeine.newBuilder().maximumSize(registrySize * 2L).build())
+            .build();
+        servicesManager = new DefaultServicesManager(context);
+        servicesManager.load();
+
+        val random = new Random(registrySize);
+        services = IntStream.range(0, REQUEST_COUNT)
+            .mapToObj(i -> CoreAuthenticationTestUtils.getService(
+                "https://app" + random.nextInt(registrySize) + ".example.org/login?index=" + i))
+            .toList();
+    }
+
+    @Benchmark
+    public RegisteredService findServiceBy() {
+        val service = services.get(index++ & (REQUEST_COUNT - 1));
+        return servicesManager.findServiceBy(service);
+    }
+
+    private static RegisteredService buildRegisteredService(final int id) {
+        val registeredService = new CasRegisteredService();
+        registeredService.setId(id);
+        registeredService.setName("Application" + id);
+        registeredService.setServiceId("https://app" + id + "\\.example\\.org/.+");
+        registeredService.setEvaluationOrder(id);
+        return registeredService;
+    }
+}
@@ -0,0 +1,59 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.util.cipher.BaseStringCipherExecutor;
+import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link StringCipherExecutorBenchmarks} that measures
+ * signing and encryption costs of {@link BaseStringCipherExecutor}
+ * implementations, using the ticket-granting cookie cipher as a reference.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringCipherExecutorBenchmarks {
+    private static final String ENCRYPTION_KEY = "1PbwSbnHeinpkZOSZjuSJ8yYpUrInm5aaV18J2Ar4rM";
+
+    private static final String SIGNING_KEY = "szxK-5_eJjs-aUj-64MpUZ-GPPzGLhYPLGl0wrYjYNVAGva2P0lLe6UGKGM7k8dWxsOVGutZWgvmY3l5oVPO3w";
+
+    private static final String VALUE = "TGT-1-JQY8zJfKKg8Nq5mKT1N7Yq4PaIjVLeD8wQR2FLc4T3-benchmark";
+
+    private BaseStringCipherExecutor cipherExecutor;
+
+    private String encodedValue;
+
+    @Setup
+    public void setup() {
+        cipherExecutor = new TicketGrantingCookieCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, 0, 0);
+        encodedValue = cipherExecutor.encode(VALUE);
+    }
+
+    @Benchmark
+    public String encode() {
+        return cipherExecutor.encode(VALUE);
+    }
+
+    @Benchmark
+    public String decode() {
+        return cipherExecutor.decode(encodedValue);
+    }
+}
@@ -0,0 +1,92 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.DefaultTicketCatalog;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
+import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.cipher.DefaultTicketCipherExecutor;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketRegistryCipherBenchmarks} that measures
+ * the cost of encoding and decoding tickets in the ticket registry
+ * when ticket encryption and signing are turned on.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketRegistryCipherBenchmarks {
+    private static final String ENCRYPTION_KEY = "e0q85ep-GXg8tfuDEWUJGw";
+
+    private static final String SIGNING_KEY = "VfYEhlNRkOuG8AaWXQmG0QB7XYsvPwpTF6w8pkucuQ3E8ZMBRyesEPMvuBFyF-8czyvapyrsaTwM49x-JzZAKQ";
+
+    private BenchmarkTicketRegistry ticketRegistry;
+
+    private Ticket ticket;
+
+    private Ticket encodedTicket;
+
+    @Setup
+    public void setup() throws Exception {
+        val cipher = new DefaultTicketCipherExecutor(ENCRYPTION_KEY, SIGNING_KEY, "AES", 512, 16, "benchmark");
+        val serializationManager = new DefaultTicketStringSerializationManager(new DefaultTicketSerializationExecutionPlan());
+        ticketRegistry = new BenchmarkTicketRegistry(cipher, serializationManager, new DefaultTicketCatalog());
+        ticket = new TicketGrantingTicketImpl("TGT-1-benchmark",
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        encodedTicket = ticketRegistry.encodeTicket(ticket);
+    }
+
+    @Benchmark
+    public Ticket encodeTicket() throws Exception {
+        return ticketRegistry.encodeTicket(ticket);
+    }
+
+    @Benchmark
+    public Ticket decodeTicket() {
+        return ticketRegistry.decodeTicket(encodedTicket);
+    }
+
+    private static final class BenchmarkTicketRegistry extends DefaultTicketRegistry {
+        BenchmarkTicketRegistry(final CipherExecutor cipherExecutor,
+                                final TicketSerializationManager ticketSerializationManager,
+                                final TicketCatalog ticketCatalog) {
+            super(cipherExecutor, ticketSerializationManager, ticketCatalog);
+        }
+
+        @Override
+        public Ticket encodeTicket(final Ticket ticket) throws Exception {
+            return super.encodeTicket(ticket);
+        }
+
+        @Override
+        public Ticket decodeTicket(final Ticket ticket) {
+            return super.decodeTicket(ticket);
+        }
+    }
+}
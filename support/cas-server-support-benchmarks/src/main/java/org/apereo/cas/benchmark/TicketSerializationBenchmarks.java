@@ -0,0 +1,121 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.ServiceTicket;
+import org.apereo.cas.ticket.ServiceTicketImpl;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.BinaryTicketSerializationManager;
+import org.apereo.cas.ticket.serialization.DefaultTicketSerializationExecutionPlan;
+import org.apereo.cas.ticket.serialization.DefaultTicketStringSerializationManager;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.ticket.tracking.TicketTrackingPolicy;
+
+import lombok.val;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link TicketSerializationBenchmarks} that measures
+ * the cost of serializing and deserializing tickets via
+ * the {@link DefaultTicketStringSerializationManager} and the
+ * {@link BinaryTicketSerializationManager}. The size of the serialized
+ * tickets for each format, both as string content and as bytes, is reported
+ * as secondary results of the serialization benchmarks.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketSerializationBenchmarks {
+    @Param({"JSON", "SMILE"})
+    public String format;
+
+    private TicketSerializationManager ticketSerializationManager;
+
+    private TicketGrantingTicket ticketGrantingTicket;
+
+    private ServiceTicket serviceTicket;
+
+    private String serializedTicketGrantingTicket;
+
+    private String serializedServiceTicket;
+
+    @Setup
+    public void setup() {
+        val plan = new DefaultTicketSerializationExecutionPlan();
+        ticketSerializationManager = "SMILE".equals(format)
+            ? new BinaryTicketSerializationManager(plan)
+            : new DefaultTicketStringSerializationManager(plan);
+        ticketGrantingTicket = new TicketGrantingTicketImpl("TGT-1-benchmark",
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        serviceTicket = ticketGrantingTicket.grantServiceTicket("ST-1-benchmark",
+            CoreAuthenticationTestUtils.getService("https://app.example.org"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, TicketTrackingPolicy.noOp());
+        serializedTicketGrantingTicket = ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+        serializedServiceTicket = ticketSerializationManager.serializeTicket(serviceTicket);
+    }
+
+    @Benchmark
+    public String serializeTicketGrantingTicket(final SerializedSize size) {
+        return ticketSerializationManager.serializeTicket(ticketGrantingTicket);
+    }
+
+    @Benchmark
+    public TicketGrantingTicket deserializeTicketGrantingTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedTicketGrantingTicket, TicketGrantingTicketImpl.class);
+    }
+
+    @Benchmark
+    public String serializeServiceTicket(final SerializedSize size) {
+        return ticketSerializationManager.serializeTicket(serviceTicket);
+    }
+
+    @Benchmark
+    public ServiceTicket deserializeServiceTicket() {
+        return ticketSerializationManager.deserializeTicket(serializedServiceTicket, ServiceTicketImpl.class);
+    }
+
+    /**
+     * Sizes of the serialized tickets, reported by JMH next to the timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SerializedSize {
+        public long ticketGrantingTicketChars;
+
+        public long ticketGrantingTicketBytes;
+
+        public long serviceTicketChars;
+
+        public long serviceTicketBytes;
+
+        @Setup(Level.Iteration)
+        public void setup(final TicketSerializationBenchmarks benchmarks) {
+            val manager = benchmarks.ticketSerializationManager;
+            ticketGrantingTicketChars = benchmarks.serializedTicketGrantingTicket.length();
+            ticketGrantingTicketBytes = manager.serializeTicketAsBytes(benchmarks.ticketGrantingTicket).length;
+            serviceTicketChars = benchmarks.serializedServiceTicket.length();
+            serviceTicketBytes = manager.serializeTicketAsBytes(benchmarks.serviceTicket).length;
+        }
+    }
+}
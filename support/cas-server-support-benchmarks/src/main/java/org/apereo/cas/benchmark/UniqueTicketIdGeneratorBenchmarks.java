@@ -0,0 +1,72 @@
+package org.apereo.cas.benchmark;
+
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
+import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
+import org.apereo.cas.util.RandomUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link UniqueTicketIdGeneratorBenchmarks} that measures
+ * ticket id generation throughput, both on a single thread and
+ * with an increasing number of threads contending for the same generator.
+ * Each benchmark runs against the striped {@code DRBG} source and the
+ * native source, to compare how throughput scales with cores.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UniqueTicketIdGeneratorBenchmarks {
+    @Param({"striped", "native"})
+    private String randomSource;
+
+    private UniqueTicketIdGenerator ticketIdGenerator;
+
+    @Setup
+    public void setup() {
+        if ("native".equals(randomSource)) {
+            System.setProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG, "NativePRNGNonBlocking");
+        } else {
+            System.clearProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_ALG);
+        }
+        ticketIdGenerator = new DefaultUniqueTicketIdGenerator(UniqueTicketIdGenerator.TICKET_SIZE, "benchmark");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generateTicketId() {
+        return ticketIdGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateTicketIdWithFourThreads() {
+        return ticketIdGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateTicketIdConcurrently() {
+        return ticketIdGenerator.getNewTicketId(TicketGrantingTicket.PREFIX);
+    }
+}
@@ -8,6 +8,7 @@ import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.CassandraTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
@@ -42,10 +43,14 @@ public class CassandraTicketRegistryConfiguration {
         @Qualifier("cassandraTicketRegistrySessionFactory")
         final CassandraSessionFactory cassandraTicketRegistrySessionFactory,
         @Qualifier(TicketSerializationManager.BEAN_NAME)
-        final TicketSerializationManager ticketSerializationManager) {
+        final TicketSerializationManager ticketSerializationManager,
+        @Qualifier("ticketSerializationExecutionPlan")
+        final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
         val cassandra = casProperties.getTicket().getRegistry().getCassandra();
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(cassandra.getCrypto(), "cassandra");
-        return new CassandraTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
+        val serializationManager = CoreTicketUtils.newTicketSerializationManager(cassandra.getSerializationFormat(),
+            ticketSerializationManager, ticketSerializationExecutionPlan);
+        return new CassandraTicketRegistry(cipher, serializationManager, ticketCatalog,
             cassandraTicketRegistrySessionFactory, cassandra);
     }
 
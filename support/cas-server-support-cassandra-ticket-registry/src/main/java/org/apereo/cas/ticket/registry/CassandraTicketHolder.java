@@ -1,5 +1,6 @@
 package org.apereo.cas.ticket.registry;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -11,6 +12,7 @@ import lombok.experimental.SuperBuilder;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
 /**
@@ -45,4 +47,7 @@ public class CassandraTicketHolder implements Serializable {
 
     @JsonProperty("attributes")
     private Map<String, String> attributes;
+
+    @JsonIgnore
+    private ByteBuffer binaryData;
 }
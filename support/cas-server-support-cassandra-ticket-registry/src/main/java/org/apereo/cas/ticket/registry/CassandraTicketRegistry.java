@@ -24,9 +24,11 @@ import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.cassandra.core.cql.BeanPropertyRowMapper;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -36,6 +38,8 @@ import java.util.stream.Stream;
 
 /**
  * This is {@link CassandraTicketRegistry}.
+ * Tickets serialized in a binary format are stored as raw bytes
+ * in the {@code binary_data} column, which is added to existing tables when needed.
  *
  * @author Misagh Moayyed
  * @author doomviking
@@ -46,10 +50,14 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
+    private static final String COLUMN_BINARY_DATA = "binary_data";
+
     private final CassandraSessionFactory cassandraSessionFactory;
 
     private final CassandraTicketRegistryProperties properties;
 
+    private volatile boolean binaryDataAvailable;
+
     public CassandraTicketRegistry(final CipherExecutor cipherExecutor,
                                    final TicketSerializationManager ticketSerializationManager,
                                    final TicketCatalog ticketCatalog,
@@ -208,6 +216,11 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
     private Ticket deserialize(final CassandraTicketHolder holder) {
+        if (holder.getBinaryData() != null) {
+            val bytes = new byte[holder.getBinaryData().remaining()];
+            holder.getBinaryData().duplicate().get(bytes);
+            return ticketSerializationManager.deserializeTicket(bytes, holder.getType());
+        }
         return ticketSerializationManager.deserializeTicket(holder.getData(), holder.getType());
     }
 
@@ -255,10 +268,12 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                     LOGGER.trace("Dropping Cassandra table with query [{}]", drop);
                     cassandraSessionFactory.getCqlTemplate().execute(drop);
                 }
-                val createTable = "CREATE TABLE IF NOT EXISTS %s.%s(id text,type text,prefix text,attributes map<text, text>,data text, PRIMARY KEY(id,type));"
-                    .formatted(properties.getKeyspace(), metadata.getProperties().getStorageName());
+                val createTable = ("CREATE TABLE IF NOT EXISTS %s.%s(id text,type text,prefix text,attributes map<text, text>,"
+                                   + "data text,%s blob, PRIMARY KEY(id,type));")
+                    .formatted(properties.getKeyspace(), metadata.getProperties().getStorageName(), COLUMN_BINARY_DATA);
                 LOGGER.trace("Creating Cassandra table with query [{}]", createTable);
                 cassandraSessionFactory.getCqlTemplate().execute(createTable);
+                createBinaryDataColumnIfNecessary(metadata);
 
                 cassandraSessionFactory.getCqlTemplate().execute("DROP INDEX IF EXISTS " + metadata.getProperties().getStorageName() + "_entries_index");
                 val createIndexAttributeNames = "CREATE INDEX " + metadata.getProperties().getStorageName() + "_entries_index ON "
@@ -281,12 +296,30 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
     }
 
 
+    private void createBinaryDataColumnIfNecessary(final TicketDefinition metadata) {
+        val storageName = metadata.getProperties().getStorageName();
+        val query = "SELECT column_name FROM system_schema.columns WHERE keyspace_name=? AND table_name=? AND column_name=?";
+        val columns = cassandraSessionFactory.getCqlTemplate().queryForList(query, String.class,
+            properties.getKeyspace(), storageName.toLowerCase(Locale.ENGLISH), COLUMN_BINARY_DATA);
+        if (columns.isEmpty() && ticketSerializationManager.isBinaryFormat()) {
+            val alterTable = "ALTER TABLE %s.%s ADD %s blob;".formatted(properties.getKeyspace(), storageName, COLUMN_BINARY_DATA);
+            LOGGER.debug("Adding binary data column to Cassandra table with query [{}]", alterTable);
+            cassandraSessionFactory.getCqlTemplate().execute(alterTable);
+            binaryDataAvailable = true;
+        } else {
+            binaryDataAvailable = !columns.isEmpty();
+        }
+    }
+
     private void addTicketToCassandra(final Ticket ticket, final boolean inserting) throws Exception {
         LOGGER.debug("Adding ticket [{}]", ticket.getId());
         val metadata = ticketCatalog.find(ticket);
         LOGGER.trace("Located ticket definition [{}] in the ticket catalog", metadata);
         val encTicket = encodeTicket(ticket);
-        val data = ticketSerializationManager.serializeTicket(encTicket);
+        val binaryData = ticketSerializationManager.isBinaryFormat() && binaryDataAvailable
+            ? ByteBuffer.wrap(ticketSerializationManager.serializeTicketAsBytes(encTicket))
+            : null;
+        val data = binaryData == null ? ticketSerializationManager.serializeTicket(encTicket) : null;
         val ttl = getTimeToLive(ticket);
         var statement = (SimpleStatement) null;
 
@@ -301,7 +334,16 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
             })
             .collect(Collectors.toMap(Pair::getKey, v -> v.getValue().toString()));
 
-        if (inserting) {
+        if (inserting && binaryData != null) {
+            statement = QueryBuilder.insertInto(properties.getKeyspace(), metadata.getProperties().getStorageName())
+                .value("id", QueryBuilder.literal(encTicket.getId()))
+                .value("type", QueryBuilder.literal(encTicket.getClass().getName()))
+                .value("prefix", QueryBuilder.literal(ticket.getPrefix()))
+                .value("attributes", QueryBuilder.literal(attributesEncoded))
+                .value(COLUMN_BINARY_DATA, QueryBuilder.literal(binaryData))
+                .usingTtl(ttl)
+                .build();
+        } else if (inserting) {
             val document = CassandraTicketHolder.builder()
                 .id(encTicket.getId())
                 .data(data)
@@ -315,10 +357,14 @@ public class CassandraTicketRegistry extends AbstractTicketRegistry implements D
                 .usingTtl(ttl)
                 .build();
         } else {
-            statement = QueryBuilder.update(properties.getKeyspace(), metadata.getProperties().getStorageName())
+            var update = QueryBuilder.update(properties.getKeyspace(), metadata.getProperties().getStorageName())
                 .usingTtl(ttl)
                 .setColumn("data", QueryBuilder.literal(data))
-                .setColumn("attributes", QueryBuilder.literal(attributesEncoded))
+                .setColumn("attributes", QueryBuilder.literal(attributesEncoded));
+            if (binaryDataAvailable) {
+                update = update.setColumn(COLUMN_BINARY_DATA, QueryBuilder.literal(binaryData));
+            }
+            statement = update
                 .whereColumn("id").isEqualTo(QueryBuilder.literal(encTicket.getId()))
                 .whereColumn("type").isEqualTo(QueryBuilder.literal(encTicket.getClass().getName()))
                 .build();
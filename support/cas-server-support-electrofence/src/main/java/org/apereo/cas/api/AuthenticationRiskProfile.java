@@ -0,0 +1,196 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link AuthenticationRiskProfile}, which summarizes the recent authentication
+ * history of a principal. Authentication events are counted by client ip address, user agent,
+ * geolocation and hour of day in hourly buckets, and running totals are kept across all buckets
+ * so that risk calculators can score a request without walking through the event history.
+ * Buckets that fall outside the history window are dropped and subtracted from the totals.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+@ToString(of = "principal")
+public class AuthenticationRiskProfile {
+    private static final int HOURS_IN_DAY = 24;
+
+    @Getter
+    private final String principal;
+
+    private final NavigableMap<Long, ActivityCounts> buckets = new ConcurrentSkipListMap<>();
+
+    private final ActivityCounts totals = new ActivityCounts();
+
+    private static long toEpochHour(final ZonedDateTime dateTime) {
+        return TimeUnit.SECONDS.toHours(dateTime.toEpochSecond());
+    }
+
+    private static String normalize(final String value) {
+        return StringUtils.isBlank(value) ? null : value.trim().toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String toGeoLocationKey(final String latitude, final String longitude) {
+        return StringUtils.isNotBlank(latitude) && StringUtils.isNotBlank(longitude)
+            ? latitude + ',' + longitude
+            : null;
+    }
+
+    /**
+     * Record the authentication event in this profile.
+     *
+     * @param event the event
+     * @return the authentication risk profile
+     */
+    public synchronized AuthenticationRiskProfile record(final CasEvent event) {
+        val epochHour = toEpochHour(DateTimeUtils.convertToZonedDateTime(event.getCreationTime()));
+        val geoLocation = event.getGeoLocation();
+        val geoLocationKey = toGeoLocationKey(geoLocation.getLatitude(), geoLocation.getLongitude());
+        val hourOfDay = Math.floorMod(epochHour, HOURS_IN_DAY);
+        val ipAddress = normalize(event.getClientIpAddress());
+        val userAgent = normalize(event.getAgent());
+        buckets.computeIfAbsent(epochHour, hour -> new ActivityCounts())
+            .add(ipAddress, userAgent, geoLocationKey, hourOfDay, 1);
+        totals.add(ipAddress, userAgent, geoLocationKey, hourOfDay, 1);
+        return this;
+    }
+
+    /**
+     * Drop authentication events that were recorded before the given date.
+     *
+     * @param since the date
+     * @return the authentication risk profile
+     */
+    public synchronized AuthenticationRiskProfile prune(final ZonedDateTime since) {
+        val expired = buckets.headMap(toEpochHour(since), false);
+        expired.values().forEach(totals::subtract);
+        expired.clear();
+        return this;
+    }
+
+    /**
+     * Total number of authentication events in this profile.
+     *
+     * @return the count
+     */
+    public long getAuthenticationCount() {
+        return totals.count.sum();
+    }
+
+    /**
+     * Number of authentication events from the given client ip address.
+     *
+     * @param ipAddress the ip address
+     * @return the count
+     */
+    public long countByIpAddress(final String ipAddress) {
+        return ActivityCounts.countOf(totals.ipAddresses, normalize(ipAddress));
+    }
+
+    /**
+     * Number of authentication events from the given user agent.
+     *
+     * @param userAgent the user agent
+     * @return the count
+     */
+    public long countByUserAgent(final String userAgent) {
+        return ActivityCounts.countOf(totals.userAgents, normalize(userAgent));
+    }
+
+    /**
+     * Number of authentication events from the given geolocation.
+     *
+     * @param latitude  the latitude
+     * @param longitude the longitude
+     * @return the count
+     */
+    public long countByGeoLocation(final String latitude, final String longitude) {
+        return ActivityCounts.countOf(totals.geoLocations, toGeoLocationKey(latitude, longitude));
+    }
+
+    /**
+     * Number of authentication events whose hour of day, in UTC, matches the given predicate.
+     *
+     * @param hourOfDay the hour of day predicate
+     * @return the count
+     */
+    public long countByHourOfDay(final IntPredicate hourOfDay) {
+        return IntStream.range(0, HOURS_IN_DAY)
+            .filter(hourOfDay)
+            .mapToLong(totals.hoursOfDay::get)
+            .sum();
+    }
+
+    private static final class ActivityCounts {
+        private final LongAdder count = new LongAdder();
+
+        private final Map<String, LongAdder> ipAddresses = new ConcurrentHashMap<>();
+
+        private final Map<String, LongAdder> userAgents = new ConcurrentHashMap<>();
+
+        private final Map<String, LongAdder> geoLocations = new ConcurrentHashMap<>();
+
+        private final AtomicLongArray hoursOfDay = new AtomicLongArray(HOURS_IN_DAY);
+
+        private static void increment(final Map<String, LongAdder> counts, final String key, final long delta) {
+            if (key != null) {
+                counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        private static long countOf(final Map<String, LongAdder> counts, final String key) {
+            return Optional.ofNullable(key).map(counts::get).map(LongAdder::sum).orElse(0L);
+        }
+
+        private static void decrement(final Map<String, LongAdder> counts, final Map<String, LongAdder> expired) {
+            expired.forEach((key, value) -> {
+                val adder = counts.get(key);
+                if (adder != null) {
+                    adder.add(-value.sum());
+                    if (adder.sum() <= 0) {
+                        counts.remove(key);
+                    }
+                }
+            });
+        }
+
+        void add(final String ipAddress, final String userAgent, final String geoLocation,
+                 final int hourOfDay, final long delta) {
+            count.add(delta);
+            increment(ipAddresses, ipAddress, delta);
+            increment(userAgents, userAgent, delta);
+            increment(geoLocations, geoLocation, delta);
+            hoursOfDay.addAndGet(hourOfDay, delta);
+        }
+
+        void subtract(final ActivityCounts expired) {
+            count.add(-expired.count.sum());
+            decrement(ipAddresses, expired.ipAddresses);
+            decrement(userAgents, expired.userAgents);
+            decrement(geoLocations, expired.geoLocations);
+            IntStream.range(0, HOURS_IN_DAY).forEach(hour -> hoursOfDay.addAndGet(hour, -expired.hoursOfDay.get(hour)));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.apereo.cas.api;
+
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link AuthenticationRiskProfileStore}, which keeps the authentication risk profiles
+ * of principals up to date as authentication events are recorded in the events repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface AuthenticationRiskProfileStore extends CasEventListener {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "authenticationRiskProfileStore";
+
+    /**
+     * Gets the authentication risk profile of the principal.
+     *
+     * @param principal the principal
+     * @return the profile
+     */
+    AuthenticationRiskProfile getProfile(String principal);
+
+    /**
+     * Record the authentication event in the profile of its principal.
+     *
+     * @param event the event
+     */
+    void record(CasEvent event);
+
+    /**
+     * Handle events saved in the events repository.
+     *
+     * @param event the event
+     */
+    @EventListener
+    void handleCasEventSavedEvent(AuditApplicationEvent event);
+}
@@ -5,6 +5,7 @@ import org.apereo.cas.api.AuthenticationRiskContingencyPlan;
 import org.apereo.cas.api.AuthenticationRiskEvaluator;
 import org.apereo.cas.api.AuthenticationRiskMitigator;
 import org.apereo.cas.api.AuthenticationRiskNotifier;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.audit.AuditActionResolvers;
 import org.apereo.cas.audit.AuditResourceResolvers;
 import org.apereo.cas.audit.AuditTrailRecordResolutionPlanConfigurer;
@@ -22,6 +23,7 @@ import org.apereo.cas.impl.notify.AuthenticationRiskSmsNotifier;
 import org.apereo.cas.impl.plans.BaseAuthenticationRiskContingencyPlan;
 import org.apereo.cas.impl.plans.BlockAuthenticationContingencyPlan;
 import org.apereo.cas.impl.plans.MultifactorAuthenticationContingencyPlan;
+import org.apereo.cas.impl.profile.DefaultAuthenticationRiskProfileStore;
 import org.apereo.cas.notifications.CommunicationsManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.events.CasEventRepository;
@@ -42,6 +44,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -185,6 +188,22 @@ public class ElectronicFenceConfiguration {
 
     }
 
+    @Configuration(value = "ElectronicFenceProfileConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class ElectronicFenceProfileConfiguration {
+
+        @ConditionalOnMissingBean(name = AuthenticationRiskProfileStore.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public AuthenticationRiskProfileStore authenticationRiskProfileStore(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME)
+            final CasEventRepository casEventRepository) {
+            return new DefaultAuthenticationRiskProfileStore(casEventRepository, casProperties);
+        }
+    }
+
     @Configuration(value = "ElectronicFenceCalculatorConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class ElectronicFenceCalculatorConfiguration {
@@ -195,11 +214,11 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator ipAddressAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.ip.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new IpAddressAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -210,11 +229,11 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator userAgentAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.agent.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new UserAgentAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -225,11 +244,11 @@ public class ElectronicFenceConfiguration {
         public AuthenticationRequestRiskCalculator dateTimeAuthenticationRequestRiskCalculator(
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.date-time.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(casEventRepository, casProperties))
+                .supply(() -> new DateTimeAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties))
                 .otherwiseProxy()
                 .get();
         }
@@ -247,11 +266,11 @@ public class ElectronicFenceConfiguration {
             final CasConfigurationProperties casProperties,
             @Qualifier(GeoLocationService.BEAN_NAME)
             final GeoLocationService geoLocationService,
-            @Qualifier(CasEventRepository.BEAN_NAME)
-            final CasEventRepository casEventRepository) throws Exception {
+            @Qualifier(AuthenticationRiskProfileStore.BEAN_NAME)
+            final AuthenticationRiskProfileStore authenticationRiskProfileStore) throws Exception {
             return BeanSupplier.of(AuthenticationRequestRiskCalculator.class)
                 .when(BeanCondition.on("cas.authn.adaptive.risk.geo-location.enabled").isTrue().given(applicationContext.getEnvironment()))
-                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(casEventRepository, casProperties, geoLocationService))
+                .supply(() -> new GeoLocationAuthenticationRequestRiskCalculator(authenticationRiskProfileStore, casProperties, geoLocationService))
                 .otherwiseProxy()
                 .get();
         }
@@ -1,10 +1,10 @@
 package org.apereo.cas.impl.calcs;
 
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
 import org.apereo.cas.authentication.Authentication;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.support.events.CasEventRepository;
-import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -12,7 +12,6 @@ import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * This is {@link IpAddressAuthenticationRequestRiskCalculator}.
@@ -23,20 +22,20 @@ import java.util.List;
 @Slf4j
 public class IpAddressAuthenticationRequestRiskCalculator extends BaseAuthenticationRequestRiskCalculator {
 
-    public IpAddressAuthenticationRequestRiskCalculator(final CasEventRepository casEventRepository,
+    public IpAddressAuthenticationRequestRiskCalculator(final AuthenticationRiskProfileStore authenticationRiskProfileStore,
                                                         final CasConfigurationProperties casProperties) {
-        super(casEventRepository, casProperties);
+        super(authenticationRiskProfileStore, casProperties);
     }
 
     @Override
     protected BigDecimal calculateScore(final ClientInfo clientInfo,
                                         final Authentication authentication,
                                         final RegisteredService service,
-                                        final List<? extends CasEvent> events) {
+                                        final AuthenticationRiskProfile profile) {
         val remoteAddr = ClientInfoHolder.getClientInfo().getClientIpAddress();
         LOGGER.debug("Filtering authentication events for ip address [{}]", remoteAddr);
-        val count = events.stream().filter(e -> e.getClientIpAddress().equalsIgnoreCase(remoteAddr)).count();
+        val count = profile.countByIpAddress(remoteAddr);
         LOGGER.debug("Total authentication events found for [{}]: [{}]", remoteAddr, count);
-        return calculateScoreBasedOnEventsCount(authentication, events, count);
+        return calculateScoreBasedOnEventsCount(authentication, profile, count);
     }
 }
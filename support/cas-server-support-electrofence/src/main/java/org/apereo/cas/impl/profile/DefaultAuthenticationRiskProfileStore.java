@@ -0,0 +1,97 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.api.AuthenticationRiskProfile;
+import org.apereo.cas.api.AuthenticationRiskProfileStore;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+import org.apereo.cas.util.DateTimeUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStore}, which keeps authentication risk profiles
+ * of recently active principals in memory. A profile is built from the events repository the first
+ * time it is requested, and is then kept up to date with ticket-granting ticket creation events
+ * that are saved on this node. Profiles expire after a configurable period so that events
+ * recorded by other nodes are eventually picked up when the profile is built again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class DefaultAuthenticationRiskProfileStore implements AuthenticationRiskProfileStore {
+    private static final String EVENT_TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private final CasEventRepository casEventRepository;
+
+    private final CasConfigurationProperties casProperties;
+
+    private final LoadingCache<String, AuthenticationRiskProfile> profiles;
+
+    public DefaultAuthenticationRiskProfileStore(final CasEventRepository casEventRepository,
+                                                 final CasConfigurationProperties casProperties) {
+        this.casEventRepository = casEventRepository;
+        this.casProperties = casProperties;
+        val core = casProperties.getAuthn().getAdaptive().getRisk().getCore();
+        this.profiles = Caffeine.newBuilder()
+            .maximumSize(core.getProfileCacheSize())
+            .expireAfterWrite(Beans.newDuration(core.getProfileExpiration()))
+            .build(this::loadProfile);
+    }
+
+    @Override
+    public AuthenticationRiskProfile getProfile(final String principal) {
+        return profiles.get(principal).prune(getHistoryStartDate());
+    }
+
+    @Override
+    public void record(final CasEvent event) {
+        if (EVENT_TYPE.equals(event.getType())) {
+            Optional.ofNullable(profiles.getIfPresent(event.getPrincipalId()))
+                .ifPresent(profile -> {
+                    LOGGER.trace("Recording authentication event [{}] in profile of [{}]", event.getEventId(), profile.getPrincipal());
+                    profile.record(event);
+                });
+        }
+    }
+
+    @Override
+    public void handleCasEventSavedEvent(final AuditApplicationEvent event) {
+        val auditEvent = event.getAuditEvent();
+        if (EVENT_TYPE.equals(auditEvent.getType()) && profiles.getIfPresent(auditEvent.getPrincipal()) != null) {
+            val casEvent = new CasEvent();
+            casEvent.setType(auditEvent.getType());
+            casEvent.setPrincipalId(auditEvent.getPrincipal());
+            auditEvent.getData().forEach((key, value) -> casEvent.put(key, value == null ? null : value.toString()));
+            val creationTime = Optional.ofNullable(casEvent.get(CasEvent.FIELD_TIMESTAMP))
+                .map(timestamp -> DateTimeUtils.zonedDateTimeOf(Long.parseLong(timestamp)))
+                .orElseGet(() -> DateTimeUtils.zonedDateTimeOf(auditEvent.getTimestamp()));
+            casEvent.setCreationTime(creationTime.toString());
+            record(casEvent);
+        }
+    }
+
+    protected AuthenticationRiskProfile loadProfile(final String principal) {
+        LOGGER.debug("Building authentication risk profile for [{}] from events of type [{}]", principal, EVENT_TYPE);
+        val profile = new AuthenticationRiskProfile(principal);
+        casEventRepository.getEventsOfTypeForPrincipal(EVENT_TYPE, principal, getHistoryStartDate()).forEach(profile::record);
+        LOGGER.debug("Authentication risk profile for [{}] is built from [{}] event(s)", principal, profile.getAuthenticationCount());
+        return profile;
+    }
+
+    protected ZonedDateTime getHistoryStartDate() {
+        val days = casProperties.getAuthn().getAdaptive().getRisk().getCore().getDaysInRecentHistory();
+        return ZonedDateTime.now(ZoneOffset.UTC).minusDays(days);
+    }
+}
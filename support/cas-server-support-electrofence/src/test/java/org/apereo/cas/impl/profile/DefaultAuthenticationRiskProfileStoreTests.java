@@ -0,0 +1,113 @@
+package org.apereo.cas.impl.profile;
+
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.ticket.CasTicketGrantingTicketCreatedEvent;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.audit.AuditEvent;
+import org.springframework.boot.actuate.audit.listener.AuditApplicationEvent;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link DefaultAuthenticationRiskProfileStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Authentication")
+class DefaultAuthenticationRiskProfileStoreTests {
+    private static final String TYPE = CasTicketGrantingTicketCreatedEvent.class.getName();
+
+    private static CasEvent createEvent(final String principal, final String ipAddress,
+                                        final String agent, final ZonedDateTime creationTime) {
+        val event = new CasEvent();
+        event.setType(TYPE);
+        event.setPrincipalId(principal);
+        event.setCreationTime(creationTime.toString());
+        event.putTimestamp(creationTime.toInstant().toEpochMilli());
+        event.putClientIpAddress(ipAddress);
+        event.putAgent(agent);
+        event.putGeoLocation(new GeoLocationRequest(40.71, -74.005));
+        return event;
+    }
+
+    @Test
+    void verifyProfileBuiltFromHistory() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(eq(TYPE), eq("casuser"), any(ZonedDateTime.class)))
+            .thenAnswer(args -> Stream.of(
+                createEvent("casuser", "1.2.3.4", "Firefox", now.minusHours(1)),
+                createEvent("casuser", "1.2.3.4", "Chrome", now.minusDays(2)),
+                createEvent("casuser", "5.6.7.8", "Firefox", now.minusDays(3))));
+
+        val store = new DefaultAuthenticationRiskProfileStore(repository, new CasConfigurationProperties());
+        val profile = store.getProfile("casuser");
+        assertEquals(3, profile.getAuthenticationCount());
+        assertEquals(2, profile.countByIpAddress("1.2.3.4"));
+        assertEquals(2, profile.countByUserAgent("FIREFOX"));
+        assertEquals(0, profile.countByUserAgent(null));
+        assertEquals(3, profile.countByGeoLocation("40.71", "-74.005"));
+        assertEquals(0, profile.countByGeoLocation("48.85", "2.35"));
+        assertEquals(1, profile.countByHourOfDay(hour -> hour == now.minusHours(1).getHour()));
+        assertEquals(2, profile.countByHourOfDay(hour -> hour == now.getHour()));
+        assertEquals(3, profile.countByHourOfDay(hour -> true));
+
+        assertSame(profile, store.getProfile("casuser"));
+        verify(repository, times(1)).getEventsOfTypeForPrincipal(eq(TYPE), eq("casuser"), any(ZonedDateTime.class));
+    }
+
+    @Test
+    void verifyProfileUpdatedWhenEventsAreSaved() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any(ZonedDateTime.class)))
+            .thenAnswer(args -> Stream.of(createEvent("casuser", "1.2.3.4", "Firefox", now.minusDays(1))));
+        val store = new DefaultAuthenticationRiskProfileStore(repository, new CasConfigurationProperties());
+
+        val saved = createEvent("unknown", "1.2.3.4", "Firefox", now);
+        store.handleCasEventSavedEvent(new AuditApplicationEvent(new AuditEvent("unknown", TYPE, (Map) saved.getProperties())));
+        verify(repository, never()).getEventsOfTypeForPrincipal(anyString(), anyString(), any(ZonedDateTime.class));
+
+        val profile = store.getProfile("casuser");
+        assertEquals(1, profile.getAuthenticationCount());
+        val event = createEvent("casuser", "9.8.7.6", "Safari", now);
+        store.handleCasEventSavedEvent(new AuditApplicationEvent(new AuditEvent("casuser", TYPE, (Map) event.getProperties())));
+        store.handleCasEventSavedEvent(new AuditApplicationEvent(new AuditEvent("casuser", "OtherEvent", (Map) event.getProperties())));
+        assertEquals(2, profile.getAuthenticationCount());
+        assertEquals(1, profile.countByIpAddress("9.8.7.6"));
+        assertEquals(1, profile.countByUserAgent("safari"));
+    }
+
+    @Test
+    void verifyProfilePrunesExpiredEvents() {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val repository = mock(CasEventRepository.class);
+        when(repository.getEventsOfTypeForPrincipal(anyString(), anyString(), any(ZonedDateTime.class)))
+            .thenAnswer(args -> Stream.of(createEvent("casuser", "1.2.3.4", "Firefox", now.minusDays(1))));
+        val properties = new CasConfigurationProperties();
+        properties.getAuthn().getAdaptive().getRisk().getCore().setDaysInRecentHistory(30);
+        val store = new DefaultAuthenticationRiskProfileStore(repository, properties);
+        store.getProfile("casuser");
+        store.record(createEvent("casuser", "5.6.7.8", "Chrome", now.minusDays(45)));
+
+        val profile = store.getProfile("casuser");
+        assertEquals(1, profile.getAuthenticationCount());
+        assertEquals(0, profile.countByIpAddress("5.6.7.8"));
+        assertEquals(0, profile.countByUserAgent("Chrome"));
+        assertEquals(1, profile.countByIpAddress("1.2.3.4"));
+    }
+}
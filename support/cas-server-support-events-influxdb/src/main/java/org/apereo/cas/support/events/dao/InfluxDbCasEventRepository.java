@@ -19,11 +19,16 @@ import org.springframework.beans.factory.DisposableBean;
 import java.io.Serial;
 import java.io.Serializable;
 import java.time.Instant;
+import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.stream.Stream;
 
 /**
- * This is {@link InfluxDbCasEventRepository}.
+ * This is {@link InfluxDbCasEventRepository}. Queries filter events by type in InfluxDb.
+ * Principals are matched case-insensitively, which tag filters cannot do, so events are
+ * matched by principal once they are read. Events are written after they are created, so
+ * date-bound queries narrow down the time range of records in InfluxDb and then check
+ * the creation time of each event.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -42,6 +47,21 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
         this.influxDbConnectionFactory = influxDbConnectionFactory;
     }
 
+    private static CasEvent toCasEvent(final InfluxDbEvent flux) {
+        val event = new CasEvent();
+        val geo = Unchecked.supplier(() -> MAPPER.readValue(flux.getGeoLocation(), new TypeReference<GeoLocationRequest>() {
+        })).get();
+        event.putGeoLocation(geo);
+        event.setPrincipalId(flux.getPrincipalId());
+        event.setType(flux.getType());
+        event.setCreationTime(flux.getCreationTime());
+        event.putClientIpAddress(flux.getClientIpAddress());
+        event.putServerIpAddress(flux.getServerIpAddress());
+        event.putEventId(flux.getValue());
+        event.putTimestamp(Long.valueOf(flux.getTimestamp()));
+        return event;
+    }
+
     @Override
     public void removeAll() {
         influxDbConnectionFactory.deleteAll();
@@ -64,21 +84,53 @@ public class InfluxDbCasEventRepository extends AbstractCasEventRepository imple
 
     @Override
     public Stream<? extends CasEvent> load() {
-        val results = influxDbConnectionFactory.query(InfluxDbEvent.class);
-        return results.stream().map(flux -> {
-            val event = new CasEvent();
-            val geo = Unchecked.supplier(() -> MAPPER.readValue(flux.getGeoLocation(), new TypeReference<GeoLocationRequest>() {
-            })).get();
-            event.putGeoLocation(geo);
-            event.setPrincipalId(flux.getPrincipalId());
-            event.setType(flux.getType());
-            event.setCreationTime(flux.getCreationTime());
-            event.putClientIpAddress(flux.getClientIpAddress());
-            event.putServerIpAddress(flux.getServerIpAddress());
-            event.putEventId(flux.getValue());
-            event.putTimestamp(Long.valueOf(flux.getTimestamp()));
-            return event;
-        });
+        return queryEvents(null, null, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return queryEvents(dateTime, null, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return queryEvents(null, type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return queryEvents(dateTime, type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return queryEvents(null, type, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return queryEvents(dateTime, type, null);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return queryEvents(null, null, id);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return queryEvents(dateTime, null, id);
+    }
+
+    private Stream<CasEvent> queryEvents(final ZonedDateTime dateTime, final String type, final String principal) {
+        val start = dateTime == null ? null : dateTime.toInstant();
+        val tags = type == null ? Map.<String, String>of() : Map.of(TYPE_PARAM, type);
+        val results = influxDbConnectionFactory.query(InfluxDbEvent.class, start, tags);
+        return results.stream()
+            .filter(flux -> principal == null || principal.equalsIgnoreCase(flux.getPrincipalId()))
+            .map(InfluxDbCasEventRepository::toCasEvent)
+            .filter(event -> dateTime == null || isCreatedOnOrAfter(event, dateTime));
     }
 
     @Override
@@ -1,13 +1,16 @@
 package org.apereo.cas.support.events.dao;
 
+import org.apereo.cas.authentication.adaptive.geo.GeoLocationRequest;
 import org.apereo.cas.config.CasEventsInfluxDbRepositoryConfiguration;
 import org.apereo.cas.influxdb.InfluxDbConnectionFactory;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +19,12 @@ import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguratio
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link InfluxDbCasEventRepositoryTests}.
  *
@@ -45,4 +54,23 @@ class InfluxDbCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
     public void setup() {
         influxDbEventsConnectionFactory.deleteAll();
     }
+
+    @Test
+    void verifyPrincipalIsMatchedIgnoringCase() throws Throwable {
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        val event = new CasEvent()
+            .setPrincipalId("CASUSER")
+            .setType("Login")
+            .setCreationTime(now.toString())
+            .putTimestamp(now.toInstant().toEpochMilli())
+            .putEventId(UUID.randomUUID().toString())
+            .putClientIpAddress("1.2.3.4")
+            .putServerIpAddress("1.2.3.4")
+            .putGeoLocation(new GeoLocationRequest(1234, 1234));
+        eventRepository.save(event);
+        assertEquals(1, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(1, eventRepository.getEventsOfTypeForPrincipal("Login", "CasUser").count());
+        assertEquals(1, eventRepository.getEventsForPrincipal("casuser", now.minusDays(1)).count());
+        assertEquals(0, eventRepository.getEventsOfTypeForPrincipal("Logout", "casuser").count());
+    }
 }
@@ -11,6 +11,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.io.Serial;
 
@@ -23,7 +24,11 @@ import java.io.Serial;
 @Getter
 @Entity
 @Setter
-@Table(name = "CasEvent")
+@Table(name = "CasEvent", indexes = {
+    @Index(name = "IDX_CAS_EVENT_PRINCIPAL", columnList = "principalId, type, creationTime"),
+    @Index(name = "IDX_CAS_EVENT_TYPE", columnList = "type, creationTime"),
+    @Index(name = "IDX_CAS_EVENT_CREATION_TIME", columnList = "creationTime")
+})
 @Accessors(chain = true)
 public class JpaCasEvent extends CasEvent {
     @Serial
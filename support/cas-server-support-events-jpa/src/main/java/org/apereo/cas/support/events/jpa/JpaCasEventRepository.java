@@ -78,6 +78,18 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
             .map(JpaCasEvent.class::cast);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Stream<? extends CasEvent> load(final long offset, final long count) {
+        val query = entityManager.createQuery(SELECT_QUERY.concat("order by r.creationTime desc"), JpaCasEvent.class)
+            .setFirstResult((int) offset)
+            .setMaxResults((int) count);
+        query.setLockMode(LockModeType.NONE);
+        return jpaBeanFactory
+            .streamQuery(query)
+            .map(JpaCasEvent.class::cast);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
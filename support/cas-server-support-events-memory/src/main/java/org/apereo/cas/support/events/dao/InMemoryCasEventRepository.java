@@ -2,24 +2,68 @@ package org.apereo.cas.support.events.dao;
 
 import org.apereo.cas.support.events.CasEventRepositoryFilter;
 
-import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.val;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 /**
- * This is {@link InMemoryCasEventRepository}.
+ * This is {@link InMemoryCasEventRepository}. Events are indexed by principal and by type,
+ * so that lookups do not need to go through all stored events. Indexes only hold cache keys;
+ * keys whose events have expired or have been evicted from the cache are dropped from the indexes
+ * by the eviction listener of the cache, so the indexes never outgrow the cache itself.
  *
  * @author Misagh Moayyed
  * @since 5.1.0
  */
 public class InMemoryCasEventRepository extends AbstractCasEventRepository {
-    private final LoadingCache<String, CasEvent> cache;
+    private final Cache<String, CasEvent> cache;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Map<String, Set<String>> principalIndex = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.PACKAGE)
+    private final Map<String, Set<String>> typeIndex = new ConcurrentHashMap<>();
 
     public InMemoryCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
-                                      final LoadingCache<String, CasEvent> cache) {
+                                      final Caffeine<Object, Object> cacheBuilder) {
         super(eventRepositoryFilter);
-        this.cache = cache;
+        this.cache = cacheBuilder
+            .evictionListener((final String key, final CasEvent event, final RemovalCause cause) -> unindex(key, event))
+            .build();
+    }
+
+    private static void index(final Map<String, Set<String>> index, final String value, final String key) {
+        if (value != null) {
+            index.compute(value, (k, keys) -> {
+                val indexed = keys == null ? ConcurrentHashMap.<String>newKeySet() : keys;
+                indexed.add(key);
+                return indexed;
+            });
+        }
+    }
+
+    private static void unindex(final Map<String, Set<String>> index, final String value, final String key) {
+        if (value != null) {
+            index.computeIfPresent(value, (k, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String toPrincipalIndexKey(final String principal) {
+        return principal == null ? null : principal.toLowerCase(Locale.ENGLISH);
     }
 
     @Override
@@ -29,16 +73,25 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        return cache
-            .asMap()
-            .values()
-            .stream()
-            .filter(e -> e.getPrincipalId().equalsIgnoreCase(id));
+        return findIndexedEvents(principalIndex, toPrincipalIndexKey(id));
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return findIndexedEvents(typeIndex, type);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return getEventsForPrincipal(principal).filter(event -> Objects.equals(event.getType(), type));
     }
 
     @Override
     public CasEvent saveInternal(final CasEvent event) {
-        cache.put(UUID.randomUUID().toString(), event);
+        val key = UUID.randomUUID().toString();
+        index(principalIndex, toPrincipalIndexKey(event.getPrincipalId()), key);
+        index(typeIndex, event.getType(), key);
+        cache.put(key, event);
         return event;
     }
 
@@ -46,5 +99,26 @@ public class InMemoryCasEventRepository extends AbstractCasEventRepository {
     public void removeAll() {
         cache.invalidateAll();
         cache.cleanUp();
+        principalIndex.clear();
+        typeIndex.clear();
+    }
+
+    private void unindex(final String key, final CasEvent event) {
+        if (key != null && event != null) {
+            unindex(principalIndex, toPrincipalIndexKey(event.getPrincipalId()), key);
+            unindex(typeIndex, event.getType(), key);
+        }
+    }
+
+    private Stream<? extends CasEvent> findIndexedEvents(final Map<String, Set<String>> index, final String value) {
+        val keys = value == null ? null : index.get(value);
+        if (keys == null) {
+            return Stream.empty();
+        }
+        return keys.stream()
+            .map(cache::getIfPresent)
+            .filter(Objects::nonNull)
+            .toList()
+            .stream();
     }
 }
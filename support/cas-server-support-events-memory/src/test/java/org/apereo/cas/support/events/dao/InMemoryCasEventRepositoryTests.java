@@ -3,8 +3,13 @@ package org.apereo.cas.support.events.dao;
 import org.apereo.cas.config.CasEventsInMemoryRepositoryConfiguration;
 import org.apereo.cas.support.events.AbstractCasEventRepositoryTests;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.Getter;
+import lombok.val;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +18,11 @@ import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguratio
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link InMemoryCasEventRepositoryTests}.
  *
@@ -31,4 +41,50 @@ class InMemoryCasEventRepositoryTests extends AbstractCasEventRepositoryTests {
     @Autowired
     @Qualifier(CasEventRepository.BEAN_NAME)
     private CasEventRepository eventRepository;
+
+    private static CasEvent createEvent(final String principal, final String type, final ZonedDateTime creationTime) {
+        return new CasEvent()
+            .setPrincipalId(principal)
+            .setType(type)
+            .setCreationTime(creationTime.toString())
+            .putTimestamp(creationTime.toInstant().toEpochMilli());
+    }
+
+    @Test
+    void verifyIndexedQueries() throws Throwable {
+        eventRepository.removeAll();
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        eventRepository.save(createEvent("casuser", "Login", now.minusDays(2)));
+        eventRepository.save(createEvent("CASUSER", "Login", now));
+        eventRepository.save(createEvent("casuser", "Logout", now));
+        eventRepository.save(createEvent("another", "Login", now));
+
+        assertEquals(3, eventRepository.getEventsForPrincipal("casuser").count());
+        assertEquals(2, eventRepository.getEventsOfTypeForPrincipal("Login", "casuser").count());
+        assertEquals(1, eventRepository.getEventsOfTypeForPrincipal("Login", "casuser", now.minusDays(1)).count());
+        assertEquals(3, eventRepository.getEventsOfType("Login").count());
+        assertEquals(2, eventRepository.getEventsOfType("Login", now.minusDays(1)).count());
+        assertEquals(0, eventRepository.getEventsForPrincipal("unknown").count());
+        assertEquals(0, eventRepository.getEventsOfType("Unknown").count());
+
+        val page = eventRepository.load(3, 10).toList();
+        assertEquals(1, page.size());
+        assertEquals(now.minusDays(2).toString(), page.getFirst().getCreationTime());
+
+        eventRepository.removeAll();
+        assertEquals(0, eventRepository.getEventsForPrincipal("casuser").count());
+    }
+
+    @Test
+    void verifyEvictedEventsAreRemovedFromIndexes() throws Throwable {
+        val repository = new InMemoryCasEventRepository(CasEventRepositoryFilter.noOp(),
+            Caffeine.newBuilder().maximumSize(1).executor(Runnable::run));
+        val now = ZonedDateTime.now(ZoneOffset.UTC);
+        for (var i = 0; i < 10; i++) {
+            repository.save(createEvent("casuser" + i, "Login" + i, now));
+        }
+        assertEquals(1, repository.load().count());
+        assertEquals(1, repository.getPrincipalIndex().size());
+        assertEquals(1, repository.getTypeIndex().size());
+    }
 }
@@ -48,6 +48,8 @@ public class MongoDbEventsConfiguration {
         val factory = new MongoDbConnectionFactory(casSslContext.getSslContext());
         val mongoTemplate = factory.buildMongoTemplate(mongo);
         MongoDbConnectionFactory.createCollection(mongoTemplate, mongo.getCollection(), mongo.isDropCollection());
+        val collection = mongoTemplate.getCollection(mongo.getCollection());
+        MongoDbConnectionFactory.createOrUpdateIndexes(mongoTemplate, collection, MongoDbCasEventRepository.getIndexes());
         return mongoTemplate;
     }
 
@@ -6,11 +6,15 @@ import org.apereo.cas.support.events.dao.CasEvent;
 
 import lombok.ToString;
 import lombok.val;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -34,6 +38,21 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         this.collectionName = collectionName;
     }
 
+    /**
+     * Indexes that back the queries issued by this repository.
+     *
+     * @return the indexes
+     */
+    public static List<? extends IndexDefinition> getIndexes() {
+        return List.of(
+            new Index().on(PRINCIPAL_ID_PARAM, Sort.Direction.ASC)
+                .on(TYPE_PARAM, Sort.Direction.ASC)
+                .on(CREATION_TIME_PARAM, Sort.Direction.DESC),
+            new Index().on(TYPE_PARAM, Sort.Direction.ASC)
+                .on(CREATION_TIME_PARAM, Sort.Direction.DESC),
+            new Index().on(CREATION_TIME_PARAM, Sort.Direction.DESC));
+    }
+
     @Override
     public void removeAll() {
         mongoTemplate.remove(new Query(), CasEvent.class, this.collectionName);
@@ -51,6 +70,15 @@ public class MongoDbCasEventRepository extends AbstractCasEventRepository {
         return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
     }
 
+    @Override
+    public Stream<? extends CasEvent> load(final long offset, final long count) {
+        val query = new Query()
+            .with(Sort.by(Sort.Direction.DESC, CREATION_TIME_PARAM))
+            .skip(offset)
+            .limit((int) count);
+        return this.mongoTemplate.stream(query, CasEvent.class, this.collectionName);
+    }
+
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
         val query = new Query();
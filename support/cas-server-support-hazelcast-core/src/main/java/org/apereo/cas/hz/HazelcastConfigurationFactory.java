@@ -2,6 +2,7 @@ package org.apereo.cas.hz;
 
 import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastClusterProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastNearCacheProperties;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
@@ -20,6 +21,7 @@ import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.MergePolicyConfig;
 import com.hazelcast.config.MulticastConfig;
 import com.hazelcast.config.NamedConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.config.PartitionGroupConfig;
 import com.hazelcast.config.ReplicatedMapConfig;
@@ -335,4 +337,27 @@ public class HazelcastConfigurationFactory {
             .setAsyncBackupCount(cluster.getCore().getAsyncBackupCount())
             .setEvictionConfig(evictionConfig);
     }
+
+    /**
+     * Build near cache config.
+     *
+     * @param nearCache the near cache properties
+     * @param mapName   the map name
+     * @return the near cache config
+     */
+    public static NearCacheConfig buildNearCacheConfig(final HazelcastNearCacheProperties nearCache, final String mapName) {
+        val evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.valueOf(nearCache.getEvictionPolicy().trim().toUpperCase(Locale.ENGLISH)))
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        val nearCacheConfig = new NearCacheConfig(mapName)
+            .setInMemoryFormat(InMemoryFormat.valueOf(nearCache.getInMemoryFormat().trim().toUpperCase(Locale.ENGLISH)))
+            .setInvalidateOnChange(nearCache.isInvalidateOnChange())
+            .setCacheLocalEntries(nearCache.isCacheLocalEntries())
+            .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+            .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+            .setEvictionConfig(evictionConfig);
+        LOGGER.trace("Created Hazelcast near cache configuration [{}] for map [{}]", nearCacheConfig, mapName);
+        return nearCacheConfig;
+    }
 }
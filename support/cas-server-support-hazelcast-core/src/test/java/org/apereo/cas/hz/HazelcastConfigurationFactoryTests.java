@@ -1,8 +1,11 @@
 package org.apereo.cas.hz;
 
 import org.apereo.cas.configuration.model.support.hazelcast.BaseHazelcastProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastNearCacheProperties;
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastWANReplicationTargetClusterProperties;
 
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -30,6 +33,23 @@ class HazelcastConfigurationFactoryTests {
         assertNotNull(HazelcastConfigurationFactory.build(hz, mapConfig));
     }
 
+    @Test
+    void verifyNearCacheConfig() throws Throwable {
+        val nearCache = new HazelcastNearCacheProperties()
+            .setEvictionPolicy("lfu")
+            .setInMemoryFormat("binary")
+            .setMaxSize(100)
+            .setMaxIdleSeconds(30);
+        val config = HazelcastConfigurationFactory.buildNearCacheConfig(nearCache, "mapName");
+        assertEquals("mapName", config.getName());
+        assertEquals(InMemoryFormat.BINARY, config.getInMemoryFormat());
+        assertEquals(EvictionPolicy.LFU, config.getEvictionConfig().getEvictionPolicy());
+        assertEquals(100, config.getEvictionConfig().getSize());
+        assertEquals(30, config.getMaxIdleSeconds());
+        assertTrue(config.isInvalidateOnChange());
+        assertTrue(config.isCacheLocalEntries());
+    }
+
     @Test
     void verifyMergePolicy() throws Throwable {
         val policies = new String[]{"discard", "pass_through", "expiration_time", "higher_hits",
@@ -3,15 +3,18 @@ package org.apereo.cas.config;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.monitor.HazelcastHealthIndicator;
+import org.apereo.cas.monitor.HazelcastTicketRegistryMetrics;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.val;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.annotation.Bean;
@@ -40,6 +43,14 @@ public class HazelcastMonitorConfiguration {
             warn.getThreshold(), casTicketRegistryHazelcastInstance);
     }
 
+    @Bean
+    @ConditionalOnMissingBean(name = "hazelcastTicketRegistryMetrics")
+    public MeterBinder hazelcastTicketRegistryMetrics(
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        final HazelcastInstance casTicketRegistryHazelcastInstance) {
+        return new HazelcastTicketRegistryMetrics(casTicketRegistryHazelcastInstance);
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     public DisposableBean hazelcastMonitorDisposableBean(
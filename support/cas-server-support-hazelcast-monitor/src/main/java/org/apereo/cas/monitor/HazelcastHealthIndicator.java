@@ -122,6 +122,7 @@ public class HazelcastHealthIndicator extends AbstractCacheHealthIndicator {
                 .append(", Heap cost: ")
                 .append(localMapStats.getHeapCost());
             if (localMapStats.getNearCacheStats() != null) {
+                builder.append(", Near cache hits: ").append(localMapStats.getNearCacheStats().getHits());
                 builder.append(", Misses: ").append(localMapStats.getNearCacheStats().getMisses());
             }
             return builder.toString();
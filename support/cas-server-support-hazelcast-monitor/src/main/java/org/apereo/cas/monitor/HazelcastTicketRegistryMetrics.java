@@ -0,0 +1,55 @@
+package org.apereo.cas.monitor;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.HazelcastCacheMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * This is {@link HazelcastTicketRegistryMetrics}. It reports statistics of the ticket maps
+ * held by the ticket registry's Hazelcast instance, such as hit and miss counts, the latency
+ * of get, put and remove operations and, for maps fronted by a near cache, near cache hits,
+ * misses and the resulting hit ratio.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class HazelcastTicketRegistryMetrics implements MeterBinder {
+    /**
+     * Near cache hit ratio meter name.
+     */
+    public static final String NEAR_CACHE_HIT_RATIO = "cas.hazelcast.near.cache.hit.ratio";
+
+    private final HazelcastInstance hazelcastInstance;
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        hazelcastInstance.getConfig().getMapConfigs().forEach((name, mapConfig) -> {
+            val map = hazelcastInstance.getMap(name);
+            LOGGER.debug("Binding metrics for Hazelcast map [{}]", name);
+            HazelcastCacheMetrics.monitor(registry, map);
+            if (mapConfig.getNearCacheConfig() != null) {
+                Gauge.builder(NEAR_CACHE_HIT_RATIO, map, HazelcastTicketRegistryMetrics::getNearCacheHitRatio)
+                    .tag("cache", name)
+                    .description("Ratio of reads served by the near cache of the map")
+                    .register(registry);
+            }
+        });
+    }
+
+    private static double getNearCacheHitRatio(final IMap<?, ?> map) {
+        val nearCacheStats = map.getLocalMapStats().getNearCacheStats();
+        if (nearCacheStats == null) {
+            return 0;
+        }
+        val requests = nearCacheStats.getHits() + nearCacheStats.getMisses();
+        return requests == 0 ? 0 : (double) nearCacheStats.getHits() / requests;
+    }
+}
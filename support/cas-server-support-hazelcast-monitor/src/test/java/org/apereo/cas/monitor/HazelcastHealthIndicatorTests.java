@@ -26,6 +26,8 @@ import org.apereo.cas.config.HazelcastMonitorConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
 import com.hazelcast.internal.memory.MemoryStats;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -78,13 +80,20 @@ import static org.mockito.Mockito.*;
     CasCoreWebConfiguration.class,
     CasWebApplicationServiceFactoryConfiguration.class
 },
-    properties = "cas.ticket.registry.hazelcast.cluster.instance-name=testlocalmonitor")
+    properties = {
+        "cas.ticket.registry.hazelcast.cluster.instance-name=testlocalmonitor",
+        "cas.ticket.registry.hazelcast.near-cache.enabled=true"
+    })
 @Tag("Hazelcast")
 class HazelcastHealthIndicatorTests {
     @Autowired
     @Qualifier("hazelcastHealthIndicator")
     private HealthIndicator hazelcastHealthIndicator;
 
+    @Autowired
+    @Qualifier("hazelcastTicketRegistryMetrics")
+    private MeterBinder hazelcastTicketRegistryMetrics;
+
     @Test
     void verifyMonitor() throws Throwable {
         val health = hazelcastHealthIndicator.health();
@@ -107,6 +116,16 @@ class HazelcastHealthIndicatorTests {
         assertNotNull(hazelcastHealthIndicator.toString());
     }
 
+    @Test
+    void verifyMetrics() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        hazelcastTicketRegistryMetrics.bindTo(meterRegistry);
+        assertFalse(meterRegistry.find("cache.gets.latency").functionTimers().isEmpty());
+        val hitRatios = meterRegistry.find(HazelcastTicketRegistryMetrics.NEAR_CACHE_HIT_RATIO).gauges();
+        assertFalse(hitRatios.isEmpty());
+        hitRatios.forEach(gauge -> assertTrue(gauge.value() >= 0 && gauge.value() <= 1));
+    }
+
     @Test
     void verifyFreeHeapPercentageCalculation() throws Throwable {
         val memoryStats = mock(MemoryStats.class);
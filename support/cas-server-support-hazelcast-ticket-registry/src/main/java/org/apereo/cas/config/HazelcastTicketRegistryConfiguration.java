@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryProperties;
 import org.apereo.cas.hz.HazelcastConfigurationFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
@@ -16,9 +17,11 @@ import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import com.hazelcast.config.AttributeConfig;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
 import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.instance.impl.HazelcastInstanceFactory;
 import lombok.extern.slf4j.Slf4j;
@@ -94,6 +97,10 @@ public class HazelcastTicketRegistryConfiguration {
                     attributeConfig.setName("attributes");
                     attributeConfig.setExtractorClassName(MapAttributeValueExtractor.class.getName());
                     mapConfig.addAttributeConfig(attributeConfig);
+
+                    if (hz.getNearCache().isEnabled() && hz.getNearCache().getTicketPrefixes().contains(defn.getPrefix())) {
+                        mapConfig.setNearCacheConfig(buildNearCacheConfig(hz, props.getStorageName()));
+                    }
                 }
                 return cfg;
             })
@@ -111,6 +118,17 @@ public class HazelcastTicketRegistryConfiguration {
         return hazelcastInstance;
     }
 
+    private static NearCacheConfig buildNearCacheConfig(final HazelcastTicketRegistryProperties hz, final String mapName) {
+        val nearCacheConfig = HazelcastConfigurationFactory.buildNearCacheConfig(hz.getNearCache(), mapName);
+        if (nearCacheConfig.getInMemoryFormat() == InMemoryFormat.OBJECT && !hz.getCrypto().isEnabled()) {
+            LOGGER.info("Near cache for [{}] keeps entries in binary format; deserialized tickets would be shared "
+                        + "across requests unless ticket registry encryption is turned on", mapName);
+            nearCacheConfig.setInMemoryFormat(InMemoryFormat.BINARY);
+        }
+        LOGGER.debug("Configuring near cache for Hazelcast map [{}]", mapName);
+        return nearCacheConfig;
+    }
+
     private static String buildCreateMappingQuery(final TicketDefinition defn) {
         val builder = new StringBuilder(String.format("CREATE MAPPING IF NOT EXISTS \"%s\" ", defn.getProperties().getStorageName()));
         builder.append("TYPE IMap ");
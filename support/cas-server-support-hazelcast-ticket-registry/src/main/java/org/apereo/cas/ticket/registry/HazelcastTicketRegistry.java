@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryProperties;
 import org.apereo.cas.monitor.Monitorable;
+import org.apereo.cas.ticket.ServiceTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketDefinition;
@@ -9,6 +10,7 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.http.HttpRequestUtils;
 
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
@@ -22,8 +24,11 @@ import org.springframework.beans.factory.DisposableBean;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +41,8 @@ import java.util.stream.StreamSupport;
  * which is an extension of the standard Java's {@code ConcurrentMap}.</p>
  * <p>The heavy lifting of distributed data partitioning, network cluster discovery and
  * join, data replication, etc. is done by Hazelcast's Map implementation.</p>
+ * <p>Ticket maps may be fronted by a near cache, and tickets may be remembered for the duration
+ * of the current HTTP request so that webflow actions looking up the same ticket do not fetch it repeatedly.</p>
  *
  * @author Dmitriy Kopylenko
  * @author Jonathan Johnson
@@ -44,6 +51,8 @@ import java.util.stream.StreamSupport;
 @Slf4j
 @Monitorable
 public class HazelcastTicketRegistry extends AbstractTicketRegistry implements AutoCloseable, DisposableBean {
+    private static final String REQUEST_ATTRIBUTE_TICKETS = HazelcastTicketRegistry.class.getName() + ".tickets";
+
     private final HazelcastInstance hazelcastInstance;
 
     private final HazelcastTicketRegistryProperties properties;
@@ -84,13 +93,14 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             val holder = HazelcastTicketHolder.builder()
                 .id(encTicket.getId())
                 .type(metadata.getImplementationClass().getName())
-                .principal(digestIdentifier(getPrincipalIdFrom(ticket)))
+                .principal(digestPrincipalId(getPrincipalIdFrom(ticket)))
                 .timeToLive(ttl)
                 .ticket(encTicket)
                 .prefix(metadata.getPrefix())
                 .attributes(collectAndDigestTicketAttributes(ticket))
                 .build();
             ticketMap.set(encTicket.getId(), holder, ttl, TimeUnit.SECONDS);
+            getRequestTickets().ifPresent(tickets -> tickets.put(encTicket.getId(), holder));
             LOGGER.debug("Added ticket [{}] with ttl [{}s]", encTicket.getId(), ttl);
         } else {
             LOGGER.warn("Unable to locate ticket map for ticket metadata [{}]", metadata);
@@ -107,7 +117,9 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         if (metadata != null) {
             val map = getTicketMapInstanceByMetadata(metadata);
             if (map != null) {
-                val ticketHolder = map.get(encTicketId);
+                val ticketHolder = getRequestTickets()
+                    .map(tickets -> tickets.computeIfAbsent(encTicketId, map::get))
+                    .orElseGet(() -> map.get(encTicketId));
                 if (ticketHolder != null && ticketHolder.getTicket() != null) {
                     val result = decodeTicket(ticketHolder.getTicket());
                     if (predicate != null && predicate.test(result)) {
@@ -128,11 +140,13 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         val encTicketId = digestIdentifier(ticketToDelete.getId());
         val metadata = ticketCatalog.find(ticketToDelete);
         val map = getTicketMapInstanceByMetadata(metadata);
+        getRequestTickets().ifPresent(tickets -> tickets.remove(encTicketId));
         return map != null && map.remove(encTicketId) != null ? 1 : 0;
     }
 
     @Override
     public long deleteAll() {
+        getRequestTickets().ifPresent(Map::clear);
         return ticketCatalog.findAll()
             .stream()
             .map(this::getTicketMapInstanceByMetadata)
@@ -172,11 +186,27 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
             val sql = String.format("SELECT COUNT(*) FROM %s WHERE principal=?", md.getProperties().getStorageName());
             LOGGER.debug("Executing SQL query [{}]", sql);
-            try (val results = hazelcastInstance.getSql().execute(sql, digestIdentifier(principalId))) {
+            try (val results = hazelcastInstance.getSql().execute(sql, digestPrincipalId(principalId))) {
                 return results.iterator().next().getObject(0);
             }
         }
-        return super.countSessionsFor(principalId);
+        val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX));
+        return ticketMap.values(Predicates.equal("principal", digestPrincipalId(principalId)))
+            .stream()
+            .map(holder -> decodeTicket(holder.getTicket()))
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired())
+            .count();
+    }
+
+    @Override
+    public long sessionCount() {
+        return getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX)).size();
+    }
+
+    @Override
+    public long serviceTicketCount() {
+        return getTicketMapInstanceByMetadata(ticketCatalog.find(ServiceTicket.PREFIX)).size();
     }
 
     @Override
@@ -211,18 +241,40 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
             val md = ticketCatalog.find(TicketGrantingTicket.PREFIX);
             val sql = String.format("SELECT * FROM %s WHERE principal=?", md.getProperties().getStorageName());
             LOGGER.debug("Executing SQL query [{}]", sql);
-            try (val results = hazelcastInstance.getSql().execute(sql, digestIdentifier(principalId))) {
+            try (val results = hazelcastInstance.getSql().execute(sql, digestPrincipalId(principalId))) {
                 return StreamSupport.stream(results.spliterator(), false)
                     .map(row -> {
                         val ticket = (Ticket) row.getObject("ticket");
                         return decodeTicket(ticket);
                     })
-                    .filter(ticket -> !ticket.isExpired())
+                    .filter(ticket -> !ticket.isExpired() && isOwnedBy(ticket, principalId))
                     .toList()
                     .stream();
             }
         }
-        return super.getSessionsFor(principalId);
+        val ticketMap = getTicketMapInstanceByMetadata(ticketCatalog.find(TicketGrantingTicket.PREFIX));
+        return ticketMap.values(Predicates.equal("principal", digestPrincipalId(principalId)))
+            .stream()
+            .map(holder -> decodeTicket(holder.getTicket()))
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired() && isOwnedBy(ticket, principalId));
+    }
+
+    /**
+     * Principal ids are lower-cased before they are digested and stored,
+     * so that sessions can be looked up by principal in a case-insensitive manner
+     * using the indexed {@code principal} attribute.
+     *
+     * @param principalId the principal id
+     * @return the digested principal id
+     */
+    private String digestPrincipalId(final String principalId) {
+        return digestIdentifier(StringUtils.lowerCase(principalId, Locale.ENGLISH));
+    }
+
+    private static boolean isOwnedBy(final Ticket ticket, final String principalId) {
+        return ticket instanceof final TicketGrantingTicket tgt
+            && tgt.getAuthentication().getPrincipal().getId().equals(principalId);
     }
 
     /**
@@ -245,6 +297,22 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         shutdown();
     }
 
+    @SuppressWarnings("unchecked")
+    private Optional<Map<String, HazelcastTicketHolder>> getRequestTickets() {
+        if (!properties.isMemoizeRequests()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(HttpRequestUtils.getHttpServletRequestFromRequestAttributes())
+            .map(request -> {
+                var tickets = (Map<String, HazelcastTicketHolder>) request.getAttribute(REQUEST_ATTRIBUTE_TICKETS);
+                if (tickets == null) {
+                    tickets = new ConcurrentHashMap<>();
+                    request.setAttribute(REQUEST_ATTRIBUTE_TICKETS, tickets);
+                }
+                return tickets;
+            });
+    }
+
     private IMap<String, HazelcastTicketHolder> getTicketMapInstanceByMetadata(final TicketDefinition metadata) {
         val mapName = metadata.getProperties().getStorageName();
         LOGGER.debug("Locating map name [{}] for ticket definition [{}]", mapName, metadata);
@@ -3,6 +3,7 @@ package org.apereo.cas.ticket.registry;
 import org.apereo.cas.config.HazelcastTicketRegistryConfiguration;
 import org.apereo.cas.config.HazelcastTicketRegistryTicketCatalogConfiguration;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.model.support.hazelcast.HazelcastTicketRegistryProperties;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
 import org.apereo.cas.ticket.DefaultTicketDefinition;
 import org.apereo.cas.ticket.Ticket;
@@ -20,7 +21,11 @@ import org.junit.jupiter.api.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -54,6 +59,63 @@ class HazelcastTicketRegistryTests {
     }
 
 
+    @Nested
+    @Getter
+    @Import({
+        HazelcastTicketRegistryConfiguration.class,
+        HazelcastTicketRegistryTicketCatalogConfiguration.class,
+        BaseTicketRegistryTests.SharedTestConfiguration.class
+    })
+    @TestPropertySource(
+        properties = {
+            "cas.ticket.registry.hazelcast.core.enable-jet=false",
+            "cas.ticket.registry.hazelcast.memoize-requests=true",
+            "cas.ticket.registry.hazelcast.near-cache.enabled=true",
+            "cas.ticket.registry.hazelcast.cluster.network.port-auto-increment=false",
+            "cas.ticket.registry.hazelcast.cluster.network.port=5711",
+            "cas.ticket.registry.hazelcast.cluster.core.instance-name=testnearcacheinstance"
+        })
+    class NearCacheTests extends BaseTicketRegistryTests {
+        @Autowired
+        @Qualifier(TicketRegistry.BEAN_NAME)
+        private TicketRegistry newTicketRegistry;
+
+        @Autowired
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        private HazelcastInstance casTicketRegistryHazelcastInstance;
+
+        @RepeatedTest(1)
+        void verifyNearCacheConfigured() {
+            val storageName = ticketCatalog.find(TicketGrantingTicket.PREFIX).getProperties().getStorageName();
+            val mapConfig = casTicketRegistryHazelcastInstance.getConfig().getMapConfig(storageName);
+            assertNotNull(mapConfig.getNearCacheConfig());
+        }
+
+        @RepeatedTest(1)
+        void verifyTicketsMemoizedPerRequest() throws Throwable {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+            try {
+                val ticket = new MockTicketGrantingTicket("casuser");
+                val instance = mock(HazelcastInstance.class);
+                val map = mock(IMap.class);
+                when(instance.getMap(anyString())).thenReturn(map);
+                when(map.get(ticket.getId())).thenReturn(HazelcastTicketHolder.builder().id(ticket.getId()).ticket(ticket).build());
+                val properties = new HazelcastTicketRegistryProperties().setMemoizeRequests(true);
+                try (val registry = new HazelcastTicketRegistry(CipherExecutor.noOp(), ticketSerializationManager,
+                    ticketCatalog, instance, properties)) {
+                    assertNotNull(registry.getTicket(ticket.getId()));
+                    assertNotNull(registry.getTicket(ticket.getId()));
+                    verify(map, times(1)).get(ticket.getId());
+                    registry.deleteSingleTicket(ticket);
+                    assertNotNull(registry.getTicket(ticket.getId()));
+                    verify(map, times(2)).get(ticket.getId());
+                }
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        }
+    }
+
     @Nested
     @Getter
     @Import({
@@ -18,6 +18,7 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link InfluxDbConnectionFactory}.
@@ -55,6 +56,10 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
         this.influxDbProperties = props;
     }
 
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
     /**
      * Write measurement point.
      *
@@ -99,8 +104,32 @@ public class InfluxDbConnectionFactory implements AutoCloseable {
      * @return the query result
      */
     public <T extends Serializable> List<T> query(final Class<T> clazz) {
-        val query = String.format("from(bucket:\"%s\") |> range(start: 0)", influxDbProperties.getDatabase());
-        return influxDb.getQueryApi().query(query, influxDbProperties.getOrganization(), clazz);
+        return query(clazz, null, Map.of());
+    }
+
+    /**
+     * Query records written since the given instant whose columns match the given values.
+     *
+     * @param <T>     the type parameter
+     * @param clazz   the clazz
+     * @param start   the earliest write time of the records, or null for all records
+     * @param columns the column values to match
+     * @return the query result
+     */
+    public <T extends Serializable> List<T> query(final Class<T> clazz, final Instant start,
+                                                  final Map<String, String> columns) {
+        val range = start == null ? "0" : start.toString();
+        val query = new StringBuilder(String.format("from(bucket:\"%s\") |> range(start: %s)",
+            influxDbProperties.getDatabase(), range));
+        if (!columns.isEmpty()) {
+            val predicate = columns.entrySet()
+                .stream()
+                .map(entry -> String.format("r[\"%s\"] == \"%s\"", escape(entry.getKey()), escape(entry.getValue())))
+                .collect(Collectors.joining(" and "));
+            query.append(String.format(" |> filter(fn: (r) => %s)", predicate));
+        }
+        LOGGER.trace("Executing query [{}]", query);
+        return influxDb.getQueryApi().query(query.toString(), influxDbProperties.getOrganization(), clazz);
     }
 
     @Override
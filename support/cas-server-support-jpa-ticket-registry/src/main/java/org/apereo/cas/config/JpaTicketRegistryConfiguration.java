@@ -21,6 +21,7 @@ import org.apereo.cas.util.spring.beans.BeanContainer;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.FactoryBean;
@@ -40,6 +41,7 @@ import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.integration.transaction.PseudoTransactionManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionOperations;
@@ -47,6 +49,8 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import jakarta.persistence.EntityManagerFactory;
 
+import java.util.Set;
+
 /**
  * This this {@link JpaTicketRegistryConfiguration}.
  *
@@ -56,9 +60,12 @@ import jakarta.persistence.EntityManagerFactory;
 @EnableConfigurationProperties(CasConfigurationProperties.class)
 @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistry, module = "jpa")
 @AutoConfiguration
+@Slf4j
 public class JpaTicketRegistryConfiguration {
     private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.jpa.enabled").isTrue().evenIfMissing();
 
+    private static final Set<String> MANAGED_SCHEMA_DDL_MODES = Set.of("create", "create-drop", "update");
+
     @Configuration(value = "JpaTicketRegistryDataConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class JpaTicketRegistryDataConfiguration {
@@ -125,6 +132,40 @@ public class JpaTicketRegistryConfiguration {
         }
     }
 
+    @Configuration(value = "JpaTicketRegistryIndexConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class JpaTicketRegistryIndexConfiguration {
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public InitializingBean jpaTicketRegistryAttributeIndexInitializer(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier("ticketEntityManagerFactory")
+            final EntityManagerFactory ticketEntityManagerFactory,
+            @Qualifier("dataSourceTicket")
+            final CloseableDataSource dataSourceTicket) {
+            return BeanSupplier.of(InitializingBean.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .supply(() -> () -> {
+                    val jpa = casProperties.getTicket().getRegistry().getJpa();
+                    if (jpa.isCreateAttributeIndexes() && MANAGED_SCHEMA_DDL_MODES.contains(jpa.getDdlAuto())) {
+                        val jdbcTemplate = new JdbcTemplate(dataSourceTicket);
+                        val statements = new JpaTicketEntityFactory(jpa.getDialect()).getAttributeIndexStatements();
+                        for (val statement : statements) {
+                            try {
+                                LOGGER.debug("Creating ticket attributes index via [{}]", statement);
+                                jdbcTemplate.execute(statement);
+                            } catch (final Exception e) {
+                                LOGGER.warn("Unable to create ticket attributes index via [{}]: [{}]", statement, e.getMessage());
+                            }
+                        }
+                    }
+                })
+                .otherwiseProxy()
+                .get();
+        }
+    }
+
     @Configuration(value = "JpaTicketRegistryTransactionConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     public static class JpaTicketRegistryTransactionConfiguration {
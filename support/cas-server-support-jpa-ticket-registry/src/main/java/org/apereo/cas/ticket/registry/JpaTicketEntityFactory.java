@@ -22,6 +22,9 @@ import org.apache.commons.lang3.ObjectUtils;
 import jakarta.persistence.Table;
 import java.time.Clock;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -96,7 +99,19 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
      * @return the registered service
      */
     public Ticket toTicket(final BaseTicketEntity entity) {
-        val ticket = getTicketSerializationManager().deserializeTicket(entity.getBody(), entity.getType());
+        return toTicket(entity, entity.getType());
+    }
+
+    /**
+     * To ticket, deserializing the entity body as the given type
+     * regardless of the ticket type recorded on the entity.
+     *
+     * @param entity the entity
+     * @param type   the type of the serialized body
+     * @return the ticket
+     */
+    public Ticket toTicket(final BaseTicketEntity entity, final String type) {
+        val ticket = getTicketSerializationManager().deserializeTicket(entity.getBody(), type);
         LOGGER.trace("Converted JPA entity [{}] to [{}]", this, ticket);
         return ticket;
     }
@@ -111,6 +126,25 @@ public class JpaTicketEntityFactory extends AbstractJpaEntityFactory<BaseTicketE
         return RelaxedPropertyNames.NameManipulations.CAMELCASE_TO_UNDERSCORE_TITLE_CASE.apply(tableName);
     }
 
+    /**
+     * Gets the statements that create indexes on the ticket attributes column.
+     * JSON indexes that can serve queries on arbitrary attribute names are only
+     * available on PostgreSQL, via a GIN index over the {@code jsonb} representation
+     * of the column; functional indexes on MySQL and Oracle must name a fixed JSON path
+     * and cannot be defined up front for attributes that are not known in advance.
+     *
+     * @return the index statements
+     */
+    public List<String> getAttributeIndexStatements() {
+        val statements = new ArrayList<String>();
+        if (isPostgres()) {
+            val tableName = getTableName().toLowerCase(Locale.ENGLISH);
+            statements.add(String.format("CREATE INDEX IF NOT EXISTS %s_attributes_idx ON %s USING GIN ((attributes::jsonb) jsonb_path_ops)",
+                tableName, tableName));
+        }
+        return statements;
+    }
+
     private Class<? extends BaseTicketEntity> getEntityClass() {
         if (isOracle()) {
             return OracleJpaTicketEntity.class;
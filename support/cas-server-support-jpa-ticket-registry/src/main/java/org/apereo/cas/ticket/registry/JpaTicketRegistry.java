@@ -13,9 +13,11 @@ import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.util.function.FunctionUtils;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 import org.springframework.transaction.support.TransactionOperations;
@@ -25,6 +27,8 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +74,10 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return ((Number) result).longValue();
     }
 
+    private static String quoteAsJson(final String value) {
+        return new String(JsonStringEncoder.getInstance().quoteAsString(value));
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
@@ -88,6 +96,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
             val encodeTicket = encodeTicket(ticket);
             return getJpaTicketEntityFactory()
                 .fromTicket(encodeTicket)
+                .setType(ticket.getClass().getName())
                 .setPrincipalId(digestIdentifier(getPrincipalIdFrom(ticket)))
                 .setAttributes(collectAndDigestTicketAttributes(ticket));
         });
@@ -105,7 +114,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
                     query.setParameter("id", encTicketId);
                     query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
                     val ticket = query.getSingleResult();
-                    val entity = getJpaTicketEntityFactory().toTicket(ticket);
+                    val entity = toTicket(ticket);
                     val result = decodeTicket(entity);
                     return predicate.test(result) ? result : null;
                 }
@@ -132,18 +141,13 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Collection<? extends Ticket> getTickets() {
-        return transactionTemplate.execute(status -> {
-            val factory = getJpaTicketEntityFactory();
-            val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
-            val query = entityManager.createQuery(sql, factory.getType());
-            query.setLockMode(casProperties.getTicket().getRegistry().getJpa().getTicketLockType());
-
-            return query
-                .getResultStream()
-                .map(factory::toTicket)
+        val lockType = casProperties.getTicket().getRegistry().getJpa().getTicketLockType();
+        try (val tickets = streamTicketEntities(null, lockType)) {
+            return tickets
+                .map(this::toTicket)
                 .map(this::decodeTicket)
                 .collect(Collectors.toList());
-        });
+        }
     }
 
     @Override
@@ -165,17 +169,91 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
      */
     @Override
     public Stream<? extends Ticket> stream() {
-        val factory = getJpaTicketEntityFactory();
-        val sql = String.format("SELECT t FROM %s t", factory.getEntityName());
-        val query = entityManager.createQuery(sql, factory.getType());
-        query.setLockMode(LockModeType.NONE);
-        return jpaBeanFactory
-            .streamQuery(query)
-            .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
+        return streamTicketEntities(null, LockModeType.NONE)
+            .map(this::toTicket)
             .map(this::decodeTicket);
     }
 
+    @Override
+    public List<? extends Serializable> query(final TicketRegistryQueryCriteria criteria) {
+        val definition = StringUtils.isNotBlank(criteria.getType()) ? ticketCatalog.find(criteria.getType()) : null;
+        if (StringUtils.isNotBlank(criteria.getType()) && definition == null) {
+            LOGGER.debug("No ticket definition can be found for [{}]", criteria.getType());
+            return new ArrayList<>();
+        }
+        val type = definition == null ? null : definition.getImplementationClass().getName();
+        val pageSize = casProperties.getTicket().getRegistry().getJpa().getPageSize();
+        val count = criteria.getCount() != null ? criteria.getCount().intValue() : pageSize;
+        val entities = fetchTicketEntities(type, criteria.getAfter(), Math.max(count, 0), LockModeType.NONE);
+        return entities
+            .stream()
+            .map(entity -> {
+                if (BooleanUtils.isTrue(criteria.getDecode())) {
+                    val ticket = decodeTicket(toTicket(entity));
+                    val matchesType = definition == null || definition.getApiClass().isInstance(ticket);
+                    return ticket != null && matchesType && !ticket.isExpired() ? ticket : null;
+                }
+                return "%s:%s".formatted(entity.getId(), StringUtils.defaultIfBlank(entity.getPrincipalId(), "N/A"));
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Stream ticket entities, one page at a time. Pages are read using keyset pagination
+     * on the ticket id, each in its own transaction, and no page is read until the previous
+     * page is consumed. This method purposefully does not hold on to a single long-running
+     * query or transaction, because the stream traversing can take an indeterminate amount of time.
+     *
+     * @param type     the ticket type, or null for all tickets
+     * @param lockType the lock type
+     * @return the stream
+     */
+    protected Stream<BaseTicketEntity> streamTicketEntities(final String type, final LockModeType lockType) {
+        val pageSize = Math.max(1, casProperties.getTicket().getRegistry().getJpa().getPageSize());
+        return Stream.iterate(fetchTicketEntities(type, null, pageSize, lockType),
+                page -> !page.isEmpty(),
+                page -> page.size() < pageSize
+                    ? List.of()
+                    : fetchTicketEntities(type, page.getLast().getId(), pageSize, lockType))
+            .flatMap(List::stream);
+    }
+
+    /**
+     * Fetch a page of ticket entities ordered by ticket id.
+     *
+     * @param type       the ticket type, or null for all tickets
+     * @param after      the ticket id after which the page begins, or null for the first page
+     * @param maxResults the max results
+     * @param lockType   the lock type
+     * @return the ticket entities
+     */
+    protected List<BaseTicketEntity> fetchTicketEntities(final String type, final String after,
+                                                         final int maxResults, final LockModeType lockType) {
+        return transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val conditions = new ArrayList<String>();
+            if (StringUtils.isNotBlank(after)) {
+                conditions.add("t.id > :after");
+            }
+            if (StringUtils.isNotBlank(type)) {
+                conditions.add("t.type = :type");
+            }
+            val whereClause = conditions.isEmpty() ? StringUtils.EMPTY : " WHERE " + String.join(" AND ", conditions);
+            val sql = String.format("SELECT t FROM %s t%s ORDER BY t.id", factory.getEntityName(), whereClause);
+            val query = entityManager.createQuery(sql, factory.getType());
+            if (StringUtils.isNotBlank(after)) {
+                query.setParameter("after", after);
+            }
+            if (StringUtils.isNotBlank(type)) {
+                query.setParameter("type", type);
+            }
+            query.setLockMode(lockType);
+            query.setMaxResults(maxResults);
+            return List.copyOf(query.getResultList());
+        });
+    }
+
     @Override
     public long sessionCount() {
         return transactionTemplate.execute(status -> {
@@ -197,7 +275,7 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return jpaBeanFactory
             .streamQuery(query)
             .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
+            .map(this::toTicket)
             .map(this::decodeTicket)
             .filter(ticket -> !ticket.isExpired());
     }
@@ -216,7 +294,9 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
                                 digestIdentifier(entry.getKey()), digestIdentifier(queryValue.toString()));
                         }
                         if (factory.isPostgres()) {
-                            return String.format("(t.attributes->'%s')\\:\\:jsonb \\?\\? '%s'", digestIdentifier(entry.getKey()), digestIdentifier(queryValue.toString()));
+                            val containment = String.format("{\"%s\":[\"%s\"]}",
+                                quoteAsJson(digestIdentifier(entry.getKey())), quoteAsJson(digestIdentifier(queryValue.toString())));
+                            return String.format("(t.attributes\\:\\:jsonb) @> '%s'", containment.replace("'", "''"));
                         }
                         if (factory.isMariaDb()) {
                             val attributeKey = isCipherExecutorEnabled()
@@ -254,15 +334,28 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         val query = entityManager.createNativeQuery(sql, factory.getType());
         return jpaBeanFactory.streamQuery(query)
             .map(BaseTicketEntity.class::cast)
-            .map(factory::toTicket)
+            .map(this::toTicket)
             .map(this::decodeTicket)
             .filter(ticket -> !ticket.isExpired());
     }
 
     protected String getTicketTypeName(final Class<? extends Ticket> clazz) {
+        return ticketCatalog.findTicketDefinition(clazz).orElseThrow().getImplementationClass().getName();
+    }
+
+    /**
+     * Convert the entity back into a ticket. The type column always records
+     * the actual ticket type so queries can filter by it, whereas the body
+     * of an encoded ticket must be deserialized as an encoded ticket.
+     *
+     * @param entity the entity
+     * @return the ticket
+     */
+    protected Ticket toTicket(final BaseTicketEntity entity) {
+        val factory = getJpaTicketEntityFactory();
         return isCipherExecutorEnabled()
-            ? DefaultEncodedTicket.class.getName()
-            : ticketCatalog.findTicketDefinition(clazz).orElseThrow().getImplementationClass().getName();
+            ? factory.toTicket(entity, DefaultEncodedTicket.class.getName())
+            : factory.toTicket(entity);
     }
 
     @Override
@@ -19,6 +19,7 @@ import org.apereo.cas.ticket.DefaultSecurityTokenTicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketFactory;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.code.OAuth20Code;
 import org.apereo.cas.ticket.code.OAuth20CodeFactory;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
 import org.apereo.cas.util.DefaultUniqueTicketIdGenerator;
@@ -108,6 +109,47 @@ public abstract class BaseJpaTicketRegistryTests extends BaseTicketRegistryTests
         assertTrue(time <= 20);
     }
 
+    @RepeatedTest(2)
+    void verifyPagedQueries() throws Throwable {
+        val ticketGrantingTickets = Stream.generate(() -> {
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                .getNewTicketId(TicketGrantingTicket.PREFIX);
+            return new TicketGrantingTicketImpl(tgtId,
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        }).limit(3);
+        newTicketRegistry.addTicket(ticketGrantingTickets);
+
+        val criteria = new TicketRegistryQueryCriteria().setType(TicketGrantingTicket.PREFIX).setCount(2L);
+        val firstPage = newTicketRegistry.query(criteria);
+        assertEquals(2, firstPage.size());
+        val lastTicketId = StringUtils.substringBefore(firstPage.getLast().toString(), ":");
+        val secondPage = newTicketRegistry.query(criteria.withAfter(lastTicketId));
+        assertEquals(1, secondPage.size());
+        assertFalse(firstPage.contains(secondPage.getFirst()));
+        assertEquals(3, newTicketRegistry.query(criteria.withCount(10L).withAfter(null).withDecode(Boolean.TRUE)).size());
+        assertEquals(3, newTicketRegistry.stream().count());
+    }
+
+    @RepeatedTest(2)
+    void verifyQueriesFilteredByType() throws Throwable {
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+        newTicketRegistry.addTicket(tgt);
+        val oAuthCode = oAuthCodeFactory.create(RegisteredServiceTestUtils.getService(),
+            CoreAuthenticationTestUtils.getAuthentication(), tgt, Collections.emptySet(), "challenge", "challenge_method",
+            "client_id", Collections.emptyMap(), OAuth20ResponseTypes.CODE, OAuth20GrantTypes.AUTHORIZATION_CODE);
+        newTicketRegistry.addTicket(oAuthCode);
+
+        val criteria = new TicketRegistryQueryCriteria().setType(TicketGrantingTicket.PREFIX).setCount(10L);
+        assertEquals(1, newTicketRegistry.query(criteria).size());
+        assertEquals(1, newTicketRegistry.query(criteria.withType(OAuth20Code.PREFIX)).size());
+        assertEquals(1, newTicketRegistry.query(criteria.withType(OAuth20Code.PREFIX).withDecode(Boolean.TRUE)).size());
+        assertEquals(2, newTicketRegistry.query(criteria.withType(null)).size());
+        assertEquals(1, newTicketRegistry.sessionCount());
+        assertNotNull(newTicketRegistry.getTicket(oAuthCode.getId(), OAuth20Code.class));
+    }
+
     @RepeatedTest(2)
     void verifySecurityTokenTicket() throws Throwable {
         val securityTokenTicketFactory = new DefaultSecurityTokenTicketFactory(
@@ -12,6 +12,8 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.io.WatcherService;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -50,6 +52,7 @@ public class JsonServiceRegistryConfiguration {
         final CasConfigurationProperties casProperties,
         @Qualifier("registeredServiceReplicationStrategy")
         final RegisteredServiceReplicationStrategy registeredServiceReplicationStrategy,
+        final ObjectProvider<MeterRegistry> meterRegistry,
         final ObjectProvider<List<ServiceRegistryListener>> serviceRegistryListeners) throws Exception {
 
         val registry = casProperties.getServiceRegistry();
@@ -59,6 +62,8 @@ public class JsonServiceRegistryConfiguration {
             registeredServiceReplicationStrategy,
             resourceNamingStrategy,
             Optional.ofNullable(serviceRegistryListeners.getIfAvailable()).orElseGet(ArrayList::new));
+        json.setLoadParallelism(registry.getJson().getLoadParallelism());
+        json.setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         if (registry.getJson().isWatcherEnabled()) {
             json.enableDefaultWatcherService();
         }
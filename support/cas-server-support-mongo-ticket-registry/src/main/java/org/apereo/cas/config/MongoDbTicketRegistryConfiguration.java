@@ -7,6 +7,7 @@ import org.apereo.cas.mongo.MongoDbConnectionFactory;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.registry.MongoDbTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.serialization.TicketSerializationExecutionPlan;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.MongoDbTicketRegistryFacilitator;
@@ -42,7 +43,9 @@ public class MongoDbTicketRegistryConfiguration {
         @Qualifier("mongoDbTicketRegistryTemplate")
         final MongoOperations mongoDbTicketRegistryTemplate,
         @Qualifier(TicketSerializationManager.BEAN_NAME)
-        final TicketSerializationManager ticketSerializationManager) {
+        final TicketSerializationManager ticketSerializationManager,
+        @Qualifier("ticketSerializationExecutionPlan")
+        final TicketSerializationExecutionPlan ticketSerializationExecutionPlan) {
 
         val mongo = casProperties.getTicket().getRegistry().getMongo();
         new MongoDbTicketRegistryFacilitator(ticketCatalog, mongoDbTicketRegistryTemplate,
@@ -50,7 +53,9 @@ public class MongoDbTicketRegistryConfiguration {
             .createTicketCollections();
 
         val cipher = CoreTicketUtils.newTicketRegistryCipherExecutor(mongo.getCrypto(), "mongo");
-        return new MongoDbTicketRegistry(cipher, ticketSerializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
+        val serializationManager = CoreTicketUtils.newTicketSerializationManager(mongo.getSerializationFormat(),
+            ticketSerializationManager, ticketSerializationExecutionPlan);
+        return new MongoDbTicketRegistry(cipher, serializationManager, ticketCatalog, mongoDbTicketRegistryTemplate);
     }
 
     @ConditionalOnMissingBean(name = "mongoDbTicketRegistryTemplate")
@@ -32,6 +32,12 @@ public class MongoDbTicketDocument implements Serializable {
      */
     public static final String FIELD_NAME_JSON = "json";
 
+    /**
+     * Field name to hold ticket binary data,
+     * when tickets are serialized in a binary format.
+     */
+    public static final String FIELD_NAME_CONTENT = "content";
+
     /**
      * Field name to hold ticket type.
      */
@@ -63,6 +69,9 @@ public class MongoDbTicketDocument implements Serializable {
     @JsonProperty
     private String json;
 
+    @JsonProperty
+    private byte[] content;
+
     @JsonProperty
     private String ticketId;
 
@@ -168,7 +168,8 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             LOGGER.debug("Located ticket definition [{}] in the ticket catalog", metadata);
             val collectionName = getTicketCollectionInstanceByMetadata(metadata);
             val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(holder.getTicketId()));
-            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson());
+            val update = Update.update(MongoDbTicketDocument.FIELD_NAME_JSON, holder.getJson())
+                .set(MongoDbTicketDocument.FIELD_NAME_CONTENT, holder.getContent());
             val result = mongoTemplate.updateFirst(query, update, collectionName);
             LOGGER.debug("Updated ticket [{}] with result [{}]", ticket, result);
             return result.getMatchedCount() > 0 ? ticket : null;
@@ -297,11 +298,15 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     protected MongoDbTicketDocument buildTicketAsDocument(final Ticket ticket) throws Throwable {
         val encTicket = encodeTicket(ticket);
 
-        val json = serializeTicket(encTicket);
-        FunctionUtils.throwIf(StringUtils.isBlank(json),
-            () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-        LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-            JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        val binary = ticketSerializationManager.isBinaryFormat();
+        val content = binary ? serializeTicketAsBytes(encTicket) : null;
+        val json = binary ? null : serializeTicket(encTicket);
+        FunctionUtils.throwIf(binary ? content == null || content.length == 0 : StringUtils.isBlank(json),
+            () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized"));
+        if (LOGGER.isTraceEnabled() && !binary) {
+            LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
+                JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+        }
 
         val expireAt = getExpireAt(ticket);
         LOGGER.trace("Calculated expiration date for ticket ttl as [{}]", expireAt);
@@ -312,6 +317,7 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
             .type(encTicket.getClass().getName())
             .ticketId(encTicket.getId())
             .json(json)
+            .content(content)
             .principal(digestIdentifier(principal))
             .attributes(collectAndDigestTicketAttributes(ticket))
             .build();
@@ -333,7 +339,9 @@ public class MongoDbTicketRegistry extends AbstractTicketRegistry {
     }
 
     protected Ticket deserializeTicketFromMongoDocument(final MongoDbTicketDocument document) {
-        return ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
+        return document.getContent() != null
+            ? ticketSerializationManager.deserializeTicket(document.getContent(), document.getType())
+            : ticketSerializationManager.deserializeTicket(document.getJson(), document.getType());
     }
 }
 
@@ -0,0 +1,88 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.config.MongoDbTicketRegistryConfiguration;
+import org.apereo.cas.config.MongoDbTicketRegistryTicketCatalogConfiguration;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.BinaryTicketSerializationManager;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+
+import lombok.Getter;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbBinaryTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("MongoDb")
+@Import({
+    MongoDbTicketRegistryTicketCatalogConfiguration.class,
+    MongoDbTicketRegistryConfiguration.class
+})
+@TestPropertySource(properties = {
+    "cas.ticket.registry.core.serialization-format=SMILE",
+    "cas.ticket.registry.mongo.database-name=ticket-registry",
+    "cas.ticket.registry.mongo.authentication-database-name=admin",
+    "cas.ticket.registry.mongo.host=localhost",
+    "cas.ticket.registry.mongo.port=27017",
+    "cas.ticket.registry.mongo.drop-collection=true",
+    "cas.ticket.registry.mongo.update-indexes=true",
+    "cas.ticket.registry.mongo.drop-indexes=true",
+    "cas.ticket.registry.mongo.user-id=root",
+    "cas.ticket.registry.mongo.password=secret"
+})
+@EnableScheduling
+@EnabledIfListeningOnPort(port = 27017)
+@Getter
+class MongoDbBinaryTicketRegistryTests extends BaseTicketRegistryTests {
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry newTicketRegistry;
+
+    @Autowired
+    @Qualifier("mongoDbTicketRegistryTemplate")
+    private MongoOperations mongoDbTicketRegistryTemplate;
+
+    @BeforeEach
+    public void before() {
+        newTicketRegistry.deleteAll();
+    }
+
+    @RepeatedTest(1)
+    void verifyTicketStoredAsBytes() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+        val ticket = new TicketGrantingTicketImpl(ticketGrantingTicketId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+        newTicketRegistry.addTicket(ticket);
+
+        val collectionName = ticketCatalog.find(ticket).getProperties().getStorageName();
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_ID).is(ticket.getId()));
+        val document = mongoDbTicketRegistryTemplate.findOne(query, MongoDbTicketDocument.class, collectionName);
+        assertNotNull(document);
+        assertNull(document.getJson());
+        assertTrue(BinaryTicketSerializationManager.isBinaryContent(document.getContent()));
+        assertEquals(ticket, newTicketRegistry.getTicket(ticket.getId(), TicketGrantingTicket.class));
+
+        newTicketRegistry.updateTicket(ticket);
+        assertEquals(ticket, newTicketRegistry.getTicket(ticket.getId(), TicketGrantingTicket.class));
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.support.oauth.authenticator;
 
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20VerifiedAccessTokenCache;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.token.JwtBuilder;
@@ -39,9 +40,12 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
 
     private Set<String> requiredScopes = new LinkedHashSet<>();
 
+    private OAuth20VerifiedAccessTokenCache verifiedAccessTokenCache = OAuth20VerifiedAccessTokenCache.noOp();
+
     protected String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(accessTokenJwtBuilder)
+            .verifiedAccessTokenCache(verifiedAccessTokenCache)
             .build()
             .decode(tokenCredentials.getToken());
     }
@@ -55,6 +59,7 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
         val accessToken = ticketRegistry.getTicket(token, OAuth20AccessToken.class);
         if (accessToken == null || accessToken.isExpired()) {
             LOGGER.error("Provided access token [{}] is either not found in the ticket registry or has expired", token);
+            verifiedAccessTokenCache.invalidate(tokenCredentials.getToken());
             return Optional.empty();
         }
 
@@ -9,11 +9,11 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.services.RegisteredServiceUsernameProviderContext;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientAuthenticationMethods;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
@@ -50,7 +50,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Getter
 public class OAuth20ClientIdClientSecretAuthenticator implements Authenticator {
-    private final ServicesManager servicesManager;
+    private final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     private final ServiceFactory<WebApplicationService> webApplicationServiceServiceFactory;
 
@@ -76,7 +76,7 @@ public class OAuth20ClientIdClientSecretAuthenticator implements Authenticator {
             LOGGER.debug("Authenticating credential [{}]", credentials);
             val upc = (UsernamePasswordCredentials) credentials;
             val id = upc.getUsername();
-            val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, id);
+            val registeredService = registeredServiceIndex.findByClientId(id);
             val audit = AuditableContext.builder()
                 .registeredService(registeredService)
                 .build();
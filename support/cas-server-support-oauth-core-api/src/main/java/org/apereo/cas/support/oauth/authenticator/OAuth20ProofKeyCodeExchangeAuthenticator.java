@@ -3,9 +3,9 @@ package org.apereo.cas.support.oauth.authenticator;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
@@ -32,7 +32,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 public class OAuth20ProofKeyCodeExchangeAuthenticator extends OAuth20ClientIdClientSecretAuthenticator {
 
     public OAuth20ProofKeyCodeExchangeAuthenticator(
-        final ServicesManager servicesManager,
+        final OAuth20RegisteredServiceIndex registeredServiceIndex,
         final ServiceFactory webApplicationServiceFactory,
         final AuditableExecution registeredServiceAccessStrategyEnforcer,
         final TicketRegistry ticketRegistry,
@@ -42,7 +42,7 @@ public class OAuth20ProofKeyCodeExchangeAuthenticator extends OAuth20ClientIdCli
         final OAuth20ProfileScopeToAttributesFilter profileScopeToAttributesFilter,
         final TicketFactory ticketFactory,
         final ConfigurableApplicationContext applicationContext) {
-        super(servicesManager, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
+        super(registeredServiceIndex, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
             ticketRegistry, principalResolver, requestParameterResolver, clientSecretValidator,
             profileScopeToAttributesFilter, ticketFactory, applicationContext);
     }
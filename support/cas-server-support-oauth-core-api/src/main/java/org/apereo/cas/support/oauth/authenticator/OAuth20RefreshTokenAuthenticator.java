@@ -3,10 +3,10 @@ package org.apereo.cas.support.oauth.authenticator;
 import org.apereo.cas.audit.AuditableExecution;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.OAuth20GrantTypes;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
@@ -37,7 +37,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 public class OAuth20RefreshTokenAuthenticator extends OAuth20ClientIdClientSecretAuthenticator {
 
     public OAuth20RefreshTokenAuthenticator(
-        final ServicesManager servicesManager,
+        final OAuth20RegisteredServiceIndex registeredServiceIndex,
         final ServiceFactory webApplicationServiceFactory,
         final AuditableExecution registeredServiceAccessStrategyEnforcer,
         final TicketRegistry ticketRegistry,
@@ -47,7 +47,7 @@ public class OAuth20RefreshTokenAuthenticator extends OAuth20ClientIdClientSecre
         final OAuth20ProfileScopeToAttributesFilter profileScopeToAttributesFilter,
         final TicketFactory ticketFactory,
         final ConfigurableApplicationContext applicationContext) {
-        super(servicesManager, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
+        super(registeredServiceIndex, webApplicationServiceFactory, registeredServiceAccessStrategyEnforcer,
             ticketRegistry, principalResolver, requestParameterResolver, clientSecretValidator,
             profileScopeToAttributesFilter, ticketFactory, applicationContext);
     }
@@ -61,7 +61,7 @@ public class OAuth20RefreshTokenAuthenticator extends OAuth20ClientIdClientSecre
         if (clientId.isPresent() && grantType.isPresent()
             && OAuth20Utils.isGrantType(grantType.get(), OAuth20GrantTypes.REFRESH_TOKEN)
             && context.getRequestParameter(OAuth20Constants.REFRESH_TOKEN).isPresent()) {
-            val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(getServicesManager(), clientId.get());
+            val registeredService = getRegisteredServiceIndex().findByClientId(clientId.get());
 
             LOGGER.trace("Checking if the client [{}] is eligible for refresh token authentication", clientId.get());
             return registeredService != null && !OAuth20Utils.doesServiceNeedAuthentication(registeredService);
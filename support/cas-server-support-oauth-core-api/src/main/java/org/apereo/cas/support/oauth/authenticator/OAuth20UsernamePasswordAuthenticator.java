@@ -8,9 +8,9 @@ import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.RegisteredServiceUsernameProviderContext;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
@@ -47,7 +47,7 @@ import java.util.Optional;
 public class OAuth20UsernamePasswordAuthenticator implements Authenticator {
     private final AuthenticationSystemSupport authenticationSystemSupport;
 
-    private final ServicesManager servicesManager;
+    private final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     private final ServiceFactory webApplicationServiceFactory;
 
@@ -74,7 +74,7 @@ public class OAuth20UsernamePasswordAuthenticator implements Authenticator {
             }
 
             val clientId = clientIdAndSecret.getKey();
-            val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId);
+            val registeredService = registeredServiceIndex.findByClientId(clientId);
             RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(registeredService);
 
             val clientSecret = clientIdAndSecret.getRight();
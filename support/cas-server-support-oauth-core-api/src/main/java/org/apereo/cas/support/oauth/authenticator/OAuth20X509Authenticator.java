@@ -2,9 +2,9 @@ package org.apereo.cas.support.oauth.authenticator;
 
 import org.apereo.cas.authentication.AuthenticationManager;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientAuthenticationMethods;
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
@@ -35,14 +35,14 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Slf4j
 public class OAuth20X509Authenticator implements Authenticator {
-    private final ServicesManager servicesManager;
+    private final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     private final OAuth20RequestParameterResolver requestParameterResolver;
 
     @Override
     public Optional<Credentials> validate(final CallContext ctx, final Credentials credentials) {
         val clientIdAndSecret = requestParameterResolver.resolveClientIdAndClientSecret(ctx);
-        val registeredService = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientIdAndSecret.getKey());
+        val registeredService = registeredServiceIndex.findByClientId(clientIdAndSecret.getKey());
         RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(registeredService);
 
         if (!isAuthenticationMethodSupported(ctx, registeredService)) {
@@ -0,0 +1,107 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.services.ServicesManager;
+import org.apereo.cas.services.mgmt.RegisteredServicesMatchingIndex;
+import org.apereo.cas.services.query.RegisteredServiceQuery;
+import org.apereo.cas.support.oauth.util.OAuth20Utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is {@link DefaultOAuth20RegisteredServiceIndex}. It builds an immutable snapshot of all
+ * OAuth/OIDC registered services from the services manager, keeping a hash map of services by client id
+ * and a {@link RegisteredServicesMatchingIndex} by redirect uri. Redirect uris are only matched against
+ * the service definitions whose literal prefix could possibly match, in their evaluation order.
+ * <p>
+ * The snapshot is versioned and discarded whenever service definitions are saved, deleted or reloaded,
+ * and is rebuilt lazily on next use. Services that are saved without publishing an event may be found
+ * by client id using the services manager, in which case the snapshot is discarded as well.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DefaultOAuth20RegisteredServiceIndex implements OAuth20RegisteredServiceIndex {
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final ServicesManager servicesManager;
+
+    @Override
+    public OAuthRegisteredService findByClientId(final String clientId) {
+        if (StringUtils.isBlank(clientId)) {
+            return null;
+        }
+        val registeredService = getSnapshot().servicesByClientId().get(clientId);
+        if (registeredService != null) {
+            return registeredService;
+        }
+        val query = RegisteredServiceQuery.of(OAuthRegisteredService.class, "clientId", clientId).withIncludeAssignableTypes(true);
+        val result = servicesManager.findServicesBy(query).findFirst().map(OAuthRegisteredService.class::cast).orElse(null);
+        if (result != null) {
+            LOGGER.debug("Registered service for client id [{}] is not indexed; index will be rebuilt", clientId);
+            invalidate();
+        }
+        return result;
+    }
+
+    @Override
+    public OAuthRegisteredService findByRedirectUri(final String redirectUri) {
+        OAuth20Utils.validateRedirectUri(redirectUri);
+        if (StringUtils.isBlank(redirectUri)) {
+            return null;
+        }
+        val candidates = getSnapshot().servicesByRedirectUri().getCandidateServices(redirectUri);
+        LOGGER.trace("Evaluating [{}] candidate service(s) for redirect uri [{}]", candidates.size(), redirectUri);
+        return candidates
+            .stream()
+            .filter(registeredService -> registeredService.matches(redirectUri))
+            .map(OAuthRegisteredService.class::cast)
+            .findFirst()
+            .orElse(null);
+    }
+
+    @Override
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    protected Snapshot getSnapshot() {
+        val currentVersion = version.get();
+        val current = snapshot.get();
+        if (current != null && current.version() == currentVersion) {
+            return current;
+        }
+        val rebuilt = buildSnapshot(currentVersion);
+        snapshot.accumulateAndGet(rebuilt, (previous, next) -> previous == null || previous.version() < next.version() ? next : previous);
+        return rebuilt;
+    }
+
+    protected Snapshot buildSnapshot(final long snapshotVersion) {
+        val services = servicesManager.getAllServicesOfType(OAuthRegisteredService.class);
+        val servicesByRedirectUri = new RegisteredServicesMatchingIndex(services, OAuthRegisteredService.class::isInstance);
+        val servicesByClientId = new HashMap<String, OAuthRegisteredService>(services.size());
+        for (val registeredService : servicesByRedirectUri.getServices()) {
+            val clientId = ((OAuthRegisteredService) registeredService).getClientId();
+            if (StringUtils.isNotBlank(clientId)) {
+                servicesByClientId.putIfAbsent(clientId, (OAuthRegisteredService) registeredService);
+            }
+        }
+        LOGGER.debug("Indexed [{}] OAuth registered service(s) by client id and redirect uri", servicesByClientId.size());
+        return new Snapshot(snapshotVersion, Map.copyOf(servicesByClientId), servicesByRedirectUri);
+    }
+
+    protected record Snapshot(long version, Map<String, OAuthRegisteredService> servicesByClientId,
+                              RegisteredServicesMatchingIndex servicesByRedirectUri) {
+    }
+}
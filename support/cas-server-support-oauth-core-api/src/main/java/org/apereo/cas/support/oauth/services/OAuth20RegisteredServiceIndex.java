@@ -0,0 +1,86 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.support.events.service.CasRegisteredServiceDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServiceSavedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesDeletedEvent;
+import org.apereo.cas.support.events.service.CasRegisteredServicesLoadedEvent;
+import org.apereo.cas.util.spring.CasEventListener;
+
+import org.springframework.context.event.EventListener;
+
+/**
+ * This is {@link OAuth20RegisteredServiceIndex}, which locates OAuth/OIDC
+ * registered services by their client id or redirect uri without evaluating
+ * every service definition in the registry. The index is kept in sync with
+ * the services manager as service definitions are saved, deleted or reloaded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface OAuth20RegisteredServiceIndex extends CasEventListener {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthRegisteredServiceIndex";
+
+    /**
+     * Find registered service by client id.
+     *
+     * @param clientId the client id
+     * @return the registered service, or null
+     */
+    OAuthRegisteredService findByClientId(String clientId);
+
+    /**
+     * Find registered service by redirect uri.
+     *
+     * @param redirectUri the redirect uri
+     * @return the registered service, or null
+     */
+    OAuthRegisteredService findByRedirectUri(String redirectUri);
+
+    /**
+     * Discard the index so it can be rebuilt from the services manager on next use.
+     */
+    void invalidate();
+
+    /**
+     * Handle registered service saved event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServiceSavedEvent(final CasRegisteredServiceSavedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered service deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServiceDeletedEvent(final CasRegisteredServiceDeletedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered services deleted event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServicesDeletedEvent(final CasRegisteredServicesDeletedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Handle registered services loaded event.
+     *
+     * @param event the event
+     */
+    @EventListener
+    default void handleRegisteredServicesLoadedEvent(final CasRegisteredServicesLoadedEvent event) {
+        invalidate();
+    }
+}
@@ -35,10 +35,22 @@ public abstract class BaseOAuth20Controller<T extends OAuth20ConfigurationContex
     protected String extractAccessTokenFrom(final String token) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(getConfigurationContext().getAccessTokenJwtBuilder())
+            .verifiedAccessTokenCache(getConfigurationContext().getVerifiedAccessTokenCache())
             .build()
             .decode(token);
     }
 
+    /**
+     * Forget the verified access token, once it can no longer be found in the ticket registry.
+     *
+     * @param token the token
+     */
+    protected void invalidateVerifiedAccessToken(final String token) {
+        if (StringUtils.isNotBlank(token)) {
+            getConfigurationContext().getVerifiedAccessTokenCache().invalidate(token);
+        }
+    }
+
     protected void ensureSessionReplicationIsAutoconfiguredIfNeedBe(final HttpServletRequest request) {
         val replicationProps = getConfigurationContext().getCasProperties().getAuthn().getPac4j().getCore().getSessionReplication();
         val cookieAutoconfigured = replicationProps.getCookie().isAutoConfigureCookiePath();
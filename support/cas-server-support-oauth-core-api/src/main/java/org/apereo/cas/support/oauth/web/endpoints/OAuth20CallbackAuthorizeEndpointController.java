@@ -2,7 +2,6 @@ package org.apereo.cas.support.oauth.web.endpoints;
 
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.authenticator.Authenticators;
-import org.apereo.cas.support.oauth.util.OAuth20Utils;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -50,9 +49,9 @@ public class OAuth20CallbackAuthorizeEndpointController extends BaseOAuth20Contr
         val clientId = context.getRequestParameter(OAuth20Constants.CLIENT_ID);
         val redirectUri = context.getRequestParameter(OAuth20Constants.REDIRECT_URI);
         if (clientId.isPresent() && redirectUri.isPresent()) {
-            val servicesManager = getConfigurationContext().getServicesManager();
-            val serviceClient = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId.get());
-            val serviceRedirectUri = OAuth20Utils.getRegisteredOAuthServiceByRedirectUri(servicesManager, redirectUri.get());
+            val registeredServiceIndex = getConfigurationContext().getRegisteredServiceIndex();
+            val serviceClient = registeredServiceIndex.findByClientId(clientId.get());
+            val serviceRedirectUri = registeredServiceIndex.findByRedirectUri(redirectUri.get());
             if (serviceClient != null && serviceClient.equals(serviceRedirectUri)) {
                 defaultUrl = redirectUri.get();
             }
@@ -12,12 +12,14 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.authenticator.OAuth20CasAuthenticationBuilder;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.token.OAuth20TokenRequestValidator;
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
 import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20VerifiedAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20InvalidAuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.introspection.OAuth20IntrospectionResponseGenerator;
@@ -70,6 +72,8 @@ public class OAuth20ConfigurationContext {
 
     private final ServicesManager servicesManager;
 
+    private final OAuth20RegisteredServiceIndex registeredServiceIndex;
+
     private final TicketFactory ticketFactory;
     
     private final TicketRegistry ticketRegistry;
@@ -88,6 +92,8 @@ public class OAuth20ConfigurationContext {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    private final OAuth20VerifiedAccessTokenCache verifiedAccessTokenCache;
+
     private final OAuth20AccessTokenResponseGenerator accessTokenResponseGenerator;
 
     private final ObjectProvider<List<OAuth20TokenRequestValidator>> accessTokenGrantRequestValidators;
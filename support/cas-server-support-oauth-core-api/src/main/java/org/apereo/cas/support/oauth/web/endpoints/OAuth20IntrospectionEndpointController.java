@@ -141,6 +141,7 @@ public class OAuth20IntrospectionEndpointController<T extends OAuth20Configurati
         } catch (final InvalidTicketException e) {
             LOGGER.trace(e.getMessage(), e);
             LOGGER.info("Unable to fetch access token [{}]: [{}]", accessTokenId, e.getMessage());
+            invalidateVerifiedAccessToken(accessTokenId);
         }
         return null;
     }
@@ -85,6 +85,7 @@ public class OAuth20UserProfileEndpointController<T extends OAuth20Configuration
         });
         if (accessTokenTicket == null || accessTokenTicket.isExpired()) {
             LOGGER.error("Access token [{}] cannot be found in the ticket registry or has expired.", decodedAccessTokenId);
+            invalidateVerifiedAccessToken(accessTokenResult.getKey());
             return buildUnauthorizedResponseEntity(OAuth20Constants.EXPIRED_ACCESS_TOKEN);
         }
         LoggingUtils.protocolMessage("OAuth/OpenID Connect User Profile Request",
@@ -175,8 +175,8 @@ public class AccessTokenAuthorizationCodeGrantRequestExtractor extends BaseAcces
             .resolveClientIdAndClientSecret(callContext).getLeft();
         val redirectUri = getRegisteredServiceIdentifierFromRequest(context);
         val registeredService = StringUtils.isNotBlank(clientId)
-            ? OAuth20Utils.getRegisteredOAuthServiceByClientId(getConfigurationContext().getServicesManager(), clientId)
-            : OAuth20Utils.getRegisteredOAuthServiceByRedirectUri(getConfigurationContext().getServicesManager(), redirectUri);
+            ? getConfigurationContext().getRegisteredServiceIndex().findByClientId(clientId)
+            : getConfigurationContext().getRegisteredServiceIndex().findByRedirectUri(redirectUri);
         FunctionUtils.doIf(registeredService == null,
             param -> LOGGER.warn("Unable to locate registered service for clientId [{}] or redirectUri [{}]", clientId, redirectUri),
             ex -> LOGGER.debug("Located registered service [{}]", registeredService)).accept(registeredService);
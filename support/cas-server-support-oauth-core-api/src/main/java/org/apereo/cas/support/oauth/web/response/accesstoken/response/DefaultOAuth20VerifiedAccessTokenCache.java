@@ -0,0 +1,119 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import org.apereo.cas.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jwt.JWTClaimsSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link DefaultOAuth20VerifiedAccessTokenCache}. Verified tokens are kept in a bounded
+ * in-memory cache keyed by the hash of the encoded token; the token itself is never used as a key.
+ * Each cache entry holds the verified token per verification context, which allows a token to be
+ * invalidated in all contexts at once.
+ * Each entry expires after the configured duration or once the token itself expires, whichever comes first.
+ * Every hit counts as a signature verification that did not have to take place.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class DefaultOAuth20VerifiedAccessTokenCache implements OAuth20VerifiedAccessTokenCache {
+    private static final String CACHE_NAME = "oauthVerifiedAccessTokenCache";
+
+    private final Cache<String, Map<String, VerifiedAccessToken>> cache;
+
+    private final Duration timeToLive;
+
+    private final Counter verificationsSaved;
+
+    public DefaultOAuth20VerifiedAccessTokenCache(final long maximumSize, final Duration timeToLive,
+                                                  final MeterRegistry meterRegistry) {
+        this.timeToLive = timeToLive;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new VerifiedAccessTokenExpiry())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.verificationsSaved = Counter.builder("cas.oauth.access.token.verifications.saved")
+            .description("Number of JWT access token verifications that were skipped because the token was already verified")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<VerifiedAccessToken> get(final String token, final String context) {
+        val verifiedTokens = cache.getIfPresent(DigestUtils.sha256(token));
+        val verifiedToken = verifiedTokens == null ? null : verifiedTokens.get(StringUtils.defaultString(context));
+        if (verifiedToken != null) {
+            verificationsSaved.increment();
+            LOGGER.trace("Found verified access token [{}] in cache", verifiedToken.jwtId());
+        }
+        return Optional.ofNullable(verifiedToken);
+    }
+
+    @Override
+    public void put(final String token, final String context,
+                    final JWTClaimsSet claims, final Long registeredServiceId) {
+        val expiration = claims.getExpirationTime() == null ? 0 : claims.getExpirationTime().getTime();
+        if (expiration > 0 && expiration <= System.currentTimeMillis()) {
+            LOGGER.trace("Access token [{}] has already expired and will not be cached", claims.getJWTID());
+            return;
+        }
+        val verifiedToken = new VerifiedAccessToken(claims.getJWTID(), registeredServiceId, expiration);
+        cache.asMap().compute(DigestUtils.sha256(token), (key, current) -> {
+            val verifiedTokens = current == null ? new ConcurrentHashMap<String, VerifiedAccessToken>() : current;
+            verifiedTokens.put(StringUtils.defaultString(context), verifiedToken);
+            return verifiedTokens;
+        });
+    }
+
+    @Override
+    public void invalidate(final String token) {
+        cache.invalidate(DigestUtils.sha256(token));
+    }
+
+    private final class VerifiedAccessTokenExpiry implements Expiry<String, Map<String, VerifiedAccessToken>> {
+        @Override
+        public long expireAfterCreate(final String key, final Map<String, VerifiedAccessToken> value, final long currentTime) {
+            val timeToLiveNanos = timeToLive.toNanos();
+            val expiration = value.values().stream()
+                .mapToLong(VerifiedAccessToken::expiration)
+                .filter(time -> time > 0)
+                .min()
+                .orElse(0);
+            if (expiration <= 0) {
+                return timeToLiveNanos;
+            }
+            val remaining = TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration - System.currentTimeMillis()));
+            return Math.min(timeToLiveNanos, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final Map<String, VerifiedAccessToken> value,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final Map<String, VerifiedAccessToken> value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
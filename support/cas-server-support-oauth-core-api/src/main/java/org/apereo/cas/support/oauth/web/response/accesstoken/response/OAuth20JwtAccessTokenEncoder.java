@@ -3,6 +3,7 @@ package org.apereo.cas.support.oauth.web.response.accesstoken.response;
 import org.apereo.cas.authentication.principal.Service;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.services.RegisteredService;
+import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
 import org.apereo.cas.support.oauth.OAuth20Constants;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
@@ -15,8 +16,10 @@ import org.apereo.cas.util.function.FunctionUtils;
 import com.nimbusds.jose.Header;
 import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
 import com.nimbusds.oauth2.sdk.auth.X509CertificateConfirmation;
 import com.nimbusds.oauth2.sdk.dpop.JWKThumbprintConfirmation;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +34,9 @@ import java.util.Set;
 
 /**
  * This is {@link OAuth20JwtAccessTokenEncoder}.
+ * Signed or encrypted access tokens that are successfully decoded are remembered by the
+ * {@link OAuth20VerifiedAccessTokenCache}, if one is provided, and are not verified again
+ * while they remain in the cache.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -51,6 +57,9 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
 
     private final String issuer;
 
+    @Builder.Default
+    private final OAuth20VerifiedAccessTokenCache verifiedAccessTokenCache = OAuth20VerifiedAccessTokenCache.noOp();
+
     /**
      * Decode a JWT token or return an opaque token as-is.
      * Avoid logging stack trace if JWT parsing fails.
@@ -66,9 +75,19 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
             LOGGER.debug("No access token is provided to decode");
             return tokenId;
         }
+        val verificationContext = getVerificationContext();
+        val verifiedToken = verifiedAccessTokenCache.get(tokenId, verificationContext);
+        if (verifiedToken.isPresent() && isVerifiedAccessTokenValid(tokenId, verifiedToken.get())) {
+            return verifiedToken.get().jwtId();
+        }
         try {
-            val header = JWTParser.parse(tokenId).getHeader();
-            val claims = accessTokenJwtBuilder.unpack(Optional.ofNullable(resolveRegisteredService(header)), tokenId);
+            val jwt = JWTParser.parse(tokenId);
+            val resolvedService = resolveRegisteredService(jwt.getHeader());
+            val claims = accessTokenJwtBuilder.unpack(Optional.ofNullable(resolvedService), tokenId);
+            if (!(jwt instanceof PlainJWT) && StringUtils.isNotBlank(claims.getJWTID())) {
+                verifiedAccessTokenCache.put(tokenId, verificationContext, claims,
+                    resolvedService == null ? null : resolvedService.getId());
+            }
             return claims.getJWTID();
         } catch (final ParseException e) {
             LOGGER.trace("Token is not valid JWT, returning it as-is: [{}]", tokenId);
@@ -141,15 +160,45 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
     }
 
     protected RegisteredService resolveRegisteredService(final Header header) {
+        val serviceId = header.getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
+        return resolveRegisteredService(serviceId == null ? null : Long.parseLong(serviceId.toString()));
+    }
+
+    protected RegisteredService resolveRegisteredService(final Long serviceIdentifier) {
         var oAuthRegisteredService = (OAuthRegisteredService) this.registeredService;
-        if (oAuthRegisteredService == null) {
-            val serviceId = header.getCustomParam(RegisteredServiceCipherExecutor.CUSTOM_HEADER_REGISTERED_SERVICE_ID);
-            if (serviceId != null) {
-                val serviceIdentifier = Long.parseLong(serviceId.toString());
-                oAuthRegisteredService = accessTokenJwtBuilder.getServicesManager()
-                    .findServiceBy(serviceIdentifier, OAuthRegisteredService.class);
-            }
+        if (oAuthRegisteredService == null && serviceIdentifier != null) {
+            oAuthRegisteredService = accessTokenJwtBuilder.getServicesManager()
+                .findServiceBy(serviceIdentifier, OAuthRegisteredService.class);
         }
         return oAuthRegisteredService;
     }
+
+    /**
+     * Gets the context under which tokens are verified by this encoder.
+     * Tokens are verified with the keys of the registered service assigned to this encoder, if any;
+     * otherwise the registered service is resolved from the token header, which is part of the token itself.
+     *
+     * @return the verification context
+     */
+    protected String getVerificationContext() {
+        if (registeredService instanceof final OAuthRegisteredService oAuthRegisteredService) {
+            return oAuthRegisteredService.getClientId();
+        }
+        return registeredService == null ? StringUtils.EMPTY : String.valueOf(registeredService.getId());
+    }
+
+    protected boolean isVerifiedAccessTokenValid(final String tokenId,
+                                                 final OAuth20VerifiedAccessTokenCache.VerifiedAccessToken verifiedToken) {
+        if (verifiedToken.registeredServiceId() != null) {
+            val resolvedService = resolveRegisteredService(verifiedToken.registeredServiceId());
+            if (resolvedService == null) {
+                LOGGER.debug("Registered service [{}] for verified access token [{}] can no longer be found",
+                    verifiedToken.registeredServiceId(), verifiedToken.jwtId());
+                verifiedAccessTokenCache.invalidate(tokenId);
+                return false;
+            }
+            RegisteredServiceAccessStrategyUtils.ensureServiceAccessIsAllowed(resolvedService);
+        }
+        return true;
+    }
 }
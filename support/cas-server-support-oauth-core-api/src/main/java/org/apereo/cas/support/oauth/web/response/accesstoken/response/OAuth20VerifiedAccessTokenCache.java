@@ -0,0 +1,82 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * This is {@link OAuth20VerifiedAccessTokenCache}, which remembers JWT access tokens
+ * whose signatures have been verified and whose contents have been decrypted, so that
+ * subsequent requests carrying the same token do not repeat the work. Tokens are remembered
+ * per verification context, typically the client id of the registered service whose keys
+ * verified the token, so a token verified under one service is never trusted under another.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public interface OAuth20VerifiedAccessTokenCache {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthVerifiedAccessTokenCache";
+
+    /**
+     * Find the verified token.
+     *
+     * @param token   the encoded token
+     * @param context the verification context
+     * @return the verified token
+     */
+    Optional<VerifiedAccessToken> get(String token, String context);
+
+    /**
+     * Remember the verified token.
+     *
+     * @param token               the encoded token
+     * @param context             the verification context
+     * @param claims              the verified claims
+     * @param registeredServiceId the registered service id that verified the token, if any
+     */
+    void put(String token, String context, JWTClaimsSet claims, Long registeredServiceId);
+
+    /**
+     * Forget the token in all verification contexts, typically once it is revoked or can no longer be found in the ticket registry.
+     *
+     * @param token the encoded token
+     */
+    void invalidate(String token);
+
+    /**
+     * Cache that never remembers anything.
+     *
+     * @return the cache
+     */
+    static OAuth20VerifiedAccessTokenCache noOp() {
+        return new OAuth20VerifiedAccessTokenCache() {
+            @Override
+            public Optional<VerifiedAccessToken> get(final String token, final String context) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void put(final String token, final String context,
+                            final JWTClaimsSet claims, final Long registeredServiceId) {
+            }
+
+            @Override
+            public void invalidate(final String token) {
+            }
+        };
+    }
+
+    /**
+     * Verified access token.
+     *
+     * @param jwtId               the jwt id, which is the access token id
+     * @param registeredServiceId the registered service id that verified the token, if any
+     * @param expiration          the expiration time of the token in milliseconds, or zero
+     */
+    record VerifiedAccessToken(String jwtId, Long registeredServiceId, long expiration) implements Serializable {
+    }
+}
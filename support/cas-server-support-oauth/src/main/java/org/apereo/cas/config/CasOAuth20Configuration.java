@@ -19,6 +19,7 @@ import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.support.replication.CookieSessionReplicationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.TicketRegistrySessionStore;
 import org.apereo.cas.services.RegisteredServiceCipherExecutor;
@@ -41,7 +42,9 @@ import org.apereo.cas.support.oauth.profile.DefaultOAuth20ProfileScopeToAttribut
 import org.apereo.cas.support.oauth.profile.DefaultOAuth20UserProfileDataCreator;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
+import org.apereo.cas.support.oauth.services.DefaultOAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceCipherExecutor;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.support.oauth.validator.CASOAuth20TicketValidator;
 import org.apereo.cas.support.oauth.validator.DefaultOAuth20ClientSecretValidator;
@@ -81,10 +84,12 @@ import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenGran
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenPasswordGrantRequestExtractor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenProofKeyCodeExchangeAuthorizationCodeGrantRequestExtractor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRefreshTokenGrantRequestExtractor;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.DefaultOAuth20VerifiedAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20DefaultAccessTokenResponseGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCipherExecutor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20RegisteredServiceJwtAccessTokenCipherExecutor;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20VerifiedAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.callback.DefaultOAuth20AuthorizationModelAndViewBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationCodeAuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationModelAndViewBuilder;
@@ -143,6 +148,8 @@ import org.apereo.cas.web.support.ArgumentExtractor;
 import org.apereo.cas.web.support.CookieUtils;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -179,6 +186,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import java.util.ArrayList;
@@ -260,6 +268,7 @@ public class CasOAuth20Configuration {
             @Qualifier(OAuth20RequestParameterResolver.BEAN_NAME) final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
             @Qualifier("accessTokenJwtBuilder") final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20VerifiedAccessTokenCache.BEAN_NAME) final OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS) final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(CentralAuthenticationService.BEAN_NAME) final CentralAuthenticationService centralAuthenticationService,
             @Qualifier(CasCookieBuilder.BEAN_NAME_TICKET_GRANTING_COOKIE_BUILDER) final CasCookieBuilder ticketGrantingTicketCookieGenerator,
@@ -269,6 +278,7 @@ public class CasOAuth20Configuration {
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY) final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
             @Qualifier(TicketFactory.BEAN_NAME) final TicketFactory ticketFactory,
             @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(AttributeDefinitionStore.BEAN_NAME) final AttributeDefinitionStore attributeDefinitionStore,
             final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext,
@@ -296,6 +306,7 @@ public class CasOAuth20Configuration {
                 .registeredServiceCipherExecutor(oauthRegisteredServiceCipherExecutor)
                 .sessionStore(oauthDistributedSessionStore)
                 .servicesManager(servicesManager)
+                .registeredServiceIndex(oauthRegisteredServiceIndex)
                 .ticketRegistry(ticketRegistry)
                 .ticketFactory(ticketFactory)
                 .principalFactory(oauthPrincipalFactory)
@@ -310,6 +321,7 @@ public class CasOAuth20Configuration {
                 .profileScopeToAttributesFilter(profileScopeToAttributesFilter)
                 .accessTokenGenerator(oauthTokenGenerator)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .verifiedAccessTokenCache(oauthVerifiedAccessTokenCache)
                 .accessTokenResponseGenerator(accessTokenResponseGenerator)
                 .deviceTokenExpirationPolicy(deviceTokenExpirationPolicy)
                 .accessTokenGrantRequestValidators(oauthTokenRequestValidators)
@@ -722,6 +734,30 @@ public class CasOAuth20Configuration {
             return new DefaultOAuth20RequestParameterResolver(accessTokenJwtBuilder);
         }
 
+        @ConditionalOnMissingBean(name = OAuth20RegisteredServiceIndex.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex(
+            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager) {
+            return new DefaultOAuth20RegisteredServiceIndex(servicesManager);
+        }
+
+        @ConditionalOnMissingBean(name = OAuth20VerifiedAccessTokenCache.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache(
+            final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            val accessToken = casProperties.getAuthn().getOauth().getAccessToken();
+            if (accessToken.getVerifiedTokenCacheSize() <= 0) {
+                return OAuth20VerifiedAccessTokenCache.noOp();
+            }
+            return new DefaultOAuth20VerifiedAccessTokenCache(accessToken.getVerifiedTokenCacheSize(),
+                Beans.newDuration(accessToken.getVerifiedTokenCacheTimeToLive()),
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        }
+
         @ConditionalOnMissingBean(name = "oauthPrincipalFactory")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -1315,11 +1351,11 @@ public class CasOAuth20Configuration {
             @Qualifier(OAuth20RequestParameterResolver.BEAN_NAME) final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS) final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY) final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver defaultPrincipalResolver,
             @Qualifier(OAuth20ClientSecretValidator.BEAN_NAME) final OAuth20ClientSecretValidator oauth20ClientSecretValidator) {
-            return new OAuth20ClientIdClientSecretAuthenticator(servicesManager,
+            return new OAuth20ClientIdClientSecretAuthenticator(oauthRegisteredServiceIndex,
                 webApplicationServiceFactory,
                 registeredServiceAccessStrategyEnforcer,
                 ticketRegistry,
@@ -1341,11 +1377,11 @@ public class CasOAuth20Configuration {
             @Qualifier(OAuth20RequestParameterResolver.BEAN_NAME) final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS) final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY) final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver defaultPrincipalResolver,
             @Qualifier(OAuth20ClientSecretValidator.BEAN_NAME) final OAuth20ClientSecretValidator oauth20ClientSecretValidator) {
-            return new OAuth20ProofKeyCodeExchangeAuthenticator(servicesManager,
+            return new OAuth20ProofKeyCodeExchangeAuthenticator(oauthRegisteredServiceIndex,
                 webApplicationServiceFactory,
                 registeredServiceAccessStrategyEnforcer,
                 ticketRegistry,
@@ -1366,11 +1402,11 @@ public class CasOAuth20Configuration {
             @Qualifier(OAuth20RequestParameterResolver.BEAN_NAME) final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS) final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY) final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER) final PrincipalResolver defaultPrincipalResolver,
             @Qualifier(OAuth20ClientSecretValidator.BEAN_NAME) final OAuth20ClientSecretValidator oauth20ClientSecretValidator) {
-            return new OAuth20RefreshTokenAuthenticator(servicesManager,
+            return new OAuth20RefreshTokenAuthenticator(oauthRegisteredServiceIndex,
                 webApplicationServiceFactory,
                 registeredServiceAccessStrategyEnforcer,
                 ticketRegistry,
@@ -1391,12 +1427,12 @@ public class CasOAuth20Configuration {
             @Qualifier(OAuth20RequestParameterResolver.BEAN_NAME) final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY) final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
             @Qualifier(AuthenticationSystemSupport.BEAN_NAME) final AuthenticationSystemSupport authenticationSystemSupport,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(OAuth20ClientSecretValidator.BEAN_NAME) final OAuth20ClientSecretValidator oauth20ClientSecretValidator,
             @Qualifier(AuthenticationAttributeReleasePolicy.BEAN_NAME) final AuthenticationAttributeReleasePolicy authenticationAttributeReleasePolicy) {
             return new OAuth20UsernamePasswordAuthenticator(
                 authenticationSystemSupport,
-                servicesManager,
+                oauthRegisteredServiceIndex,
                 webApplicationServiceFactory,
                 oauthRequestParameterResolver,
                 oauth20ClientSecretValidator,
@@ -1409,9 +1445,12 @@ public class CasOAuth20Configuration {
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public Authenticator oauthAccessTokenAuthenticator(
+            @Qualifier(OAuth20VerifiedAccessTokenCache.BEAN_NAME) final OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache,
             @Qualifier("accessTokenJwtBuilder") final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(TicketRegistry.BEAN_NAME) final TicketRegistry ticketRegistry) {
-            return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            authenticator.setVerifiedAccessTokenCache(oauthVerifiedAccessTokenCache);
+            return authenticator;
         }
 
 
@@ -1423,8 +1462,8 @@ public class CasOAuth20Configuration {
             final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(AuthenticationSystemSupport.BEAN_NAME)
             final AuthenticationSystemSupport authenticationSystemSupport,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager) {
-            return new OAuth20X509Authenticator(servicesManager, oauthRequestParameterResolver);
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex) {
+            return new OAuth20X509Authenticator(oauthRegisteredServiceIndex, oauthRequestParameterResolver);
         }
 
     }
@@ -0,0 +1,58 @@
+package org.apereo.cas.support.oauth.services;
+
+import org.apereo.cas.AbstractOAuth20Tests;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20RegisteredServiceIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("OAuth")
+class DefaultOAuth20RegisteredServiceIndexTests extends AbstractOAuth20Tests {
+    @Autowired
+    @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+    private OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex;
+
+    @Test
+    void verifyLookupsFollowServicesManager() throws Throwable {
+        clearAllServices();
+        val service1 = getRegisteredService("https://app1.example.org/callback.*", UUID.randomUUID().toString(), "secret");
+        service1.setEvaluationOrder(10);
+        val service2 = getRegisteredService("https://.+", UUID.randomUUID().toString(), "secret");
+        service2.setEvaluationOrder(100);
+        servicesManager.save(service1);
+        servicesManager.save(service2);
+
+        assertEquals(service1, oauthRegisteredServiceIndex.findByClientId(service1.getClientId()));
+        assertEquals(service2, oauthRegisteredServiceIndex.findByClientId(service2.getClientId()));
+        assertNull(oauthRegisteredServiceIndex.findByClientId(UUID.randomUUID().toString()));
+        assertEquals(service1, oauthRegisteredServiceIndex.findByRedirectUri("https://app1.example.org/callback?state=1"));
+        assertEquals(service2, oauthRegisteredServiceIndex.findByRedirectUri("https://app2.example.org/callback"));
+        assertNull(oauthRegisteredServiceIndex.findByRedirectUri("http://app2.example.org/callback"));
+
+        servicesManager.delete(service1);
+        assertNull(oauthRegisteredServiceIndex.findByClientId(service1.getClientId()));
+        assertEquals(service2, oauthRegisteredServiceIndex.findByRedirectUri("https://app1.example.org/callback?state=1"));
+    }
+
+    @Test
+    void verifyServiceSavedWithoutEvent() throws Throwable {
+        clearAllServices();
+        assertNull(oauthRegisteredServiceIndex.findByRedirectUri("https://app3.example.org/callback"));
+        val service = getRegisteredService("https://app3.example.org/callback", UUID.randomUUID().toString(), "secret");
+        servicesManager.save(service, false);
+        assertEquals(service, oauthRegisteredServiceIndex.findByClientId(service.getClientId()));
+        assertEquals(service, oauthRegisteredServiceIndex.findByRedirectUri("https://app3.example.org/callback"));
+    }
+}
@@ -0,0 +1,85 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20VerifiedAccessTokenCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("OAuth")
+class DefaultOAuth20VerifiedAccessTokenCacheTests {
+    @Test
+    void verifyCachedTokenCountsSavedVerifications() {
+        val meterRegistry = new SimpleMeterRegistry();
+        val cache = new DefaultOAuth20VerifiedAccessTokenCache(100, Duration.ofMinutes(5), meterRegistry);
+        val token = UUID.randomUUID().toString();
+        val claims = new JWTClaimsSet.Builder()
+            .jwtID("AT-123456")
+            .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+            .build();
+        assertTrue(cache.get(token, "client").isEmpty());
+        cache.put(token, "client", claims, 1L);
+        val verifiedToken = cache.get(token, "client").orElseThrow();
+        assertEquals("AT-123456", verifiedToken.jwtId());
+        assertEquals(1L, verifiedToken.registeredServiceId());
+        assertTrue(cache.get(token, "client").isPresent());
+        assertEquals(2, meterRegistry.get("cas.oauth.access.token.verifications.saved").counter().count());
+
+        cache.invalidate(token);
+        assertTrue(cache.get(token, "client").isEmpty());
+    }
+
+    @Test
+    void verifyTokenIsCachedPerContext() {
+        val cache = new DefaultOAuth20VerifiedAccessTokenCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        val token = UUID.randomUUID().toString();
+        val claims = new JWTClaimsSet.Builder()
+            .jwtID("AT-123456")
+            .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+            .build();
+        cache.put(token, "client1", claims, 1L);
+        assertTrue(cache.get(token, "client1").isPresent());
+        assertTrue(cache.get(token, "client2").isEmpty());
+        assertTrue(cache.get(token, null).isEmpty());
+
+        cache.put(token, null, claims, null);
+        assertTrue(cache.get(token, null).isPresent());
+        assertEquals(1L, cache.get(token, "client1").orElseThrow().registeredServiceId());
+
+        cache.invalidate(token);
+        assertTrue(cache.get(token, "client1").isEmpty());
+        assertTrue(cache.get(token, null).isEmpty());
+    }
+
+    @Test
+    void verifyExpiredTokenIsNotCached() {
+        val cache = new DefaultOAuth20VerifiedAccessTokenCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        val token = UUID.randomUUID().toString();
+        val claims = new JWTClaimsSet.Builder()
+            .jwtID("AT-123456")
+            .expirationTime(new Date(System.currentTimeMillis() - 1000))
+            .build();
+        cache.put(token, "client", claims, null);
+        assertTrue(cache.get(token, "client").isEmpty());
+    }
+
+    @Test
+    void verifyNoOpCache() {
+        val cache = OAuth20VerifiedAccessTokenCache.noOp();
+        val token = UUID.randomUUID().toString();
+        cache.put(token, "client", new JWTClaimsSet.Builder().jwtID("AT-123456").build(), null);
+        assertTrue(cache.get(token, "client").isEmpty());
+    }
+}
@@ -1,8 +1,7 @@
 package org.apereo.cas.oidc.authn;
 
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.authenticator.OAuth20AccessTokenAuthenticator;
-import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.ticket.OAuth20TokenSigningAndEncryptionService;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -26,16 +25,16 @@ import java.util.Optional;
 public class OidcAccessTokenAuthenticator extends OAuth20AccessTokenAuthenticator {
     private final OAuth20TokenSigningAndEncryptionService idTokenSigningAndEncryptionService;
 
-    private final ServicesManager servicesManager;
+    private final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     public OidcAccessTokenAuthenticator(
         final TicketRegistry ticketRegistry,
         final OAuth20TokenSigningAndEncryptionService signingAndEncryptionService,
-        final ServicesManager servicesManager,
+        final OAuth20RegisteredServiceIndex registeredServiceIndex,
         final JwtBuilder accessTokenJwtBuilder) {
         super(ticketRegistry, accessTokenJwtBuilder);
         this.idTokenSigningAndEncryptionService = signingAndEncryptionService;
-        this.servicesManager = servicesManager;
+        this.registeredServiceIndex = registeredServiceIndex;
     }
     @Override
     protected CommonProfile buildUserProfile(final TokenCredentials tokenCredentials,
@@ -50,7 +49,7 @@ public class OidcAccessTokenAuthenticator extends OAuth20AccessTokenAuthenticato
 
     protected void validateIdTokenIfAny(final OAuth20AccessToken accessToken, final CommonProfile profile) throws Exception {
         if (StringUtils.isNotBlank(accessToken.getIdToken())) {
-            val service = OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, accessToken.getClientId());
+            val service = registeredServiceIndex.findByClientId(accessToken.getClientId());
             val idTokenResult = idTokenSigningAndEncryptionService.decode(accessToken.getIdToken(), Optional.ofNullable(service));
             profile.setId(idTokenResult.getSubject());
             profile.addAttributes(idTokenResult.getClaimsMap());
@@ -5,10 +5,10 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientAuthenticationMethods;
 import org.apereo.cas.support.oauth.authenticator.OAuth20ClientIdClientSecretAuthenticator;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
@@ -27,7 +27,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 public class OidcClientIdClientSecretAuthenticator extends OAuth20ClientIdClientSecretAuthenticator {
     private final OidcServerDiscoverySettings oidcServerDiscoverySettings;
 
-    public OidcClientIdClientSecretAuthenticator(final ServicesManager servicesManager,
+    public OidcClientIdClientSecretAuthenticator(final OAuth20RegisteredServiceIndex registeredServiceIndex,
                                                  final ServiceFactory<WebApplicationService> webApplicationServiceServiceFactory,
                                                  final AuditableExecution registeredServiceAccessStrategyEnforcer,
                                                  final TicketRegistry ticketRegistry,
@@ -38,7 +38,7 @@ public class OidcClientIdClientSecretAuthenticator extends OAuth20ClientIdClient
                                                  final TicketFactory ticketFactory,
                                                  final ConfigurableApplicationContext applicationContext,
                                                  final OidcServerDiscoverySettings oidcServerDiscoverySettings) {
-        super(servicesManager, webApplicationServiceServiceFactory, registeredServiceAccessStrategyEnforcer,
+        super(registeredServiceIndex, webApplicationServiceServiceFactory, registeredServiceAccessStrategyEnforcer,
             ticketRegistry, principalResolver, requestParameterResolver,
             clientSecretValidator, profileScopeToAttributesFilter,
             ticketFactory, applicationContext);
@@ -6,9 +6,8 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
 import org.apereo.cas.services.OidcRegisteredService;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20Constants;
-import org.apereo.cas.support.oauth.util.OAuth20Utils;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jwt.SignedJWT;
@@ -39,7 +38,7 @@ import java.util.stream.Collectors;
 public class OidcDPoPAuthenticator implements Authenticator {
     protected final OidcServerDiscoverySettings oidcServerDiscoverySettings;
 
-    protected final ServicesManager servicesManager;
+    protected final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     protected final AuditableExecution registeredServiceAccessStrategyEnforcer;
 
@@ -55,8 +54,7 @@ public class OidcDPoPAuthenticator implements Authenticator {
     protected Optional<Credentials> validateAccessToken(final Credentials credentials, final WebContext webContext,
                                                         final String dPopProof) throws Throwable {
         val clientId = webContext.getRequestParameter(OAuth20Constants.CLIENT_ID).orElseThrow();
-        val registeredService = (OidcRegisteredService)
-            OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId);
+        val registeredService = (OidcRegisteredService) registeredServiceIndex.findByClientId(clientId);
         val audit = AuditableContext.builder()
             .registeredService(registeredService)
             .build();
@@ -11,9 +11,9 @@ import org.apereo.cas.oidc.jwks.OidcJsonWebKeyStoreUtils;
 import org.apereo.cas.oidc.jwks.OidcJsonWebKeyUsage;
 import org.apereo.cas.services.OidcRegisteredService;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyUtils;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientAuthenticationMethods;
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.util.OAuth20Utils;
 import org.apereo.cas.ticket.code.OAuth20Code;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -50,7 +50,7 @@ import java.util.Optional;
 public class OidcJwtAuthenticator implements Authenticator {
     protected final OidcIssuerService issuerService;
 
-    protected final ServicesManager servicesManager;
+    protected final OAuth20RegisteredServiceIndex registeredServiceIndex;
 
     protected final AuditableExecution registeredServiceAccessStrategyEnforcer;
 
@@ -146,7 +146,7 @@ public class OidcJwtAuthenticator implements Authenticator {
             return givenCode == null || givenCode.isExpired() ? null : givenCode;
         });
         val clientId = oauthCode == null ? webContext.getRequestParameter(OAuth20Constants.CLIENT_ID).orElse(null) : oauthCode.getClientId();
-        val registeredService = (OidcRegisteredService) OAuth20Utils.getRegisteredOAuthServiceByClientId(servicesManager, clientId);
+        val registeredService = (OidcRegisteredService) registeredServiceIndex.findByClientId(clientId);
         val audit = AuditableContext.builder()
             .registeredService(registeredService)
             .build();
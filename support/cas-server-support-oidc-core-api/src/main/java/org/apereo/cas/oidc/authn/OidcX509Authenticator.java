@@ -1,9 +1,9 @@
 package org.apereo.cas.oidc.authn;
 
 import org.apereo.cas.oidc.discovery.OidcServerDiscoverySettings;
-import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.oauth.OAuth20ClientAuthenticationMethods;
 import org.apereo.cas.support.oauth.authenticator.OAuth20X509Authenticator;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.services.OAuthRegisteredService;
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
 import lombok.val;
@@ -18,10 +18,10 @@ import org.pac4j.core.context.CallContext;
 public class OidcX509Authenticator extends OAuth20X509Authenticator {
     private final OidcServerDiscoverySettings oidcServerDiscoverySettings;
 
-    public OidcX509Authenticator(final ServicesManager servicesManager,
+    public OidcX509Authenticator(final OAuth20RegisteredServiceIndex registeredServiceIndex,
                                  final OAuth20RequestParameterResolver requestParameterResolver,
                                  final OidcServerDiscoverySettings oidcServerDiscoverySettings) {
-        super(servicesManager, requestParameterResolver);
+        super(registeredServiceIndex, requestParameterResolver);
         this.oidcServerDiscoverySettings = oidcServerDiscoverySettings;
     }
 
@@ -83,6 +83,7 @@ import org.apereo.cas.support.oauth.authenticator.OAuth20AuthenticationClientPro
 import org.apereo.cas.support.oauth.authenticator.OAuth20CasAuthenticationBuilder;
 import org.apereo.cas.support.oauth.profile.OAuth20ProfileScopeToAttributesFilter;
 import org.apereo.cas.support.oauth.profile.OAuth20UserProfileDataCreator;
+import org.apereo.cas.support.oauth.services.OAuth20RegisteredServiceIndex;
 import org.apereo.cas.support.oauth.validator.OAuth20ClientSecretValidator;
 import org.apereo.cas.support.oauth.validator.authorization.OAuth20AuthorizationRequestValidator;
 import org.apereo.cas.support.oauth.validator.token.OAuth20TokenRequestValidator;
@@ -90,6 +91,7 @@ import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
 import org.apereo.cas.support.oauth.web.response.OAuth20CasClientRedirectActionBuilder;
 import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20VerifiedAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationModelAndViewBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20InvalidAuthorizationResponseBuilder;
@@ -577,15 +579,15 @@ public class OidcConfiguration {
         @ConditionalOnMissingBean(name = "oidcDPoPClientProvider")
         public OAuth20AuthenticationClientProvider oidcDPoPClientProvider(
             final CasConfigurationProperties casProperties,
-            @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(OidcServerDiscoverySettings.BEAN_NAME_FACTORY)
             final OidcServerDiscoverySettings oidcServerDiscoverySettings) {
             return () -> {
                 val client = new HeaderClient(OAuth20Constants.DPOP,
-                    new OidcDPoPAuthenticator(oidcServerDiscoverySettings, servicesManager,
+                    new OidcDPoPAuthenticator(oidcServerDiscoverySettings, oauthRegisteredServiceIndex,
                         registeredServiceAccessStrategyEnforcer, casProperties));
                 client.setName(Authenticators.CAS_OAUTH_CLIENT_DPOP_AUTHN);
                 client.init();
@@ -603,8 +605,8 @@ public class OidcConfiguration {
             final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
-            @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             final ConfigurableApplicationContext applicationContext,
             final CasConfigurationProperties casProperties,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
@@ -613,7 +615,7 @@ public class OidcConfiguration {
             final OidcServerDiscoverySettings oidcServerDiscoverySettings) {
             return () -> {
                 val authenticator = new OidcJwtAuthenticator(oidcIssuerService,
-                    servicesManager, registeredServiceAccessStrategyEnforcer,
+                    oauthRegisteredServiceIndex, registeredServiceAccessStrategyEnforcer,
                     ticketRegistry, webApplicationServiceFactory,
                     casProperties, applicationContext, oidcServerDiscoverySettings);
                 val privateKeyJwtClient = new DirectFormClient(authenticator);
@@ -631,14 +633,18 @@ public class OidcConfiguration {
         public Authenticator oauthAccessTokenAuthenticator(
             @Qualifier("oidcTokenSigningAndEncryptionService")
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
+            @Qualifier(OAuth20VerifiedAccessTokenCache.BEAN_NAME)
+            final OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
-            @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) throws Exception {
-            return new OidcAccessTokenAuthenticator(ticketRegistry,
-                oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex) throws Exception {
+            val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
+                oidcTokenSigningAndEncryptionService, oauthRegisteredServiceIndex, accessTokenJwtBuilder);
+            authenticator.setVerifiedAccessTokenCache(oauthVerifiedAccessTokenCache);
+            return authenticator;
         }
 
         @ConditionalOnMissingBean(name = "oidcDynamicRegistrationAuthenticator")
@@ -647,14 +653,17 @@ public class OidcConfiguration {
         public Authenticator oidcDynamicRegistrationAuthenticator(
             @Qualifier("oidcTokenSigningAndEncryptionService")
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
+            @Qualifier(OAuth20VerifiedAccessTokenCache.BEAN_NAME)
+            final OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
-            @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager) throws Exception {
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex) throws Exception {
             val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
-                oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+                oidcTokenSigningAndEncryptionService, oauthRegisteredServiceIndex, accessTokenJwtBuilder);
+            authenticator.setVerifiedAccessTokenCache(oauthVerifiedAccessTokenCache);
             authenticator.setRequiredScopes(Set.of(OidcConstants.CLIENT_REGISTRATION_SCOPE));
             return authenticator;
         }
@@ -732,6 +741,8 @@ public class OidcConfiguration {
             final OidcAttributeToScopeClaimMapper oidcAttributeToScopeClaimMapper,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20VerifiedAccessTokenCache.BEAN_NAME)
+            final OAuth20VerifiedAccessTokenCache oauthVerifiedAccessTokenCache,
             @Qualifier("deviceTokenExpirationPolicy")
             final ExpirationPolicyBuilder deviceTokenExpirationPolicy,
             @Qualifier(OidcIssuerService.BEAN_NAME)
@@ -758,6 +769,8 @@ public class OidcConfiguration {
             final TicketRegistry ticketRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(TicketFactory.BEAN_NAME)
             final TicketFactory ticketFactory,
             @Qualifier("oidcPrincipalFactory")
@@ -795,6 +808,7 @@ public class OidcConfiguration {
                 .registeredServiceCipherExecutor(oauthRegisteredServiceCipherExecutor)
                 .sessionStore(oauthDistributedSessionStore)
                 .servicesManager(servicesManager)
+                .registeredServiceIndex(oauthRegisteredServiceIndex)
                 .ticketRegistry(ticketRegistry)
                 .clientRegistrationRequestSerializer(clientRegistrationRequestSerializer)
                 .clientIdGenerator(new DefaultRandomStringGenerator())
@@ -823,6 +837,7 @@ public class OidcConfiguration {
                 .singleLogoutServiceLogoutUrlBuilder(singleLogoutServiceLogoutUrlBuilder)
                 .idTokenSigningAndEncryptionService(oidcTokenSigningAndEncryptionService)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .verifiedAccessTokenCache(oauthVerifiedAccessTokenCache)
                 .clientSecretValidator(oauth20ClientSecretValidator)
                 .attributeDefinitionStore(attributeDefinitionStore)
                 .build();
@@ -958,15 +973,15 @@ public class OidcConfiguration {
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(WebApplicationService.BEAN_NAME_FACTORY)
             final ServiceFactory<WebApplicationService> webApplicationServiceFactory,
-            @Qualifier(ServicesManager.BEAN_NAME)
-            final ServicesManager servicesManager,
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME)
+            final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
             @Qualifier(PrincipalResolver.BEAN_NAME_PRINCIPAL_RESOLVER)
             final PrincipalResolver defaultPrincipalResolver,
             @Qualifier(OAuth20ClientSecretValidator.BEAN_NAME)
             final OAuth20ClientSecretValidator oauth20ClientSecretValidator) {
-            return new OidcClientIdClientSecretAuthenticator(servicesManager,
+            return new OidcClientIdClientSecretAuthenticator(oauthRegisteredServiceIndex,
                 webApplicationServiceFactory,
                 registeredServiceAccessStrategyEnforcer,
                 ticketRegistry,
@@ -989,8 +1004,8 @@ public class OidcConfiguration {
             final OAuth20RequestParameterResolver oauthRequestParameterResolver,
             @Qualifier(AuthenticationSystemSupport.BEAN_NAME)
             final AuthenticationSystemSupport authenticationSystemSupport,
-            @Qualifier(ServicesManager.BEAN_NAME) final ServicesManager servicesManager) {
-            return new OidcX509Authenticator(servicesManager, oauthRequestParameterResolver, oidcServerDiscoverySettings);
+            @Qualifier(OAuth20RegisteredServiceIndex.BEAN_NAME) final OAuth20RegisteredServiceIndex oauthRegisteredServiceIndex) {
+            return new OidcX509Authenticator(oauthRegisteredServiceIndex, oauthRequestParameterResolver, oidcServerDiscoverySettings);
         }
     }
 
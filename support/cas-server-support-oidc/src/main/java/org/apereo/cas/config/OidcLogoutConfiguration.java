@@ -3,7 +3,9 @@ package org.apereo.cas.config;
 import org.apereo.cas.authentication.AuthenticationServiceSelectionPlan;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
+import org.apereo.cas.logout.slo.SingleLogoutCircuitBreaker;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilderConfigurer;
@@ -18,6 +20,9 @@ import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.web.UrlValidator;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -88,14 +93,21 @@ public class OidcLogoutConfiguration {
             @Qualifier(HttpClient.BEAN_NAME_HTTPCLIENT_NO_REDIRECT)
             final HttpClient httpClient,
             @Qualifier(OidcIssuerService.BEAN_NAME)
-            final OidcIssuerService oidcIssuerService) {
-            return new OidcSingleLogoutServiceMessageHandler(httpClient,
+            final OidcIssuerService oidcIssuerService,
+            @Qualifier("singleLogoutCircuitBreaker")
+            final ObjectProvider<SingleLogoutCircuitBreaker> singleLogoutCircuitBreaker,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            val handler = new OidcSingleLogoutServiceMessageHandler(httpClient,
                 oidcSingleLogoutMessageCreator,
                 servicesManager,
                 singleLogoutServiceLogoutUrlBuilder,
                 casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan,
                 oidcIssuerService);
+            singleLogoutCircuitBreaker.ifAvailable(handler::setCircuitBreaker);
+            handler.setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            handler.setTimeout(Beans.newDuration(casProperties.getSlo().getDispatcher().getTimeout()));
+            return handler;
         }
 
     }
@@ -0,0 +1,242 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.util.CollectionUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.BasePersonAttributeDao;
+import org.apereo.services.persondir.support.IUsernameAttributeProvider;
+import org.apereo.services.persondir.support.SimpleUsernameAttributeProvider;
+import org.apereo.services.persondir.support.merger.IAttributeMerger;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * This is {@link ParallelPersonAttributeDao}. It queries all attribute repositories
+ * concurrently on virtual threads and merges their results in the order in which
+ * repositories are registered, using the configured {@link IAttributeMerger}.
+ * The end result is identical to querying repositories one after another and merging
+ * as results arrive, while the overall latency is bound by the slowest repository
+ * rather than the sum of all.
+ * <p>
+ * Each repository is given a deadline to produce a result, and the aggregation as a whole
+ * is bound by an overall deadline. Repositories that fail or time out are skipped if exceptions
+ * can be recovered; otherwise, the query fails. Repositories that depend on one another's results
+ * must be aggregated sequentially using a cascading strategy instead. The request attributes and client
+ * info of the calling thread are carried over to each repository query.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+@Setter
+@Accessors(chain = true)
+public class ParallelPersonAttributeDao extends BasePersonAttributeDao implements DisposableBean {
+    private static final String METER_NAME = "cas.person.directory.repository";
+
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final List<IPersonAttributeDao> personAttributeDaos;
+
+    private final IAttributeMerger merger;
+
+    private final MeterRegistry meterRegistry;
+
+    private IUsernameAttributeProvider usernameAttributeProvider = new SimpleUsernameAttributeProvider();
+
+    private Duration repositoryTimeout = Duration.ofSeconds(5);
+
+    private Duration timeout = Duration.ofSeconds(10);
+
+    private boolean recoverExceptions = true;
+
+    private boolean requireAll;
+
+    public ParallelPersonAttributeDao(final List<IPersonAttributeDao> personAttributeDaos,
+                                      final IAttributeMerger merger,
+                                      final MeterRegistry meterRegistry) {
+        this.personAttributeDaos = List.copyOf(personAttributeDaos);
+        this.merger = merger;
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static Map<String, List<Object>> stuffAttributesIntoList(final Map<String, ?> personAttributesMap) {
+        val entries = (Set<? extends Map.Entry<String, ?>>) personAttributesMap.entrySet();
+        return entries.stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> CollectionUtils.toCollection(entry.getValue(), ArrayList.class)));
+    }
+
+    private static String getRepositoryName(final IPersonAttributeDao repository) {
+        return String.join(",", repository.getId());
+    }
+
+    @Override
+    public IPersonAttributes getPerson(final String uid, final Set<IPersonAttributes> resolvedPeople,
+                                       final IPersonAttributeDaoFilter filter) {
+        val query = new LinkedHashMap<String, List<Object>>();
+        query.put(usernameAttributeProvider.getUsernameAttribute(), CollectionUtils.wrapList(uid));
+        val people = getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        return people == null || people.isEmpty() ? null : people.iterator().next();
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeople(final Map<String, Object> map, final IPersonAttributeDaoFilter filter,
+                                            final Set<IPersonAttributes> resolvedPeople) {
+        return getPeopleWithMultivaluedAttributes(stuffAttributesIntoList(map), filter, resolvedPeople);
+    }
+
+    @Override
+    public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                     final IPersonAttributeDaoFilter filter,
+                                                                     final Set<IPersonAttributes> resolvedPeople) {
+        val repositories = getCandidateRepositories(filter);
+        val startTime = System.nanoTime();
+        val repositoryDeadline = startTime + repositoryTimeout.toNanos();
+        val deadline = startTime + timeout.toNanos();
+
+        val requestAttributes = RequestContextHolder.getRequestAttributes();
+        val clientInfo = ClientInfoHolder.getClientInfo();
+        val futures = new ArrayList<Future<Set<IPersonAttributes>>>(repositories.size());
+        for (val repository : repositories) {
+            futures.add(executorService.submit(() -> {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                ClientInfoHolder.setClientInfo(clientInfo);
+                try {
+                    return fetchPeople(repository, query, filter, resolvedPeople);
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                    ClientInfoHolder.clear();
+                }
+            }));
+        }
+
+        Set<IPersonAttributes> results = null;
+        for (var i = 0; i < repositories.size(); i++) {
+            val people = awaitPeople(repositories.get(i), futures.get(i), Math.min(repositoryDeadline, deadline));
+            if (people == null || people.isEmpty()) {
+                if (requireAll) {
+                    LOGGER.debug("Attribute repository [{}] produced no results for [{}] while all repositories are required",
+                        getRepositoryName(repositories.get(i)), query);
+                    futures.forEach(future -> future.cancel(true));
+                    return null;
+                }
+            } else {
+                results = results == null ? new LinkedHashSet<>(people) : merger.mergeResults(results, people);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public Set<String> getPossibleUserAttributeNames(final IPersonAttributeDaoFilter filter) {
+        return mergeAttributeNames(filter, repository -> repository.getPossibleUserAttributeNames(filter),
+            merger::mergePossibleUserAttributeNames);
+    }
+
+    @Override
+    public Set<String> getAvailableQueryAttributes(final IPersonAttributeDaoFilter filter) {
+        return mergeAttributeNames(filter, repository -> repository.getAvailableQueryAttributes(filter),
+            merger::mergeAvailableQueryAttributes);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+
+    protected List<IPersonAttributeDao> getCandidateRepositories(final IPersonAttributeDaoFilter filter) {
+        return personAttributeDaos
+            .stream()
+            .filter(IPersonAttributeDao::isEnabled)
+            .filter(repository -> filter == null || filter.choosePersonAttributeDao(repository))
+            .toList();
+    }
+
+    protected Set<IPersonAttributes> fetchPeople(final IPersonAttributeDao repository,
+                                                 final Map<String, List<Object>> query,
+                                                 final IPersonAttributeDaoFilter filter,
+                                                 final Set<IPersonAttributes> resolvedPeople) {
+        val sample = Timer.start(meterRegistry);
+        var outcome = "success";
+        try {
+            LOGGER.trace("Fetching people from attribute repository [{}] for query [{}]", getRepositoryName(repository), query);
+            return repository.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        } catch (final RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer(METER_NAME, "repository", getRepositoryName(repository), "outcome", outcome));
+        }
+    }
+
+    private Set<IPersonAttributes> awaitPeople(final IPersonAttributeDao repository,
+                                               final Future<Set<IPersonAttributes>> future,
+                                               final long deadline) {
+        val name = getRepositoryName(repository);
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            meterRegistry.counter(METER_NAME + ".timeouts", "repository", name).increment();
+            return handleFailure(name, new IllegalStateException("Attribute repository " + name + " failed to respond in time", e));
+        } catch (final ExecutionException e) {
+            return handleFailure(name, e.getCause());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return handleFailure(name, e);
+        }
+    }
+
+    private Set<IPersonAttributes> handleFailure(final String name, final Throwable throwable) {
+        if (recoverExceptions) {
+            LOGGER.warn("Recovering from failure to fetch people from attribute repository [{}]: [{}]", name, throwable.getMessage());
+            LOGGER.debug(throwable.getMessage(), throwable);
+            return null;
+        }
+        if (throwable instanceof final RuntimeException e) {
+            throw e;
+        }
+        throw new IllegalStateException(throwable);
+    }
+
+    private Set<String> mergeAttributeNames(final IPersonAttributeDaoFilter filter,
+                                            final Function<IPersonAttributeDao, Set<String>> attributeNames,
+                                            final BiFunction<Set<String>, Set<String>, Set<String>> mergeFunction) {
+        Set<String> results = null;
+        for (val repository : getCandidateRepositories(filter)) {
+            val names = attributeNames.apply(repository);
+            if (names != null) {
+                results = results == null ? new LinkedHashSet<>(names) : mergeFunction.apply(results, names);
+            }
+        }
+        return results;
+    }
+}
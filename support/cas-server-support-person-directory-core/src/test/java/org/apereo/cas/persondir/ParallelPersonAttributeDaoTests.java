@@ -0,0 +1,175 @@
+package org.apereo.cas.persondir;
+
+import org.apereo.cas.authentication.CoreAuthenticationUtils;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.apereo.services.persondir.IPersonAttributeDao;
+import org.apereo.services.persondir.IPersonAttributeDaoFilter;
+import org.apereo.services.persondir.IPersonAttributes;
+import org.apereo.services.persondir.support.StubPersonAttributeDao;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ParallelPersonAttributeDaoTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Attributes")
+class ParallelPersonAttributeDaoTests {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ParallelPersonAttributeDao attributeRepository;
+
+    private static IPersonAttributeDao getRepository(final String id, final Map<String, List<Object>> attributes) {
+        val repository = new StubPersonAttributeDao(attributes);
+        repository.setId(id);
+        return repository;
+    }
+
+    private ParallelPersonAttributeDao getAttributeRepository(final IPersonAttributeDao... repositories) {
+        attributeRepository = new ParallelPersonAttributeDao(List.of(repositories),
+            CoreAuthenticationUtils.getAttributeMerger(PrincipalAttributesCoreProperties.MergingStrategyTypes.MULTIVALUED),
+            meterRegistry);
+        return attributeRepository;
+    }
+
+    @AfterEach
+    void afterEach() {
+        if (attributeRepository != null) {
+            attributeRepository.destroy();
+        }
+    }
+
+    @Test
+    void verifyResultsAreMerged() throws Throwable {
+        val repository = getAttributeRepository(
+            getRepository("first", Map.of("username", List.of("casuser"), "role", List.of("admin"), "uid", List.of("cas"))),
+            getRepository("second", Map.of("username", List.of("casuser"), "role", List.of("developer"), "mail", List.of("cas@example.org"))));
+        val person = repository.getPerson("casuser");
+        assertNotNull(person);
+        assertEquals(2, person.getAttributeValues("role").size());
+        assertEquals("cas", person.getAttributeValue("uid"));
+        assertEquals("cas@example.org", person.getAttributeValue("mail"));
+        assertNotNull(meterRegistry.find("cas.person.directory.repository").tag("repository", "first").timer());
+        assertNotNull(meterRegistry.find("cas.person.directory.repository").tag("repository", "second").timer());
+        assertFalse(repository.getPossibleUserAttributeNames(IPersonAttributeDaoFilter.alwaysChoose()).isEmpty());
+    }
+
+    @Test
+    void verifySlowRepositoryIsSkipped() throws Throwable {
+        val repository = getAttributeRepository(
+            new SlowPersonAttributeDao("slow", Map.of("username", List.of("casuser"), "role", List.of("admin"))),
+            getRepository("fast", Map.of("username", List.of("casuser"), "mail", List.of("cas@example.org"))))
+            .setRepositoryTimeout(Duration.ofMillis(200));
+        val startTime = System.currentTimeMillis();
+        val person = repository.getPerson("casuser");
+        assertTrue(System.currentTimeMillis() - startTime < SlowPersonAttributeDao.DELAY.toMillis());
+        assertNotNull(person);
+        assertNull(person.getAttributeValue("role"));
+        assertEquals("cas@example.org", person.getAttributeValue("mail"));
+        assertEquals(1, meterRegistry.get("cas.person.directory.repository.timeouts").tag("repository", "slow").counter().count());
+    }
+
+    @Test
+    void verifySlowRepositoryFails() throws Throwable {
+        val repository = getAttributeRepository(
+            new SlowPersonAttributeDao("slow", Map.of("username", List.of("casuser"))),
+            getRepository("fast", Map.of("username", List.of("casuser"))))
+            .setTimeout(Duration.ofMillis(200))
+            .setRecoverExceptions(false);
+        assertThrows(IllegalStateException.class, () -> repository.getPerson("casuser"));
+    }
+
+    @Test
+    void verifyAllRepositoriesRequired() throws Throwable {
+        val repository = getAttributeRepository(
+            getRepository("first", Map.of("username", List.of("casuser"), "uid", List.of("cas"))),
+            new SlowPersonAttributeDao("slow", Map.of("username", List.of("casuser"))))
+            .setRepositoryTimeout(Duration.ofMillis(200))
+            .setRequireAll(true);
+        assertNull(repository.getPerson("casuser"));
+    }
+
+    @Test
+    void verifyRequestContextIsPropagated() throws Throwable {
+        val request = new MockHttpServletRequest();
+        val clientInfo = new ClientInfo("1.2.3.4", "5.6.7.8", "CAS", "London");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, new MockHttpServletResponse()));
+        ClientInfoHolder.setClientInfo(clientInfo);
+        try {
+            val contextAware = new ContextAwarePersonAttributeDao(Map.of("username", List.of("casuser")));
+            val repository = getAttributeRepository(contextAware,
+                getRepository("second", Map.of("username", List.of("casuser"), "mail", List.of("cas@example.org"))));
+            assertNotNull(repository.getPerson("casuser"));
+            assertSame(request, contextAware.getRequest());
+            assertSame(clientInfo, contextAware.getClientInfo());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            ClientInfoHolder.clear();
+        }
+    }
+
+    @Getter
+    private static final class ContextAwarePersonAttributeDao extends StubPersonAttributeDao {
+        private HttpServletRequest request;
+
+        private ClientInfo clientInfo;
+
+        ContextAwarePersonAttributeDao(final Map<String, List<Object>> attributes) {
+            super(attributes);
+            setId("context");
+        }
+
+        @Override
+        public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                         final IPersonAttributeDaoFilter filter,
+                                                                         final Set<IPersonAttributes> resolvedPeople) {
+            val attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+            request = attributes != null ? attributes.getRequest() : null;
+            clientInfo = ClientInfoHolder.getClientInfo();
+            return super.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        }
+    }
+
+    private static final class SlowPersonAttributeDao extends StubPersonAttributeDao {
+        private static final Duration DELAY = Duration.ofSeconds(3);
+
+        SlowPersonAttributeDao(final String id, final Map<String, List<Object>> attributes) {
+            super(attributes);
+            setId(id);
+        }
+
+        @Override
+        public Set<IPersonAttributes> getPeopleWithMultivaluedAttributes(final Map<String, List<Object>> query,
+                                                                         final IPersonAttributeDaoFilter filter,
+                                                                         final Set<IPersonAttributes> resolvedPeople) {
+            try {
+                Thread.sleep(DELAY);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Set.of();
+            }
+            return super.getPeopleWithMultivaluedAttributes(query, filter, resolvedPeople);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.apereo.cas.authentication.principal.cache;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.util.PublisherIdentifier;
+import org.apereo.cas.util.cache.DistributedCacheManager;
+import org.apereo.cas.util.cache.DistributedCacheObject;
+import org.apereo.cas.util.cache.MappableDistributedCacheManager;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.hazelcast.map.IMap;
+import com.hazelcast.topic.ITopic;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link HazelcastPrincipalAttributesDistributedCacheManager}.
+ * Cached attributes are kept in a Hazelcast map and each entry lives as long as the
+ * caching repository that produced it allows. Keys that are updated or removed with {@code publish}
+ * are announced on a Hazelcast topic, so that other nodes can drop their local copies.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@Getter
+public class HazelcastPrincipalAttributesDistributedCacheManager
+    extends MappableDistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>> {
+
+    private final PublisherIdentifier publisherIdentifier = new PublisherIdentifier();
+
+    private final ITopic<DistributedCacheObject<String>> topic;
+
+    private final List<UUID> listenerRegistrations = new CopyOnWriteArrayList<>();
+
+    public HazelcastPrincipalAttributesDistributedCacheManager(
+        final IMap<String, DistributedCacheObject<HashMap<String, List<Object>>>> mapInstance,
+        final ITopic<DistributedCacheObject<String>> topic) {
+        super(mapInstance);
+        this.topic = topic;
+    }
+
+    /**
+     * Register a listener that receives keys updated or removed by other nodes.
+     * A blank key indicates that all entries are removed.
+     *
+     * @param listener the listener
+     */
+    public void addInvalidationListener(final Consumer<String> listener) {
+        val registration = topic.addMessageListener(message -> {
+            val item = message.getMessageObject();
+            if (!publisherIdentifier.equals(item.getPublisherIdentifier())) {
+                LOGGER.trace("Received invalidation for [{}] from [{}]", item.getValue(), item.getPublisherIdentifier());
+                listener.accept(item.getValue());
+            }
+        });
+        listenerRegistrations.add(registration);
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        publish(null);
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public DistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>, PublisherIdentifier> set(
+        final String key, final DistributedCacheObject<HashMap<String, List<Object>>> item, final boolean publish) {
+        val expiration = NumberUtils.toLong(item.getProperty(
+            PrincipalAttributesRepositoryCache.DISTRIBUTED_CACHE_EXPIRATION_PROPERTY, String.class));
+        val map = (IMap<String, DistributedCacheObject<HashMap<String, List<Object>>>>) mapInstance;
+        if (expiration > 0) {
+            map.set(buildKey(key), item, expiration, TimeUnit.MILLISECONDS);
+        } else {
+            map.set(buildKey(key), item);
+        }
+        if (publish) {
+            publish(key);
+        }
+        return this;
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public DistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>, PublisherIdentifier> update(
+        final String key, final DistributedCacheObject<HashMap<String, List<Object>>> item, final boolean publish) {
+        return set(key, item, publish);
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public DistributedCacheManager<String, DistributedCacheObject<HashMap<String, List<Object>>>, PublisherIdentifier> remove(
+        final String key, final DistributedCacheObject<HashMap<String, List<Object>>> item, final boolean publish) {
+        ((IMap<String, DistributedCacheObject<HashMap<String, List<Object>>>>) mapInstance).delete(buildKey(key));
+        if (publish) {
+            publish(key);
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        listenerRegistrations.forEach(topic::removeMessageListener);
+        listenerRegistrations.clear();
+    }
+
+    protected void publish(final String key) {
+        val message = DistributedCacheObject.<String>builder()
+            .value(key)
+            .publisherIdentifier(publisherIdentifier)
+            .build();
+        topic.publish(message);
+    }
+}
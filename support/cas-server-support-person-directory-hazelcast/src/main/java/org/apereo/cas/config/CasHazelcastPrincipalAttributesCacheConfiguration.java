@@ -0,0 +1,55 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.cache.HazelcastPrincipalAttributesDistributedCacheManager;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.hz.HazelcastConfigurationFactory;
+import org.apereo.cas.util.cache.DistributedCacheManager;
+import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+
+import com.hazelcast.core.HazelcastInstance;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * This is {@link CasHazelcastPrincipalAttributesCacheConfiguration}. It backs the
+ * principal attributes repository cache with a Hazelcast map that is shared by all nodes,
+ * and drops locally cached attributes when other nodes update or remove them.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+@Slf4j
+@ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.PersonDirectory, module = "hazelcast")
+@AutoConfiguration
+public class CasHazelcastPrincipalAttributesCacheConfiguration {
+    private static final String MAP_KEY = "principalAttributesRepositoryCache";
+
+    private static final String TOPIC_KEY = MAP_KEY + "Invalidations";
+
+    @Bean
+    @ConditionalOnMissingBean(name = PrincipalAttributesRepositoryCache.DISTRIBUTED_CACHE_BEAN_NAME)
+    public DistributedCacheManager principalAttributesRepositoryDistributedCache(
+        @Qualifier("casTicketRegistryHazelcastInstance")
+        final HazelcastInstance casTicketRegistryHazelcastInstance,
+        @Qualifier(PrincipalAttributesRepositoryCache.DEFAULT_BEAN_NAME)
+        final ObjectProvider<PrincipalAttributesRepositoryCache> principalAttributesRepositoryCache,
+        final CasConfigurationProperties casProperties) {
+        val hz = casProperties.getTicket().getRegistry().getHazelcast();
+        LOGGER.debug("Creating [{}] to cache principal attributes for registered services", MAP_KEY);
+        val mapConfig = HazelcastConfigurationFactory.buildMapConfig(hz, MAP_KEY, 0);
+        HazelcastConfigurationFactory.setConfigMap(mapConfig, casTicketRegistryHazelcastInstance.getConfig());
+        val cacheManager = new HazelcastPrincipalAttributesDistributedCacheManager(
+            casTicketRegistryHazelcastInstance.getMap(MAP_KEY), casTicketRegistryHazelcastInstance.getTopic(TOPIC_KEY));
+        cacheManager.addInvalidationListener(key -> principalAttributesRepositoryCache.ifAvailable(cache -> cache.invalidate(key)));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,100 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.cache.CachingPrincipalAttributesRepository;
+import org.apereo.cas.authentication.principal.cache.DefaultPrincipalAttributesRepositoryCache;
+import org.apereo.cas.authentication.principal.cache.HazelcastPrincipalAttributesDistributedCacheManager;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.util.cache.DistributedCacheManager;
+import org.apereo.cas.util.cache.DistributedCacheObject;
+
+import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CasHazelcastPrincipalAttributesCacheConfigurationTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    WebMvcAutoConfiguration.class,
+    HazelcastTicketRegistryConfiguration.class,
+    HazelcastTicketRegistryTicketCatalogConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasHazelcastPrincipalAttributesCacheConfiguration.class
+})
+@Tag("Hazelcast")
+class CasHazelcastPrincipalAttributesCacheConfigurationTests {
+    private static final String MAP_KEY = "principalAttributesRepositoryCache";
+
+    @Autowired
+    @Qualifier(PrincipalAttributesRepositoryCache.DISTRIBUTED_CACHE_BEAN_NAME)
+    private DistributedCacheManager principalAttributesRepositoryDistributedCache;
+
+    @Autowired
+    @Qualifier("casTicketRegistryHazelcastInstance")
+    private HazelcastInstance casTicketRegistryHazelcastInstance;
+
+    @Test
+    void verifyUpdatesInvalidateOtherNodes() throws Throwable {
+        assertInstanceOf(HazelcastPrincipalAttributesDistributedCacheManager.class, principalAttributesRepositoryDistributedCache);
+        val firstNode = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ofMinutes(1),
+            new SimpleMeterRegistry(), principalAttributesRepositoryDistributedCache);
+
+        try (val secondCacheManager = new HazelcastPrincipalAttributesDistributedCacheManager(
+            casTicketRegistryHazelcastInstance.<String, DistributedCacheObject<HashMap<String, List<Object>>>>getMap(MAP_KEY),
+            casTicketRegistryHazelcastInstance.getTopic(MAP_KEY + "Invalidations"))) {
+            val secondNode = new DefaultPrincipalAttributesRepositoryCache(1000, Duration.ofMinutes(1),
+                new SimpleMeterRegistry(), secondCacheManager);
+            secondCacheManager.addInvalidationListener(secondNode::invalidate);
+
+            val registeredService = RegisteredServiceTestUtils.getRegisteredService();
+            val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+            val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+            firstNode.putAttributes(registeredService, repository, principal.getId(), Map.of("mail", List.of("cas@example.org")));
+            assertEquals(List.of("cas@example.org"), secondNode.fetchAttributes(registeredService, repository, principal).get("mail"));
+            val key = firstNode.getCache().asMap().keySet().iterator().next();
+            val entry = casTicketRegistryHazelcastInstance.getMap(MAP_KEY).getEntryView(key);
+            assertEquals(TimeUnit.MINUTES.toMillis(5), entry.getTtl());
+
+            firstNode.putAttributes(registeredService, repository, principal.getId(), Map.of("mail", List.of("casuser@example.org")));
+            await().untilAsserted(() -> assertEquals(List.of("casuser@example.org"),
+                secondNode.fetchAttributes(registeredService, repository, principal).get("mail")));
+            assertNotNull(firstNode.getCache().getIfPresent(key));
+
+            firstNode.invalidate();
+            await().untilAsserted(() -> assertTrue(secondNode.getCache().asMap().isEmpty()));
+            assertTrue(secondNode.fetchAttributes(registeredService, repository, principal).isEmpty());
+        }
+    }
+}
@@ -10,8 +10,11 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.resolvers.PersonDirectoryPrincipalResolver;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.authentication.PrincipalAttributesCoreProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.persondir.DefaultAttributeRepositoryResolver;
 import org.apereo.cas.persondir.DefaultPersonDirectoryAttributeRepositoryPlan;
+import org.apereo.cas.persondir.ParallelPersonAttributeDao;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryCustomizer;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlan;
 import org.apereo.cas.persondir.PersonDirectoryAttributeRepositoryPlanConfigurer;
@@ -19,6 +22,8 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.services.persondir.IPersonAttributeDao;
@@ -200,16 +205,10 @@ public class CasPersonDirectoryConfiguration {
             @Qualifier("attributeRepositoryAttributeMerger")
             final IAttributeMerger attributeRepositoryAttributeMerger,
             final CasConfigurationProperties casProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry,
             @Qualifier("personDirectoryAttributeRepositoryPlan")
             final PersonDirectoryAttributeRepositoryPlan personDirectoryAttributeRepositoryPlan) {
-            val aggregate = getAggregateAttributeRepository(casProperties);
-            aggregate.setMerger(attributeRepositoryAttributeMerger);
-
             val list = personDirectoryAttributeRepositoryPlan.getAttributeRepositories();
-            aggregate.setPersonAttributeDaos(list);
-
-            val properties = casProperties.getAuthn().getAttributeRepository();
-            aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
             if (list.isEmpty()) {
                 LOGGER.debug("No attribute repository sources are available/defined to merge together.");
             } else {
@@ -220,10 +219,24 @@ public class CasPersonDirectoryConfiguration {
                 LOGGER.debug("Configured attribute repository sources to merge together: [{}]", names);
             }
 
+            val properties = casProperties.getAuthn().getAttributeRepository();
             val recoverExceptions = properties.getCore().isRecoverExceptions();
-            aggregate.setRecoverExceptions(recoverExceptions);
             LOGGER.trace("Configured attribute repository to recover from exceptions: [{}]", recoverExceptions);
 
+            if (properties.getCore().getAggregation() == PrincipalAttributesCoreProperties.AggregationStrategyTypes.PARALLEL) {
+                return new ParallelPersonAttributeDao(list, attributeRepositoryAttributeMerger,
+                    meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+                    .setRepositoryTimeout(Beans.newDuration(properties.getCore().getRepositoryTimeout()))
+                    .setTimeout(Beans.newDuration(properties.getCore().getAggregationTimeout()))
+                    .setRequireAll(properties.getCore().isRequireAllRepositorySources())
+                    .setRecoverExceptions(recoverExceptions);
+            }
+
+            val aggregate = getAggregateAttributeRepository(casProperties);
+            aggregate.setMerger(attributeRepositoryAttributeMerger);
+            aggregate.setPersonAttributeDaos(list);
+            aggregate.setRequireAll(properties.getCore().isRequireAllRepositorySources());
+            aggregate.setRecoverExceptions(recoverExceptions);
             return aggregate;
         }
 
@@ -8,6 +8,7 @@ import com.redis.lettucemod.RedisModulesClient;
 import com.redis.lettucemod.api.sync.RedisModulesCommands;
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.SocketOptions;
@@ -133,20 +134,7 @@ public class RedisObjectFactory {
      */
     public static Optional<RedisModulesCommands> newRedisModulesCommands(
         final BaseRedisProperties redis, final CasSSLContext casSslContext) throws Exception {
-        val uriBuilder = RedisURI.builder()
-            .withStartTls(redis.isStartTls())
-            .withVerifyPeer(redis.isVerifyPeer())
-            .withHost(redis.getHost())
-            .withPort(redis.getPort())
-            .withDatabase(redis.getDatabase())
-            .withSsl(redis.isUseSsl());
-
-        if (StringUtils.hasText(redis.getUsername()) && StringUtils.hasText(redis.getPassword())) {
-            uriBuilder.withAuthentication(redis.getUsername(), redis.getPassword());
-        } else if (StringUtils.hasText(redis.getPassword())) {
-            uriBuilder.withPassword(redis.getPassword().toCharArray());
-        }
-        val redisModulesClient = RedisModulesClient.create(uriBuilder.build());
+        val redisModulesClient = RedisModulesClient.create(buildRedisUri(redis));
         val clientOptions = createClientOptions(redis, casSslContext);
         redisModulesClient.setOptions(clientOptions);
         val result = redisModulesClient.connect().sync();
@@ -162,6 +150,44 @@ public class RedisObjectFactory {
         return Optional.of(result);
     }
 
+    /**
+     * New redis client that always speaks the {@code RESP3} protocol,
+     * which is required to receive push messages such as invalidations
+     * for server-assisted client-side caching.
+     *
+     * @param redis         the redis
+     * @param casSslContext the cas ssl context
+     * @return the redis client
+     * @throws Exception the exception
+     */
+    public static RedisClient newRedisClientWithPushMessages(final BaseRedisProperties redis,
+                                                             final CasSSLContext casSslContext) throws Exception {
+        val redisClient = RedisClient.create(buildRedisUri(redis));
+        val clientOptions = createClientOptions(redis, casSslContext)
+            .mutate()
+            .protocolVersion(ProtocolVersion.RESP3)
+            .build();
+        redisClient.setOptions(clientOptions);
+        return redisClient;
+    }
+
+    private static RedisURI buildRedisUri(final BaseRedisProperties redis) {
+        val uriBuilder = RedisURI.builder()
+            .withStartTls(redis.isStartTls())
+            .withVerifyPeer(redis.isVerifyPeer())
+            .withHost(redis.getHost())
+            .withPort(redis.getPort())
+            .withDatabase(redis.getDatabase())
+            .withSsl(redis.isUseSsl());
+
+        if (StringUtils.hasText(redis.getUsername()) && StringUtils.hasText(redis.getPassword())) {
+            uriBuilder.withAuthentication(redis.getUsername(), redis.getPassword());
+        } else if (StringUtils.hasText(redis.getPassword())) {
+            uriBuilder.withPassword(redis.getPassword().toCharArray());
+        }
+        return uriBuilder.build();
+    }
+
     private static RedisClusterConfiguration getClusterConfig(final BaseRedisProperties redis) {
         val redisConfiguration = new RedisClusterConfiguration();
         val cluster = redis.getCluster();
@@ -14,6 +14,8 @@ import org.apereo.cas.ticket.registry.RedisCompositeKey;
 import org.apereo.cas.ticket.registry.RedisTicketDocument;
 import org.apereo.cas.ticket.registry.RedisTicketRegistry;
 import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheEndpoint;
+import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheVersion;
+import org.apereo.cas.ticket.registry.RoutingTicketRegistry;
 import org.apereo.cas.ticket.registry.TicketRegistry;
 import org.apereo.cas.ticket.registry.key.PrincipalRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.key.RedisKeyGeneratorFactory;
@@ -21,6 +23,7 @@ import org.apereo.cas.ticket.registry.key.TicketRedisKeyGenerator;
 import org.apereo.cas.ticket.registry.pub.DefaultRedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.registry.sub.DefaultRedisTicketRegistryMessageListener;
+import org.apereo.cas.ticket.registry.sub.RedisTicketRegistryInvalidationListener;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CoreTicketUtils;
 import org.apereo.cas.util.PublisherIdentifier;
@@ -33,12 +36,14 @@ import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.redis.lettucemod.api.sync.RedisModulesCommands;
+import io.lettuce.core.api.push.PushListener;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -46,6 +51,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -71,6 +77,8 @@ public class RedisTicketRegistryConfiguration {
 
     private static final BeanCondition CONDITION = BeanCondition.on("cas.ticket.registry.redis.enabled").isTrue().evenIfMissing();
 
+    private static final BeanCondition CONDITION_CLIENT_SIDE_CACHING = BeanCondition.on("cas.ticket.registry.redis.client-side-caching").isTrue();
+
     @Configuration(value = "RedisTicketRegistryCoreConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @Lazy(false)
@@ -128,9 +136,11 @@ public class RedisTicketRegistryConfiguration {
             @Qualifier("redisTicketRegistryMessageIdentifier")
             final PublisherIdentifier redisTicketRegistryMessageIdentifier,
             @Qualifier("redisTicketRegistryCache")
-            final Cache<String, Ticket> redisTicketRegistryCache) {
-            val adapter = new MessageListenerAdapter(
-                new DefaultRedisTicketRegistryMessageListener(redisTicketRegistryMessageIdentifier, redisTicketRegistryCache));
+            final Cache<String, Ticket> redisTicketRegistryCache,
+            @Qualifier("redisTicketRegistryCacheVersion")
+            final RedisTicketRegistryCacheVersion redisTicketRegistryCacheVersion) {
+            val adapter = new MessageListenerAdapter(new DefaultRedisTicketRegistryMessageListener(
+                redisTicketRegistryMessageIdentifier, redisTicketRegistryCache, redisTicketRegistryCacheVersion));
             adapter.setSerializer(new JdkSerializationRedisSerializer());
             return adapter;
         }
@@ -139,13 +149,43 @@ public class RedisTicketRegistryConfiguration {
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         @ConditionalOnMissingBean(name = "redisTicketRegistryMessagePublisher")
         public RedisTicketRegistryMessagePublisher redisTicketRegistryMessagePublisher(
+            final CasConfigurationProperties casProperties,
             @Qualifier("redisTicketRegistryMessageIdentifier")
             final PublisherIdentifier redisTicketRegistryMessageIdentifier,
             @Qualifier("ticketRedisTemplate")
             final CasRedisTemplate<String, RedisTicketDocument> ticketRedisTemplate) {
+            if (casProperties.getTicket().getRegistry().getRedis().isClientSideCaching()) {
+                return RedisTicketRegistryMessagePublisher.noOp();
+            }
             return new DefaultRedisTicketRegistryMessagePublisher(ticketRedisTemplate, redisTicketRegistryMessageIdentifier);
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "redisTicketRegistryInvalidationListener")
+        @Lazy(false)
+        public PushListener redisTicketRegistryInvalidationListener(
+            final ConfigurableApplicationContext applicationContext,
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasSSLContext.BEAN_NAME)
+            final CasSSLContext casSslContext,
+            @Qualifier("redisKeyGeneratorFactory")
+            final RedisKeyGeneratorFactory redisKeyGeneratorFactory,
+            @Qualifier("redisTicketRegistryCacheVersion")
+            final RedisTicketRegistryCacheVersion redisTicketRegistryCacheVersion) {
+            return BeanSupplier.of(PushListener.class)
+                .when(CONDITION.given(applicationContext.getEnvironment()))
+                .and(CONDITION_CLIENT_SIDE_CACHING.given(applicationContext.getEnvironment()))
+                .supply(Unchecked.supplier(() -> {
+                    val redis = casProperties.getTicket().getRegistry().getRedis();
+                    val redisClient = RedisObjectFactory.newRedisClientWithPushMessages(redis, casSslContext);
+                    val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+                    return new RedisTicketRegistryInvalidationListener(redisClient, redisTicketRegistryCacheVersion, redisKeyGenerator).start();
+                }))
+                .otherwiseProxy()
+                .get();
+        }
+
         @ConditionalOnMissingBean(name = "redisTicketConnectionFactory")
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -200,6 +240,15 @@ public class RedisTicketRegistryConfiguration {
             return Beans.newCache(redis.getCache(), new CachedTicketExpirationPolicy());
         }
 
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @ConditionalOnMissingBean(name = "redisTicketRegistryCacheVersion")
+        public RedisTicketRegistryCacheVersion redisTicketRegistryCacheVersion(
+            @Qualifier("redisTicketRegistryCache")
+            final Cache<String, Ticket> redisTicketRegistryCache) {
+            return new RedisTicketRegistryCacheVersion(redisTicketRegistryCache);
+        }
+
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public RedisTicketRegistry.CasRedisTemplates casRedisTemplates(
@@ -234,6 +283,8 @@ public class RedisTicketRegistryConfiguration {
             final TicketSerializationManager ticketSerializationManager,
             @Qualifier("redisTicketRegistryCache")
             final Cache<String, Ticket> redisTicketRegistryCache,
+            @Qualifier("redisTicketRegistryCacheVersion")
+            final RedisTicketRegistryCacheVersion redisTicketRegistryCacheVersion,
             @Qualifier("redisTicketRegistryMessagePublisher")
             final RedisTicketRegistryMessagePublisher redisTicketRegistryMessagePublisher,
             final ConfigurableApplicationContext applicationContext,
@@ -247,12 +298,23 @@ public class RedisTicketRegistryConfiguration {
                         ? RedisObjectFactory.newRedisModulesCommands(redis, casSslContext)
                         : Optional.<RedisModulesCommands>empty();
                     return new RedisTicketRegistry(cipher, ticketSerializationManager, ticketCatalog,
-                        casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryMessagePublisher,
+                        casRedisTemplates, redisTicketRegistryCache, redisTicketRegistryCacheVersion, redisTicketRegistryMessagePublisher,
                         searchCommands, redisKeyGeneratorFactory, casProperties);
                 }))
                 .otherwise(() -> new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog))
                 .get();
         }
+
+        @EventListener
+        public void migrateTicketCountersWhenReady(final ApplicationReadyEvent event) {
+            var ticketRegistry = event.getApplicationContext().getBean(TicketRegistry.BEAN_NAME, TicketRegistry.class);
+            if (ticketRegistry instanceof final RoutingTicketRegistry routingTicketRegistry) {
+                ticketRegistry = routingTicketRegistry.getDefaultRegistry();
+            }
+            if (ticketRegistry instanceof final RedisTicketRegistry redisTicketRegistry) {
+                redisTicketRegistry.migrateTicketCounters();
+            }
+        }
     }
 
     @Configuration(value = "RedisTicketRegistryLockingConfiguration", proxyBeanMethods = false)
@@ -36,6 +36,11 @@ public class RedisCompositeKey {
      */
     private static final String CAS_PRINCIPAL_PREFIX = "CAS_PRINCIPAL";
 
+    /**
+     * Ticket counters prefix.
+     */
+    private static final String CAS_TICKET_COUNT_PREFIX = "CAS_TICKET_COUNT";
+
     @Builder.Default
     private final String query = "*";
 
@@ -60,6 +65,15 @@ public class RedisCompositeKey {
         return RedisCompositeKey.builder().prefix(CAS_PRINCIPAL_PREFIX).build();
     }
 
+    /**
+     * For ticket counters redis composite key.
+     *
+     * @return the redis composite key
+     */
+    public static RedisCompositeKey forTicketCounts() {
+        return RedisCompositeKey.builder().prefix(CAS_TICKET_COUNT_PREFIX).build();
+    }
+
     /**
      * To key pattern string.
      *
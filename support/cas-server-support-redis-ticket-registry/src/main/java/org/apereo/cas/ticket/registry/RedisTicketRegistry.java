@@ -31,17 +31,20 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hjson.JsonValue;
 import org.hjson.Stringify;
+import org.springframework.data.redis.connection.RedisZSetCommands;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
 import org.springframework.data.redis.core.convert.MappingConfiguration;
+import org.springframework.data.redis.core.convert.RedisData;
 import org.springframework.data.redis.core.index.IndexConfiguration;
 import org.springframework.data.redis.core.mapping.RedisMappingContext;
-import org.springframework.util.Assert;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -50,7 +53,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -69,11 +71,23 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private static final String SEARCH_INDEX_NAME = RedisTicketDocument.class.getSimpleName() + "Index";
 
+    private static final String TICKET_COUNTERS_MIGRATION_KEY = "migration";
+
+    private static final String TICKET_COUNTERS_MIGRATION_RUNNING = "running";
+
+    private static final String TICKET_COUNTERS_MIGRATION_COMPLETED = "completed";
+
+    private static final Duration TICKET_COUNTERS_MIGRATION_LOCK_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final int TICKET_COUNTERS_MIGRATION_BATCH_SIZE = 1000;
+
     private final CasRedisTemplates casRedisTemplates;
 
     @Getter(AccessLevel.PACKAGE)
     private final Cache<String, Ticket> ticketCache;
 
+    private final RedisTicketRegistryCacheVersion cacheVersion;
+
     private final RedisTicketRegistryMessagePublisher messagePublisher;
 
     private final Optional<RedisModulesCommands> redisModuleCommands;
@@ -87,6 +101,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                                final TicketCatalog ticketCatalog,
                                final CasRedisTemplates casRedisTemplates,
                                final Cache<String, Ticket> ticketCache,
+                               final RedisTicketRegistryCacheVersion cacheVersion,
                                final RedisTicketRegistryMessagePublisher messagePublisher,
                                final Optional<RedisModulesCommands> redisModuleCommands,
                                final RedisKeyGeneratorFactory redisKeyGeneratorFactory,
@@ -95,6 +110,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
         this.casRedisTemplates = casRedisTemplates;
         this.ticketCache = ticketCache;
+        this.cacheVersion = cacheVersion;
         this.messagePublisher = messagePublisher;
         this.redisModuleCommands = redisModuleCommands;
         this.redisKeyGeneratorFactory = redisKeyGeneratorFactory;
@@ -120,42 +136,66 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 });
             }
         });
+        ticketCatalog.findAll().forEach(definition ->
+            casRedisTemplates.getSessionsRedisTemplate().delete(getTicketCountKey(definition.getPrefix())));
         clean();
         return size.get();
     }
 
     @Override
     public long deleteSingleTicket(final Ticket ticket) {
+        return deleteTickets(List.of(ticket));
+    }
+
+    @Override
+    protected int deleteChildren(final TicketGrantingTicket ticket) {
+        val services = ticket.getServices();
+        if (services == null || services.isEmpty()) {
+            return 0;
+        }
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
-        val redisTicketsKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-        val count = Stream.of(redisTicketsKey)
-            .mapToInt(id -> BooleanUtils.toBoolean(casRedisTemplates.getTicketsRedisTemplate().delete(id)) ? 1 : 0)
-            .sum();
-
-        redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName())
-            .ifPresent(principalGenerator -> {
-                val principal = digestIdentifier(getPrincipalIdFrom(ticket));
-                val redisPrincipalKey = principalGenerator.forEntry(principal);
-                Stream.of(redisPrincipalKey).forEach(id -> casRedisTemplates.getSessionsRedisTemplate().delete(id));
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val valueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+        val ticketIds = List.copyOf(services.keySet());
+
+        val results = sessionsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ticketIds.forEach(ticketId -> {
+                val prefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+                val digestedId = digestIdentifier(ticketId);
+                connection.keyCommands().del(toBytes(redisKeyGenerator.forEntry(prefix, digestedId)));
+                connection.zSetCommands().zRem(toBytes(getTicketCountKey(prefix)), valueSerializer.serialize(digestedId));
             });
+            return null;
+        });
 
-        ticketCache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey));
-        messagePublisher.delete(ticket);
-        return count;
+        ticketIds.forEach(ticketId -> {
+            val prefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+            ticketCache.invalidate(redisKeyGenerator.rawKey(redisKeyGenerator.forEntry(prefix, digestIdentifier(ticketId))));
+            messagePublisher.delete(ticketId);
+        });
+        var count = 0L;
+        for (var index = 0; index < results.size(); index += 2) {
+            if (results.get(index) instanceof final Number deleted) {
+                count += deleted.longValue();
+            }
+        }
+        return (int) count;
     }
 
     @Override
     public void addTicket(final Stream<? extends Ticket> toSave) {
-        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
-            toSave.forEach(this::addTicketInternal);
-            return null;
-        });
+        val tickets = toSave
+            .filter(Objects::nonNull)
+            .filter(ticket -> !ticket.isExpired())
+            .toList();
+        addOrUpdateTickets(tickets);
+        tickets.forEach(messagePublisher::add);
     }
 
     @Override
     public void addTicketInternal(final Ticket ticket) {
         LOGGER.debug("Adding ticket [{}]", ticket);
-        addOrUpdateTicket(ticket);
+        addOrUpdateTickets(List.of(ticket));
         messagePublisher.add(ticket);
     }
 
@@ -163,7 +203,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     public Ticket updateTicket(final Ticket ticket) {
         FunctionUtils.doIfNotNull(ticket, __ -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
+            addOrUpdateTickets(List.of(ticket));
             messagePublisher.update(ticket);
         });
         return ticket;
@@ -189,6 +229,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     @Override
     public Stream<? extends Ticket> stream() {
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val version = cacheVersion.get();
         return fetchKeysForTickets()
             .map(redisKey -> {
                 val adapter = buildRedisKeyValueAdapter(redisKey);
@@ -207,7 +248,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             .peek(ticket -> {
                 if (!ticket.isExpired()) {
                     val redisTicketsKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-                    ticketCache.put(redisKeyGenerator.rawKey(redisTicketsKey), ticket);
+                    cacheVersion.put(redisKeyGenerator.rawKey(redisTicketsKey), ticket, version);
                 }
             });
     }
@@ -243,23 +284,30 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     @Override
     public long sessionCount() {
-        val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName())
-            .orElseThrow().forEntryType(TicketGrantingTicket.PREFIX);
-
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTicketsOfType(TicketGrantingTicket.PREFIX);
     }
 
     @Override
     public long serviceTicketCount() {
-        val redisTicketsKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName())
-            .orElseThrow().forEntryType(ServiceTicket.PREFIX);
-        val options = ScanOptions.scanOptions().match(redisTicketsKey).build();
-        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
-            return result.stream().count();
-        }
+        return countTicketsOfType(ServiceTicket.PREFIX);
+    }
+
+    /**
+     * Count tickets of the given type using the ticket counter,
+     * a sorted set whose members are scored by their expiration time.
+     * Members whose tickets have already expired are pruned before counting.
+     *
+     * @param prefix the ticket prefix
+     * @return the count
+     */
+    protected long countTicketsOfType(final String prefix) {
+        val ops = casRedisTemplates.getSessionsRedisTemplate().boundZSetOps(getTicketCountKey(prefix));
+        ops.removeRangeByScore(0, Instant.now(Clock.systemUTC()).getEpochSecond());
+        return Objects.requireNonNull(ops.zCard());
+    }
+
+    private static String getTicketCountKey(final String prefix) {
+        return RedisCompositeKey.forTicketCounts().withQuery(prefix).toKeyPattern();
     }
 
     @Override
@@ -296,11 +344,10 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     @Override
     public List<? extends Serializable> query(final TicketRegistryQueryCriteria queryCriteria) {
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
-        val redisTicketsKey = redisKeyGenerator.forEntryType(queryCriteria.getType());
-
         if (BooleanUtils.isTrue(queryCriteria.getDecode())) {
-            try (val scanResults = casRedisTemplates.getTicketsRedisTemplate().scan(redisTicketsKey, queryCriteria.getCount())) {
-                return scanResults
+            val version = cacheVersion.get();
+            try (val ticketKeys = fetchKeysForTickets(queryCriteria.getType(), queryCriteria.getCount())) {
+                return ticketKeys
                     .map(key -> Optional.ofNullable(ticketCache.getIfPresent(redisKeyGenerator.rawKey(key)))
                         .orElseGet(() -> {
                             val adapter = buildRedisKeyValueAdapter(key);
@@ -316,13 +363,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                     .filter(ticket -> !ticket.isExpired())
                     .peek(ticket -> {
                         val cacheKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
-                        ticketCache.put(redisKeyGenerator.rawKey(cacheKey), ticket);
+                        cacheVersion.put(redisKeyGenerator.rawKey(cacheKey), ticket, version);
                     })
                     .collect(Collectors.toList());
             }
         }
-        val keys = fetchKeysForTickets(redisTicketsKey);
-        return (queryCriteria.getCount() != null ? keys.limit(queryCriteria.getCount()) : keys).collect(Collectors.toList());
+        try (val keys = fetchKeysForTickets(queryCriteria.getType(), queryCriteria.getCount())) {
+            return keys.collect(Collectors.toList());
+        }
     }
 
     @Override
@@ -332,13 +380,78 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     }
 
     private Stream<String> fetchKeysForTickets() {
-        val redisKey = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow().forAllEntries();
-        return fetchKeysForTickets(redisKey);
+        return ticketCatalog.findAll()
+            .stream()
+            .flatMap(definition -> fetchKeysForTickets(definition.getPrefix(), null));
     }
 
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
+    /**
+     * Fetch keys for tickets of the given type from the ticket counter
+     * rather than scanning the keyspace. Only the members that have not yet expired are returned.
+     *
+     * @param prefix the ticket prefix
+     * @param count  the maximum number of keys to return, if any
+     * @return the keys
+     */
+    private Stream<String> fetchKeysForTickets(final String prefix, final Long count) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val countKey = getTicketCountKey(prefix);
+        LOGGER.debug("Loading keys for tickets of type [{}] from [{}]", prefix, countKey);
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        val ops = casRedisTemplates.getSessionsRedisTemplate().opsForZSet();
+        val members = count != null && count > 0
+            ? ops.rangeByScore(countKey, now, Double.MAX_VALUE, 0, count)
+            : ops.rangeByScore(countKey, now, Double.MAX_VALUE);
+        return Objects.requireNonNull(members)
+            .stream()
+            .map(digestedId -> redisKeyGenerator.forEntry(prefix, digestedId));
+    }
+
+    private long deleteTickets(final Collection<? extends Ticket> tickets) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val principalKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName());
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val valueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+
+        val results = sessionsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            tickets.forEach(ticket -> {
+                val digestedId = digestIdentifier(ticket.getId());
+                val member = valueSerializer.serialize(digestedId);
+                connection.keyCommands().del(toBytes(redisKeyGenerator.forEntry(ticket.getPrefix(), digestedId)));
+                connection.zSetCommands().zRem(toBytes(getTicketCountKey(ticket.getPrefix())), member);
+                if (ticket instanceof TicketGrantingTicket) {
+                    principalKeyGenerator.ifPresent(generator -> {
+                        val principal = digestIdentifier(getPrincipalIdFrom(ticket));
+                        connection.setCommands().sRem(toBytes(generator.forEntry(principal)), member);
+                    });
+                }
+            });
+            return null;
+        });
+
+        tickets.forEach(ticket -> {
+            val redisTicketsKey = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+            ticketCache.invalidate(redisKeyGenerator.rawKey(redisTicketsKey));
+            messagePublisher.delete(ticket);
+        });
+        return countDeletedTickets(tickets, results, principalKeyGenerator.isPresent());
+    }
+
+    private static long countDeletedTickets(final Collection<? extends Ticket> tickets, final List<Object> results,
+                                            final boolean trackPrincipals) {
+        var count = 0L;
+        var index = 0;
+        for (val ticket : tickets) {
+            if (index < results.size() && results.get(index) instanceof final Number deleted) {
+                count += deleted.longValue();
+            }
+            index += trackPrincipals && ticket instanceof TicketGrantingTicket ? 3 : 2;
+        }
+        return count;
+    }
+
+    private static byte[] toBytes(final String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
     }
 
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
@@ -348,7 +461,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
             FunctionUtils.throwIf(StringUtils.isBlank(json),
                 () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
 
-            if (LOGGER.isTraceEnabled()) {
+            if (LOGGER.isTraceEnabled() && !ticketSerializationManager.isBinaryFormat()) {
                 LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
                     JsonValue.readJSON(json).toString(Stringify.FORMATTED));
             }
@@ -378,6 +491,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
 
     private Ticket getTicketFromRedisByKey(final Predicate<Ticket> predicate, final String redisKeyPattern) {
         val query = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow().rawKey(redisKeyPattern);
+        val version = cacheVersion.get();
         val ticket = Optional.ofNullable(ticketCache.getIfPresent(query))
             .map(this::decodeTicket)
             .filter(predicate)
@@ -395,7 +509,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
                 .findFirst()
                 .orElse(null));
         if (ticket != null && predicate.test(ticket) && !ticket.isExpired()) {
-            ticketCache.put(query, ticket);
+            cacheVersion.put(query, ticket, version);
             return ticket;
         }
         ticketCache.invalidate(query);
@@ -404,33 +518,50 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
     }
 
 
-    private void addOrUpdateTicket(final Ticket ticket) {
-        val digestedId = digestIdentifier(ticket.getId());
+    private void addOrUpdateTickets(final Collection<? extends Ticket> tickets) {
         val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
-        val redisKeyPattern = redisKeyGenerator.forEntry(ticket.getPrefix(), digestedId);
-
-        val timeout = RedisCompositeKey.getTimeout(ticket);
-        val ticketDocument = buildTicketAsDocument(ticket);
-
-        casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern).set(ticketDocument, timeout, TimeUnit.SECONDS);
-        val adapter = buildRedisKeyValueAdapter(redisKeyPattern);
-        adapter.put(ticketDocument.getTicketId(), ticketDocument, redisKeyPattern);
-        casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
-        ticketCache.put(redisKeyGenerator.rawKey(redisKeyPattern), ticket);
-
-        redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName()).ifPresent(generator -> {
-            val onlyTrackMostRecentSession = casProperties.getTicket().getTgt().getCore().isOnlyTrackMostRecentSession();
-            val userId = digestIdentifier(getPrincipalIdFrom(ticket));
-            if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
-                val redisPrincipalPattern = generator.forEntry(userId);
-                val ops = casRedisTemplates.getSessionsRedisTemplate().boundSetOps(redisPrincipalPattern);
-                if (onlyTrackMostRecentSession) {
-                    ops.expireAt(Instant.now(Clock.systemUTC()));
-                    Assert.isTrue(ops.members().isEmpty(), "Member count must be zero");
+        val principalKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Principal.class.getName());
+        val onlyTrackMostRecentSession = casProperties.getTicket().getTgt().getCore().isOnlyTrackMostRecentSession();
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val valueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+        val version = cacheVersion.get();
+
+        sessionsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            tickets.forEach(ticket -> {
+                val digestedId = digestIdentifier(ticket.getId());
+                val member = valueSerializer.serialize(digestedId);
+                val redisKeyPattern = redisKeyGenerator.forEntry(ticket.getPrefix(), digestedId);
+                val redisKey = toBytes(redisKeyPattern);
+                val timeout = RedisCompositeKey.getTimeout(ticket);
+
+                val ticketDocument = buildTicketAsDocument(ticket);
+                val redisData = new RedisData();
+                buildRedisKeyValueAdapter(redisKeyPattern).getConverter().write(ticketDocument, redisData);
+                connection.keyCommands().del(redisKey);
+                connection.hashCommands().hMSet(redisKey, redisData.getBucket().rawMap());
+                connection.keyCommands().expire(redisKey, timeout);
+
+                val expiresAt = Instant.now(Clock.systemUTC()).plusSeconds(timeout).getEpochSecond();
+                connection.zSetCommands().zAdd(toBytes(getTicketCountKey(ticket.getPrefix())), expiresAt, member);
+
+                val userId = digestIdentifier(getPrincipalIdFrom(ticket));
+                if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
+                    principalKeyGenerator.ifPresent(generator -> {
+                        val redisPrincipalKey = toBytes(generator.forEntry(userId));
+                        if (onlyTrackMostRecentSession) {
+                            connection.keyCommands().del(redisPrincipalKey);
+                        }
+                        connection.setCommands().sAdd(redisPrincipalKey, member);
+                        connection.keyCommands().expire(redisPrincipalKey, timeout);
+                    });
                 }
-                ops.add(digestedId);
-                ops.expire(timeout, TimeUnit.SECONDS);
-            }
+            });
+            return null;
+        });
+
+        tickets.forEach(ticket -> {
+            val redisKeyPattern = redisKeyGenerator.forEntry(ticket.getPrefix(), digestIdentifier(ticket.getId()));
+            cacheVersion.put(redisKeyGenerator.rawKey(redisKeyPattern), ticket, version);
         });
     }
 
@@ -453,6 +584,85 @@ public class RedisTicketRegistry extends AbstractTicketRegistry implements Clean
         return adapter;
     }
 
+    /**
+     * Migrate tickets that were written before the ticket counters were introduced, by adding each ticket
+     * to the counter of its type with its remaining time to live. The migration runs once for all nodes: it is guarded
+     * by a marker key that is held as a lock while the migration runs, and kept once it completes.
+     * Tickets that are already tracked by a counter are left alone.
+     *
+     * @return the number of migrated tickets, or {@code -1} if the migration has already run or is running elsewhere
+     */
+    public long migrateTicketCounters() {
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val markerKey = getTicketCountKey(TICKET_COUNTERS_MIGRATION_KEY);
+        val acquired = sessionsTemplate.opsForValue().setIfAbsent(markerKey,
+            TICKET_COUNTERS_MIGRATION_RUNNING, TICKET_COUNTERS_MIGRATION_LOCK_TIMEOUT);
+        if (BooleanUtils.isNotTrue(acquired)) {
+            LOGGER.debug("Ticket counters are already migrated, or are being migrated by another node");
+            return -1;
+        }
+        try {
+            val count = ticketCatalog.findAll()
+                .stream()
+                .mapToLong(definition -> migrateTicketCounter(definition.getPrefix()))
+                .sum();
+            sessionsTemplate.opsForValue().set(markerKey, TICKET_COUNTERS_MIGRATION_COMPLETED);
+            LOGGER.info("Migrated [{}] existing ticket(s) to ticket counters", count);
+            return count;
+        } catch (final Exception e) {
+            sessionsTemplate.delete(markerKey);
+            throw e;
+        }
+    }
+
+    private long migrateTicketCounter(final String prefix) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val options = ScanOptions.scanOptions()
+            .match(redisKeyGenerator.forEntryType(prefix + ':'))
+            .count(TICKET_COUNTERS_MIGRATION_BATCH_SIZE)
+            .build();
+        var count = 0L;
+        try (val result = casRedisTemplates.getTicketsRedisTemplate().scan(options)) {
+            val keys = new ArrayList<String>(TICKET_COUNTERS_MIGRATION_BATCH_SIZE);
+            while (result.hasNext()) {
+                keys.add(result.next());
+                if (keys.size() == TICKET_COUNTERS_MIGRATION_BATCH_SIZE || !result.hasNext()) {
+                    count += migrateTicketCounter(prefix, keys);
+                    keys.clear();
+                }
+            }
+        }
+        LOGGER.debug("Migrated [{}] existing ticket(s) to ticket counter for [{}]", count, prefix);
+        return count;
+    }
+
+    private long migrateTicketCounter(final String prefix, final List<String> keys) {
+        val redisKeyGenerator = redisKeyGeneratorFactory.getRedisKeyGenerator(Ticket.class.getName()).orElseThrow();
+        val sessionsTemplate = casRedisTemplates.getSessionsRedisTemplate();
+        val valueSerializer = (RedisSerializer<String>) sessionsTemplate.getValueSerializer();
+        val countKey = toBytes(getTicketCountKey(prefix));
+
+        val timeouts = casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            keys.forEach(key -> connection.keyCommands().ttl(toBytes(key)));
+            return null;
+        });
+        val now = Instant.now(Clock.systemUTC()).getEpochSecond();
+        val count = new AtomicLong();
+        sessionsTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (var index = 0; index < keys.size(); index++) {
+                if (timeouts.get(index) instanceof final Long ttl && (ttl > 0 || ttl == -1)) {
+                    val expiresAt = now + (ttl == -1 ? Integer.MAX_VALUE : ttl);
+                    val digestedId = StringUtils.removeStart(redisKeyGenerator.rawKey(keys.get(index)), prefix + ':');
+                    connection.zSetCommands().zAdd(countKey, expiresAt, valueSerializer.serialize(digestedId),
+                        RedisZSetCommands.ZAddArgs.ifNotExists());
+                    count.getAndIncrement();
+                }
+            }
+            return null;
+        });
+        return count.get();
+    }
+
     private void createIndexesIfNecessary() {
         redisModuleCommands.ifPresent(command -> {
 
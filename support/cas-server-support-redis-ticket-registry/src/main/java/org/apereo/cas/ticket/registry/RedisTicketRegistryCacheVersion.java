@@ -0,0 +1,63 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link RedisTicketRegistryCacheVersion}. It counts the invalidations that are received
+ * for the in-memory ticket cache, so that a ticket loaded from Redis is not left in the cache
+ * when an invalidation for it arrives while it is being loaded. Callers capture the version
+ * before reading from Redis, and the ticket is dropped again after it is cached if the version has since changed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+public class RedisTicketRegistryCacheVersion {
+    private final AtomicLong version = new AtomicLong();
+
+    private final Cache<String, Ticket> ticketCache;
+
+    /**
+     * Current version.
+     *
+     * @return the version
+     */
+    public long get() {
+        return version.get();
+    }
+
+    /**
+     * Cache the ticket unless the cache was invalidated since the given version was captured.
+     *
+     * @param key             the key
+     * @param ticket          the ticket
+     * @param capturedVersion the version captured before the ticket was loaded
+     */
+    public void put(final String key, final Ticket ticket, final long capturedVersion) {
+        ticketCache.put(key, ticket);
+        if (version.get() != capturedVersion) {
+            ticketCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidate the cached ticket.
+     *
+     * @param key the key
+     */
+    public void invalidate(final String key) {
+        version.incrementAndGet();
+        ticketCache.invalidate(key);
+    }
+
+    /**
+     * Invalidate all cached tickets.
+     */
+    public void invalidateAll() {
+        version.incrementAndGet();
+        ticketCache.invalidateAll();
+    }
+}
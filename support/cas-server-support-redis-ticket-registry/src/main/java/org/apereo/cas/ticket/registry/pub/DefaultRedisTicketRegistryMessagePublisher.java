@@ -37,6 +37,14 @@ public class DefaultRedisTicketRegistryMessagePublisher implements RedisTicketRe
         }
     }
 
+    @Override
+    public void delete(final String ticketId) {
+        if (ticketId != null) {
+            val payload = getRedisMessagePayload(RedisMessagePayload.RedisMessageTypes.DELETE).withTicket(ticketId);
+            sendPayload(payload);
+        }
+    }
+
     @Override
     public void add(final Ticket ticket) {
         if (ticket != null) {
@@ -22,6 +22,14 @@ public interface RedisTicketRegistryMessagePublisher {
      */
     void delete(Ticket ticket);
 
+    /**
+     * Send notification to delete the ticket by its id,
+     * when the ticket itself is not loaded.
+     *
+     * @param ticketId the ticket id
+     */
+    void delete(String ticketId);
+
     /**
      * Send notification to add.
      *
@@ -35,4 +43,33 @@ public interface RedisTicketRegistryMessagePublisher {
      * @param id the id
      */
     void update(Ticket id);
+
+    /**
+     * Publisher that does not send any notifications.
+     *
+     * @return the publisher
+     */
+    static RedisTicketRegistryMessagePublisher noOp() {
+        return new RedisTicketRegistryMessagePublisher() {
+            @Override
+            public void deleteAll() {
+            }
+
+            @Override
+            public void delete(final Ticket ticket) {
+            }
+
+            @Override
+            public void delete(final String ticketId) {
+            }
+
+            @Override
+            public void add(final Ticket id) {
+            }
+
+            @Override
+            public void update(final Ticket id) {
+            }
+        };
+    }
 }
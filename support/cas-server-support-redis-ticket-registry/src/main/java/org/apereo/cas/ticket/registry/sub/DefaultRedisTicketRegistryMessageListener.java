@@ -1,7 +1,9 @@
 package org.apereo.cas.ticket.registry.sub;
 
 import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.UniqueTicketIdGenerator;
 import org.apereo.cas.ticket.registry.RedisCompositeKey;
+import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheVersion;
 import org.apereo.cas.ticket.registry.pub.RedisMessagePayload;
 import org.apereo.cas.util.PublisherIdentifier;
 
@@ -9,6 +11,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * This is {@link DefaultRedisTicketRegistryMessageListener}.
@@ -23,6 +26,8 @@ public class DefaultRedisTicketRegistryMessageListener implements RedisTicketReg
 
     private final Cache<String, Ticket> ticketCache;
 
+    private final RedisTicketRegistryCacheVersion cacheVersion;
+
     @Override
     public void handleMessage(final RedisMessagePayload command, final String topic) {
         if (!publisherIdentifier.equals(command.getIdentifier())) {
@@ -34,12 +39,18 @@ public class DefaultRedisTicketRegistryMessageListener implements RedisTicketReg
                     ticketCache.put(redisKey.getQuery(), ticket);
                 }
                 case DELETE -> {
-                    val ticket = (Ticket) command.getTicket();
-                    val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), ticket.getId());
-                    ticketCache.invalidate(redisKey.getQuery());
+                    val redisKey = command.getTicket() instanceof final Ticket ticket
+                        ? RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), ticket.getId())
+                        : getRedisKey(command.getTicket().toString());
+                    cacheVersion.invalidate(redisKey.getQuery());
                 }
-                case DELETE_ALL -> ticketCache.invalidateAll();
+                case DELETE_ALL -> cacheVersion.invalidateAll();
             }
         }
     }
+
+    private static RedisCompositeKey getRedisKey(final String ticketId) {
+        val prefix = StringUtils.substring(ticketId, 0, ticketId.indexOf(UniqueTicketIdGenerator.SEPARATOR));
+        return RedisCompositeKey.forTickets().withTicketId(prefix, ticketId);
+    }
 }
@@ -0,0 +1,110 @@
+package org.apereo.cas.ticket.registry.sub;
+
+import org.apereo.cas.ticket.registry.RedisTicketRegistryCacheVersion;
+import org.apereo.cas.ticket.registry.key.RedisKeyGenerator;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.net.SocketAddress;
+import java.util.List;
+
+/**
+ * This is {@link RedisTicketRegistryInvalidationListener}. It relies on Redis server-assisted
+ * client-side caching to keep the in-memory ticket cache consistent. A dedicated {@code RESP3} connection
+ * turns on client tracking in broadcasting mode for the ticket namespace, and the Redis server pushes
+ * the names of ticket keys that are modified, expired or removed by any client, at which point the
+ * corresponding entries are evicted from the cache. Invalidation messages may be lost while the
+ * connection is down, so the cache is cleared when the connection is lost or re-established.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisTicketRegistryInvalidationListener implements PushListener, RedisConnectionStateListener, DisposableBean {
+    private static final String MESSAGE_TYPE_INVALIDATE = "invalidate";
+
+    private final RedisClient redisClient;
+
+    private final RedisTicketRegistryCacheVersion cacheVersion;
+
+    private final RedisKeyGenerator redisKeyGenerator;
+
+    private StatefulRedisConnection<String, String> connection;
+
+    /**
+     * Connect to the Redis server and start tracking ticket keys.
+     *
+     * @return this listener
+     */
+    public RedisTicketRegistryInvalidationListener start() {
+        connection = redisClient.connect();
+        connection.addListener(this);
+        redisClient.addListener(this);
+        val result = connection.sync().clientTracking(getTrackingArgs());
+        LOGGER.debug("Turned on client tracking for keys prefixed with [{}]: [{}]", redisKeyGenerator.getNamespace(), result);
+        return this;
+    }
+
+    @Override
+    public void onPushMessage(final PushMessage message) {
+        if (MESSAGE_TYPE_INVALIDATE.equals(message.getType())) {
+            val content = message.getContent(StringCodec.UTF8::decodeKey);
+            if (content.size() > 1 && content.get(1) instanceof final List<?> keys) {
+                for (val key : keys) {
+                    val cacheKey = redisKeyGenerator.rawKey(key.toString());
+                    LOGGER.trace("Invalidating cached ticket [{}]", cacheKey);
+                    cacheVersion.invalidate(cacheKey);
+                }
+            } else {
+                LOGGER.debug("Redis server flushed its tracking table; invalidating all cached tickets");
+                cacheVersion.invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public void onRedisConnected(final RedisChannelHandler<?, ?> channel, final SocketAddress socketAddress) {
+        if (channel == connection) {
+            LOGGER.debug("Reconnected to [{}]; invalidating all cached tickets and resuming client tracking", socketAddress);
+            cacheVersion.invalidateAll();
+            connection.async().clientTracking(getTrackingArgs());
+        }
+    }
+
+    @Override
+    public void onRedisDisconnected(final RedisChannelHandler<?, ?> channel) {
+        if (channel == connection) {
+            LOGGER.debug("Lost connection used for client tracking; invalidating all cached tickets");
+            cacheVersion.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onRedisExceptionCaught(final RedisChannelHandler<?, ?> channel, final Throwable cause) {
+        LOGGER.trace(cause.getMessage(), cause);
+    }
+
+    @Override
+    public void destroy() {
+        if (connection != null) {
+            connection.close();
+        }
+        redisClient.shutdown();
+    }
+
+    private TrackingArgs getTrackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast().prefixes(redisKeyGenerator.getNamespace() + ':');
+    }
+}
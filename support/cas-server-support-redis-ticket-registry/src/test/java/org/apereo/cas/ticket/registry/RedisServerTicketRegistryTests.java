@@ -9,6 +9,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketImpl;
 import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.key.TicketRedisKeyGenerator;
 import org.apereo.cas.util.ServiceTicketIdGenerator;
 import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
@@ -32,6 +33,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -130,6 +132,41 @@ class RedisServerTicketRegistryTests {
 
     }
 
+    @Nested
+    @TestPropertySource(properties = {
+        "cas.ticket.registry.redis.client-side-caching=true",
+        "cas.ticket.registry.redis.queue-identifier=cas-node-200",
+        "cas.ticket.registry.redis.host=localhost",
+        "cas.ticket.registry.redis.port=6379",
+        "cas.ticket.registry.redis.enable-redis-search=false",
+        "cas.ticket.registry.redis.crypto.encryption.key=AZ5y4I9qzKPYUVNL2Td4RMbpg6Z-ldui8VEFg8hsj1M",
+        "cas.ticket.registry.redis.crypto.signing.key=cAPyoHMrOMWrwydOXzBA-ufZQM-TilnLjbRgMQWlUlwFmy07bOtAgCIdNBma3c5P4ae_JV6n1OpOAYqSh2NkmQ"
+    })
+    class WithClientSideCachingTests extends BaseRedisSentinelTicketRegistryTests {
+        @Test
+        void verifyCacheInvalidatedByServer() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                .getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            val registry = (RedisTicketRegistry) getNewTicketRegistry();
+            registry.addTicket(tgt);
+            assertNotNull(registry.getTicket(tgtId));
+            val criteria = new TicketRegistryQueryCriteria()
+                .setCount(1L)
+                .setDecode(Boolean.TRUE)
+                .setType(TicketGrantingTicket.PREFIX);
+            assertEquals(1, registry.query(criteria).size());
+
+            val keyGenerator = new TicketRedisKeyGenerator();
+            val redisKey = keyGenerator.forEntry(TicketGrantingTicket.PREFIX, registry.digestIdentifier(tgtId));
+            assertNotNull(registry.getTicketCache().getIfPresent(keyGenerator.rawKey(redisKey)));
+            assertTrue(ticketRedisTemplate.delete(redisKey));
+            await().untilAsserted(() -> assertNull(registry.getTicketCache().getIfPresent(keyGenerator.rawKey(redisKey))));
+            assertNull(registry.getTicket(tgtId));
+        }
+    }
+
     @Nested
     @TestPropertySource(properties = {
         "cas.ticket.registry.redis.protocol-version=RESP2",
@@ -203,6 +240,51 @@ class RedisServerTicketRegistryTests {
             assertEquals(criteria2.getCount(), queryResults.size());
         }
 
+        @Test
+        void verifyTicketCountersCreatedForExistingTickets() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                .getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            val registry = (RedisTicketRegistry) getNewTicketRegistry();
+            registry.deleteAll();
+            registry.addTicket(tgt);
+            assertEquals(1, registry.sessionCount());
+
+            val countKey = RedisCompositeKey.forTicketCounts().withQuery(TicketGrantingTicket.PREFIX).toKeyPattern();
+            assertTrue(getCasRedisTemplates().getSessionsRedisTemplate().delete(countKey));
+            assertEquals(0, registry.sessionCount());
+            assertTrue(registry.stream().findAny().isEmpty());
+
+            val markerKey = RedisCompositeKey.forTicketCounts().withQuery("migration").toKeyPattern();
+            getCasRedisTemplates().getSessionsRedisTemplate().delete(markerKey);
+            assertEquals(1, registry.migrateTicketCounters());
+            assertEquals(1, registry.sessionCount());
+            assertEquals(tgtId, registry.stream().findFirst().orElseThrow().getId());
+            assertEquals(-1, registry.migrateTicketCounters());
+        }
+
+        @Test
+        void verifyChildrenDeletedWithoutLoading() throws Throwable {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY)
+                .getNewTicketId(TicketGrantingTicket.PREFIX);
+            val tgt = new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE);
+            val registry = (RedisTicketRegistry) getNewTicketRegistry();
+            registry.deleteAll();
+            registry.addTicket(tgt);
+            val st = tgt.grantServiceTicket(new ServiceTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(ServiceTicket.PREFIX),
+                RegisteredServiceTestUtils.getService(), NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+            registry.addTicket(st);
+            registry.updateTicket(tgt);
+            assertEquals(1, registry.serviceTicketCount());
+
+            assertEquals(2, registry.deleteTicket(tgtId));
+            assertNull(registry.getTicket(st.getId()));
+            assertEquals(0, registry.serviceTicketCount());
+            assertEquals(0, registry.sessionCount());
+        }
+
         private static <T> T executedTimedOperation(final String name, final Supplier<T> operation) {
             val stopwatch = new StopWatch();
             stopwatch.start();
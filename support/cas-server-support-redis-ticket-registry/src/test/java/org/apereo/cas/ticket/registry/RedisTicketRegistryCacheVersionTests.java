@@ -0,0 +1,39 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RedisTicketRegistryCacheVersionTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("Redis")
+class RedisTicketRegistryCacheVersionTests {
+    @Test
+    void verifyTicketNotCachedAfterInvalidation() throws Throwable {
+        val cache = Caffeine.newBuilder().<String, Ticket>build();
+        val cacheVersion = new RedisTicketRegistryCacheVersion(cache);
+        val ticket = new MockTicketGrantingTicket("casuser");
+
+        val version = cacheVersion.get();
+        cacheVersion.put(ticket.getId(), ticket, version);
+        assertNotNull(cache.getIfPresent(ticket.getId()));
+
+        val staleVersion = cacheVersion.get();
+        cacheVersion.invalidate(ticket.getId());
+        cacheVersion.put(ticket.getId(), ticket, staleVersion);
+        assertNull(cache.getIfPresent(ticket.getId()));
+
+        cacheVersion.put(ticket.getId(), ticket, cacheVersion.get());
+        assertNotNull(cache.getIfPresent(ticket.getId()));
+        cacheVersion.invalidateAll();
+        assertNull(cache.getIfPresent(ticket.getId()));
+    }
+}
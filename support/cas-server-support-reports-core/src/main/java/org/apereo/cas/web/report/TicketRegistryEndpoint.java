@@ -63,7 +63,10 @@ public class TicketRegistryEndpoint extends BaseCasActuatorEndpoint {
             @Parameter(name = "decode", required = false,
                 description = "Whether the registry should return objects in raw form or decode and transform and check each ticket",
                 in = ParameterIn.QUERY),
-            @Parameter(name = "count", required = false, in = ParameterIn.QUERY)
+            @Parameter(name = "count", required = false, in = ParameterIn.QUERY),
+            @Parameter(name = "after", required = false,
+                description = "Identifier of the last ticket returned by a previous query, used by registries that support paging to return the next page",
+                in = ParameterIn.QUERY)
         })
     public List<?> query(@Valid @ModelAttribute final TicketRegistryQueryCriteria criteria) {
         return ticketRegistryProvider.getObject().query(criteria);
@@ -6,6 +6,7 @@ import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.support.saml.SamlProtocolConstants;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Getter;
@@ -49,7 +50,7 @@ public class SamlIdPEntityIdAuthenticationServiceSelectionStrategy extends BaseA
 
     @Override
     public boolean supports(final Service service) {
-        return service != null && service.getId().matches(this.casServiceUrlPattern)
+        return service != null && RegexUtils.matches(RegexUtils.createPattern(casServiceUrlPattern, 0), service.getId())
             && getEntityIdAsParameter(service).isPresent();
     }
 
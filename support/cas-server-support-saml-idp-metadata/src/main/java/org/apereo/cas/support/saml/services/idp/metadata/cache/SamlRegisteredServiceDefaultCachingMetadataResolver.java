@@ -6,7 +6,6 @@ import org.apereo.cas.monitor.Monitorable;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
-import org.apereo.cas.util.concurrent.CasReentrantLock;
 import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
@@ -15,6 +14,10 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.experimental.SuperBuilder;
@@ -35,6 +38,11 @@ import java.util.Optional;
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Cache hits are served without any locking. Loads are coalesced by the cache per
+ * {@link SamlRegisteredServiceCacheKey}, so only callers asking for the same metadata
+ * wait on a slow metadata source, and entries past their refresh interval are served
+ * while a new copy is loaded in the background.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -42,26 +50,45 @@ import java.util.Optional;
 @Slf4j
 @Monitorable
 public class SamlRegisteredServiceDefaultCachingMetadataResolver implements SamlRegisteredServiceCachingMetadataResolver {
-    private final CasReentrantLock lock = new CasReentrantLock();
+    private static final String METRIC_NAME_RESOLVE = "cas.saml.metadata.resolve";
+
+    private static final String METRIC_NAME_LOAD = "cas.saml.metadata.load";
 
     private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> cache;
 
     @Getter
     private final OpenSamlConfigBean openSamlConfigBean;
 
+    private final MeterRegistry meterRegistry;
+
     public SamlRegisteredServiceDefaultCachingMetadataResolver(
         final CasConfigurationProperties casProperties,
         final CacheLoader<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> loader,
         final OpenSamlConfigBean openSamlConfigBean) {
+        this(casProperties, loader, openSamlConfigBean, Metrics.globalRegistry);
+    }
+
+    public SamlRegisteredServiceDefaultCachingMetadataResolver(
+        final CasConfigurationProperties casProperties,
+        final CacheLoader<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> loader,
+        final OpenSamlConfigBean openSamlConfigBean,
+        final MeterRegistry meterRegistry) {
         this.openSamlConfigBean = openSamlConfigBean;
+        this.meterRegistry = meterRegistry;
 
         val core = casProperties.getAuthn().getSamlIdp().getMetadata().getCore();
         val metadataCacheExpiration = Beans.newDuration(core.getCacheExpiration());
-        this.cache = Caffeine.newBuilder()
+        val builder = Caffeine.newBuilder()
             .maximumSize(core.getCacheMaximumSize())
             .recordStats()
-            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
-            .build(loader);
+            .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration));
+        val refreshInterval = Beans.newDuration(core.getCacheRefreshInterval());
+        if (refreshInterval.isPositive()) {
+            builder.refreshAfterWrite(refreshInterval);
+        }
+        this.cache = builder.build(cacheKey -> getMetricTimer(METRIC_NAME_LOAD, cacheKey.getRegisteredService())
+            .recordCallable(() -> loader.load(cacheKey)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "samlMetadataResolvers");
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolutionResult result) {
@@ -73,30 +100,29 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
     @Override
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
-        return lock.tryLock(() -> {
-            val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
-            LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
-            val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
-            return FunctionUtils.doAndRetry(retryContext -> {
-                LOGGER.debug("Locating cached metadata resolver using key [{}] for service [{}]. Attempt [{}]",
-                    cacheKey.getId(), service.getName(), retryContext.getRetryCount());
-                val queryResult = locateAndCacheMetadataResolver(service, criteriaSet, cacheKey);
-                val result = isMetadataResolverAcceptable(queryResult, criteriaSet);
-                if (!result.isValid()) {
-                    val count = countResolvableEntityDescriptors(result);
-                    if (count == 1) {
-                        invalidate(service, criteriaSet);
-                    }
-                    LOGGER.warn("SAML metadata resolver [{}] obtained from the cache is "
-                            + "unable to produce/resolve valid metadata from [{}]. Metadata resolver cache entry with key [{}] "
-                            + "has been invalidated. Attempt: [#{}]",
-                        result.getResult().getMetadataResolver().getId(), metadataLocation,
-                        cacheKey.getId(), retryContext.getRetryCount());
-                    throw new SamlException("Unable to locate a valid SAML metadata resolver for "
-                        + metadataLocation + " to locate " + criteriaSet);
+        val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
+        LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
+        val cacheKey = new SamlRegisteredServiceCacheKey(service, criteriaSet);
+        return FunctionUtils.doAndRetry(retryContext -> {
+            LOGGER.debug("Locating cached metadata resolver using key [{}] for service [{}]. Attempt [{}]",
+                cacheKey.getId(), service.getName(), retryContext.getRetryCount());
+            val queryResult = getMetricTimer(METRIC_NAME_RESOLVE, service)
+                .record(() -> locateAndCacheMetadataResolver(service, criteriaSet, cacheKey));
+            val result = isMetadataResolverAcceptable(queryResult, criteriaSet);
+            if (!result.isValid()) {
+                val count = countResolvableEntityDescriptors(result);
+                if (count == 1) {
+                    invalidate(service, criteriaSet);
                 }
-                return queryResult.getResult();
-            });
+                LOGGER.warn("SAML metadata resolver [{}] obtained from the cache is "
+                        + "unable to produce/resolve valid metadata from [{}]. Metadata resolver cache entry with key [{}] "
+                        + "has been invalidated. Attempt: [#{}]",
+                    result.getResult().getMetadataResolver().getId(), metadataLocation,
+                    cacheKey.getId(), retryContext.getRetryCount());
+                throw new SamlException("Unable to locate a valid SAML metadata resolver for "
+                    + metadataLocation + " to locate " + criteriaSet);
+            }
+            return queryResult.getResult();
         });
     }
 
@@ -174,6 +200,12 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .build();
     }
 
+    private Timer getMetricTimer(final String name, final SamlRegisteredService service) {
+        return Timer.builder(name)
+            .tag("service", Objects.requireNonNullElse(service.getName(), "N/A"))
+            .register(meterRegistry);
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
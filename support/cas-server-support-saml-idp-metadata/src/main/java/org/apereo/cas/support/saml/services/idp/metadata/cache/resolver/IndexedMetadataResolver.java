@@ -0,0 +1,102 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.support.saml.InMemoryResourceMetadataResolver;
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.util.LoggingUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
+import net.shibboleth.shared.resolver.ResolverException;
+import org.opensaml.core.criterion.EntityIdCriterion;
+import org.opensaml.core.criterion.SatisfyAnyCriterion;
+import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.opensaml.saml.metadata.resolver.impl.AbstractBatchMetadataResolver;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link IndexedMetadataResolver}. It resolves entities by entity id from a
+ * {@link SamlMetadataEntityIndex}, parsing only the entity that is asked for. Entities in the index
+ * have already passed the metadata filters, including signature validation, so they are not filtered again.
+ * Queries that do not name an entity id fall back onto a resolver that is built from the full aggregate on demand.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class IndexedMetadataResolver extends AbstractBatchMetadataResolver {
+    private static final int ENTITY_RESOLVER_CACHE_SIZE = 1_000;
+
+    @Getter
+    private final SamlMetadataEntityIndex index;
+
+    private final OpenSamlConfigBean configBean;
+
+    private final Supplier<? extends AbstractBatchMetadataResolver> aggregateMetadataResolver;
+
+    private final Cache<String, MetadataResolver> entityMetadataResolvers;
+
+    public IndexedMetadataResolver(final SamlMetadataEntityIndex index,
+                                   final OpenSamlConfigBean configBean,
+                                   final Supplier<? extends AbstractBatchMetadataResolver> aggregateMetadataResolver) {
+        this.index = index;
+        this.configBean = configBean;
+        this.aggregateMetadataResolver = aggregateMetadataResolver;
+        this.entityMetadataResolvers = Caffeine.newBuilder().maximumSize(ENTITY_RESOLVER_CACHE_SIZE).build();
+        setParserPool(configBean.getParserPool());
+        setResolveViaPredicatesOnly(true);
+    }
+
+    @Nonnull
+    @Override
+    public Iterable<EntityDescriptor> resolve(final CriteriaSet criteria) throws ResolverException {
+        val entityIdCriterion = criteria != null ? criteria.get(EntityIdCriterion.class) : null;
+        if (entityIdCriterion != null && !criteria.contains(SatisfyAnyCriterion.class)) {
+            val entityId = entityIdCriterion.getEntityId();
+            if (!index.contains(entityId)) {
+                LOGGER.trace("Entity [{}] is not found in the SAML metadata index", entityId);
+                return List.of();
+            }
+            val resolver = entityMetadataResolvers.get(entityId, this::buildEntityMetadataResolver);
+            return resolver != null ? resolver.resolve(criteria) : List.of();
+        }
+        return aggregateMetadataResolver.get().resolve(criteria);
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<EntityDescriptor> iterator() {
+        return aggregateMetadataResolver.get().iterator();
+    }
+
+    @Override
+    protected void doDestroy() {
+        entityMetadataResolvers.invalidateAll();
+        super.doDestroy();
+    }
+
+    private MetadataResolver buildEntityMetadataResolver(final String entityId) {
+        return index.getEntity(entityId)
+            .map(entity -> {
+                try {
+                    val resolver = new InMemoryResourceMetadataResolver(new ByteArrayInputStream(entity), configBean);
+                    resolver.setId(getId() + '-' + entityId);
+                    resolver.setFailFastInitialization(isFailFastInitialization());
+                    resolver.setRequireValidMetadata(isRequireValidMetadata());
+                    resolver.initialize();
+                    return resolver;
+                } catch (final Exception e) {
+                    LoggingUtils.error(LOGGER, e);
+                    return null;
+                }
+            })
+            .orElse(null);
+    }
+}
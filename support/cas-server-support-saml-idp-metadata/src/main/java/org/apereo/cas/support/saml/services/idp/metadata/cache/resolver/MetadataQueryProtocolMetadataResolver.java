@@ -8,30 +8,22 @@ import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.EncodingUtils;
-import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.http.HttpClient;
 import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpUtils;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.io.File;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
-import java.nio.file.attribute.UserDefinedFileAttributeView;
 import java.util.LinkedHashMap;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
 /**
  * This is {@link MetadataQueryProtocolMetadataResolver}.
@@ -66,27 +58,13 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
             }
             throw new SamlException("Unable to get entity from MDQ server and a backup file does not exist.");
         }
-        val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
-        val path = backupFile.toPath();
-        LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
-            StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
-                .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
-                .forEach(store -> setFileAttribute(response, backupFile));
-        }
-        EntityUtils.consume(entity);
+        writeMetadataBackupFile(response, backupFile);
         return new InMemoryResourceMetadataResolver(backupFile, configBean);
     }
 
-    private static void setFileAttribute(final HttpResponse response, final File backupFile) {
-        FunctionUtils.doAndHandle(t -> {
-            val path = backupFile.toPath();
-            val etag = response.getFirstHeader("ETag").getValue();
-            Files.setAttribute(path, "user:ETag", ByteBuffer.wrap(etag.getBytes(StandardCharsets.UTF_8)));
-        });
+    @Override
+    protected boolean isMetadataIndexEnabled(final SamlRegisteredService service) {
+        return false;
     }
 
     @Override
@@ -96,13 +74,7 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
         val headers = new LinkedHashMap<String, String>();
         headers.put("Content-Type", metadata.getSupportedContentType());
         headers.put("Accept", "*/*");
-        val path = backupFile.toPath();
-        FunctionUtils.doAndHandle(p -> {
-            if (Files.exists(path)) {
-                val etag = new String((byte[]) Files.getAttribute(path, "user:ETag"), StandardCharsets.UTF_8).trim();
-                headers.put("If-None-Match", etag);
-            }
-        });
+        headers.putAll(getConditionalRequestHeaders(backupFile));
         LOGGER.trace("Fetching metadata via MDQ for [{}]", metadataLocation);
         val exec = HttpExecutionRequest.builder()
             .basicAuthPassword(metadata.getBasicAuthnPassword())
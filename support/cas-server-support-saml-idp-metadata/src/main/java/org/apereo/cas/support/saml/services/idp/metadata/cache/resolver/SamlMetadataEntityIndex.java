@@ -0,0 +1,186 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.support.saml.SamlUtils;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This is {@link SamlMetadataEntityIndex}. It persists the entity descriptors of a metadata
+ * aggregate to a local file, keyed by entity id, once the aggregate is filtered and its signature
+ * is verified. The index file is memory-mapped when loaded, so a single entity can be located
+ * and parsed without parsing the aggregate again. The index carries a signature that describes
+ * the metadata and the filters it was built from, and is disregarded when the signature no longer matches.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class SamlMetadataEntityIndex {
+    private static final int VERSION = 1;
+
+    @Getter
+    private final String signature;
+
+    @Getter
+    private final Instant validUntil;
+
+    private final Map<String, IndexEntry> entries;
+
+    private final ByteBuffer entities;
+
+    /**
+     * Write the index for the given entities to the index file, replacing any previous index.
+     *
+     * @param indexFile  the index file
+     * @param signature  the signature of the metadata and filters
+     * @param validUntil the validity of the metadata root, if any
+     * @param entities   the filtered and verified entities
+     * @param configBean the config bean
+     * @return the index
+     * @throws Exception the exception
+     */
+    public static SamlMetadataEntityIndex write(final File indexFile, final String signature,
+                                                final Instant validUntil, final Iterable<EntityDescriptor> entities,
+                                                final OpenSamlConfigBean configBean) throws Exception {
+        val directory = indexFile.getParentFile().toPath();
+        val dataFile = Files.createTempFile(directory, indexFile.getName(), ".data");
+        val tempFile = Files.createTempFile(directory, indexFile.getName(), ".tmp");
+        try {
+            val entries = new LinkedHashMap<String, IndexEntry>();
+            try (val output = new BufferedOutputStream(Files.newOutputStream(dataFile))) {
+                var offset = 0;
+                for (val entity : entities) {
+                    val entityId = entity.getEntityID();
+                    if (StringUtils.isNotBlank(entityId) && !entries.containsKey(entityId)) {
+                        val xml = SamlUtils.transformSamlObject(configBean, entity).toString().getBytes(StandardCharsets.UTF_8);
+                        output.write(xml);
+                        entries.put(entityId, new IndexEntry(offset, xml.length));
+                        offset = Math.addExact(offset, xml.length);
+                    }
+                }
+            }
+            try (val output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(VERSION);
+                output.writeUTF(signature);
+                output.writeLong(validUntil == null ? -1 : validUntil.toEpochMilli());
+                output.writeInt(entries.size());
+                for (val entry : entries.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeInt(entry.getValue().offset());
+                    output.writeInt(entry.getValue().length());
+                }
+                output.writeLong(Files.size(dataFile));
+                Files.copy(dataFile, output);
+            }
+            Files.move(tempFile, indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            LOGGER.debug("Indexed [{}] entities of SAML metadata at [{}]", entries.size(), indexFile);
+        } finally {
+            Files.deleteIfExists(dataFile);
+            Files.deleteIfExists(tempFile);
+        }
+        return load(indexFile, signature).orElseThrow();
+    }
+
+    /**
+     * Load the index from the index file, if one exists and matches the given signature.
+     *
+     * @param indexFile the index file
+     * @param signature the signature of the metadata and filters
+     * @return the index
+     */
+    public static Optional<SamlMetadataEntityIndex> load(final File indexFile, final String signature) {
+        if (!indexFile.canRead()) {
+            return Optional.empty();
+        }
+        try (val channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ);
+             val input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)))) {
+            if (input.readInt() != VERSION || !StringUtils.equals(signature, input.readUTF())) {
+                LOGGER.debug("SAML metadata index at [{}] does not match the current metadata and will be disregarded", indexFile);
+                return Optional.empty();
+            }
+            val validUntil = input.readLong();
+            val count = input.readInt();
+            val entries = HashMap.<String, IndexEntry>newHashMap(count);
+            for (var i = 0; i < count; i++) {
+                entries.put(input.readUTF(), new IndexEntry(input.readInt(), input.readInt()));
+            }
+            val length = input.readLong();
+            val entities = channel.map(FileChannel.MapMode.READ_ONLY, channel.size() - length, length);
+            return Optional.of(new SamlMetadataEntityIndex(signature,
+                validUntil < 0 ? null : Instant.ofEpochMilli(validUntil), entries, entities));
+        } catch (final Exception e) {
+            LOGGER.debug("Unable to load SAML metadata index from [{}]: [{}]", indexFile, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether the index contains the entity.
+     *
+     * @param entityId the entity id
+     * @return true/false
+     */
+    public boolean contains(final String entityId) {
+        return entries.containsKey(entityId);
+    }
+
+    /**
+     * Number of indexed entities.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Whether the metadata root that produced the index is still valid.
+     *
+     * @return true/false
+     */
+    public boolean isValid() {
+        return validUntil == null || Instant.now(Clock.systemUTC()).isBefore(validUntil);
+    }
+
+    /**
+     * Read the serialized entity descriptor from the index.
+     *
+     * @param entityId the entity id
+     * @return the entity descriptor xml
+     */
+    public Optional<byte[]> getEntity(final String entityId) {
+        return Optional.ofNullable(entries.get(entityId)).map(entry -> {
+            val bytes = new byte[entry.length()];
+            entities.get(entry.offset(), bytes);
+            return bytes;
+        });
+    }
+
+    private record IndexEntry(int offset, int length) {
+    }
+}
@@ -21,12 +21,12 @@ import org.apereo.cas.util.http.HttpExecutionRequest;
 import org.apereo.cas.util.http.HttpRequestUtils;
 import org.apereo.cas.util.http.HttpUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+import com.google.common.base.Suppliers;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -40,6 +40,7 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
+import org.opensaml.saml.metadata.resolver.impl.AbstractBatchMetadataResolver;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
@@ -47,10 +48,18 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link UrlResourceMetadataResolver}.
@@ -62,8 +71,14 @@ import java.util.Collection;
 public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetadataResolver {
     private static final String FILENAME_EXTENSION_XML = ".xml";
 
+    private static final String FILENAME_EXTENSION_INDEX = ".index";
+
     private static final String DIRNAME_METADATA_BACKUPS = "metadata-backups";
 
+    private static final Map<String, String> CONDITIONAL_REQUEST_HEADERS = Map.of(
+        "ETag", "If-None-Match",
+        "Last-Modified", "If-Modified-Since");
+
     private final HttpClient httpClient;
 
     private final File metadataBackupDirectory;
@@ -104,7 +119,8 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             val metadataResource = new UrlResource(metadataLocation);
 
             val backupFile = getMetadataBackupFile(metadataResource, service);
-            if (backupFile.exists() && samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh()) {
+            val forceMetadataRefresh = samlIdPProperties.getMetadata().getHttp().isForceMetadataRefresh();
+            if (backupFile.exists() && forceMetadataRefresh && getConditionalRequestHeaders(backupFile).isEmpty()) {
                 LOGGER.debug("CAS is configured to forcefully refresh metadata for service [{}]. Old metadata backup files "
                     + "will now be deleted for this service.", service.getName());
                 cleanUpExpiredBackupMetadataFilesFor(metadataResource, service);
@@ -113,14 +129,20 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             LOGGER.debug("Metadata backup file for [{}] will be at [{}]", service.getName(), canonicalPath);
             FileUtils.forceMkdirParent(backupFile);
 
-            if (backupFile.exists() && backupFile.canRead()) {
+            if (backupFile.exists() && backupFile.canRead() && !forceMetadataRefresh) {
+                val indexedMetadataResolver = getIndexedMetadataResolver(service, backupFile);
+                if (indexedMetadataResolver.isPresent()) {
+                    LOGGER.debug("Metadata backup file for service [{}] at [{}] is indexed. CAS will reuse the SAML2 metadata index "
+                        + "and will not download new metadata from [{}]", service.getName(), canonicalPath, metadataLocation);
+                    return CollectionUtils.wrap(indexedMetadataResolver.get());
+                }
                 try {
                     val metadataProvider = getMetadataResolverFromFile(backupFile);
                     configureAndInitializeSingleMetadataResolver(metadataProvider, service);
                     if (Boolean.TRUE.equals(metadataProvider.isRootValid())) {
                         LOGGER.debug("Metadata backup file for service [{}] at [{}] is valid. CAS will reuse the SAML2 metadata file "
                             + "at [{}] and will not download new metadata from [{}]", service.getName(), canonicalPath, canonicalPath, metadataLocation);
-                        return CollectionUtils.wrap(metadataProvider);
+                        return CollectionUtils.wrap(indexMetadataResolver(service, backupFile, metadataProvider));
                     }
                 } catch (final Exception e) {
                     LoggingUtils.error(LOGGER, e);
@@ -133,10 +155,21 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
             response = fetchMetadata(service, metadataLocation, criteriaSet, backupFile);
             val status = HttpStatus.valueOf(response.getCode());
+            if (status == HttpStatus.NOT_MODIFIED && backupFile.exists()) {
+                LOGGER.debug("Metadata at [{}] has not been modified; CAS will reuse the SAML2 metadata file at [{}]",
+                    metadataLocation, canonicalPath);
+                val indexedMetadataResolver = getIndexedMetadataResolver(service, backupFile);
+                if (indexedMetadataResolver.isPresent()) {
+                    return CollectionUtils.wrap(indexedMetadataResolver.get());
+                }
+                val metadataProvider = getMetadataResolverFromFile(backupFile);
+                configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+                return CollectionUtils.wrap(indexMetadataResolver(service, backupFile, metadataProvider));
+            }
             if (shouldHttpResponseStatusBeProcessed(status)) {
                 val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
                 configureAndInitializeSingleMetadataResolver(metadataProvider, service);
-                return CollectionUtils.wrap(metadataProvider);
+                return CollectionUtils.wrap(indexMetadataResolver(service, backupFile, metadataProvider));
             }
         } catch (final UnauthorizedServiceException e) {
             LoggingUtils.error(LOGGER, e);
@@ -192,19 +225,186 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
      */
     protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
                                                                        final File backupFile) throws Exception {
+        writeMetadataBackupFile(response, backupFile);
+        return getMetadataResolverFromFile(backupFile);
+    }
+
+    /**
+     * Write the metadata carried by the response into the backup file. The response body
+     * is streamed to disk rather than buffered in memory, and any validators returned by the server
+     * are recorded alongside the file to allow for conditional requests when metadata is fetched again.
+     *
+     * @param response   the response
+     * @param backupFile the backup file
+     * @throws Exception the exception
+     */
+    protected void writeMetadataBackupFile(final HttpResponse response, final File backupFile) throws Exception {
         val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
         LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        try (val input = entity.getContent()) {
+            Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
         }
         EntityUtils.consume(entity);
-        return getMetadataResolverFromFile(backupFile);
+        storeConditionalRequestValidators(response, backupFile);
+    }
+
+    /**
+     * Record the {@code ETag} and {@code Last-Modified} validators of the response as user-defined
+     * attributes of the backup file, when supported by the underlying file system.
+     *
+     * @param response   the response
+     * @param backupFile the backup file
+     */
+    protected void storeConditionalRequestValidators(final HttpResponse response, final File backupFile) {
+        val path = backupFile.toPath();
+        for (val responseHeader : CONDITIONAL_REQUEST_HEADERS.keySet()) {
+            val header = response.getFirstHeader(responseHeader);
+            if (header != null && StringUtils.isNotBlank(header.getValue())) {
+                try {
+                    Files.setAttribute(path, "user:" + responseHeader, ByteBuffer.wrap(header.getValue().getBytes(StandardCharsets.UTF_8)));
+                } catch (final Exception e) {
+                    LOGGER.debug("Unable to record [{}] for metadata backup file [{}]: [{}]", responseHeader, path, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Build conditional request headers from the validators recorded for the backup file.
+     *
+     * @param backupFile the backup file
+     * @return the headers, or an empty map if the backup file or its validators do not exist
+     */
+    protected Map<String, String> getConditionalRequestHeaders(final File backupFile) {
+        val headers = new LinkedHashMap<String, String>();
+        val path = backupFile.toPath();
+        if (Files.exists(path)) {
+            for (val entry : CONDITIONAL_REQUEST_HEADERS.entrySet()) {
+                try {
+                    val value = new String((byte[]) Files.getAttribute(path, "user:" + entry.getKey()), StandardCharsets.UTF_8).trim();
+                    if (StringUtils.isNotBlank(value)) {
+                        headers.put(entry.getValue(), value);
+                    }
+                } catch (final Exception e) {
+                    LOGGER.trace("No [{}] is recorded for metadata backup file [{}]: [{}]", entry.getKey(), path, e.getMessage());
+                }
+            }
+        }
+        return headers;
+    }
+
+    /**
+     * Whether entities of the metadata should be indexed by entity id on disk.
+     *
+     * @param service the service
+     * @return true/false
+     */
+    protected boolean isMetadataIndexEnabled(final SamlRegisteredService service) {
+        return samlIdPProperties.getMetadata().getHttp().isIndexMetadata();
+    }
+
+    /**
+     * Gets the index file that is linked to the backup file for the given service.
+     * Metadata filters are defined per service, so each service keeps its own index.
+     *
+     * @param service    the service
+     * @param backupFile the backup file
+     * @return the index file
+     */
+    protected File getMetadataIndexFile(final SamlRegisteredService service, final File backupFile) {
+        val prefix = StringUtils.removeEndIgnoreCase(backupFile.getName(), FILENAME_EXTENSION_XML);
+        return new File(backupFile.getParentFile(), prefix + '-' + service.getId() + FILENAME_EXTENSION_INDEX);
+    }
+
+    /**
+     * Gets the signature of the metadata index, which changes whenever the backup file
+     * or the metadata filters defined for the service change.
+     *
+     * @param service    the service
+     * @param backupFile the backup file
+     * @return the signature
+     */
+    protected String getMetadataIndexSignature(final SamlRegisteredService service, final File backupFile) {
+        val components = List.of(
+            backupFile.length(), backupFile.lastModified(), service.getId(),
+            samlIdPProperties.getMetadata().getCore().isRequireValidMetadata(),
+            StringUtils.defaultString(service.getMetadataSignatureLocation()), service.isRequireSignedRoot(),
+            service.getMetadataMaxValidity(), StringUtils.defaultString(service.getMetadataCriteriaPattern()),
+            StringUtils.defaultString(service.getMetadataCriteriaDirection()),
+            StringUtils.defaultString(service.getMetadataCriteriaRoles()),
+            service.isMetadataCriteriaRemoveEmptyEntitiesDescriptors(),
+            service.isMetadataCriteriaRemoveRolelessEntityDescriptors(),
+            new TreeMap<>(service.getMetadataCriteriaEntityAttributes()));
+        return DigestUtils.sha(components.stream().map(String::valueOf).collect(Collectors.joining("|")));
+    }
+
+    /**
+     * Build a metadata resolver from the index of the backup file, if the index
+     * exists, matches the backup file and the metadata filters, and is still valid.
+     *
+     * @param service    the service
+     * @param backupFile the backup file
+     * @return the metadata resolver
+     */
+    protected Optional<IndexedMetadataResolver> getIndexedMetadataResolver(final SamlRegisteredService service,
+                                                                           final File backupFile) {
+        if (!isMetadataIndexEnabled(service)) {
+            return Optional.empty();
+        }
+        return SamlMetadataEntityIndex.load(getMetadataIndexFile(service, backupFile), getMetadataIndexSignature(service, backupFile))
+            .filter(SamlMetadataEntityIndex::isValid)
+            .map(index -> buildIndexedMetadataResolver(service, backupFile, index));
+    }
+
+    /**
+     * Index the entities of the initialized metadata resolver, whose metadata is now filtered
+     * and verified, and switch over to the index so the parsed aggregate can be released.
+     * If the index cannot be built, the metadata resolver is returned as is.
+     *
+     * @param service          the service
+     * @param backupFile       the backup file
+     * @param metadataProvider the metadata provider
+     * @return the metadata resolver
+     */
+    protected AbstractMetadataResolver indexMetadataResolver(final SamlRegisteredService service,
+                                                             final File backupFile,
+                                                             final AbstractMetadataResolver metadataProvider) {
+        if (isMetadataIndexEnabled(service) && metadataProvider instanceof final AbstractBatchMetadataResolver batchResolver) {
+            try {
+                val index = SamlMetadataEntityIndex.write(getMetadataIndexFile(service, backupFile),
+                    getMetadataIndexSignature(service, backupFile), batchResolver.getRootValidUntil(), batchResolver, configBean);
+                return buildIndexedMetadataResolver(service, backupFile, index);
+            } catch (final Exception e) {
+                LOGGER.warn("Unable to index SAML metadata from [{}] for service [{}]: [{}]", backupFile, service.getName(), e.getMessage());
+                LOGGER.debug(e.getMessage(), e);
+            }
+        }
+        return metadataProvider;
+    }
+
+    private IndexedMetadataResolver buildIndexedMetadataResolver(final SamlRegisteredService service,
+                                                                 final File backupFile,
+                                                                 final SamlMetadataEntityIndex index) {
+        val aggregateMetadataResolver = Suppliers.memoize(() -> FunctionUtils.doUnchecked(() -> {
+            LOGGER.debug("Loading SAML metadata aggregate from [{}] for a query that does not specify an entity id", backupFile);
+            val metadataProvider = getMetadataResolverFromFile(backupFile);
+            configureAndInitializeSingleMetadataResolver(metadataProvider, service);
+            return metadataProvider;
+        }));
+        return FunctionUtils.doUnchecked(() -> {
+            val md = samlIdPProperties.getMetadata();
+            val metadataResolver = new IndexedMetadataResolver(index, configBean, aggregateMetadataResolver);
+            metadataResolver.setId("RegisteredServiceMetadata-" + service.getName());
+            metadataResolver.setFailFastInitialization(md.getCore().isFailFast());
+            metadataResolver.setRequireValidMetadata(md.getCore().isRequireValidMetadata());
+            metadataResolver.initialize();
+            LOGGER.debug("Loaded SAML metadata index with [{}] entities for service [{}]", index.size(), service.getName());
+            return metadataResolver;
+        });
     }
 
-    private InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
+    protected InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
         val metadataResolver = new InMemoryResourceMetadataResolver(backupFile, configBean);
         metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
         return metadataResolver;
@@ -219,6 +419,7 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             .method(HttpMethod.GET)
             .url(metadataLocation)
             .proxyUrl(service.getMetadataProxyLocation())
+            .headers(getConditionalRequestHeaders(backupFile))
             .httpClient(httpClient)
             .build();
         return HttpUtils.execute(exec);
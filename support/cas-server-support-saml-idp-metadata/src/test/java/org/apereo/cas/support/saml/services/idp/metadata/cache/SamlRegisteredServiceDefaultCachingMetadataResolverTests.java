@@ -9,6 +9,8 @@ import org.apereo.cas.support.saml.services.idp.metadata.cache.resolver.UrlResou
 import org.apereo.cas.support.saml.services.idp.metadata.plan.DefaultSamlRegisteredServiceMetadataResolutionPlan;
 import org.apereo.cas.util.MockWebServer;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
@@ -19,6 +21,9 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.apereo.cas.util.junit.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -201,7 +206,33 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         assertEquals(0, stats3.hitCount());
     }
 
+    @Test
+    void verifyConcurrentResolution() throws Throwable {
+        val meterRegistry = new SimpleMeterRegistry();
+        val resolver = getResolver("PT5M", meterRegistry);
+        val service = getSamlRegisteredService(1, ".+", "classpath:sample-sp.xml");
+        service.setName("ConcurrentExample");
+        val criteriaSet = getCriteriaFor("https://carmenwiki.osu.edu/shibboleth");
+        try (val executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            val results = new ArrayList<Future<CachedMetadataResolverResult>>();
+            for (var i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> resolver.resolve(service, criteriaSet)));
+            }
+            for (val result : results) {
+                assertNotNull(result.get());
+            }
+        }
+        assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+        assertEquals(10, meterRegistry.get("cas.saml.metadata.resolve").tag("service", "ConcurrentExample").timer().count());
+        assertEquals(1, meterRegistry.get("cas.saml.metadata.load").tag("service", "ConcurrentExample").timer().count());
+    }
+
     private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration) {
+        return getResolver(duration, new SimpleMeterRegistry());
+    }
+
+    private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration,
+                                                                            final MeterRegistry meterRegistry) {
         val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
         val props = casProperties.getAuthn().getSamlIdp();
         resolutionPlan.registerMetadataResolver(
@@ -212,6 +243,6 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
             new ClasspathResourceMetadataResolver(props, openSamlConfigBean));
         val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
         casProperties.getAuthn().getSamlIdp().getMetadata().getCore().setCacheExpiration(duration);
-        return new SamlRegisteredServiceDefaultCachingMetadataResolver(casProperties, cacheLoader, openSamlConfigBean);
+        return new SamlRegisteredServiceDefaultCachingMetadataResolver(casProperties, cacheLoader, openSamlConfigBean, meterRegistry);
     }
 }
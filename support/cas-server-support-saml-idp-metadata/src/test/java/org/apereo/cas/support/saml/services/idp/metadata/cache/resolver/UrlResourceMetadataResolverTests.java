@@ -6,17 +6,25 @@ import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.util.MockWebServer;
 import org.apereo.cas.util.RandomUtils;
+import com.google.common.collect.Iterables;
 import lombok.val;
+import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.context.TestPropertySource;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
 
 /**
  * This is {@link UrlResourceMetadataResolverTests}.
@@ -97,6 +105,64 @@ class UrlResourceMetadataResolverTests {
             }
         }
 
+        @Test
+        void verifyResolverIndexesMetadata() throws Throwable {
+            val service = new SamlRegisteredService();
+            service.setName(RandomUtils.randomAlphabetic(12));
+            service.setId(RandomUtils.nextInt());
+
+            val resolver = getMetadataResolver();
+            try (val webServer = new MockWebServer(new ClassPathResource("sample-metadata.xml"))) {
+                webServer.start();
+                service.setMetadataLocation("http://localhost:%s".formatted(webServer.getPort()));
+                val results = resolver.resolve(service);
+                val metadataResolver = assertInstanceOf(IndexedMetadataResolver.class, results.iterator().next());
+                assertEquals(5, metadataResolver.getIndex().size());
+                val entity = metadataResolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://cassp.example.org")));
+                assertNotNull(entity);
+                assertEquals("https://cassp.example.org", entity.getEntityID());
+                assertNull(metadataResolver.resolveSingle(new CriteriaSet(new EntityIdCriterion("https://unknown.example.org"))));
+                assertEquals(5, Iterables.size(metadataResolver));
+            }
+            val backupFile = resolver.getMetadataBackupFile(new UrlResource(service.getMetadataLocation()), service);
+            val indexFile = resolver.getMetadataIndexFile(service, backupFile);
+            assertTrue(indexFile.exists());
+            val signature = resolver.getMetadataIndexSignature(service, backupFile);
+            val index = SamlMetadataEntityIndex.load(indexFile, signature).orElseThrow();
+            assertTrue(index.getEntity("https://mocky.io").isPresent());
+            service.setMetadataCriteriaPattern("^https://mocky.*");
+            assertNotEquals(signature, resolver.getMetadataIndexSignature(service, backupFile));
+            assertTrue(SamlMetadataEntityIndex.load(indexFile, resolver.getMetadataIndexSignature(service, backupFile)).isEmpty());
+        }
+
+        @Test
+        void verifyResolverNotModified() throws Throwable {
+            val service = new SamlRegisteredService();
+            service.setName(RandomUtils.randomAlphabetic(12));
+            service.setId(RandomUtils.nextInt());
+
+            val resolver = getMetadataResolver();
+            var port = 0;
+            try (val webServer = new MockWebServer(new ClassPathResource("sample-metadata.xml"))) {
+                webServer.start();
+                port = webServer.getPort();
+                service.setMetadataLocation("http://localhost:%s".formatted(port));
+                assertFalse(resolver.resolve(service).isEmpty());
+            }
+            val backupFile = resolver.getMetadataBackupFile(new UrlResource(service.getMetadataLocation()), service);
+            try {
+                Files.setAttribute(backupFile.toPath(), "user:ETag", ByteBuffer.wrap("\"v1\"".getBytes(StandardCharsets.UTF_8)));
+            } catch (final Exception e) {
+                assumeTrue(false, "File system does not support user-defined attributes");
+            }
+            assertEquals("\"v1\"", resolver.getConditionalRequestHeaders(backupFile).get("If-None-Match"));
+            try (val webServer = new MockWebServer(port, StringUtils.EMPTY, HttpStatus.NOT_MODIFIED)) {
+                webServer.start();
+                assertFalse(resolver.resolve(service).isEmpty());
+                assertTrue(backupFile.exists());
+            }
+        }
+
         @Test
         void verifyResolverUnknownUrl() throws Throwable {
             val resolver = getMetadataResolver();
@@ -29,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.xml.SerializeSupport;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.velocity.app.VelocityEngine;
@@ -92,21 +93,28 @@ public class SamlIdPSingleLogoutServiceMessageHandler extends BaseSingleLogoutSe
         return registeredService instanceof SamlRegisteredService;
     }
 
+    /**
+     * The logout request of the current http request is examined here, before the message
+     * is handed over for delivery, so that delivery itself does not depend on the http request
+     * and may safely run in the background once the request completes.
+     *
+     * @param request       the request
+     * @param logoutMessage the logout request
+     * @return true if the message was sent, or skipped for the request initiator
+     */
+    @Override
+    protected boolean sendSingleLogoutMessage(final SingleLogoutRequestContext request, final SingleLogoutMessage logoutMessage) {
+        if (isLogoutRequestInitiator(request)) {
+            request.getService().setLoggedOutAlready(true);
+            return true;
+        }
+        return super.sendSingleLogoutMessage(request, logoutMessage);
+    }
+
     @Override
     protected boolean sendMessageToEndpoint(final LogoutHttpMessage msg,
                                             final SingleLogoutRequestContext request,
                                             final SingleLogoutMessage logoutMessage) {
-        if (request.getExecutionRequest().getHttpServletRequest().isPresent()) {
-            val logoutRequest = WebUtils.getSingleLogoutRequest(request.getExecutionRequest().getHttpServletRequest().get());
-            val decodedRequest = EncodingUtils.decodeBase64(logoutRequest);
-            val samlLogoutRequest = SamlUtils.transformSamlObject(openSamlConfigBean, decodedRequest, LogoutRequest.class);
-            val logoutRequestIssuer = SamlIdPUtils.getIssuerFromSamlObject(samlLogoutRequest);
-            if (request.getService().getId().equalsIgnoreCase(logoutRequestIssuer)) {
-                LOGGER.trace("Skipping single logout request for [{}] as the request initiator", logoutRequestIssuer);
-                return true;
-            }
-        }
-
         val binding = request.getProperties().get(SamlIdPSingleLogoutServiceLogoutUrlBuilder.PROPERTY_NAME_SINGLE_LOGOUT_BINDING);
         if (SAMLConstants.SAML2_SOAP11_BINDING_URI.equalsIgnoreCase(binding)) {
             return super.sendMessageToEndpoint(msg, request, logoutMessage);
@@ -158,4 +166,27 @@ public class SamlIdPSingleLogoutServiceMessageHandler extends BaseSingleLogoutSe
         LOGGER.warn("No (successful) logout response received from the url [{}]", msg.getUrl().toExternalForm());
         return false;
     }
+
+    /**
+     * Whether the service of the logout request has initiated the current logout request.
+     *
+     * @param request the request
+     * @return true/false
+     */
+    protected boolean isLogoutRequestInitiator(final SingleLogoutRequestContext request) {
+        val httpServletRequest = request.getExecutionRequest().getHttpServletRequest();
+        if (httpServletRequest.isPresent()) {
+            val logoutRequest = WebUtils.getSingleLogoutRequest(httpServletRequest.get());
+            if (StringUtils.isNotBlank(logoutRequest)) {
+                val decodedRequest = EncodingUtils.decodeBase64(logoutRequest);
+                val samlLogoutRequest = SamlUtils.transformSamlObject(openSamlConfigBean, decodedRequest, LogoutRequest.class);
+                val logoutRequestIssuer = SamlIdPUtils.getIssuerFromSamlObject(samlLogoutRequest);
+                if (request.getService().getId().equalsIgnoreCase(logoutRequestIssuer)) {
+                    LOGGER.trace("Skipping single logout request for [{}] as the request initiator", logoutRequestIssuer);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
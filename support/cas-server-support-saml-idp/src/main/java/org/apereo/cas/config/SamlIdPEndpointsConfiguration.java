@@ -12,8 +12,10 @@ import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.configuration.model.core.web.session.SessionStorageTypes;
 import org.apereo.cas.configuration.model.support.replication.CookieSessionReplicationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.logout.LogoutRedirectionStrategy;
+import org.apereo.cas.logout.slo.SingleLogoutCircuitBreaker;
 import org.apereo.cas.logout.slo.SingleLogoutMessageCreator;
 import org.apereo.cas.logout.slo.SingleLogoutServiceLogoutUrlBuilder;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
@@ -71,6 +73,8 @@ import org.apereo.cas.web.support.CookieUtils;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -350,11 +354,18 @@ public class SamlIdPEndpointsConfiguration {
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
             final OpenSamlConfigBean openSamlConfigBean,
             @Qualifier(SamlRegisteredServiceCachingMetadataResolver.BEAN_NAME)
-            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver) {
-            return new SamlIdPSingleLogoutServiceMessageHandler(httpClient, samlLogoutBuilder, servicesManager,
+            final SamlRegisteredServiceCachingMetadataResolver defaultSamlRegisteredServiceCachingMetadataResolver,
+            @Qualifier("singleLogoutCircuitBreaker")
+            final ObjectProvider<SingleLogoutCircuitBreaker> singleLogoutCircuitBreaker,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+            val handler = new SamlIdPSingleLogoutServiceMessageHandler(httpClient, samlLogoutBuilder, servicesManager,
                 singleLogoutServiceLogoutUrlBuilder, casProperties.getSlo().isAsynchronous(),
                 authenticationServiceSelectionPlan, defaultSamlRegisteredServiceCachingMetadataResolver,
                 velocityEngineFactory, openSamlConfigBean);
+            singleLogoutCircuitBreaker.ifAvailable(handler::setCircuitBreaker);
+            handler.setMeterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+            handler.setTimeout(Beans.newDuration(casProperties.getSlo().getDispatcher().getTimeout()));
+            return handler;
         }
 
         @Bean
@@ -54,6 +54,8 @@ import org.apereo.cas.util.spring.boot.ConditionalOnMissingGraalVMNativeImage;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.velocity.app.VelocityEngine;
@@ -397,9 +399,11 @@ public class SamlIdPMetadataConfiguration {
             @Qualifier("chainingMetadataResolverCacheLoader")
             final CacheLoader<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> chainingMetadataResolverCacheLoader,
             @Qualifier(OpenSamlConfigBean.DEFAULT_BEAN_NAME)
-            final OpenSamlConfigBean openSamlConfigBean) {
+            final OpenSamlConfigBean openSamlConfigBean,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
             return new SamlRegisteredServiceDefaultCachingMetadataResolver(
-                casProperties, chainingMetadataResolverCacheLoader, openSamlConfigBean);
+                casProperties, chainingMetadataResolverCacheLoader, openSamlConfigBean,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
         }
     }
 
@@ -1,5 +1,6 @@
 package org.apereo.cas.support.saml.web.idp.profile.slo;
 
+import org.apereo.cas.logout.LogoutRequestStatus;
 import org.apereo.cas.logout.slo.SingleLogoutExecutionRequest;
 import org.apereo.cas.logout.slo.SingleLogoutServiceMessageHandler;
 import org.apereo.cas.mock.MockTicketGrantingTicket;
@@ -133,6 +134,8 @@ class SamlIdPSingleLogoutServiceMessageHandlerTests extends BaseSamlIdPConfigura
                 .httpServletResponse(Optional.of(response))
                 .build());
         assertFalse(result.isEmpty());
+        assertEquals(LogoutRequestStatus.SUCCESS, result.iterator().next().getStatus());
+        assertTrue(service.isLoggedOutAlready());
     }
 
     @Test
@@ -10,6 +10,7 @@ import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.EncodingUtils;
 import org.apereo.cas.util.LoggingUtils;
+import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.web.support.WebUtils;
 
 import com.google.common.base.Splitter;
@@ -76,7 +77,7 @@ public class ShibbolethIdPEntityIdAuthenticationServiceSelectionStrategy extends
     @Override
     public boolean supports(final Service service) {
         val casPattern = "^".concat(idpServerPrefix).concat(".*");
-        val matches = service != null && service.getId().matches(casPattern);
+        val matches = service != null && RegexUtils.matches(RegexUtils.createPattern(casPattern, 0), service.getId());
         LOGGER.trace("Does service id [{}] match against [{}]: [{}]",
             service, idpServerPrefix, BooleanUtils.toStringYesNo(matches));
         val supported = matches && getEntityIdAsParameter(service).isPresent();
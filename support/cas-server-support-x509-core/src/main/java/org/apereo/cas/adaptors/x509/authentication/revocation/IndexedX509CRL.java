@@ -0,0 +1,211 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import lombok.Getter;
+import lombok.val;
+
+import javax.security.auth.x500.X500Principal;
+import java.math.BigInteger;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Principal;
+import java.security.Provider;
+import java.security.PublicKey;
+import java.security.SignatureException;
+import java.security.cert.CRLException;
+import java.security.cert.Certificate;
+import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This is {@link IndexedX509CRL}, which wraps a parsed CRL and keeps the serial numbers
+ * of its revoked certificates in a sorted array. Certificates that are not revoked, which
+ * is the common case, are looked up with a binary search and never touch the CRL entries.
+ * Indirect CRLs, whose entries may name a different certificate issuer, are not indexed
+ * and are always consulted directly.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+public class IndexedX509CRL extends X509CRL {
+
+    @Getter
+    private final X509CRL crl;
+
+    private final boolean indexed;
+
+    private final BigInteger[] revokedSerialNumbers;
+
+    protected IndexedX509CRL(final X509CRL crl) {
+        this.crl = crl;
+        val entries = crl.getRevokedCertificates();
+        this.indexed = entries == null || entries.stream().allMatch(entry -> entry.getCertificateIssuer() == null);
+        this.revokedSerialNumbers = indexed && entries != null
+            ? entries.stream().map(X509CRLEntry::getSerialNumber).sorted().toArray(BigInteger[]::new)
+            : new BigInteger[0];
+    }
+
+    /**
+     * Index the given CRL, unless it is already indexed.
+     *
+     * @param crl the crl
+     * @return the indexed crl
+     */
+    public static X509CRL of(final X509CRL crl) {
+        if (crl == null || crl instanceof IndexedX509CRL) {
+            return crl;
+        }
+        return new IndexedX509CRL(crl);
+    }
+
+    /**
+     * Whether the serial number is listed in this CRL.
+     *
+     * @param serialNumber the serial number
+     * @return true if revoked
+     */
+    public boolean isRevoked(final BigInteger serialNumber) {
+        if (!indexed) {
+            return crl.getRevokedCertificate(serialNumber) != null;
+        }
+        return Arrays.binarySearch(revokedSerialNumbers, serialNumber) >= 0;
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final X509Certificate certificate) {
+        if (isIndexedFor(certificate) && !isRevoked(certificate.getSerialNumber())) {
+            return null;
+        }
+        return crl.getRevokedCertificate(certificate);
+    }
+
+    @Override
+    public X509CRLEntry getRevokedCertificate(final BigInteger serialNumber) {
+        if (indexed && !isRevoked(serialNumber)) {
+            return null;
+        }
+        return crl.getRevokedCertificate(serialNumber);
+    }
+
+    @Override
+    public boolean isRevoked(final Certificate certificate) {
+        if (certificate instanceof final X509Certificate x509Certificate && isIndexedFor(x509Certificate)) {
+            return isRevoked(x509Certificate.getSerialNumber());
+        }
+        return crl.isRevoked(certificate);
+    }
+
+    private boolean isIndexedFor(final X509Certificate certificate) {
+        return indexed
+            && Objects.equals(certificate.getIssuerX500Principal(), crl.getIssuerX500Principal());
+    }
+
+    @Override
+    public byte[] getEncoded() throws CRLException {
+        return crl.getEncoded();
+    }
+
+    @Override
+    public void verify(final PublicKey key) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, NoSuchProviderException, SignatureException {
+        crl.verify(key);
+    }
+
+    @Override
+    public void verify(final PublicKey key, final String sigProvider) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, NoSuchProviderException, SignatureException {
+        crl.verify(key, sigProvider);
+    }
+
+    @Override
+    public void verify(final PublicKey key, final Provider sigProvider) throws CRLException, NoSuchAlgorithmException,
+        InvalidKeyException, SignatureException {
+        crl.verify(key, sigProvider);
+    }
+
+    @Override
+    public int getVersion() {
+        return crl.getVersion();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public Principal getIssuerDN() {
+        return crl.getIssuerDN();
+    }
+
+    @Override
+    public X500Principal getIssuerX500Principal() {
+        return crl.getIssuerX500Principal();
+    }
+
+    @Override
+    public Date getThisUpdate() {
+        return crl.getThisUpdate();
+    }
+
+    @Override
+    public Date getNextUpdate() {
+        return crl.getNextUpdate();
+    }
+
+    @Override
+    public Set<? extends X509CRLEntry> getRevokedCertificates() {
+        return crl.getRevokedCertificates();
+    }
+
+    @Override
+    public byte[] getTBSCertList() throws CRLException {
+        return crl.getTBSCertList();
+    }
+
+    @Override
+    public byte[] getSignature() {
+        return crl.getSignature();
+    }
+
+    @Override
+    public String getSigAlgName() {
+        return crl.getSigAlgName();
+    }
+
+    @Override
+    public String getSigAlgOID() {
+        return crl.getSigAlgOID();
+    }
+
+    @Override
+    public byte[] getSigAlgParams() {
+        return crl.getSigAlgParams();
+    }
+
+    @Override
+    public boolean hasUnsupportedCriticalExtension() {
+        return crl.hasUnsupportedCriticalExtension();
+    }
+
+    @Override
+    public Set<String> getCriticalExtensionOIDs() {
+        return crl.getCriticalExtensionOIDs();
+    }
+
+    @Override
+    public Set<String> getNonCriticalExtensionOIDs() {
+        return crl.getNonCriticalExtensionOIDs();
+    }
+
+    @Override
+    public byte[] getExtensionValue(final String oid) {
+        return crl.getExtensionValue(oid);
+    }
+
+    @Override
+    public String toString() {
+        return crl.toString();
+    }
+}
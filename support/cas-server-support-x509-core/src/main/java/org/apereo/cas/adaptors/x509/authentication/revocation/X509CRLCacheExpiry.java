@@ -0,0 +1,35 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * This is {@link X509CRLCacheExpiry}. It expires cached CRLs after a fixed duration
+ * once they are written, like a regular time-to-live, while allowing individual
+ * entries to be kept for longer, such as until the next update of the CRL.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@RequiredArgsConstructor
+public class X509CRLCacheExpiry implements Expiry<URI, byte[]> {
+    private final Duration timeToLive;
+
+    @Override
+    public long expireAfterCreate(final URI key, final byte[] value, final long currentTime) {
+        return timeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(final URI key, final byte[] value, final long currentTime, final long currentDuration) {
+        return timeToLive.toNanos();
+    }
+
+    @Override
+    public long expireAfterRead(final URI key, final byte[] value, final long currentTime, final long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -0,0 +1,169 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.jooq.lambda.fi.util.function.CheckedSupplier;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link X509CRLStore}. It keeps parsed CRLs in memory, indexed by the serial numbers
+ * of revoked certificates, so that revocation checks never parse the same CRL twice.
+ * CRLs that are stored along with a loader are fetched again in the background shortly
+ * before their next update date; the existing CRL remains in use until a newer replacement
+ * has been fetched and parsed. Replacements that fail to load or are not newer than the
+ * existing CRL are attempted again after an exponentially growing delay.
+ * The store may be shared by multiple revocation checkers and CRL fetchers.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Slf4j
+public class X509CRLStore implements DisposableBean {
+    private static final Duration DEFAULT_REFRESH_AHEAD = Duration.ofMinutes(10);
+
+    private static final Duration REFRESH_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private static final Duration MAXIMUM_REFRESH_BACKOFF = Duration.ofMinutes(30);
+
+    private static final int MAXIMUM_REFRESH_BACKOFF_EXPONENT = 5;
+
+    private final Map<Object, StoredCRL> crls = new ConcurrentHashMap<>();
+
+    private final Duration refreshAhead;
+
+    @Getter
+    private final Clock clock;
+
+    private ScheduledExecutorService scheduler;
+
+    public X509CRLStore() {
+        this(DEFAULT_REFRESH_AHEAD);
+    }
+
+    public X509CRLStore(final Duration refreshAhead) {
+        this(refreshAhead, Clock.systemUTC());
+    }
+
+    public X509CRLStore(final Duration refreshAhead, final Clock clock) {
+        this.refreshAhead = refreshAhead;
+        this.clock = clock;
+    }
+
+    /**
+     * Find the CRL stored under the given key.
+     *
+     * @param key the key, typically the CRL location or its issuer
+     * @return the crl, or null
+     */
+    public X509CRL get(final Object key) {
+        val stored = crls.get(key);
+        return stored == null ? null : stored.crl();
+    }
+
+    /**
+     * Store the CRL under the given key. The CRL is not refreshed in the background.
+     *
+     * @param key the key
+     * @param crl the crl
+     * @return the indexed crl
+     */
+    public X509CRL put(final Object key, final X509CRL crl) {
+        return put(key, crl, null);
+    }
+
+    /**
+     * Store the CRL under the given key, and use the loader to fetch
+     * its replacement ahead of its next update date.
+     *
+     * @param key    the key
+     * @param crl    the crl
+     * @param loader the loader
+     * @return the indexed crl
+     */
+    public X509CRL put(final Object key, final X509CRL crl, final CheckedSupplier<X509CRL> loader) {
+        val indexed = IndexedX509CRL.of(crl);
+        crls.put(key, new StoredCRL(indexed, loader, null, 0));
+        if (loader != null) {
+            scheduleRefresh();
+        }
+        return indexed;
+    }
+
+    /**
+     * Remove the CRL stored under the given key.
+     *
+     * @param key the key
+     */
+    public void invalidate(final Object key) {
+        crls.remove(key);
+    }
+
+    /**
+     * Fetch replacements for stored CRLs whose next update date is near or has passed.
+     */
+    public void refresh() {
+        val now = Instant.now(clock);
+        val threshold = now.plus(refreshAhead);
+        crls.forEach((key, stored) -> {
+            val nextUpdate = stored.crl().getNextUpdate();
+            if (stored.loader() != null && nextUpdate != null && !nextUpdate.toInstant().isAfter(threshold)
+                && (stored.nextAttempt() == null || !stored.nextAttempt().isAfter(now))) {
+                val refreshed = loadReplacement(key, stored, now);
+                crls.computeIfPresent(key, (id, current) -> current == stored ? refreshed : current);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (this) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+    }
+
+    @SuppressWarnings("FutureReturnValueIgnored")
+    private void scheduleRefresh() {
+        synchronized (this) {
+            if (scheduler == null) {
+                scheduler = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
+                val interval = REFRESH_CHECK_INTERVAL.toSeconds();
+                scheduler.scheduleWithFixedDelay(this::refresh, interval, interval, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private StoredCRL loadReplacement(final Object key, final StoredCRL stored, final Instant now) {
+        try {
+            LOGGER.debug("Refreshing CRL [{}] whose next update is due at [{}]", key, stored.crl().getNextUpdate());
+            val crl = stored.loader().get();
+            if (crl != null && crl.getThisUpdate().after(stored.crl().getThisUpdate())) {
+                return new StoredCRL(IndexedX509CRL.of(crl), stored.loader(), null, 0);
+            }
+            LOGGER.debug("CRL [{}] has not been updated yet; the current CRL remains in use", key);
+        } catch (final Throwable e) {
+            LOGGER.warn("Unable to refresh CRL [{}]; the current CRL remains in use", key);
+            LoggingUtils.warn(LOGGER, e);
+        }
+        val backoff = REFRESH_CHECK_INTERVAL.multipliedBy(1L << Math.min(stored.attempts(), MAXIMUM_REFRESH_BACKOFF_EXPONENT));
+        val delay = backoff.compareTo(MAXIMUM_REFRESH_BACKOFF) > 0 ? MAXIMUM_REFRESH_BACKOFF : backoff;
+        return new StoredCRL(stored.crl(), stored.loader(), now.plus(delay), stored.attempts() + 1);
+    }
+
+    private record StoredCRL(X509CRL crl, CheckedSupplier<X509CRL> loader, Instant nextAttempt, int attempts) {
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLStore;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -16,6 +17,7 @@ import org.bouncycastle.asn1.ASN1Sequence;
 import org.bouncycastle.asn1.x509.DistributionPoint;
 import org.bouncycastle.asn1.x509.GeneralName;
 import org.cryptacular.x509.ExtensionReader;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.ByteArrayResource;
 
 import java.net.MalformedURLException;
@@ -25,6 +27,8 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -38,13 +42,17 @@ import java.util.stream.IntStream;
  * expects the name to define an absolute URL, which is the most common
  * implementation.  This implementation caches CRL resources fetched from remote
  * URLs to improve performance by avoiding CRL fetching on every revocation
- * check.
+ * check. Cached CRLs are parsed once and kept in a {@link X509CRLStore}
+ * that fetches them again ahead of their next update, for as long as they
+ * remain in the CRL cache. When the CRL cache supports variable expiration, CRLs
+ * are kept in the cache at least until their next update so they can be refreshed;
+ * only a newer CRL replaces the cached entry and extends its stay in the cache.
  *
  * @author Marvin S. Addison
  * @since 3.4.6
  */
 @Slf4j
-public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker {
+public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocationChecker implements DisposableBean {
 
     private final Cache<URI, byte[]> crlCache;
 
@@ -52,6 +60,10 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
     private final boolean throwOnFetchFailure;
 
+    private final X509CRLStore crlStore;
+
+    private final boolean destroyCrlStore;
+
     public CRLDistributionPointRevocationChecker(final Cache<URI, byte[]> crlCache,
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final RevocationPolicy<Void> unavailableCRLPolicy) {
@@ -69,10 +81,28 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
                                                  final Cache<URI, byte[]> crlCache,
                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher, throwOnFetchFailure, new X509CRLStore(), true);
+    }
+
+    public CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                 final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                 final Cache<URI, byte[]> crlCache,
+                                                 final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                 final X509CRLStore crlStore) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, crlCache, fetcher, throwOnFetchFailure, crlStore, false);
+    }
+
+    private CRLDistributionPointRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                                  final RevocationPolicy<X509CRL> expiredCRLPolicy,
+                                                  final Cache<URI, byte[]> crlCache,
+                                                  final CRLFetcher fetcher, final boolean throwOnFetchFailure,
+                                                  final X509CRLStore crlStore, final boolean destroyCrlStore) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.crlCache = crlCache;
         this.fetcher = fetcher;
         this.throwOnFetchFailure = throwOnFetchFailure;
+        this.crlStore = crlStore;
+        this.destroyCrlStore = destroyCrlStore;
     }
 
 
@@ -143,11 +173,15 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
 
         for (var index = 0; !stopFetching && index < urls.length; index++) {
             val url = urls[index];
-            val item = this.crlCache.asMap().get(url);
+            val item = this.crlCache.getIfPresent(url);
 
             if (item != null) {
                 LOGGER.debug("Found CRL in cache for [{}]", CertUtils.toString(cert));
-                val crlFetched = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
+                val crlFetched = Optional.ofNullable(this.crlStore.get(url))
+                    .orElseGet(() -> {
+                        val crl = FunctionUtils.doUnchecked(() -> this.fetcher.fetch(new ByteArrayResource(item)));
+                        return crl == null ? null : this.crlStore.put(url, crl, () -> refreshCRL(url));
+                    });
 
                 if (crlFetched != null) {
                     listOfLocations.add(crlFetched);
@@ -156,12 +190,13 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
                 }
             } else {
                 LOGGER.debug("CRL for [{}] is not cached. Fetching and caching...", CertUtils.toString(cert));
+                this.crlStore.invalidate(url);
                 try {
                     val crl = this.fetcher.fetch(url);
                     if (crl != null) {
                         LOGGER.info("Success. Caching fetched CRL at [{}].", url);
                         addCRLbyURI(url, crl);
-                        listOfLocations.add(crl);
+                        listOfLocations.add(Optional.ofNullable(this.crlStore.get(url)).orElse(crl));
                     }
                 } catch (final Exception e) {
                     LoggingUtils.error(LOGGER, e);
@@ -182,6 +217,37 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
         return listOfLocations;
     }
 
+    private X509CRL refreshCRL(final URI uri) throws Exception {
+        val current = this.crlStore.get(uri);
+        if (current == null || this.crlCache.getIfPresent(uri) == null) {
+            LOGGER.debug("CRL for [{}] is no longer cached and will not be refreshed", uri);
+            this.crlStore.invalidate(uri);
+            return null;
+        }
+        val crl = this.fetcher.fetch(uri);
+        if (crl != null && crl.getThisUpdate().after(current.getThisUpdate())) {
+            cacheCRL(uri, crl);
+        }
+        return crl;
+    }
+
+    private void cacheCRL(final URI uri, final X509CRL crl) throws Exception {
+        this.crlCache.put(uri, crl.getEncoded());
+        if (crl.getNextUpdate() != null) {
+            val untilNextUpdate = Duration.between(Instant.now(this.crlStore.getClock()), crl.getNextUpdate().toInstant());
+            this.crlCache.policy().expireVariably().ifPresent(policy -> policy.getExpiresAfter(uri)
+                .filter(expiration -> expiration.compareTo(untilNextUpdate) < 0)
+                .ifPresent(expiration -> policy.setExpiresAfter(uri, untilNextUpdate)));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (this.destroyCrlStore) {
+            this.crlStore.destroy();
+        }
+    }
+
     @Override
     protected boolean addCRL(final Object id, final X509CRL crl) {
         return FunctionUtils.doUnchecked(() -> {
@@ -189,10 +255,12 @@ public class CRLDistributionPointRevocationChecker extends AbstractCRLRevocation
             if (crl == null) {
                 LOGGER.debug("No CRL was passed. Removing [{}] from cache...", id);
                 this.crlCache.invalidate(uri);
+                this.crlStore.invalidate(uri);
                 return false;
             }
 
-            this.crlCache.put(uri, crl.getEncoded());
+            cacheCRL(uri, crl);
+            this.crlStore.put(uri, crl, () -> refreshCRL(uri));
             return this.crlCache.asMap().containsKey(uri);
         });
     }
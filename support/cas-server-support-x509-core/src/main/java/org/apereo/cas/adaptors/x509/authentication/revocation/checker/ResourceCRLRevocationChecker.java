@@ -3,6 +3,7 @@ package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
 import org.apereo.cas.adaptors.x509.authentication.CRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
 import org.apereo.cas.adaptors.x509.authentication.handler.support.X509CredentialsAuthenticationHandler;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLStore;
 import org.apereo.cas.adaptors.x509.authentication.revocation.policy.RevocationPolicy;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.function.FunctionUtils;
@@ -19,9 +20,6 @@ import java.security.cert.X509CRL;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -55,9 +53,9 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     private final CRLFetcher fetcher;
 
     /**
-     * Map of CRL issuer to CRL.
+     * Parsed and indexed CRLs, keyed by their issuer.
      */
-    private final Map<X500Principal, X509CRL> crlIssuerMap = Collections.synchronizedMap(new HashMap<>(0));
+    private final X509CRLStore crlStore;
 
     /**
      * Resource CRLs.
@@ -67,10 +65,18 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     public ResourceCRLRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
                                         final RevocationPolicy<X509CRL> expiredCRLPolicy, final int refreshInterval,
                                         final CRLFetcher fetcher, final Collection<Resource> resources) {
+        this(checkAll, unavailableCRLPolicy, expiredCRLPolicy, refreshInterval, fetcher, resources, new X509CRLStore());
+    }
+
+    public ResourceCRLRevocationChecker(final boolean checkAll, final RevocationPolicy<Void> unavailableCRLPolicy,
+                                        final RevocationPolicy<X509CRL> expiredCRLPolicy, final int refreshInterval,
+                                        final CRLFetcher fetcher, final Collection<Resource> resources,
+                                        final X509CRLStore crlStore) {
         super(checkAll, unavailableCRLPolicy, expiredCRLPolicy);
         this.refreshInterval = refreshInterval;
         this.fetcher = fetcher;
         this.resources = resources;
+        this.crlStore = crlStore;
     }
 
     public ResourceCRLRevocationChecker(final Resource crl,
@@ -167,16 +173,17 @@ public class ResourceCRLRevocationChecker extends AbstractCRLRevocationChecker i
     @Override
     protected boolean addCRL(final Object issuer, final X509CRL crl) {
         LOGGER.debug("Adding CRL for issuer [{}]", issuer);
-        this.crlIssuerMap.put((X500Principal) issuer, crl);
-        return this.crlIssuerMap.containsKey(issuer);
+        this.crlStore.put((X500Principal) issuer, crl);
+        return this.crlStore.get(issuer) != null;
     }
 
     @Override
     protected Collection<X509CRL> getCRLs(final X509Certificate cert) {
         val principal = cert.getIssuerX500Principal();
 
-        if (this.crlIssuerMap.containsKey(principal)) {
-            return CollectionUtils.wrap(this.crlIssuerMap.get(principal));
+        val crl = this.crlStore.get(principal);
+        if (crl != null) {
+            return CollectionUtils.wrap(crl);
         }
         LOGGER.warn("Could not locate CRL for issuer principal [{}]", principal);
         return new ArrayList<>(0);
@@ -0,0 +1,156 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.util.crypto.CertUtils;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link X509CRLStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class X509CRLStoreTests {
+
+    private static X509CRL fetchCRL(final String name) throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource(name));
+    }
+
+    @Test
+    void verifyIndexedLookups() throws Throwable {
+        val crl = fetchCRL("userCA-valid.crl");
+        val indexed = IndexedX509CRL.of(crl);
+        assertInstanceOf(IndexedX509CRL.class, indexed);
+        assertSame(indexed, IndexedX509CRL.of(indexed));
+
+        val revoked = CertUtils.readCertificate(new ClassPathResource("user-revoked.crt"));
+        assertNotNull(indexed.getRevokedCertificate(revoked));
+        assertTrue(indexed.isRevoked(revoked));
+        assertEquals(crl.getRevokedCertificate(revoked), indexed.getRevokedCertificate(revoked));
+
+        val valid = CertUtils.readCertificate(new ClassPathResource("user-valid.crt"));
+        assertNull(indexed.getRevokedCertificate(valid));
+        assertNull(indexed.getRevokedCertificate(valid.getSerialNumber()));
+        assertFalse(indexed.isRevoked(valid));
+        assertEquals(crl.getNextUpdate(), indexed.getNextUpdate());
+        assertArrayEquals(crl.getEncoded(), indexed.getEncoded());
+    }
+
+    @Test
+    void verifyRefreshAheadOfNextUpdate() throws Throwable {
+        val crl = fetchCRL("userCA-expired.crl");
+        val loads = new AtomicInteger();
+        val clock = Clock.fixed(crl.getNextUpdate().toInstant().minus(Duration.ofMinutes(5)), ZoneOffset.UTC);
+
+        val store = new X509CRLStore(Duration.ofMinutes(10), clock);
+        store.put("userCA", crl, () -> {
+            loads.incrementAndGet();
+            return fetchCRL("userCA-valid.crl");
+        });
+        val stored = store.get("userCA");
+        assertInstanceOf(IndexedX509CRL.class, stored);
+        store.refresh();
+        assertEquals(1, loads.get());
+        assertNotSame(stored, store.get("userCA"));
+        assertTrue(store.get("userCA").getThisUpdate().after(stored.getThisUpdate()));
+
+        val laterStore = new X509CRLStore(Duration.ofMinutes(1), clock);
+        laterStore.put("userCA", crl, () -> {
+            loads.incrementAndGet();
+            return crl;
+        });
+        laterStore.refresh();
+        assertEquals(1, loads.get());
+
+        store.invalidate("userCA");
+        assertNull(store.get("userCA"));
+        store.destroy();
+        laterStore.destroy();
+    }
+
+    @Test
+    void verifyUnchangedRefreshBacksOff() throws Throwable {
+        val crl = fetchCRL("userCA-valid.crl");
+        val loads = new AtomicInteger();
+        val clock = new MutableClock(crl.getNextUpdate().toInstant().minus(Duration.ofMinutes(5)));
+        val store = new X509CRLStore(Duration.ofMinutes(10), clock);
+        store.put("userCA", crl, () -> {
+            loads.incrementAndGet();
+            return fetchCRL("userCA-valid.crl");
+        });
+        val stored = store.get("userCA");
+        store.refresh();
+        assertEquals(1, loads.get());
+        assertSame(stored, store.get("userCA"));
+
+        store.refresh();
+        assertEquals(1, loads.get());
+        clock.advance(Duration.ofMinutes(1));
+        store.refresh();
+        assertEquals(2, loads.get());
+
+        clock.advance(Duration.ofMinutes(1));
+        store.refresh();
+        assertEquals(2, loads.get());
+        clock.advance(Duration.ofMinutes(1));
+        store.refresh();
+        assertEquals(3, loads.get());
+        assertSame(stored, store.get("userCA"));
+        store.destroy();
+    }
+
+    @Test
+    void verifyFailedRefreshKeepsCRL() throws Throwable {
+        val crl = fetchCRL("userCA-valid.crl");
+        val store = new X509CRLStore(Duration.ZERO, Clock.fixed(Instant.MAX.minusSeconds(1), ZoneOffset.UTC));
+        store.put("userCA", crl, () -> {
+            throw new IllegalStateException("Unavailable");
+        });
+        val stored = store.get("userCA");
+        store.refresh();
+        assertSame(stored, store.get("userCA"));
+        store.destroy();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
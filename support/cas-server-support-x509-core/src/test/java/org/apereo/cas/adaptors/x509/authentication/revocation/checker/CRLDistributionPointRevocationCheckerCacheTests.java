@@ -0,0 +1,110 @@
+package org.apereo.cas.adaptors.x509.authentication.revocation.checker;
+
+import org.apereo.cas.adaptors.x509.authentication.ResourceCRLFetcher;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLCacheExpiry;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLStore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.net.URI;
+import java.security.cert.X509CRL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link CRLDistributionPointRevocationCheckerCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.1.0
+ */
+@Tag("X509")
+class CRLDistributionPointRevocationCheckerCacheTests {
+    private static final URI CRL_URI = URI.create("http://localhost:8085/ca.crl");
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private static X509CRL fetchCRL() throws Exception {
+        return new ResourceCRLFetcher().fetch(new ClassPathResource("userCA-valid.crl"));
+    }
+
+    private Cache<URI, byte[]> buildCache(final X509CRLStore store) {
+        return Caffeine.newBuilder()
+            .ticker(ticker::get)
+            .executor(Runnable::run)
+            .expireAfter(new X509CRLCacheExpiry(Duration.ofMinutes(10)))
+            .evictionListener((final URI uri, final byte[] crl, final RemovalCause cause) -> store.invalidate(uri))
+            .build();
+    }
+
+    private CRLDistributionPointRevocationChecker buildChecker(final Cache<URI, byte[]> cache,
+                                                               final X509CRLStore store, final X509CRL crl) {
+        val fetcher = new ResourceCRLFetcher() {
+            @Override
+            public X509CRL fetch(final URI uri) {
+                fetches.incrementAndGet();
+                return crl;
+            }
+        };
+        return new CRLDistributionPointRevocationChecker(false, null, null, cache, fetcher, false, store);
+    }
+
+    @Test
+    void verifyRefreshDoesNotExtendCachedCRL() throws Throwable {
+        val crl = fetchCRL();
+        val clock = Clock.fixed(crl.getNextUpdate().toInstant().minus(Duration.ofMinutes(5)), ZoneOffset.UTC);
+        val store = new X509CRLStore(Duration.ofMinutes(10), clock);
+        val cache = buildCache(store);
+        val checker = buildChecker(cache, store, crl);
+
+        assertTrue(checker.addCRL(CRL_URI, crl));
+        assertNotNull(store.get(CRL_URI));
+
+        ticker.addAndGet(Duration.ofMinutes(6).toNanos());
+        store.refresh();
+        assertEquals(1, fetches.get());
+        assertNotNull(store.get(CRL_URI));
+
+        ticker.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.cleanUp();
+        assertNull(cache.getIfPresent(CRL_URI));
+        store.refresh();
+        assertEquals(1, fetches.get());
+        assertNull(store.get(CRL_URI));
+        store.destroy();
+    }
+
+    @Test
+    void verifyCachedCRLKeptUntilNextUpdate() throws Throwable {
+        val crl = fetchCRL();
+        val clock = Clock.fixed(crl.getNextUpdate().toInstant().minus(Duration.ofHours(1)), ZoneOffset.UTC);
+        val store = new X509CRLStore(Duration.ofMinutes(10), clock);
+        val cache = buildCache(store);
+        val checker = buildChecker(cache, store, crl);
+
+        assertTrue(checker.addCRL(CRL_URI, crl));
+        ticker.addAndGet(Duration.ofMinutes(30).toNanos());
+        assertNotNull(cache.getIfPresent(CRL_URI));
+        assertNotNull(store.get(CRL_URI));
+        store.refresh();
+        assertEquals(0, fetches.get());
+
+        ticker.addAndGet(Duration.ofMinutes(31).toNanos());
+        cache.cleanUp();
+        assertNull(cache.getIfPresent(CRL_URI));
+        assertNull(store.get(CRL_URI));
+        store.destroy();
+    }
+}
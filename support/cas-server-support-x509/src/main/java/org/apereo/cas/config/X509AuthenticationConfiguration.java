@@ -14,6 +14,8 @@ import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectAlternat
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectAlternativeNameUPNPrincipalResolver;
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectDNPrincipalResolver;
 import org.apereo.cas.adaptors.x509.authentication.principal.X509SubjectPrincipalResolver;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLCacheExpiry;
+import org.apereo.cas.adaptors.x509.authentication.revocation.X509CRLStore;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.CRLDistributionPointRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.NoOpRevocationChecker;
 import org.apereo.cas.adaptors.x509.authentication.revocation.checker.ResourceCRLRevocationChecker;
@@ -41,6 +43,7 @@ import org.apereo.cas.util.LdapUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.services.persondir.IPersonAttributeDao;
@@ -180,11 +183,21 @@ public class X509AuthenticationConfiguration {
         return new DenyRevocationPolicy();
     }
 
+    @Bean
+    @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+    @ConditionalOnMissingBean(name = "x509CrlStore")
+    public X509CRLStore x509CrlStore(final CasConfigurationProperties casProperties) {
+        val x509 = casProperties.getAuthn().getX509();
+        return new X509CRLStore(Beans.newDuration(x509.getCrlRefreshAhead()));
+    }
+
     @Bean
     @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
     @ConditionalOnMissingBean(name = "crlDistributionPointRevocationChecker")
     public RevocationChecker crlDistributionPointRevocationChecker(
         final CasConfigurationProperties casProperties,
+        @Qualifier("x509CrlStore")
+        final X509CRLStore x509CrlStore,
         @Qualifier("crlFetcher")
         final CRLFetcher crlFetcher,
         @Qualifier("allowRevocationPolicy")
@@ -197,13 +210,14 @@ public class X509AuthenticationConfiguration {
 
         val cache = Caffeine.newBuilder()
             .maximumSize(x509.getCacheMaxElementsInMemory())
-            .expireAfterWrite(Beans.newDuration(x509.getCacheTimeToLiveSeconds()))
+            .expireAfter(new X509CRLCacheExpiry(Beans.newDuration(x509.getCacheTimeToLiveSeconds())))
+            .evictionListener((final URI uri, final byte[] crl, final RemovalCause cause) -> x509CrlStore.invalidate(uri))
             .<URI, byte[]>build();
 
         return new CRLDistributionPointRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
-            cache, crlFetcher, x509.isThrowOnFetchFailure());
+            cache, crlFetcher, x509.isThrowOnFetchFailure(), x509CrlStore);
     }
 
     @Bean
@@ -225,13 +239,15 @@ public class X509AuthenticationConfiguration {
                                                           @Qualifier("denyRevocationPolicy")
                                                           final RevocationPolicy denyRevocationPolicy,
                                                           @Qualifier("crlFetcher")
-                                                          final CRLFetcher crlFetcher) {
+                                                          final CRLFetcher crlFetcher,
+                                                          @Qualifier("x509CrlStore")
+                                                          final X509CRLStore x509CrlStore) {
         val x509 = casProperties.getAuthn().getX509();
         val x509CrlResources = x509.getCrlResources().stream().map(applicationContext::getResource).collect(Collectors.toSet());
         return new ResourceCRLRevocationChecker(x509.isCheckAll(),
             getRevocationPolicy(x509.getCrlResourceUnavailablePolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
             getRevocationPolicy(x509.getCrlResourceExpiredPolicy(), allowRevocationPolicy, thresholdExpiredCRLRevocationPolicy, denyRevocationPolicy),
-            x509.getRefreshIntervalSeconds(), crlFetcher, x509CrlResources);
+            x509.getRefreshIntervalSeconds(), crlFetcher, x509CrlResources, x509CrlStore);
     }
 
     @Bean